@@ -0,0 +1,396 @@
+/*
+ * Copyright @ 2025-present 8x8, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.oney.WebRTCModule;
+
+import androidx.annotation.Nullable;
+
+import org.webrtc.AudioTrack;
+import org.webrtc.MediaSource;
+import org.webrtc.MediaStream;
+import org.webrtc.MediaStreamTrack;
+import org.webrtc.PeerConnection;
+import org.webrtc.PeerConnectionFactory;
+import org.webrtc.RTCStatsReport;
+import org.webrtc.RtpSender;
+import org.webrtc.VideoSource;
+import org.webrtc.VideoTrack;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * Gives the SDK access to the (package-private) state of {@link WebRTCModule}, so native code can
+ * share the module's {@link PeerConnectionFactory} and the call's local tracks instead of creating
+ * its own.
+ */
+public class JitsiWebRTCModuleHelper {
+    /**
+     * How long to wait for the module's executor to answer a lookup. It may be busy with (or
+     * blocked on) a long operation, in which case the lookup gives up rather than stall the caller.
+     */
+    private static final long LOOKUP_TIMEOUT_MS = 1000;
+
+    /**
+     * The thread of the module's (single threaded) executor, recorded once it runs a task.
+     */
+    @Nullable
+    private static volatile Thread executorThread;
+
+    static {
+        ThreadUtils.runOnExecutor(() -> executorThread = Thread.currentThread());
+    }
+
+    private JitsiWebRTCModuleHelper() {
+    }
+
+    /**
+     * Gets the {@link PeerConnectionFactory} the given module uses for the call.
+     */
+    @Nullable
+    public static PeerConnectionFactory getPeerConnectionFactory(WebRTCModule module) {
+        return module.mFactory;
+    }
+
+    /**
+     * Finds the first live, enabled local video track of the call. The lookup runs on the
+     * module's executor, which owns the local streams, and waits for it; callers must not hold
+     * locks the executor's tasks may take. Returns {@code null} if the executor doesn't answer in
+     * time.
+     */
+    @Nullable
+    public static VideoTrack getLocalVideoTrack(WebRTCModule module) {
+        return submitAndWait(() -> {
+            for (MediaStream stream : module.localStreams.values()) {
+                for (VideoTrack track : stream.videoTracks) {
+                    if (isLive(track)) {
+                        return track;
+                    }
+                }
+            }
+            return null;
+        });
+    }
+
+    /**
+     * Finds the first live, enabled local audio track of the call. The lookup runs on the
+     * module's executor, which owns the local streams, and waits for it; callers must not hold
+     * locks the executor's tasks may take. Returns {@code null} if the executor doesn't answer in
+     * time.
+     */
+    @Nullable
+    public static AudioTrack getLocalAudioTrack(WebRTCModule module) {
+        return submitAndWait(() -> {
+            for (MediaStream stream : module.localStreams.values()) {
+                for (AudioTrack track : stream.audioTracks) {
+                    if (isLive(track)) {
+                        return track;
+                    }
+                }
+            }
+            return null;
+        });
+    }
+
+    /**
+     * Finds the source of the given local video track of the call, so native code can process the
+     * camera's frames before they are sent. The lookup runs on the module's executor, like
+     * {@link #getLocalVideoTrack(WebRTCModule)}.
+     *
+     * @return The source, or {@code null} if it's not a local track of the call or
+     * {@link #canGetLocalVideoSources()} is false.
+     */
+    @Nullable
+    public static VideoSource getLocalVideoSource(WebRTCModule module, VideoTrack track) {
+        if (!TrackSources.AVAILABLE) {
+            return null;
+        }
+
+        return submitAndWait(() -> TrackSources.find(module, track));
+    }
+
+    /**
+     * Whether {@link #getLocalVideoSource(WebRTCModule, VideoTrack)} works with this version of
+     * react-native-webrtc, which keeps the sources of the local tracks to itself.
+     */
+    public static boolean canGetLocalVideoSources() {
+        return TrackSources.AVAILABLE;
+    }
+
+    /**
+     * Asynchronously runs the given consumer for every sender of local video in the call's peer
+     * connections. It runs on the module's executor, so it doesn't race with JS changing the
+     * senders' parameters, and calls are run in order.
+     */
+    public static void forEachLocalVideoSender(WebRTCModule module, Consumer<RtpSender> consumer) {
+        ThreadUtils.runOnExecutor(() -> {
+            for (int i = 0; i < module.mPeerConnectionObservers.size(); i++) {
+                PeerConnection peerConnection = module.mPeerConnectionObservers.valueAt(i).getPeerConnection();
+
+                if (peerConnection == null) {
+                    continue;
+                }
+
+                for (RtpSender sender : peerConnection.getSenders()) {
+                    MediaStreamTrack track = sender.track();
+
+                    if (track != null && MediaStreamTrack.VIDEO_TRACK_KIND.equals(track.kind())) {
+                        consumer.accept(sender);
+                    }
+                }
+            }
+        });
+    }
+
+    /**
+     * Asynchronously collects the stats of the call's peer connections, then passes them to the
+     * callback, on one of WebRTC's threads.
+     */
+    public static void getStats(WebRTCModule module, Consumer<List<RTCStatsReport>> callback) {
+        ThreadUtils.runOnExecutor(() -> {
+            List<PeerConnection> peerConnections = new ArrayList<>();
+
+            for (int i = 0; i < module.mPeerConnectionObservers.size(); i++) {
+                PeerConnection peerConnection = module.mPeerConnectionObservers.valueAt(i).getPeerConnection();
+
+                if (peerConnection != null) {
+                    peerConnections.add(peerConnection);
+                }
+            }
+
+            if (peerConnections.isEmpty()) {
+                callback.accept(Collections.emptyList());
+                return;
+            }
+
+            List<RTCStatsReport> reports = Collections.synchronizedList(new ArrayList<>());
+            AtomicInteger pending = new AtomicInteger(peerConnections.size());
+
+            for (PeerConnection peerConnection : peerConnections) {
+                peerConnection.getStats(report -> {
+                    reports.add(report);
+                    if (pending.decrementAndGet() == 0) {
+                        callback.accept(new ArrayList<>(reports));
+                    }
+                });
+            }
+        });
+    }
+
+    /**
+     * Asynchronously enables or disables the call's local tracks of the given kind, or all of them
+     * if it's {@code null}, then runs the callback. Both run on the module's executor, in order
+     * with the changes JS makes.
+     */
+    public static void setLocalTracksEnabled(
+            WebRTCModule module, @Nullable String kind, boolean enabled, @Nullable Runnable callback) {
+        ThreadUtils.runOnExecutor(() -> {
+            for (MediaStream stream : module.localStreams.values()) {
+                if (kind == null || MediaStreamTrack.AUDIO_TRACK_KIND.equals(kind)) {
+                    for (AudioTrack track : stream.audioTracks) {
+                        setEnabled(track, enabled);
+                    }
+                }
+                if (kind == null || MediaStreamTrack.VIDEO_TRACK_KIND.equals(kind)) {
+                    for (VideoTrack track : stream.videoTracks) {
+                        setEnabled(track, enabled);
+                    }
+                }
+            }
+
+            if (callback != null) {
+                callback.run();
+            }
+        });
+    }
+
+    /**
+     * Reaches the sources of the local tracks, which react-native-webrtc keeps private in its
+     * {@code GetUserMediaImpl}: a map of per track records holding the track and its source. The
+     * fields are found by type, not name, as the names aren't part of any API.
+     */
+    private static final class TrackSources {
+        static final boolean AVAILABLE;
+
+        @Nullable
+        private static final Field USER_MEDIA;
+        @Nullable
+        private static final Field TRACKS;
+        @Nullable
+        private static final Field TRACK;
+        @Nullable
+        private static final Field SOURCE;
+
+        static {
+            Field userMedia = null;
+            Field tracks = null;
+            Field track = null;
+            Field source = null;
+
+            try {
+                userMedia = findField(WebRTCModule.class, Class.forName("com.oney.WebRTCModule.GetUserMediaImpl"));
+                tracks = findField(userMedia.getType(), Map.class);
+
+                Class<?> trackPrivate = Class.forName(userMedia.getType().getName() + "$TrackPrivate");
+
+                track = findField(trackPrivate, MediaStreamTrack.class);
+                source = findField(trackPrivate, MediaSource.class);
+            } catch (ReflectiveOperationException | RuntimeException e) {
+                userMedia = null;
+            }
+
+            USER_MEDIA = userMedia;
+            TRACKS = tracks;
+            TRACK = track;
+            SOURCE = source;
+            AVAILABLE = userMedia != null;
+        }
+
+        /**
+         * Runs on the module's executor, which owns the tracks.
+         */
+        @Nullable
+        static VideoSource find(WebRTCModule module, VideoTrack track) throws IllegalAccessException {
+            Map<?, ?> tracks = (Map<?, ?>) TRACKS.get(USER_MEDIA.get(module));
+            String id = track.id();
+
+            for (Object trackPrivate : tracks.values()) {
+                Object candidate = TRACK.get(trackPrivate);
+
+                if (candidate instanceof MediaStreamTrack && id.equals(((MediaStreamTrack) candidate).id())) {
+                    Object source = SOURCE.get(trackPrivate);
+
+                    return source instanceof VideoSource ? (VideoSource) source : null;
+                }
+            }
+
+            return null;
+        }
+
+        /**
+         * Finds the field of the class which holds values of the given type.
+         */
+        private static Field findField(Class<?> owner, Class<?> type) throws NoSuchFieldException {
+            for (Field field : owner.getDeclaredFields()) {
+                if (type.isAssignableFrom(field.getType())) {
+                    field.setAccessible(true);
+                    return field;
+                }
+            }
+
+            throw new NoSuchFieldException(owner.getName() + " has no " + type.getName());
+        }
+    }
+
+    /**
+     * Asynchronously disables the call's enabled local tracks, then runs the callback. Both run on
+     * the module's executor, in order with the changes JS makes.
+     *
+     * @return Enables the same tracks again, asynchronously and after disabling them, e.g. if what
+     * they were disabled for didn't happen.
+     */
+    public static Runnable disableLocalTracks(WebRTCModule module, @Nullable Runnable callback) {
+        // Only used on the executor.
+        List<MediaStreamTrack> disabledTracks = new ArrayList<>();
+
+        ThreadUtils.runOnExecutor(() -> {
+            for (MediaStream stream : module.localStreams.values()) {
+                List<MediaStreamTrack> tracks = new ArrayList<>(stream.audioTracks);
+
+                tracks.addAll(stream.videoTracks);
+                for (MediaStreamTrack track : tracks) {
+                    if (isLive(track)) {
+                        setEnabled(track, false);
+                        disabledTracks.add(track);
+                    }
+                }
+            }
+
+            if (callback != null) {
+                callback.run();
+            }
+        });
+
+        return () -> ThreadUtils.runOnExecutor(() -> {
+            for (MediaStreamTrack track : disabledTracks) {
+                setEnabled(track, true);
+            }
+            disabledTracks.clear();
+        });
+    }
+
+    private static void setEnabled(MediaStreamTrack track, boolean enabled) {
+        try {
+            if (track.state() == MediaStreamTrack.State.LIVE) {
+                track.setEnabled(enabled);
+            }
+        } catch (IllegalStateException e) {
+            // The track was disposed.
+        }
+    }
+
+    private static boolean isLive(MediaStreamTrack track) {
+        try {
+            return track.enabled() && track.state() == MediaStreamTrack.State.LIVE;
+        } catch (IllegalStateException e) {
+            // The track was disposed.
+            return false;
+        }
+    }
+
+    /**
+     * Runs the callable on the module's executor and waits, at most {@link #LOOKUP_TIMEOUT_MS}, for
+     * its result. Runs it inline if called on the executor, which waiting for itself would
+     * deadlock.
+     */
+    @Nullable
+    private static <T> T submitAndWait(Callable<T> callable) {
+        if (Thread.currentThread() == executorThread) {
+            try {
+                return callable.call();
+            } catch (Exception e) {
+                return null;
+            }
+        }
+
+        Future<T> future = ThreadUtils.submitToExecutor(() -> {
+            executorThread = Thread.currentThread();
+            return callable.call();
+        });
+
+        try {
+            return future.get(LOOKUP_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            return null;
+        } catch (TimeoutException e) {
+            future.cancel(false);
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        }
+    }
+}
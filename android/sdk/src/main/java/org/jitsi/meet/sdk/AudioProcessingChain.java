@@ -0,0 +1,241 @@
+/*
+ * Copyright @ 2025-present 8x8, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jitsi.meet.sdk;
+
+import android.media.AudioFormat;
+
+import androidx.annotation.Nullable;
+
+import org.jitsi.meet.sdk.log.JitsiMeetLogger;
+import org.webrtc.audio.JavaAudioDeviceModule;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.ShortBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Chain of {@link AudioProcessingPlugin}s in the microphone capture path, ahead of WebRTC's own
+ * audio processing.
+ *
+ * It's hooked into the {@link JavaAudioDeviceModule} the SDK creates, which hands every 10 ms of
+ * recorded audio to it before passing it to WebRTC. Plugins work in place on that (reused) buffer,
+ * so there are no copies and no allocations per frame. Each plugin has a CPU budget per frame; a
+ * plugin which exceeds it, or throws, is bypassed for the next {@link #BYPASS_FRAMES} frames, so
+ * no plugin can add capture latency for long.
+ */
+public final class AudioProcessingChain implements JavaAudioDeviceModule.AudioRecordDataCallback {
+    private static final String TAG = AudioProcessingChain.class.getSimpleName();
+
+    /**
+     * How many frames (of 10 ms) a plugin over its budget is bypassed for.
+     */
+    static final int BYPASS_FRAMES = 100;
+
+    private static final AudioProcessingChain instance = new AudioProcessingChain();
+
+    private final List<PluginHolder> plugins = new CopyOnWriteArrayList<>();
+
+    // Only accessed on the audio capture thread.
+    @Nullable
+    private ByteBuffer lastBuffer;
+    @Nullable
+    private ShortBuffer samples;
+    private int sampleRate;
+    private int channels;
+    private long frameCount;
+
+    public static AudioProcessingChain getInstance() {
+        return instance;
+    }
+
+    private AudioProcessingChain() {
+    }
+
+    /**
+     * Appends a plugin to the chain.
+     *
+     * @param plugin - The plugin.
+     * @param budgetUs - The CPU time the plugin may take per 10 ms frame, in microseconds.
+     */
+    public void addPlugin(AudioProcessingPlugin plugin, long budgetUs) {
+        plugins.add(new PluginHolder(plugin, budgetUs * 1000));
+    }
+
+    /**
+     * Removes a plugin from the chain, and releases it.
+     */
+    public void removePlugin(AudioProcessingPlugin plugin) {
+        for (PluginHolder holder : plugins) {
+            if (holder.plugin == plugin) {
+                plugins.remove(holder);
+                holder.release();
+            }
+        }
+    }
+
+    /**
+     * Gets the metrics of each plugin, in chain order.
+     */
+    public List<PluginStats> getStats() {
+        List<PluginStats> stats = new ArrayList<>(plugins.size());
+
+        for (PluginHolder holder : plugins) {
+            stats.add(holder.getStats());
+        }
+
+        return stats;
+    }
+
+    @Override
+    public void onAudioDataRecorded(int audioFormat, int channelCount, int sampleRate, ByteBuffer audioBuffer) {
+        if (plugins.isEmpty() || audioFormat != AudioFormat.ENCODING_PCM_16BIT) {
+            return;
+        }
+
+        // WebRTC reuses the same direct buffer for all frames, so the view is only created once.
+        if (audioBuffer != lastBuffer) {
+            lastBuffer = audioBuffer;
+            samples = audioBuffer.duplicate().order(ByteOrder.nativeOrder()).asShortBuffer();
+        }
+
+        boolean formatChanged = sampleRate != this.sampleRate || channelCount != this.channels;
+        this.sampleRate = sampleRate;
+        this.channels = channelCount;
+
+        long frameNumber = frameCount++;
+
+        for (PluginHolder holder : plugins) {
+            samples.clear();
+            holder.process(samples, sampleRate, channelCount, formatChanged, frameNumber);
+        }
+    }
+
+    /**
+     * Metrics of a plugin.
+     */
+    public static final class PluginStats {
+        public final String name;
+        public final long budgetNs;
+        public final long framesProcessed;
+        public final long framesBypassed;
+        public final long overruns;
+        public final long averageTimeNs;
+        public final long maxTimeNs;
+
+        PluginStats(
+                String name,
+                long budgetNs,
+                long framesProcessed,
+                long framesBypassed,
+                long overruns,
+                long averageTimeNs,
+                long maxTimeNs) {
+            this.name = name;
+            this.budgetNs = budgetNs;
+            this.framesProcessed = framesProcessed;
+            this.framesBypassed = framesBypassed;
+            this.overruns = overruns;
+            this.averageTimeNs = averageTimeNs;
+            this.maxTimeNs = maxTimeNs;
+        }
+    }
+
+    private static final class PluginHolder {
+        final AudioProcessingPlugin plugin;
+        final long budgetNs;
+
+        private boolean initialized;
+        private boolean released;
+        private long bypassUntilFrame = -1;
+
+        // Written on the audio thread, read by getStats().
+        private volatile long framesProcessed;
+        private volatile long framesBypassed;
+        private volatile long overruns;
+        private volatile long totalTimeNs;
+        private volatile long maxTimeNs;
+
+        PluginHolder(AudioProcessingPlugin plugin, long budgetNs) {
+            this.plugin = plugin;
+            this.budgetNs = budgetNs;
+        }
+
+        synchronized void process(
+                ShortBuffer samples, int sampleRate, int channels, boolean formatChanged, long frameNumber) {
+            if (released) {
+                return;
+            }
+
+            if (frameNumber < bypassUntilFrame) {
+                framesBypassed++;
+                return;
+            }
+
+            long start = System.nanoTime();
+
+            try {
+                if (!initialized || formatChanged) {
+                    plugin.init(sampleRate, channels);
+                    initialized = true;
+                }
+                plugin.process(samples);
+            } catch (RuntimeException e) {
+                JitsiMeetLogger.w(e, TAG + " Plugin " + plugin.getName() + " failed, bypassing it");
+                bypassUntilFrame = frameNumber + 1 + BYPASS_FRAMES;
+                return;
+            }
+
+            long elapsedNs = System.nanoTime() - start;
+
+            framesProcessed++;
+            totalTimeNs += elapsedNs;
+            if (elapsedNs > maxTimeNs) {
+                maxTimeNs = elapsedNs;
+            }
+
+            if (elapsedNs > budgetNs) {
+                overruns++;
+                bypassUntilFrame = frameNumber + 1 + BYPASS_FRAMES;
+            }
+        }
+
+        synchronized void release() {
+            if (!released) {
+                released = true;
+                if (initialized) {
+                    plugin.release();
+                }
+            }
+        }
+
+        PluginStats getStats() {
+            long processed = framesProcessed;
+
+            return new PluginStats(
+                plugin.getName(),
+                budgetNs,
+                processed,
+                framesBypassed,
+                overruns,
+                processed > 0 ? totalTimeNs / processed : 0,
+                maxTimeNs);
+        }
+    }
+}
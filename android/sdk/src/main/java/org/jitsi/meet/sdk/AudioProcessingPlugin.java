@@ -0,0 +1,52 @@
+/*
+ * Copyright @ 2025-present 8x8, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jitsi.meet.sdk;
+
+import java.nio.ShortBuffer;
+
+/**
+ * A plugin of the {@link AudioProcessingChain}, e.g. a gain stage, a limiter or a keyword spotting
+ * tap. All methods are called on WebRTC's audio capture thread.
+ */
+public interface AudioProcessingPlugin {
+    /**
+     * Gets the name of the plugin, used in the metrics.
+     */
+    String getName();
+
+    /**
+     * Called before the first frame, and again if the capture format changes. Allocate buffers
+     * here, not in {@link #process}.
+     *
+     * @param sampleRate - The sample rate, in Hz.
+     * @param channels - The number of (interleaved) channels.
+     */
+    void init(int sampleRate, int channels);
+
+    /**
+     * Processes 10 ms of captured audio, in place.
+     *
+     * @param samples - Interleaved 16-bit PCM samples, from position 0 to the limit. The buffer is
+     * reused for every frame, so it must not be kept.
+     */
+    void process(ShortBuffer samples);
+
+    /**
+     * Called when the plugin is removed from the chain.
+     */
+    void release();
+}
@@ -3,28 +3,65 @@ package org.jitsi.meet.sdk;
 import android.content.Context;
 import android.content.Intent;
 
+import androidx.annotation.Nullable;
 import androidx.localbroadcastmanager.content.LocalBroadcastManager;
 
 import com.facebook.react.bridge.ReadableMap;
 
+import java.util.Map;
+
 /**
  * Class used to emit events through the LocalBroadcastManager, called when events
  * from JS occurred. Takes an action name from JS, builds and broadcasts the {@link BroadcastEvent}
  */
 public class BroadcastEmitter {
+    /**
+     * Builds actual {@code Intent}s.
+     */
+    static final IntentBuilder DEFAULT_INTENT_BUILDER = (action, extras) -> {
+        Intent intent = new Intent(action);
+
+        for (Map.Entry<String, String> extra : extras.entrySet()) {
+            intent.putExtra(extra.getKey(), extra.getValue());
+        }
+
+        return intent;
+    };
+
+    @Nullable
     private final LocalBroadcastManager localBroadcastManager;
+    private final IntentBuilder intentBuilder;
 
     public BroadcastEmitter(Context context) {
         localBroadcastManager = LocalBroadcastManager.getInstance(context);
+        intentBuilder = DEFAULT_INTENT_BUILDER;
+    }
+
+    /**
+     * @param localBroadcastManager The manager to send the broadcasts with, {@code null} to only
+     * build their {@code Intent}s, see {@link EventStreamReplayer}.
+     */
+    BroadcastEmitter(@Nullable LocalBroadcastManager localBroadcastManager, IntentBuilder intentBuilder) {
+        this.localBroadcastManager = localBroadcastManager;
+        this.intentBuilder = intentBuilder;
     }
 
     public void sendBroadcast(String name, ReadableMap data) {
         BroadcastEvent event = new BroadcastEvent(name, data);
 
-        Intent intent = event.buildIntent();
+        Intent intent = event.buildIntent(intentBuilder);
 
-        if (intent != null) {
+        if (intent != null && localBroadcastManager != null) {
             localBroadcastManager.sendBroadcast(intent);
         }
     }
+
+    /**
+     * Builds the {@code Intent} of a broadcast from its action and extras. JVM unit tests, where
+     * {@code Intent} isn't implemented, replace it.
+     */
+    interface IntentBuilder {
+        @Nullable
+        Intent build(String action, Map<String, String> extras);
+    }
 }
@@ -8,6 +8,7 @@ import com.facebook.react.bridge.ReadableMap;
 import org.jitsi.meet.sdk.log.JitsiMeetLogger;
 
 import java.util.HashMap;
+import java.util.Map;
 
 /**
  * Wraps the name and extra data for the events that occur on the JS side and are
@@ -25,6 +26,11 @@ public class BroadcastEvent {
         this.data = data.toHashMap();
     }
 
+    BroadcastEvent(Type type, HashMap<String, Object> data) {
+        this.type = type;
+        this.data = data;
+    }
+
     public BroadcastEvent(Intent intent) {
         this.type = Type.buildTypeFromAction(intent.getAction());
         this.data = buildDataFromBundle(intent.getExtras());
@@ -39,18 +45,22 @@ public class BroadcastEvent {
     }
 
     public Intent buildIntent() {
+        return buildIntent(BroadcastEmitter.DEFAULT_INTENT_BUILDER);
+    }
+
+    Intent buildIntent(BroadcastEmitter.IntentBuilder intentBuilder) {
         if (type != null && type.action != null) {
-            Intent intent = new Intent(type.action);
+            Map<String, String> extras = new HashMap<>();
 
             for (String key : this.data.keySet()) {
                 try {
-                    intent.putExtra(key, this.data.get(key).toString());
+                    extras.put(key, JsonPayloads.toExtraString(this.data.get(key)));
                 } catch (Exception e) {
-                    JitsiMeetLogger.w(TAG + " invalid extra data in event", e);
+                    JitsiMeetLogger.w(e, TAG + " invalid extra data in event");
                 }
             }
 
-            return intent;
+            return intentBuilder.build(type.action, extras);
         }
 
         return null;
@@ -83,6 +93,7 @@ public class BroadcastEvent {
         AUDIO_MUTED_CHANGED("org.jitsi.meet.AUDIO_MUTED_CHANGED"),
         PARTICIPANT_JOINED("org.jitsi.meet.PARTICIPANT_JOINED"),
         PARTICIPANT_LEFT("org.jitsi.meet.PARTICIPANT_LEFT"),
+        PARTICIPANT_UPDATED("org.jitsi.meet.PARTICIPANT_UPDATED"),
         ENDPOINT_TEXT_MESSAGE_RECEIVED("org.jitsi.meet.ENDPOINT_TEXT_MESSAGE_RECEIVED"),
         SCREEN_SHARE_TOGGLED("org.jitsi.meet.SCREEN_SHARE_TOGGLED"),
         PARTICIPANTS_INFO_RETRIEVED("org.jitsi.meet.PARTICIPANTS_INFO_RETRIEVED"),
@@ -93,7 +104,9 @@ public class BroadcastEvent {
         TRANSCRIPTION_CHUNK_RECEIVED("org.jitsi.meet.TRANSCRIPTION_CHUNK_RECEIVED"),
         CUSTOM_BUTTON_PRESSED("org.jitsi.meet.CUSTOM_BUTTON_PRESSED"),
         CONFERENCE_UNIQUE_ID_SET("org.jitsi.meet.CONFERENCE_UNIQUE_ID_SET"),
-        RECORDING_STATUS_CHANGED("org.jitsi.meet.RECORDING_STATUS_CHANGED");
+        RECORDING_STATUS_CHANGED("org.jitsi.meet.RECORDING_STATUS_CHANGED"),
+        VIDEO_DECODER_STATS("org.jitsi.meet.VIDEO_DECODER_STATS"),
+        NOTIFICATION_ACTION_LATENCY("org.jitsi.meet.NOTIFICATION_ACTION_LATENCY");
 
         private static final String CONFERENCE_BLURRED_NAME = "CONFERENCE_BLURRED";
         private static final String CONFERENCE_FOCUSED_NAME = "CONFERENCE_FOCUSED";
@@ -103,6 +116,7 @@ public class BroadcastEvent {
         private static final String AUDIO_MUTED_CHANGED_NAME = "AUDIO_MUTED_CHANGED";
         private static final String PARTICIPANT_JOINED_NAME = "PARTICIPANT_JOINED";
         private static final String PARTICIPANT_LEFT_NAME = "PARTICIPANT_LEFT";
+        private static final String PARTICIPANT_UPDATED_NAME = "PARTICIPANT_UPDATED";
         private static final String ENDPOINT_TEXT_MESSAGE_RECEIVED_NAME = "ENDPOINT_TEXT_MESSAGE_RECEIVED";
         private static final String SCREEN_SHARE_TOGGLED_NAME = "SCREEN_SHARE_TOGGLED";
         private static final String PARTICIPANTS_INFO_RETRIEVED_NAME = "PARTICIPANTS_INFO_RETRIEVED";
@@ -114,6 +128,8 @@ public class BroadcastEvent {
         private static final String CUSTOM_BUTTON_PRESSED_NAME = "CUSTOM_BUTTON_PRESSED";
         private static final String CONFERENCE_UNIQUE_ID_SET_NAME = "CONFERENCE_UNIQUE_ID_SET";
         private static final String RECORDING_STATUS_CHANGED_NAME = "RECORDING_STATUS_CHANGED";
+        private static final String VIDEO_DECODER_STATS_NAME = "VIDEO_DECODER_STATS";
+        private static final String NOTIFICATION_ACTION_LATENCY_NAME = "NOTIFICATION_ACTION_LATENCY";
 
         private final String action;
 
@@ -134,7 +150,7 @@ public class BroadcastEvent {
             return null;
         }
 
-        private static Type buildTypeFromName(String name) {
+        static Type buildTypeFromName(String name) {
             switch (name) {
                 case CONFERENCE_BLURRED_NAME:
                     return CONFERENCE_BLURRED;
@@ -152,6 +168,8 @@ public class BroadcastEvent {
                     return PARTICIPANT_JOINED;
                 case PARTICIPANT_LEFT_NAME:
                     return PARTICIPANT_LEFT;
+                case PARTICIPANT_UPDATED_NAME:
+                    return PARTICIPANT_UPDATED;
                 case ENDPOINT_TEXT_MESSAGE_RECEIVED_NAME:
                     return ENDPOINT_TEXT_MESSAGE_RECEIVED;
                 case SCREEN_SHARE_TOGGLED_NAME:
@@ -174,6 +192,10 @@ public class BroadcastEvent {
                     return CONFERENCE_UNIQUE_ID_SET;
                 case RECORDING_STATUS_CHANGED_NAME:
                     return RECORDING_STATUS_CHANGED;
+                case VIDEO_DECODER_STATS_NAME:
+                    return VIDEO_DECODER_STATS;
+                case NOTIFICATION_ACTION_LATENCY_NAME:
+                    return NOTIFICATION_ACTION_LATENCY;
             }
 
             return null;
@@ -6,6 +6,7 @@ import android.content.IntentFilter;
 import android.os.Bundle;
 
 import com.facebook.react.bridge.Arguments;
+import com.facebook.react.bridge.WritableMap;
 
 import androidx.localbroadcastmanager.content.LocalBroadcastManager;
 
@@ -32,13 +33,18 @@ public class BroadcastReceiver extends android.content.BroadcastReceiver {
         BroadcastAction action = new BroadcastAction(intent);
         String actionName = action.getType().getAction();
         Bundle data = action.getData();
-            
+
         // For actions without data bundle (like hangup), we create an empty map
         // instead of attempting to convert a null bundle to avoid crashes.
-        if (data != null) {
-            ReactInstanceManagerHolder.emitEvent(actionName, Arguments.fromBundle(data));
-        } else {
-            ReactInstanceManagerHolder.emitEvent(actionName, Arguments.createMap());
+        WritableMap map = data != null ? Arguments.fromBundle(data) : Arguments.createMap();
+
+        // The command is acknowledged by JS, for the command stats.
+        CommandTracker tracker = CommandTracker.getInstance();
+        String id = tracker.assignId(map);
+
+        tracker.track(id, action.getType(), null);
+        if (!ReactInstanceManagerHolder.emitEvent(actionName, map)) {
+            tracker.cancel(id, new IllegalStateException("React Native isn't running"));
         }
     }
 }
@@ -0,0 +1,203 @@
+/*
+ * Copyright @ 2025-present 8x8, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jitsi.meet.sdk;
+
+import androidx.annotation.Nullable;
+
+import org.jitsi.meet.sdk.log.JitsiMeetLogger;
+import org.webrtc.EncodedImage;
+import org.webrtc.VideoCodecStatus;
+import org.webrtc.VideoDecoder;
+
+import java.util.function.Supplier;
+
+/**
+ * Decoder which uses a hardware decoder while it holds a {@link HardwareDecoderBudget} slot, and a
+ * software decoder otherwise. Neither decoder is created until it's needed.
+ *
+ * If no (Java) software decoder supplier is given, it returns
+ * {@link VideoCodecStatus#FALLBACK_SOFTWARE} instead, for use as the primary of a
+ * {@code VideoDecoderFallback}.
+ */
+class BudgetedVideoDecoder implements VideoDecoder, HardwareDecoderBudget.Holder {
+    private static final String TAG = BudgetedVideoDecoder.class.getSimpleName();
+
+    private final String codecName;
+    private final Supplier<VideoDecoder> hardwareDecoderSupplier;
+    @Nullable
+    private final Supplier<VideoDecoder> softwareDecoderSupplier;
+    private final VideoDecoderStats stats;
+
+    @Nullable
+    private volatile VideoDecoder decoder;
+    private boolean usingHardware;
+
+    private Settings settings;
+    private Callback callback;
+
+    private volatile int pixels;
+    private volatile long lastDecodeTimeMs;
+    private volatile boolean revoked;
+
+    BudgetedVideoDecoder(
+            String codecName,
+            Supplier<VideoDecoder> hardwareDecoderSupplier,
+            @Nullable Supplier<VideoDecoder> softwareDecoderSupplier,
+            VideoDecoderStats stats) {
+        this.codecName = codecName;
+        this.hardwareDecoderSupplier = hardwareDecoderSupplier;
+        this.softwareDecoderSupplier = softwareDecoderSupplier;
+        this.stats = stats;
+    }
+
+    @Override
+    public VideoCodecStatus initDecode(Settings settings, Callback decodeCallback) {
+        this.settings = settings;
+        this.callback = decodeCallback;
+        this.pixels = settings.width * settings.height;
+        this.lastDecodeTimeMs = System.currentTimeMillis();
+
+        if (HardwareDecoderBudget.getInstance().acquire(this)) {
+            VideoCodecStatus status = switchTo(/* hardware */ true);
+
+            if (status == VideoCodecStatus.OK) {
+                return status;
+            }
+
+            return fallBack("initDecode returned " + status);
+        }
+
+        return fallBack("no hardware decoder slot available");
+    }
+
+    @Override
+    public VideoCodecStatus release() {
+        HardwareDecoderBudget.getInstance().release(this);
+
+        VideoCodecStatus status = VideoCodecStatus.OK;
+        if (decoder != null) {
+            status = decoder.release();
+            decoder = null;
+        }
+        usingHardware = false;
+
+        return status;
+    }
+
+    @Override
+    public VideoCodecStatus decode(EncodedImage frame, DecodeInfo info) {
+        lastDecodeTimeMs = System.currentTimeMillis();
+
+        boolean isKeyFrame = frame.frameType == EncodedImage.FrameType.VideoFrameKey;
+        if (isKeyFrame && frame.encodedWidth > 0 && frame.encodedHeight > 0) {
+            pixels = frame.encodedWidth * frame.encodedHeight;
+        }
+
+        if (usingHardware && revoked) {
+            VideoCodecStatus status = fallBack("hardware slot given to a higher-priority stream");
+            if (status != VideoCodecStatus.OK) {
+                return status;
+            }
+        } else if (!usingHardware && isKeyFrame && softwareDecoderSupplier != null
+                && HardwareDecoderBudget.getInstance().acquire(this)) {
+            // Move back to hardware on a key frame, so no reference frames are lost.
+            if (switchTo(/* hardware */ true) != VideoCodecStatus.OK) {
+                fallBack("initDecode returned an error while upgrading to hardware");
+            }
+        }
+
+        if (decoder == null) {
+            return VideoCodecStatus.UNINITIALIZED;
+        }
+
+        VideoCodecStatus status = decoder.decode(frame, info);
+
+        if (usingHardware && status == VideoCodecStatus.FALLBACK_SOFTWARE) {
+            status = fallBack("decode returned " + status);
+            if (status == VideoCodecStatus.OK && decoder != null) {
+                status = decoder.decode(frame, info);
+            }
+        }
+
+        return status;
+    }
+
+    @Override
+    public String getImplementationName() {
+        VideoDecoder decoder = this.decoder;
+
+        return decoder != null ? decoder.getImplementationName() : "BudgetedVideoDecoder";
+    }
+
+    @Override
+    public int getPixels() {
+        return pixels;
+    }
+
+    @Override
+    public long getLastDecodeTimeMs() {
+        return lastDecodeTimeMs;
+    }
+
+    @Override
+    public void revoke() {
+        revoked = true;
+    }
+
+    /**
+     * Gives up hardware (and its slot) and continues in software.
+     */
+    private VideoCodecStatus fallBack(String reason) {
+        HardwareDecoderBudget.getInstance().release(this);
+        stats.onFallback(reason);
+
+        if (softwareDecoderSupplier == null) {
+            // Let the enclosing VideoDecoderFallback switch to its software decoder. It's recorded
+            // as a fallback by VideoDecoderTelemetry, like those the wrapper decides on its own.
+            JitsiMeetLogger.i(TAG + " Handing %s (%s) over to the native software decoder: %s",
+                codecName, getImplementationName(), reason);
+            releaseDecoder();
+            return VideoCodecStatus.FALLBACK_SOFTWARE;
+        }
+
+        VideoCodecFallbacks.record(/* encoder */ false, codecName, getImplementationName(), reason);
+
+        return switchTo(/* hardware */ false);
+    }
+
+    private VideoCodecStatus switchTo(boolean hardware) {
+        releaseDecoder();
+
+        revoked = false;
+        usingHardware = hardware;
+        decoder = hardware ? hardwareDecoderSupplier.get() : softwareDecoderSupplier.get();
+
+        if (decoder == null) {
+            return VideoCodecStatus.ERROR;
+        }
+
+        return decoder.initDecode(settings, callback);
+    }
+
+    private void releaseDecoder() {
+        if (decoder != null) {
+            decoder.release();
+            decoder = null;
+        }
+        usingHardware = false;
+    }
+}
@@ -0,0 +1,185 @@
+/*
+ * Copyright @ 2025-present 8x8, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jitsi.meet.sdk;
+
+import android.os.Handler;
+import android.os.Looper;
+
+import androidx.annotation.Nullable;
+
+import com.facebook.react.bridge.WritableMap;
+
+import org.jitsi.meet.sdk.log.JitsiMeetLogger;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Correlates the commands sent to JS with their acknowledgements. Each command gets an id in its
+ * data, which JS acknowledges with the outcome of the command once it applied it, and the
+ * latency and outcome are recorded in the {@link JitsiMeetCommandStats}.
+ */
+final class CommandTracker {
+    private static final String TAG = CommandTracker.class.getSimpleName();
+
+    static final String COMMAND_ID = "commandId";
+
+    /**
+     * The default time after which a command JS didn't acknowledge times out.
+     */
+    static final long DEFAULT_TIMEOUT_MS = 5000;
+
+    private static final CommandTracker instance = new CommandTracker();
+
+    /**
+     * The commands sent to JS and not acknowledged yet, by id.
+     */
+    private final Map<String, Command> pendingCommands = new ConcurrentHashMap<>();
+    private final Handler handler = new Handler(Looper.getMainLooper());
+    private final AtomicLong nextId = new AtomicLong();
+    private volatile long timeoutMs = DEFAULT_TIMEOUT_MS;
+
+    static CommandTracker getInstance() {
+        return instance;
+    }
+
+    private CommandTracker() {
+    }
+
+    void setTimeout(long timeoutMs) {
+        this.timeoutMs = timeoutMs;
+    }
+
+    /**
+     * Adds a new command id to the data of a command.
+     *
+     * @return The id.
+     */
+    String assignId(WritableMap data) {
+        String id = Long.toString(nextId.incrementAndGet());
+
+        data.putString(COMMAND_ID, id);
+
+        return id;
+    }
+
+    /**
+     * Starts waiting for the acknowledgement of a command, which is about to be sent.
+     *
+     * @param future Completed with the outcome of the command, if not {@code null}.
+     */
+    void track(String id, BroadcastAction.Type type, @Nullable CompletableFuture<Void> future) {
+        Command command = new Command(id, type, future);
+
+        pendingCommands.put(id, command);
+        handler.postDelayed(command, timeoutMs);
+    }
+
+    /**
+     * Stops waiting for a command which couldn't be sent. It isn't counted in the stats.
+     */
+    void cancel(String id, Throwable error) {
+        Command command = pendingCommands.remove(id);
+
+        if (command != null) {
+            handler.removeCallbacks(command);
+            if (command.future != null) {
+                command.future.completeExceptionally(error);
+            }
+        }
+    }
+
+    /**
+     * Called when JS acknowledges a command.
+     *
+     * @param outcome {@code applied}, {@code rejected} or {@code failed}.
+     * @param error The error, for failed commands.
+     */
+    void onAcknowledged(String id, String outcome, @Nullable String error) {
+        Command command = pendingCommands.remove(id);
+
+        if (command == null) {
+            // Timed out already.
+            return;
+        }
+
+        handler.removeCallbacks(command);
+
+        long latencyNanos = System.nanoTime() - command.startNanos;
+        JitsiMeetCommandStats.Outcome result;
+
+        switch (outcome) {
+            case "applied":
+                result = JitsiMeetCommandStats.Outcome.APPLIED;
+                break;
+            case "rejected":
+                result = JitsiMeetCommandStats.Outcome.REJECTED;
+                break;
+            default:
+                result = JitsiMeetCommandStats.Outcome.FAILED;
+                break;
+        }
+
+        JitsiMeetCommandStats.getInstance().record(command.type, result, latencyNanos);
+
+        if (command.future != null) {
+            if (result == JitsiMeetCommandStats.Outcome.APPLIED) {
+                command.future.complete(null);
+            } else {
+                String message = command.type + " " + outcome + " by JS" + (error != null ? ": " + error : "");
+                command.future.completeExceptionally(new IllegalStateException(message));
+            }
+        }
+    }
+
+    private void onTimeout(Command command) {
+        if (pendingCommands.remove(command.id) == null) {
+            return;
+        }
+
+        JitsiMeetLogger.w(TAG + " " + command.type + " not acknowledged in " + timeoutMs + " ms");
+        JitsiMeetCommandStats.getInstance().record(
+            command.type, JitsiMeetCommandStats.Outcome.TIMED_OUT, System.nanoTime() - command.startNanos);
+
+        if (command.future != null) {
+            command.future.completeExceptionally(
+                new TimeoutException(command.type + " not acknowledged by JS"));
+        }
+    }
+
+    private final class Command implements Runnable {
+        final String id;
+        final BroadcastAction.Type type;
+        @Nullable
+        final CompletableFuture<Void> future;
+        final long startNanos = System.nanoTime();
+
+        Command(String id, BroadcastAction.Type type, @Nullable CompletableFuture<Void> future) {
+            this.id = id;
+            this.type = type;
+            this.future = future;
+        }
+
+        @Override
+        public void run() {
+            onTimeout(this);
+        }
+    }
+}
@@ -0,0 +1,334 @@
+/*
+ * Copyright @ 2025-present 8x8, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jitsi.meet.sdk;
+
+import android.os.Handler;
+import android.os.Looper;
+import android.os.SystemClock;
+import android.util.Base64;
+
+import androidx.annotation.Nullable;
+
+import com.facebook.react.bridge.Arguments;
+import com.facebook.react.bridge.ReadableArray;
+import com.facebook.react.bridge.WritableArray;
+import com.facebook.react.bridge.WritableMap;
+
+import org.jitsi.meet.sdk.log.JitsiMeetLogger;
+
+import java.util.ArrayDeque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Channel for binary endpoint messages, e.g. for high-rate collaborative features such as cursor
+ * positions or annotations.
+ *
+ * Messages sent from any thread are queued and sent to JS in a single bridge call per tick, grouped
+ * into one endpoint message per destination. A single batch is in flight at a time: JS acknowledges
+ * it once the bridge channel has room again, so a full channel stops the flushing and the queue
+ * grows until {@link #send(String, byte[])} refuses messages. {@link Listener}s are told when the
+ * channel stops and starts accepting them again.
+ *
+ * The React Native bridge has no binary type, so payloads cross it, and the bridge channel, base64
+ * encoded. The encoding is done on the sending thread and the decoding on the receiving one.
+ */
+public final class EndpointMessageChannel {
+    private static final String TAG = EndpointMessageChannel.class.getSimpleName();
+
+    /**
+     * The JS event carrying a batch of messages to send.
+     */
+    static final String SEND_EVENT = "org.jitsi.meet.SEND_BINARY_ENDPOINT_MESSAGES";
+
+    /**
+     * The size of the queued payloads above which messages are refused.
+     */
+    public static final int MAX_QUEUED_BYTES = 1024 * 1024;
+
+    /**
+     * The maximum size of the payloads sent in a tick, and of a single payload.
+     */
+    public static final int MAX_BATCH_BYTES = 64 * 1024;
+
+    private static final long TICK_MS = 16;
+
+    /**
+     * The time after which a batch JS didn't acknowledge is considered lost, e.g. when JS reloads.
+     */
+    private static final long ACK_TIMEOUT_MS = 5000;
+
+    private static final EndpointMessageChannel instance = new EndpointMessageChannel();
+
+    private final List<Listener> listeners = new CopyOnWriteArrayList<>();
+    private final Runnable flushRunnable = this::flush;
+
+    // Guarded by this.
+    private final ArrayDeque<Message> queue = new ArrayDeque<>();
+    private int queuedBytes;
+    private boolean writable = true;
+    private boolean flushScheduled;
+    private long inFlightBatchId = -1;
+    private long inFlightSince;
+    private long nextBatchId;
+
+    /**
+     * Created on first use.
+     */
+    @Nullable
+    private Handler handler;
+
+    public static EndpointMessageChannel getInstance() {
+        return instance;
+    }
+
+    private EndpointMessageChannel() {
+    }
+
+    /**
+     * Registers a listener called on the React Native modules thread. It must return quickly.
+     */
+    public void addListener(Listener listener) {
+        listeners.add(listener);
+    }
+
+    public void removeListener(Listener listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * Whether {@link #send(String, byte[])} accepts messages.
+     */
+    public synchronized boolean isWritable() {
+        return writable;
+    }
+
+    /**
+     * Queues a message for the given participant.
+     *
+     * @param to The id of the participant, {@code null} to send it to everyone.
+     * @return {@code false} if the message was refused because too many are queued already.
+     * Listeners are told when messages are accepted again.
+     */
+    public boolean send(@Nullable String to, byte[] payload) {
+        if (payload.length > MAX_BATCH_BYTES) {
+            throw new IllegalArgumentException("Payload larger than " + MAX_BATCH_BYTES + " bytes");
+        }
+
+        String encoded = Base64.encodeToString(payload, Base64.NO_WRAP);
+        boolean accepted = false;
+        boolean becameUnwritable = false;
+
+        synchronized (this) {
+            if (writable && queuedBytes + payload.length <= MAX_QUEUED_BYTES) {
+                queue.add(new Message(to != null ? to : "", encoded, payload.length));
+                queuedBytes += payload.length;
+                scheduleFlush(TICK_MS);
+                accepted = true;
+            } else if (writable) {
+                // Refuse messages until the queue is half empty.
+                writable = false;
+                becameUnwritable = true;
+            }
+        }
+
+        if (becameUnwritable) {
+            JitsiMeetLogger.w(TAG + " Queue full, refusing messages");
+            notifyWritabilityChanged(false);
+        }
+
+        return accepted;
+    }
+
+    /**
+     * Called when JS handed a batch to the bridge channel and the channel has room again.
+     */
+    void onBatchSent(long batchId) {
+        synchronized (this) {
+            if (batchId != inFlightBatchId) {
+                return;
+            }
+
+            inFlightBatchId = -1;
+            if (!queue.isEmpty()) {
+                // The flush may be scheduled for the ack timeout, bring it forward.
+                if (flushScheduled && handler != null) {
+                    handler.removeCallbacks(flushRunnable);
+                    flushScheduled = false;
+                }
+                scheduleFlush(TICK_MS);
+            }
+        }
+    }
+
+    /**
+     * Called with the payloads of a binary endpoint message received by JS.
+     */
+    void onReceived(String senderId, @Nullable ReadableArray payloads) {
+        // Sent by a remote participant, so it may be anything.
+        if (payloads == null) {
+            JitsiMeetLogger.w(TAG + " No payloads from " + senderId);
+            return;
+        }
+
+        for (int i = 0; i < payloads.size(); i++) {
+            byte[] payload;
+
+            try {
+                payload = Base64.decode(payloads.getString(i), Base64.NO_WRAP);
+            } catch (RuntimeException e) {
+                JitsiMeetLogger.w(TAG + " Invalid payload from " + senderId);
+                continue;
+            }
+
+            for (Listener listener : listeners) {
+                try {
+                    listener.onMessage(senderId, payload);
+                } catch (RuntimeException e) {
+                    JitsiMeetLogger.e(e, TAG + " Listener failed");
+                }
+            }
+        }
+    }
+
+    private void scheduleFlush(long delayMs) {
+        if (flushScheduled) {
+            return;
+        }
+
+        if (handler == null) {
+            handler = new Handler(Looper.getMainLooper());
+        }
+
+        flushScheduled = true;
+        handler.postDelayed(flushRunnable, delayMs);
+    }
+
+    private void flush() {
+        long batchId;
+        WritableArray batches = Arguments.createArray();
+        boolean becameWritable = false;
+
+        synchronized (this) {
+            flushScheduled = false;
+
+            if (queue.isEmpty()) {
+                return;
+            }
+
+            if (inFlightBatchId != -1) {
+                long waited = SystemClock.elapsedRealtime() - inFlightSince;
+
+                if (waited < ACK_TIMEOUT_MS) {
+                    // Flushed again once acknowledged, or when it times out.
+                    scheduleFlush(ACK_TIMEOUT_MS - waited);
+                    return;
+                }
+
+                JitsiMeetLogger.w(TAG + " Batch " + inFlightBatchId + " not acknowledged, sending the next one");
+            }
+
+            Map<String, WritableArray> payloadsByDestination = new LinkedHashMap<>();
+            int batchBytes = 0;
+
+            while (!queue.isEmpty() && batchBytes + queue.peek().size <= MAX_BATCH_BYTES) {
+                Message message = queue.poll();
+                WritableArray payloads = payloadsByDestination.get(message.to);
+
+                if (payloads == null) {
+                    payloads = Arguments.createArray();
+                    payloadsByDestination.put(message.to, payloads);
+                }
+                payloads.pushString(message.payload);
+                batchBytes += message.size;
+            }
+
+            queuedBytes -= batchBytes;
+
+            for (Map.Entry<String, WritableArray> entry : payloadsByDestination.entrySet()) {
+                WritableMap batch = Arguments.createMap();
+                batch.putString("to", entry.getKey());
+                batch.putArray("payloads", entry.getValue());
+                batches.pushMap(batch);
+            }
+
+            batchId = nextBatchId++;
+            inFlightBatchId = batchId;
+            inFlightSince = SystemClock.elapsedRealtime();
+
+            if (!writable && queuedBytes <= MAX_QUEUED_BYTES / 2) {
+                writable = true;
+                becameWritable = true;
+            }
+        }
+
+        WritableMap data = Arguments.createMap();
+        data.putDouble("batchId", batchId);
+        data.putArray("batches", batches);
+
+        if (!ReactInstanceManagerHolder.emitEvent(SEND_EVENT, data)) {
+            JitsiMeetLogger.w(TAG + " React Native isn't running, dropping batch " + batchId);
+            onBatchSent(batchId);
+        }
+
+        if (becameWritable) {
+            notifyWritabilityChanged(true);
+        }
+    }
+
+    private void notifyWritabilityChanged(boolean writable) {
+        for (Listener listener : listeners) {
+            try {
+                listener.onWritabilityChanged(writable);
+            } catch (RuntimeException e) {
+                JitsiMeetLogger.e(e, TAG + " Listener failed");
+            }
+        }
+    }
+
+    /**
+     * Listener for the messages of the channel.
+     */
+    public interface Listener {
+        /**
+         * Called for each received payload, in order.
+         *
+         * @param senderId The id of the participant who sent it.
+         */
+        void onMessage(String senderId, byte[] payload);
+
+        /**
+         * Called when {@link #send(String, byte[])} stops or starts accepting messages again.
+         */
+        default void onWritabilityChanged(boolean writable) {
+        }
+    }
+
+    private static final class Message {
+        final String to;
+        final String payload;
+        final int size;
+
+        Message(String to, String payload, int size) {
+            this.to = to;
+            this.payload = payload;
+            this.size = size;
+        }
+    }
+}
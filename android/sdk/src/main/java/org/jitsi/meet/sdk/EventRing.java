@@ -0,0 +1,376 @@
+/*
+ * Copyright @ 2025-present 8x8, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jitsi.meet.sdk;
+
+import android.os.Build;
+
+import androidx.annotation.Nullable;
+
+import com.google.gson.stream.JsonReader;
+
+import org.jitsi.meet.sdk.log.JitsiMeetLogger;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.lang.invoke.VarHandle;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Ring buffer of encoded {@link BroadcastEvent.Type} events, laid out in a {@link ByteBuffer}
+ * shared between a single writer and readers in other processes.
+ *
+ * The buffer starts with a header holding the write position, a monotonic count of the bytes
+ * published, and the claim position, the end of the bytes the writer may be overwriting, followed
+ * by the records. A record is its length, the ordinal of the event type, and its
+ * data as tagged key / value pairs. A record which doesn't fit before the end of the buffer is
+ * written at its start, after a padding marker.
+ *
+ * Readers keep their own read position and never block the writer: a reader lapped by the writer
+ * skips to the oldest record still in the buffer and is told how much it missed. A reader copies a
+ * record and then checks the claim position, so it never decodes a record the writer was
+ * overwriting at the same time.
+ */
+final class EventRing {
+    private static final String TAG = EventRing.class.getSimpleName();
+
+    private static final int MAGIC = 0x4a4d4552;
+
+    private static final int WRITE_POSITION_OFFSET = 0;
+    private static final int MAGIC_OFFSET = 8;
+    private static final int CLAIM_POSITION_OFFSET = 16;
+    static final int HEADER_SIZE = 24;
+
+    private static final int PADDING = -1;
+
+    private static final byte NULL = 0;
+    private static final byte FALSE = 1;
+    private static final byte TRUE = 2;
+    private static final byte LONG = 3;
+    private static final byte DOUBLE = 4;
+    private static final byte STRING = 5;
+    private static final byte JSON = 6;
+
+    private static final AtomicInteger fence = new AtomicInteger();
+
+    private final ByteBuffer buffer;
+    private final int capacity;
+
+    /**
+     * @param buffer The shared buffer, header included.
+     */
+    EventRing(ByteBuffer buffer) {
+        this.buffer = buffer;
+        this.capacity = buffer.capacity() - HEADER_SIZE;
+    }
+
+    /**
+     * Prepares a new buffer for writing.
+     */
+    void reset() {
+        buffer.putLong(WRITE_POSITION_OFFSET, 0);
+        buffer.putLong(CLAIM_POSITION_OFFSET, 0);
+        buffer.putInt(MAGIC_OFFSET, MAGIC);
+        fullFence();
+    }
+
+    boolean isValid() {
+        return buffer.capacity() > HEADER_SIZE && buffer.getInt(MAGIC_OFFSET) == MAGIC;
+    }
+
+    long getWritePosition() {
+        fullFence();
+        long position = buffer.getLong(WRITE_POSITION_OFFSET);
+        // The records must not be read before the position which publishes them.
+        fullFence();
+
+        return position;
+    }
+
+    /**
+     * Gets the end of the bytes the writer may have overwritten so far. Records read before
+     * calling it which are less than a buffer behind it are intact.
+     */
+    private long getClaimPosition() {
+        // The records must be read before the claim which invalidates them.
+        fullFence();
+
+        return buffer.getLong(CLAIM_POSITION_OFFSET);
+    }
+
+    /**
+     * Appends the events, then publishes them at once. Must be called from a single thread at a
+     * time.
+     *
+     * @return The new write position.
+     */
+    long write(List<JitsiMeetEvent> events, Encoder encoder) {
+        long position = buffer.getLong(WRITE_POSITION_OFFSET);
+
+        for (JitsiMeetEvent event : events) {
+            ByteBuffer record = encoder.encode(event);
+            int size = 4 + record.remaining();
+
+            if (size > capacity / 4) {
+                JitsiMeetLogger.w(TAG + " Dropping " + event.getType() + " event of " + size + " bytes");
+                continue;
+            }
+
+            int offset = (int) (position % capacity);
+            int available = capacity - offset;
+
+            boolean wraps = available < size;
+
+            // Readers must see the claim before any of the bytes it overwrites.
+            buffer.putLong(CLAIM_POSITION_OFFSET, position + (wraps ? available : 0) + size);
+            fullFence();
+
+            if (wraps) {
+                if (available >= 4) {
+                    buffer.putInt(HEADER_SIZE + offset, PADDING);
+                }
+                position += available;
+                offset = 0;
+            }
+
+            buffer.putInt(HEADER_SIZE + offset, record.remaining());
+            ByteBuffer target = buffer.duplicate();
+            target.position(HEADER_SIZE + offset + 4);
+            target.put(record);
+            position += size;
+        }
+
+        // The records must be visible before the position which publishes them.
+        fullFence();
+        buffer.putLong(WRITE_POSITION_OFFSET, position);
+
+        return position;
+    }
+
+    /**
+     * Reads the records published after the given position.
+     *
+     * @return The position to read from next.
+     */
+    long read(long position, Visitor visitor) {
+        long writePosition = getWritePosition();
+        long claimPosition = getClaimPosition();
+
+        if (claimPosition - position > capacity) {
+            // Lapped by the writer, the records in between are lost. Resume at the first record
+            // boundary we know of past the overwritten ones: the start of the buffer.
+            long resumed = claimPosition - capacity;
+            resumed += (capacity - resumed % capacity) % capacity;
+            visitor.onLost(resumed - position);
+            position = resumed;
+        }
+
+        while (position < writePosition) {
+            int offset = (int) (position % capacity);
+            int available = capacity - offset;
+
+            if (available < 4) {
+                position += available;
+                continue;
+            }
+
+            int length = buffer.getInt(HEADER_SIZE + offset);
+
+            if (length == PADDING) {
+                position += available;
+                continue;
+            }
+
+            byte[] record = null;
+
+            if (length >= 4 && length <= available - 4) {
+                record = new byte[length];
+                ByteBuffer source = buffer.duplicate();
+                source.position(HEADER_SIZE + offset + 4);
+                source.get(record);
+            }
+
+            // The record, or its length, may have been overwritten while we copied it.
+            if (getClaimPosition() - position > capacity) {
+                return read(position, visitor);
+            }
+
+            if (record == null) {
+                JitsiMeetLogger.w(TAG + " Corrupted record at " + position);
+                visitor.onLost(writePosition - position);
+                return writePosition;
+            }
+
+            Map<String, Object> data = new HashMap<>();
+            BroadcastEvent.Type type;
+
+            try {
+                type = decode(ByteBuffer.wrap(record), data);
+            } catch (RuntimeException e) {
+                JitsiMeetLogger.w(TAG + " Undecodable record at " + position);
+                visitor.onLost(4 + length);
+                type = null;
+            }
+
+            position += 4 + length;
+
+            if (type != null) {
+                visitor.onEvent(type, data);
+            }
+        }
+
+        return position;
+    }
+
+    /**
+     * Decodes a record into the given map.
+     *
+     * @return The type of the event, {@code null} if unknown to this version.
+     */
+    @Nullable
+    private static BroadcastEvent.Type decode(ByteBuffer record, Map<String, Object> data) {
+        int ordinal = record.getShort();
+        int count = record.getShort();
+        BroadcastEvent.Type[] types = BroadcastEvent.Type.values();
+
+        if (ordinal < 0 || ordinal >= types.length) {
+            return null;
+        }
+
+        for (int i = 0; i < count; i++) {
+            String key = readString(record);
+            data.put(key, readValue(record));
+        }
+
+        return types[ordinal];
+    }
+
+    @Nullable
+    private static Object readValue(ByteBuffer record) {
+        byte tag = record.get();
+
+        switch (tag) {
+            case FALSE:
+                return Boolean.FALSE;
+            case TRUE:
+                return Boolean.TRUE;
+            case LONG:
+                return record.getLong();
+            case DOUBLE:
+                return record.getDouble();
+            case STRING:
+                return readString(record);
+            case JSON:
+                try {
+                    return JsonPayloads.read(new JsonReader(new StringReader(readString(record))));
+                } catch (IOException e) {
+                    return null;
+                }
+            default:
+                return null;
+        }
+    }
+
+    private static String readString(ByteBuffer record) {
+        int length = record.getInt();
+        String value = new String(record.array(), record.arrayOffset() + record.position(), length, StandardCharsets.UTF_8);
+        record.position(record.position() + length);
+
+        return value;
+    }
+
+    private static void fullFence() {
+        if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.TIRAMISU) {
+            VarHandle.fullFence();
+        } else {
+            // A sequentially consistent atomic update orders the accesses around it the same way.
+            fence.incrementAndGet();
+        }
+    }
+
+    /**
+     * Encodes events into records, reusing its buffer. Not thread safe.
+     */
+    static final class Encoder {
+        private ByteBuffer scratch = ByteBuffer.allocate(1024);
+
+        ByteBuffer encode(JitsiMeetEvent event) {
+            while (true) {
+                scratch.clear();
+
+                try {
+                    scratch.putShort((short) event.getType().ordinal());
+                    scratch.putShort((short) event.getData().size());
+
+                    for (Map.Entry<String, Object> entry : event.getData().entrySet()) {
+                        putString(entry.getKey());
+                        putValue(entry.getValue());
+                    }
+
+                    scratch.flip();
+
+                    return scratch;
+                } catch (BufferOverflowException e) {
+                    scratch = ByteBuffer.allocate(scratch.capacity() * 2);
+                }
+            }
+        }
+
+        private void putValue(@Nullable Object value) {
+            if (value == null) {
+                scratch.put(NULL);
+            } else if (value instanceof Boolean) {
+                scratch.put((Boolean) value ? TRUE : FALSE);
+            } else if (value instanceof Integer || value instanceof Long) {
+                scratch.put(LONG);
+                scratch.putLong(((Number) value).longValue());
+            } else if (value instanceof Number) {
+                scratch.put(DOUBLE);
+                scratch.putDouble(((Number) value).doubleValue());
+            } else if (value instanceof Map || value instanceof List) {
+                scratch.put(JSON);
+                putString(JsonPayloads.toExtraString(value));
+            } else {
+                scratch.put(STRING);
+                putString(value.toString());
+            }
+        }
+
+        private void putString(String value) {
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+
+            scratch.putInt(bytes.length);
+            scratch.put(bytes);
+        }
+    }
+
+    interface Visitor {
+        void onEvent(BroadcastEvent.Type type, Map<String, Object> data);
+
+        /**
+         * Called when the reader was lapped by the writer.
+         *
+         * @param bytes The size of the records which were lost.
+         */
+        void onLost(long bytes);
+    }
+}
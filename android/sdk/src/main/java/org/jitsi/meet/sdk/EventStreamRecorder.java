@@ -0,0 +1,176 @@
+/*
+ * Copyright @ 2025-present 8x8, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jitsi.meet.sdk;
+
+import androidx.annotation.Nullable;
+
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+
+import org.jitsi.meet.sdk.log.JitsiMeetLogger;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.StringReader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Captures the stream of external API events going through the {@link JitsiMeetEventBus}, with
+ * their times, so it can be replayed with the {@link EventStreamReplayer}.
+ *
+ * The recording is a gzipped file with a JSON object per line:
+ * {@code {"t": <microseconds since the start>, "n": <event name>, "d": <event data>}}.
+ */
+public final class EventStreamRecorder implements JitsiMeetEventBus.BatchListener {
+    private static final String TAG = EventStreamRecorder.class.getSimpleName();
+
+    private final JitsiMeetEventBus eventBus;
+
+    @Nullable
+    private Writer writer;
+    private long startNanos;
+
+    public EventStreamRecorder() {
+        this(JitsiMeetEventBus.getInstance());
+    }
+
+    EventStreamRecorder(JitsiMeetEventBus eventBus) {
+        this.eventBus = eventBus;
+    }
+
+    /**
+     * Starts capturing the events into the given file, replacing it.
+     */
+    public synchronized void start(File file) throws IOException {
+        stop();
+
+        writer = new BufferedWriter(new OutputStreamWriter(
+            new GZIPOutputStream(new FileOutputStream(file)), StandardCharsets.UTF_8));
+        startNanos = System.nanoTime();
+        eventBus.addBatchListener(this);
+    }
+
+    public synchronized void stop() {
+        eventBus.removeBatchListener(this);
+
+        if (writer != null) {
+            try {
+                writer.close();
+            } catch (IOException e) {
+                JitsiMeetLogger.w(e, TAG + " Failed to close the recording");
+            }
+            writer = null;
+        }
+    }
+
+    @Override
+    public synchronized void onEvents(List<JitsiMeetEvent> events) {
+        if (writer == null) {
+            return;
+        }
+
+        long timeUs = (System.nanoTime() - startNanos) / 1000;
+
+        try {
+            for (JitsiMeetEvent event : events) {
+                JsonWriter jsonWriter = new JsonWriter(writer);
+
+                jsonWriter.beginObject();
+                jsonWriter.name("t").value(timeUs);
+                jsonWriter.name("n").value(event.getType().name());
+                jsonWriter.name("d");
+                JsonPayloads.write(jsonWriter, event.getData());
+                jsonWriter.endObject();
+                jsonWriter.flush();
+                writer.write('\n');
+            }
+        } catch (IOException e) {
+            JitsiMeetLogger.w(e, TAG + " Failed to record, stopping");
+            stop();
+        }
+    }
+
+    /**
+     * Reads a recording.
+     */
+    public static List<RecordedEvent> read(File file) throws IOException {
+        List<RecordedEvent> events = new ArrayList<>();
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                new GZIPInputStream(new FileInputStream(file)), StandardCharsets.UTF_8))) {
+            String line;
+
+            while ((line = reader.readLine()) != null) {
+                if (!line.isEmpty()) {
+                    events.add(readEvent(new JsonReader(new StringReader(line))));
+                }
+            }
+        }
+
+        return events;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static RecordedEvent readEvent(JsonReader reader) throws IOException {
+        long timeUs = 0;
+        String name = null;
+        Map<String, Object> data = new HashMap<>();
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "t":
+                    timeUs = reader.nextLong();
+                    break;
+                case "n":
+                    name = reader.nextString();
+                    break;
+                case "d":
+                    if (reader.peek() == JsonToken.BEGIN_OBJECT) {
+                        data = (Map<String, Object>) JsonPayloads.read(reader);
+                    } else {
+                        reader.skipValue();
+                    }
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        reader.endObject();
+
+        if (name == null) {
+            throw new IOException("Event without a name");
+        }
+
+        return new RecordedEvent(timeUs, name, data);
+    }
+}
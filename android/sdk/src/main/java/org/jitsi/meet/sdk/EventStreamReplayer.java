@@ -0,0 +1,432 @@
+/*
+ * Copyright @ 2025-present 8x8, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jitsi.meet.sdk;
+
+import androidx.annotation.Nullable;
+
+import com.facebook.react.bridge.JavaOnlyArray;
+import com.facebook.react.bridge.JavaOnlyMap;
+import com.facebook.react.bridge.ReadableArray;
+import com.facebook.react.bridge.ReadableMap;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Feeds a recorded or made up stream of external API events through the native event pipeline,
+ * in real time or as fast as possible, and reports how each stage of the pipeline fared.
+ *
+ * The events are posted to {@link JitsiMeetEventBus#post(ReadableArray)} in batches, as
+ * {@code ExternalAPIModule} does with the batches JS sends: the events which are due in real time,
+ * or {@link #MAX_BATCH_SIZE} at a time as fast as possible. The pipeline doesn't need React Native
+ * to be running: the replayer is given the {@link ReadableMap}s JS would have sent, e.g.
+ * {@code JavaOnlyMap}s in JVM unit tests. The broadcast {@code Intent}s are built but not sent.
+ */
+public final class EventStreamReplayer {
+    /**
+     * The stages of the pipeline.
+     */
+    public enum Stage {
+        /**
+         * Reading the data sent over the bridge into a {@link JitsiMeetEvent}.
+         */
+        DECODE,
+
+        /**
+         * Calling the listeners and batch listeners of the {@link JitsiMeetEventBus}.
+         */
+        DISPATCH,
+
+        /**
+         * Building the {@link BroadcastEvent} and its {@code Intent}.
+         */
+        BROADCAST,
+
+        /**
+         * All of the above.
+         */
+        TOTAL
+    }
+
+    /**
+     * The maximum number of events JS sends at once.
+     */
+    public static final int MAX_BATCH_SIZE = 64;
+
+    /**
+     * Makes the {@link ReadableMap} JS would send for the given event data.
+     */
+    public interface ReadableMapFactory {
+        ReadableMap create(Map<String, Object> data);
+    }
+
+    private final JitsiMeetEventBus eventBus;
+    private final ReadableMapFactory readableMapFactory;
+    private final BroadcastEmitter.IntentBuilder intentBuilder;
+
+    public EventStreamReplayer(ReadableMapFactory readableMapFactory) {
+        this(JitsiMeetEventBus.getInstance(), readableMapFactory, BroadcastEmitter.DEFAULT_INTENT_BUILDER);
+    }
+
+    /**
+     * @param intentBuilder Builds the {@code Intent}s of the broadcasts, which are measured but not
+     * sent.
+     */
+    EventStreamReplayer(
+            JitsiMeetEventBus eventBus,
+            ReadableMapFactory readableMapFactory,
+            BroadcastEmitter.IntentBuilder intentBuilder) {
+        this.eventBus = eventBus;
+        this.readableMapFactory = readableMapFactory;
+        this.intentBuilder = intentBuilder;
+    }
+
+    /**
+     * Makes up the events of participants joining a conference at a regular pace.
+     *
+     * @param count The number of participants.
+     * @param durationMs The time it takes for all of them to join.
+     */
+    public static List<RecordedEvent> participantsJoining(int count, long durationMs) {
+        List<RecordedEvent> events = new ArrayList<>(count);
+
+        for (int i = 0; i < count; i++) {
+            Map<String, Object> data = new HashMap<>();
+
+            data.put("participantId", "participant-" + i);
+            data.put("displayName", "Participant " + i);
+            data.put("name", "participant" + i);
+            data.put("email", "participant" + i + "@example.com");
+            data.put("avatarUrl", "https://example.com/avatar/" + i + ".png");
+            data.put("isLocal", false);
+            data.put("role", "participant");
+
+            events.add(new RecordedEvent(
+                count > 1 ? durationMs * 1000 * i / (count - 1) : 0, "PARTICIPANT_JOINED", data));
+        }
+
+        return events;
+    }
+
+    /**
+     * Replays the given events. Events with an unknown name are skipped.
+     *
+     * @param realTime Whether to wait for the time of each event, or to go as fast as possible.
+     */
+    public Report replay(List<RecordedEvent> events, boolean realTime) throws InterruptedException {
+        List<RecordedEvent> known = new ArrayList<>(events.size());
+
+        for (RecordedEvent recordedEvent : events) {
+            if (BroadcastEvent.Type.buildTypeFromName(recordedEvent.name) != null) {
+                known.add(recordedEvent);
+            }
+        }
+
+        StageTimer timer = new StageTimer();
+        EnumMap<Stage, List<Long>> latencies = new EnumMap<>(Stage.class);
+        EnumMap<Stage, Long> allocations = new EnumMap<>(Stage.class);
+
+        for (Stage stage : Stage.values()) {
+            latencies.put(stage, new ArrayList<>());
+            allocations.put(stage, 0L);
+        }
+
+        BroadcastEmitter broadcastEmitter = eventBus.setBroadcastEmitter(new BroadcastEmitter(null, intentBuilder));
+        long startNanos = System.nanoTime();
+
+        eventBus.setStageTimer(timer);
+
+        try {
+            int next = 0;
+
+            while (next < known.size()) {
+                if (realTime) {
+                    long delayNanos = startNanos + known.get(next).timeUs * 1000 - System.nanoTime();
+
+                    if (delayNanos > 0) {
+                        Thread.sleep(delayNanos / 1000000, (int) (delayNanos % 1000000));
+                    }
+                }
+
+                // The events due by now, as JS would have queued them meanwhile.
+                long nowUs = (System.nanoTime() - startNanos) / 1000;
+                JavaOnlyArray batch = new JavaOnlyArray();
+
+                do {
+                    RecordedEvent recordedEvent = known.get(next++);
+
+                    batch.pushMap(JavaOnlyMap.of(
+                        "name", recordedEvent.name,
+                        "data", readableMapFactory.create(recordedEvent.data)));
+                } while (next < known.size()
+                    && batch.size() < MAX_BATCH_SIZE
+                    && (!realTime || known.get(next).timeUs <= nowUs));
+
+                timer.start();
+                eventBus.post(batch);
+
+                for (Stage stage : Stage.values()) {
+                    latencies.get(stage).add(timer.nanos[stage.ordinal()]);
+                    allocations.put(stage, allocations.get(stage) + timer.bytes[stage.ordinal()]);
+                }
+            }
+        } finally {
+            eventBus.setStageTimer(null);
+            eventBus.setBroadcastEmitter(broadcastEmitter);
+        }
+
+        long durationNanos = System.nanoTime() - startNanos;
+        EnumMap<Stage, StageReport> stages = new EnumMap<>(Stage.class);
+
+        for (Stage stage : Stage.values()) {
+            List<Long> stageLatencies = latencies.get(stage);
+            long[] batchLatencies = new long[stageLatencies.size()];
+
+            for (int i = 0; i < batchLatencies.length; i++) {
+                batchLatencies[i] = stageLatencies.get(i);
+            }
+
+            long allocatedBytes = AllocationCounter.isSupported() ? allocations.get(stage) : -1;
+
+            stages.put(stage, new StageReport(stage, known.size(), batchLatencies, allocatedBytes));
+        }
+
+        return new Report(known.size(), events.size() - known.size(), durationNanos, stages);
+    }
+
+    /**
+     * The outcome of a replay.
+     */
+    public static final class Report {
+        /**
+         * The number of events replayed.
+         */
+        public final int count;
+
+        /**
+         * The number of events skipped because their name isn't known.
+         */
+        public final int skipped;
+
+        /**
+         * The time the replay took, waits included.
+         */
+        public final long durationNanos;
+
+        private final Map<Stage, StageReport> stages;
+
+        Report(int count, int skipped, long durationNanos, Map<Stage, StageReport> stages) {
+            this.count = count;
+            this.skipped = skipped;
+            this.durationNanos = durationNanos;
+            this.stages = stages;
+        }
+
+        public StageReport getStage(Stage stage) {
+            return stages.get(stage);
+        }
+
+        @Override
+        public String toString() {
+            StringBuilder sb = new StringBuilder(String.format(
+                Locale.ROOT,
+                "%d events (%d skipped) in %.1f ms",
+                count, skipped, durationNanos / 1e6));
+
+            for (StageReport stage : stages.values()) {
+                sb.append('\n').append(stage);
+            }
+
+            return sb.toString();
+        }
+    }
+
+    /**
+     * How a stage of the pipeline fared during a replay.
+     */
+    public static final class StageReport {
+        public final Stage stage;
+
+        /**
+         * The number of events.
+         */
+        public final int count;
+
+        /**
+         * The number of batches the events were posted in. The percentiles are those of the time
+         * a batch spent in the stage.
+         */
+        public final int batches;
+        public final long totalNanos;
+        public final long p50Nanos;
+        public final long p90Nanos;
+        public final long p99Nanos;
+        public final long maxNanos;
+
+        /**
+         * The bytes allocated by the stage, or -1 if the runtime can't tell.
+         */
+        public final long allocatedBytes;
+
+        StageReport(Stage stage, int count, long[] latencies, long allocatedBytes) {
+            Arrays.sort(latencies);
+
+            long totalNanos = 0;
+            for (long latency : latencies) {
+                totalNanos += latency;
+            }
+
+            this.stage = stage;
+            this.count = count;
+            this.batches = latencies.length;
+            this.totalNanos = totalNanos;
+            this.p50Nanos = percentile(latencies, 50);
+            this.p90Nanos = percentile(latencies, 90);
+            this.p99Nanos = percentile(latencies, 99);
+            this.maxNanos = latencies.length > 0 ? latencies[latencies.length - 1] : 0;
+            this.allocatedBytes = allocatedBytes;
+        }
+
+        /**
+         * Gets the number of events the stage handled per second of its own time.
+         */
+        public double getThroughput() {
+            return totalNanos > 0 ? count * 1e9 / totalNanos : 0;
+        }
+
+        private static long percentile(long[] sorted, int percentile) {
+            if (sorted.length == 0) {
+                return 0;
+            }
+
+            int index = (int) Math.ceil(percentile / 100.0 * sorted.length) - 1;
+
+            return sorted[Math.max(0, Math.min(sorted.length - 1, index))];
+        }
+
+        @Override
+        public String toString() {
+            return String.format(
+                Locale.ROOT,
+                "%s: %.0f events/s, %d batches, p50 %.1f us, p90 %.1f us, p99 %.1f us, max %.1f us, %s",
+                stage, getThroughput(), batches, p50Nanos / 1e3, p90Nanos / 1e3, p99Nanos / 1e3,
+                maxNanos / 1e3,
+                allocatedBytes >= 0 ? (allocatedBytes / Math.max(1, count)) + " B/event" : "allocations n/a");
+        }
+    }
+
+    /**
+     * Adds up the time and allocations of each stage of a batch, from the end of the previous
+     * stage to the end of this one, and of all of them.
+     */
+    private static final class StageTimer implements JitsiMeetEventBus.StageTimer {
+        final long[] nanos = new long[Stage.values().length];
+        final long[] bytes = new long[Stage.values().length];
+
+        private long markNanos;
+        private long markBytes;
+
+        void start() {
+            Arrays.fill(nanos, 0);
+            Arrays.fill(bytes, 0);
+            markBytes = AllocationCounter.get();
+            markNanos = System.nanoTime();
+        }
+
+        @Override
+        public void onStageEnd(Stage stage) {
+            long elapsedNanos = System.nanoTime() - markNanos;
+            long allocatedBytes = AllocationCounter.delta(markBytes, AllocationCounter.get());
+
+            nanos[stage.ordinal()] += elapsedNanos;
+            bytes[stage.ordinal()] += allocatedBytes;
+            nanos[Stage.TOTAL.ordinal()] += elapsedNanos;
+            bytes[Stage.TOTAL.ordinal()] += allocatedBytes;
+
+            // The time and allocations of the timer itself aren't counted in the next stage.
+            markBytes = AllocationCounter.get();
+            markNanos = System.nanoTime();
+        }
+    }
+
+    /**
+     * Reads the bytes allocated by the current thread, where the runtime supports it (the JVM, not
+     * Android).
+     */
+    private static final class AllocationCounter {
+        @Nullable
+        private static final Object threadMXBean;
+        @Nullable
+        private static final Method getThreadAllocatedBytes;
+
+        /**
+         * The bytes allocated by reading the counter itself.
+         */
+        private static final long overhead;
+
+        static {
+            Object bean = null;
+            Method method = null;
+
+            try {
+                bean = Class.forName("java.lang.management.ManagementFactory")
+                    .getMethod("getThreadMXBean")
+                    .invoke(null);
+                method = Class.forName("com.sun.management.ThreadMXBean")
+                    .getMethod("getThreadAllocatedBytes", long.class);
+                method.invoke(bean, Thread.currentThread().getId());
+            } catch (Throwable ignored) {
+                bean = null;
+                method = null;
+            }
+
+            threadMXBean = bean;
+            getThreadAllocatedBytes = method;
+
+            long a0 = get();
+            long a1 = get();
+
+            overhead = a1 - a0;
+        }
+
+        static boolean isSupported() {
+            return getThreadAllocatedBytes != null;
+        }
+
+        static long get() {
+            if (getThreadAllocatedBytes == null) {
+                return 0;
+            }
+
+            try {
+                return (Long) getThreadAllocatedBytes.invoke(threadMXBean, Thread.currentThread().getId());
+            } catch (Exception e) {
+                return 0;
+            }
+        }
+
+        static long delta(long before, long after) {
+            return Math.max(0, after - before - overhead);
+        }
+    }
+}
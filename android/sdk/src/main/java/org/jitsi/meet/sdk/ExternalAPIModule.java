@@ -16,10 +16,15 @@
 
 package org.jitsi.meet.sdk;
 
+import androidx.annotation.Nullable;
+
+import com.facebook.react.bridge.Arguments;
 import com.facebook.react.bridge.ReactApplicationContext;
 import com.facebook.react.bridge.ReactContextBaseJavaModule;
 import com.facebook.react.bridge.ReactMethod;
+import com.facebook.react.bridge.ReadableArray;
 import com.facebook.react.bridge.ReadableMap;
+import com.facebook.react.bridge.WritableArray;
 import com.facebook.react.module.annotations.ReactModule;
 
 import org.jitsi.meet.sdk.log.JitsiMeetLogger;
@@ -37,7 +42,12 @@ class ExternalAPIModule extends ReactContextBaseJavaModule {
 
     private static final String TAG = NAME;
 
-    private final BroadcastEmitter broadcastEmitter;
+    /**
+     * The JS event telling that the unobserved event types changed, see
+     * {@link #getUnobservedEvents()}.
+     */
+    private static final String UNOBSERVED_EVENTS_CHANGED = "org.jitsi.meet.UNOBSERVED_EVENTS_CHANGED";
+
     private final BroadcastReceiver broadcastReceiver;
 
     /**
@@ -50,10 +60,16 @@ class ExternalAPIModule extends ReactContextBaseJavaModule {
     public ExternalAPIModule(ReactApplicationContext reactContext) {
         super(reactContext);
 
-        broadcastEmitter = new BroadcastEmitter(reactContext);
+        JitsiMeetEventBus.getInstance().init(reactContext);
         broadcastReceiver = new BroadcastReceiver(reactContext);
 
-        ParticipantsService.init(reactContext);
+        ParticipantsService.init();
+        ParticipantsRoster.getInstance().init();
+        MessageStore.getInstance().init(reactContext);
+        TranscriptAssembler.getInstance().init(reactContext);
+
+        JitsiMeetEventBus.getInstance().setUnobservedTypesListener(
+            () -> ReactInstanceManagerHolder.emitEvent(UNOBSERVED_EVENTS_CHANGED, null));
     }
 
     @ReactMethod
@@ -103,10 +119,30 @@ class ExternalAPIModule extends ReactContextBaseJavaModule {
         constants.put("STOP_RECORDING", BroadcastAction.Type.STOP_RECORDING.getAction());
         constants.put("OVERWRITE_CONFIG", BroadcastAction.Type.OVERWRITE_CONFIG.getAction());
         constants.put("SEND_CAMERA_FACING_MODE_MESSAGE", BroadcastAction.Type.SEND_CAMERA_FACING_MODE_MESSAGE.getAction());
+        constants.put("COMMANDS", JitsiMeetCommandClient.COMMANDS_EVENT);
+        constants.put("UNOBSERVED_EVENTS_CHANGED", UNOBSERVED_EVENTS_CHANGED);
+        constants.put("SEND_BINARY_ENDPOINT_MESSAGES", EndpointMessageChannel.SEND_EVENT);
 
         return constants;
     }
 
+    /**
+     * Gets the names of the events nobody observes on the native side, which JS drops instead of
+     * sending them. JS queries it again on {@link #UNOBSERVED_EVENTS_CHANGED}.
+     *
+     * @return The names of the unobserved events.
+     */
+    @ReactMethod(isBlockingSynchronousMethod = true)
+    public WritableArray getUnobservedEvents() {
+        WritableArray names = Arguments.createArray();
+
+        for (BroadcastEvent.Type type : JitsiMeetEventBus.getInstance().getUnobservedTypes()) {
+            names.pushString(type.name());
+        }
+
+        return names;
+    }
+
     /**
      * Dispatches an event that occurred on the JavaScript side of the SDK to
      * the native side.
@@ -120,7 +156,62 @@ class ExternalAPIModule extends ReactContextBaseJavaModule {
         // Keep track of the current ongoing conference.
         OngoingConferenceTracker.getInstance().onExternalAPIEvent(name, data);
 
-        JitsiMeetLogger.d(TAG + " Sending event: " + name + " with data: " + data);
-        broadcastEmitter.sendBroadcast(name, data);
+        JitsiMeetLogger.d(TAG + " Sending event: " + name);
+        JitsiMeetEventBus.getInstance().post(name, data);
+    }
+
+    /**
+     * Dispatches a batch of events that occurred on the JavaScript side of the SDK to the native
+     * side, in order.
+     *
+     * @param events The events, each a map with the {@code name} and {@code data} of the event.
+     */
+    @ReactMethod
+    public void sendEvents(ReadableArray events) {
+        OngoingConferenceTracker ongoingConferenceTracker = OngoingConferenceTracker.getInstance();
+
+        for (int i = 0; i < events.size(); i++) {
+            ReadableMap event = events.getMap(i);
+
+            // Keep track of the current ongoing conference.
+            ongoingConferenceTracker.onExternalAPIEvent(event.getString("name"), event.getMap("data"));
+        }
+
+        JitsiMeetLogger.d(TAG + " Sending " + events.size() + " events");
+        JitsiMeetEventBus.getInstance().post(events);
+    }
+
+    /**
+     * Acknowledges a batch of binary endpoint messages, once JS handed it to the bridge channel and
+     * the channel has room for more.
+     *
+     * @param batchId The id of the batch.
+     */
+    @ReactMethod
+    public void binaryEndpointMessagesSent(double batchId) {
+        EndpointMessageChannel.getInstance().onBatchSent((long) batchId);
+    }
+
+    /**
+     * Delivers the payloads of a binary endpoint message to the native listeners.
+     *
+     * @param senderId The id of the participant who sent them.
+     * @param payloads The base64 encoded payloads.
+     */
+    @ReactMethod
+    public void receiveBinaryEndpointMessages(String senderId, @Nullable ReadableArray payloads) {
+        EndpointMessageChannel.getInstance().onReceived(senderId, payloads);
+    }
+
+    /**
+     * Acknowledges a command sent to JS, see {@link CommandTracker}.
+     *
+     * @param commandId The id of the command.
+     * @param outcome {@code applied}, {@code rejected} or {@code failed}.
+     * @param error The error, for failed commands.
+     */
+    @ReactMethod
+    public void commandAcknowledged(String commandId, String outcome, @Nullable String error) {
+        CommandTracker.getInstance().onAcknowledged(commandId, outcome, error);
     }
 }
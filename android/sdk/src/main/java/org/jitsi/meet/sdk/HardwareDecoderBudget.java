@@ -0,0 +1,138 @@
+/*
+ * Copyright @ 2025-present 8x8, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jitsi.meet.sdk;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Process-wide budget of concurrently allocated hardware video decoders.
+ *
+ * SoCs only support a limited number of hardware decoder instances, and in large meetings we'd
+ * exceed it. Slots go to the streams with the highest priority first. Since the bridge only sends
+ * high resolutions for on-screen / high-priority streams and stops sending off-screen ones, the
+ * decoded resolution and the time since the last decoded frame are used as the priority.
+ */
+final class HardwareDecoderBudget {
+    /**
+     * Default number of hardware decoder slots.
+     */
+    static final int DEFAULT_MAX_SLOTS = 8;
+
+    /**
+     * A holder which hasn't decoded a frame for this long is considered off-screen.
+     */
+    private static final long IDLE_TIMEOUT_MS = 2000;
+
+    private static final HardwareDecoderBudget instance = new HardwareDecoderBudget();
+
+    private final List<Holder> holders = new ArrayList<>();
+    private int maxSlots = DEFAULT_MAX_SLOTS;
+
+    static HardwareDecoderBudget getInstance() {
+        return instance;
+    }
+
+    private HardwareDecoderBudget() {
+    }
+
+    synchronized void setMaxSlots(int maxSlots) {
+        this.maxSlots = Math.max(0, maxSlots);
+    }
+
+    synchronized int getMaxSlots() {
+        return maxSlots;
+    }
+
+    synchronized int getUsedSlots() {
+        return holders.size();
+    }
+
+    /**
+     * Tries to get a hardware slot for the given holder. If the budget is exhausted, the slot of
+     * the lowest-priority holder is revoked in favor of this one, provided it has a lower priority.
+     *
+     * @return {@code true} if the holder may use a hardware decoder.
+     */
+    synchronized boolean acquire(Holder holder) {
+        if (holders.contains(holder)) {
+            return true;
+        }
+
+        if (holders.size() < maxSlots) {
+            holders.add(holder);
+            return true;
+        }
+
+        long now = System.currentTimeMillis();
+        long priority = priorityOf(holder, now);
+        Holder victim = null;
+        long victimPriority = priority;
+
+        for (Holder h : holders) {
+            long p = priorityOf(h, now);
+
+            if (p < victimPriority) {
+                victim = h;
+                victimPriority = p;
+            }
+        }
+
+        if (victim == null) {
+            return false;
+        }
+
+        holders.remove(victim);
+        victim.revoke();
+        holders.add(holder);
+
+        return true;
+    }
+
+    synchronized void release(Holder holder) {
+        holders.remove(holder);
+    }
+
+    private static long priorityOf(Holder holder, long now) {
+        if (now - holder.getLastDecodeTimeMs() > IDLE_TIMEOUT_MS) {
+            return -1;
+        }
+
+        return holder.getPixels();
+    }
+
+    /**
+     * A decoder which may hold a hardware slot.
+     */
+    interface Holder {
+        /**
+         * Gets the number of pixels of the frames being decoded.
+         */
+        int getPixels();
+
+        /**
+         * Gets the time of the last decoded frame, or of the request if none was decoded yet.
+         */
+        long getLastDecodeTimeMs();
+
+        /**
+         * Called (on an arbitrary thread) when the slot is given to a higher-priority holder. The
+         * holder must stop using hardware as soon as possible.
+         */
+        void revoke();
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright @ 2025-present 8x8, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jitsi.meet.sdk;
+
+import org.webrtc.EncodedImage;
+import org.webrtc.VideoCodecStatus;
+import org.webrtc.VideoDecoder;
+import org.webrtc.WrappedNativeVideoDecoder;
+
+/**
+ * Decoder which records {@link VideoDecoderStats} for the decoder it wraps, and registers them
+ * with {@link VideoDecoderTelemetry} while it's initialized.
+ *
+ * Native (libvpx / dav1d, or the fallback wrapper) decoders are opaque: WebRTC drives them directly
+ * once created, so their frames never reach Java. Wrapping one only tells
+ * {@link VideoDecoderTelemetry} to take their stats from the peer connections instead.
+ */
+class InstrumentedVideoDecoder implements VideoDecoder {
+    private final VideoDecoder decoder;
+    private final VideoDecoderStats stats;
+
+    InstrumentedVideoDecoder(VideoDecoder decoder, VideoDecoderStats stats) {
+        this.decoder = decoder;
+        this.stats = stats;
+
+        // Native decoders have no implementation name on the Java side.
+        if (!(decoder instanceof WrappedNativeVideoDecoder)) {
+            stats.setDecoder(decoder);
+        }
+    }
+
+    @Override
+    public long createNativeVideoDecoder() {
+        long nativeDecoder = decoder.createNativeVideoDecoder();
+
+        if (nativeDecoder != 0) {
+            VideoDecoderTelemetry.getInstance().registerNative();
+        }
+
+        return nativeDecoder;
+    }
+
+    @Override
+    public VideoCodecStatus initDecode(Settings settings, Callback decodeCallback) {
+        VideoDecoderTelemetry.getInstance().register(stats);
+
+        return decoder.initDecode(settings, (frame, decodeTimeMs, qp) -> {
+            stats.onFrameDecoded(decodeTimeMs != null ? decodeTimeMs : -1);
+            decodeCallback.onDecodedFrame(frame, decodeTimeMs, qp);
+        });
+    }
+
+    @Override
+    public VideoCodecStatus release() {
+        VideoDecoderTelemetry.getInstance().unregister(stats);
+
+        return decoder.release();
+    }
+
+    @Override
+    public VideoCodecStatus decode(EncodedImage frame, DecodeInfo info) {
+        stats.onFrameReceived();
+
+        VideoCodecStatus status = decoder.decode(frame, info);
+
+        // FALLBACK_SOFTWARE isn't a drop, the enclosing fallback decoder decodes the frame.
+        if (status != VideoCodecStatus.OK && status != VideoCodecStatus.FALLBACK_SOFTWARE) {
+            stats.onFrameDropped();
+        }
+
+        return status;
+    }
+
+    @Override
+    public String getImplementationName() {
+        return decoder.getImplementationName();
+    }
+}
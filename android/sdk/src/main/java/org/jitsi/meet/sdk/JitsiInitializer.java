@@ -17,6 +17,9 @@ package org.jitsi.meet.sdk;
 
 import android.app.Application;
 import android.content.Context;
+import android.content.pm.ApplicationInfo;
+import android.content.pm.PackageManager;
+import android.os.Bundle;
 import android.util.Log;
 
 import androidx.annotation.NonNull;
@@ -31,6 +34,13 @@ import java.util.Collections;
 import java.util.List;
 
 public class JitsiInitializer implements Initializer<Boolean> {
+    /**
+     * Name of the {@code <meta-data>} entry (in the application's manifest) which opts into
+     * pre-warming the local media stack at process start:
+     *
+     * {@code <meta-data android:name="org.jitsi.meet.sdk.PrewarmMediaStack" android:value="true" />}
+     */
+    static final String PREWARM_MEDIA_STACK_META_DATA = "org.jitsi.meet.sdk.PrewarmMediaStack";
 
     @NonNull
     @Override
@@ -53,9 +63,29 @@ public class JitsiInitializer implements Initializer<Boolean> {
         // This ensures it's ready before any Activity onCreate is called
         ReactInstanceManagerHolder.initReactInstanceManager((Application) context);
 
+        // Probe the codec capabilities in the background, it's slow and needed for every call.
+        VideoCodecCapabilities.probeAsync(context);
+
+        // Initialize the local media stack in the background, if the app opted in.
+        if (isMediaPrewarmEnabled(context)) {
+            LocalMediaTracks.getInstance().prewarm(context);
+        }
+
         return true;
     }
 
+    private static boolean isMediaPrewarmEnabled(Context context) {
+        try {
+            ApplicationInfo info = context.getPackageManager()
+                .getApplicationInfo(context.getPackageName(), PackageManager.GET_META_DATA);
+            Bundle metaData = info.metaData;
+
+            return metaData != null && metaData.getBoolean(PREWARM_MEDIA_STACK_META_DATA, false);
+        } catch (PackageManager.NameNotFoundException e) {
+            return false;
+        }
+    }
+
     @NonNull
     @Override
     public List<Class<? extends Initializer<?>>> dependencies() {
@@ -21,10 +21,13 @@ import android.content.SharedPreferences;
 import android.os.Bundle;
 
 import com.facebook.react.ReactInstanceManager;
+import com.oney.WebRTCModule.JitsiWebRTCModuleHelper;
 
 import com.splashview.SplashView;
 import org.jitsi.meet.sdk.log.JitsiMeetLogger;
 
+import java.util.concurrent.CompletableFuture;
+
 public class JitsiMeet {
 
     /**
@@ -67,6 +70,51 @@ public class JitsiMeet {
         return new Bundle();
     }
 
+    /**
+     * Starts initializing the local media stack on a background thread, ahead of the first
+     * conference. This happens automatically at process start if the application's manifest sets
+     * the {@code org.jitsi.meet.sdk.PrewarmMediaStack} meta-data to {@code true}.
+     *
+     * @param context - The {@link Context} used to initialize WebRTC.
+     * @return A future which completes once the media stack is ready.
+     */
+    public static CompletableFuture<Void> prewarmMediaStack(Context context) {
+        return LocalMediaTracks.getInstance().prewarm(context);
+    }
+
+    /**
+     * Gets the processing chain of the local camera tracks created by the SDK's local media
+     * module, to add e.g. background blur or denoising stages. Add the stages before the track is
+     * created: the camera only captures to textures if there are stages by then.
+     * <p>
+     * When a conference already captures the camera, the module shares its track and runs the
+     * chain on the conference's video source, replacing any processor set on it. The stages then
+     * only see the frames that camera captures to textures; others pass through unprocessed.
+     *
+     * @return The local camera's {@link VideoProcessingChain}.
+     * @throws UnsupportedOperationException If the conference's video sources are unreachable with
+     * this version of react-native-webrtc, so the stages would not run on its camera.
+     */
+    public static VideoProcessingChain getLocalVideoProcessingChain() {
+        if (!JitsiWebRTCModuleHelper.canGetLocalVideoSources()) {
+            throw new UnsupportedOperationException(
+                "The conference's video sources are unreachable, its camera can't be processed");
+        }
+
+        return LocalMediaTracks.getInstance().getVideoProcessingChain();
+    }
+
+    /**
+     * Gets the processing chain of the microphone capture, to add e.g. gain, limiter or keyword
+     * spotting plugins. It only applies to the audio device module created by the SDK, i.e. if
+     * the app didn't set {@code WebRTCModuleOptions.audioDeviceModule} itself.
+     *
+     * @return The microphone's {@link AudioProcessingChain}.
+     */
+    public static AudioProcessingChain getAudioProcessingChain() {
+        return AudioProcessingChain.getInstance();
+    }
+
     /**
      * Used in development mode. It displays the React Native development menu.
      */
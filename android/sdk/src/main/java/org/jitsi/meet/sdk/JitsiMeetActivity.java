@@ -18,10 +18,8 @@ package org.jitsi.meet.sdk;
 
 import android.annotation.SuppressLint;
 import android.app.Activity;
-import android.content.BroadcastReceiver;
 import android.content.Context;
 import android.content.Intent;
-import android.content.IntentFilter;
 import android.content.res.Configuration;
 import android.net.Uri;
 import android.os.Bundle;
@@ -34,13 +32,14 @@ import androidx.annotation.Nullable;
 import androidx.appcompat.app.AppCompatActivity;
 import androidx.core.view.ViewCompat;
 import androidx.core.view.WindowInsetsCompat;
-import androidx.localbroadcastmanager.content.LocalBroadcastManager;
 
 import com.facebook.react.modules.core.PermissionListener;
 
 import org.jitsi.meet.sdk.log.JitsiMeetLogger;
 
+import java.util.EnumSet;
 import java.util.HashMap;
+import java.util.Set;
 
 /**
  * A base activity for SDK users to embed.  It contains all the required wiring
@@ -62,12 +61,19 @@ public class JitsiMeetActivity extends AppCompatActivity
 
     private boolean isReadyToClose;
 
-    private final BroadcastReceiver broadcastReceiver = new BroadcastReceiver() {
-        @Override
-        public void onReceive(Context context, Intent intent) {
-            onBroadcastReceived(intent);
-        }
-    };
+    /**
+     * The event types {@link #onEventReceived(JitsiMeetEvent)} handles. Only those are listened to,
+     * so the others aren't sent by JS unless somebody else needs them.
+     */
+    private static final Set<BroadcastEvent.Type> HANDLED_EVENT_TYPES = EnumSet.of(
+        BroadcastEvent.Type.CONFERENCE_JOINED,
+        BroadcastEvent.Type.CONFERENCE_WILL_JOIN,
+        BroadcastEvent.Type.CONFERENCE_TERMINATED,
+        BroadcastEvent.Type.PARTICIPANT_JOINED,
+        BroadcastEvent.Type.PARTICIPANT_LEFT,
+        BroadcastEvent.Type.READY_TO_CLOSE);
+
+    private final JitsiMeetEventBus.Listener eventListener = this::onEventReceived;
 
     /**
      * Instance of the {@link JitsiMeetView} which this activity will display.
@@ -138,7 +144,7 @@ public class JitsiMeetActivity extends AppCompatActivity
         addTopBottomInsets(getWindow(),findViewById(android.R.id.content));
         this.jitsiView = findViewById(R.id.jitsiView);
 
-        registerForBroadcastMessages();
+        registerForEvents();
 
         if (!extraInitialize()) {
             initialize();
@@ -180,7 +186,7 @@ public class JitsiMeetActivity extends AppCompatActivity
         }
         JitsiMeetOngoingConferenceService.abort(this);
 
-        LocalBroadcastManager.getInstance(this).unregisterReceiver(broadcastReceiver);
+        unregisterForEvents();
 
         JitsiMeetActivityDelegate.onHostDestroy(this);
 
@@ -345,6 +351,13 @@ public class JitsiMeetActivity extends AppCompatActivity
         JitsiMeetActivityDelegate.onNewIntent(intent);
     }
 
+    @Override
+    public void onPictureInPictureModeChanged(boolean isInPictureInPictureMode, Configuration newConfig) {
+        super.onPictureInPictureModeChanged(isInPictureInPictureMode, newConfig);
+
+        JitsiMeetActivityDelegate.onPictureInPictureModeChanged(isInPictureInPictureMode);
+    }
+
     @Override
     protected void onUserLeaveHint() {
         if (this.jitsiView != null) {
@@ -366,52 +379,67 @@ public class JitsiMeetActivity extends AppCompatActivity
         JitsiMeetActivityDelegate.onRequestPermissionsResult(requestCode, permissions, grantResults);
     }
 
-    private void registerForBroadcastMessages() {
-        IntentFilter intentFilter = new IntentFilter();
+    /**
+     * Gets the event types to send as {@code LocalBroadcastManager} broadcasts while this activity
+     * exists. The others are dropped unless listened to. By default these are the types the
+     * activity handles; subclasses with receivers for other types must add them.
+     */
+    protected Set<BroadcastEvent.Type> getLocalBroadcastTypes() {
+        return HANDLED_EVENT_TYPES;
+    }
+
+    private void registerForEvents() {
+        JitsiMeetEventBus eventBus = JitsiMeetEventBus.getInstance();
 
-        for (BroadcastEvent.Type type : BroadcastEvent.Type.values()) {
-            intentFilter.addAction(type.getAction());
+        eventBus.setLocalBroadcastTypes(getLocalBroadcastTypes());
+        for (BroadcastEvent.Type type : HANDLED_EVENT_TYPES) {
+            eventBus.addMainThreadListener(type, eventListener);
         }
+    }
 
-        LocalBroadcastManager.getInstance(this).registerReceiver(broadcastReceiver, intentFilter);
-    }
-
-    private void onBroadcastReceived(Intent intent) {
-        if (intent != null) {
-            BroadcastEvent event = new BroadcastEvent(intent);
-
-            switch (event.getType()) {
-                case CONFERENCE_JOINED:
-                    onConferenceJoined(event.getData());
-                    break;
-                case CONFERENCE_WILL_JOIN:
-                    onConferenceWillJoin(event.getData());
-                    break;
-                case CONFERENCE_TERMINATED:
-                    onConferenceTerminated(event.getData());
-                    break;
-                case PARTICIPANT_JOINED:
-                    onParticipantJoined(event.getData());
-                    break;
-                case PARTICIPANT_LEFT:
-                    onParticipantLeft(event.getData());
-                    break;
-                case READY_TO_CLOSE:
-                    onReadyToClose();
-                    break;
-                // case TRANSCRIPTION_CHUNK_RECEIVED:
-                //    onTranscriptionChunkReceived(event.getData());
-                //    break;
-                // case CUSTOM_BUTTON_PRESSED:
-                //    onCustomButtonPressed(event.getData());
-                //    break;
-                // case CONFERENCE_UNIQUE_ID_SET:
-                //     onConferenceUniqueIdSet(event.getData());
-                //     break;
-                // case RECORDING_STATUS_CHANGED:
-                //     onRecordingStatusChanged(event.getData());
-                //     break;
-            }
+    private void unregisterForEvents() {
+        JitsiMeetEventBus eventBus = JitsiMeetEventBus.getInstance();
+
+        for (BroadcastEvent.Type type : HANDLED_EVENT_TYPES) {
+            eventBus.removeListener(type, eventListener);
+        }
+        eventBus.setLocalBroadcastTypes(JitsiMeetEventBus.DEFAULT_LOCAL_BROADCAST_TYPES);
+    }
+
+    private void onEventReceived(JitsiMeetEvent event) {
+        // The hooks get the data as the broadcast based events carried it, for compatibility with
+        // subclasses.
+        switch (event.getType()) {
+            case CONFERENCE_JOINED:
+                onConferenceJoined(event.toLegacyData());
+                break;
+            case CONFERENCE_WILL_JOIN:
+                onConferenceWillJoin(event.toLegacyData());
+                break;
+            case CONFERENCE_TERMINATED:
+                onConferenceTerminated(event.toLegacyData());
+                break;
+            case PARTICIPANT_JOINED:
+                onParticipantJoined(event.toLegacyData());
+                break;
+            case PARTICIPANT_LEFT:
+                onParticipantLeft(event.toLegacyData());
+                break;
+            case READY_TO_CLOSE:
+                onReadyToClose();
+                break;
+            // case TRANSCRIPTION_CHUNK_RECEIVED:
+            //    onTranscriptionChunkReceived(event.toLegacyData());
+            //    break;
+            // case CUSTOM_BUTTON_PRESSED:
+            //    onCustomButtonPressed(event.toLegacyData());
+            //    break;
+            // case CONFERENCE_UNIQUE_ID_SET:
+            //     onConferenceUniqueIdSet(event.toLegacyData());
+            //     break;
+            // case RECORDING_STATUS_CHANGED:
+            //     onRecordingStatusChanged(event.toLegacyData());
+            //     break;
         }
     }
 }
@@ -167,6 +167,22 @@ public class JitsiMeetActivityDelegate {
         }
     }
 
+    /**
+     * {@link Activity} lifecycle method which should be called from
+     * {@code Activity#onPictureInPictureModeChanged} so the Picture-in-Picture media policy can
+     * be applied / restored.
+     *
+     * @param isInPictureInPictureMode {@code true} if the activity is in Picture-in-Picture.
+     */
+    public static void onPictureInPictureModeChanged(boolean isInPictureInPictureMode) {
+        PictureInPictureModule pipModule
+            = ReactInstanceManagerHolder.getNativeModule(PictureInPictureModule.class);
+
+        if (pipModule != null) {
+            pipModule.onPictureInPictureModeChanged(isInPictureInPictureMode);
+        }
+    }
+
     public static void onRequestPermissionsResult(
             final int requestCode, final String[] permissions, final int[] grantResults) {
         permissionsCallback = new Callback() {
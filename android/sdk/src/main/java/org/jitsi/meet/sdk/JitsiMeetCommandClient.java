@@ -0,0 +1,152 @@
+/*
+ * Copyright @ 2025-present 8x8, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jitsi.meet.sdk;
+
+import com.facebook.react.bridge.Arguments;
+import com.facebook.react.bridge.WritableArray;
+import com.facebook.react.bridge.WritableMap;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Sends commands to the meeting straight to the JS event emitter, without going through
+ * {@code Intent}s and {@code LocalBroadcastManager}.
+ *
+ * Several commands can be sent in a single bridge call with a {@link Batch}:
+ * <pre>
+ * JitsiMeetCommandClient.getInstance().beginBatch()
+ *     .setAudioMuted(true)
+ *     ...
+ * </pre>
+ * Commands can be sent from any thread.
+ */
+public final class JitsiMeetCommandClient extends JitsiMeetCommands {
+    /**
+     * The JS event carrying a batch of commands.
+     */
+    static final String COMMANDS_EVENT = "org.jitsi.meet.COMMANDS";
+
+    private static final JitsiMeetCommandClient instance = new JitsiMeetCommandClient();
+
+    public static JitsiMeetCommandClient getInstance() {
+        return instance;
+    }
+
+    private JitsiMeetCommandClient() {
+    }
+
+    /**
+     * Starts a batch of commands, sent together by {@link Batch#commit()}.
+     */
+    public Batch beginBatch() {
+        return new Batch();
+    }
+
+    /**
+     * Sets the time after which a command JS didn't acknowledge fails, and counts as timed out in
+     * the {@link JitsiMeetCommandStats}.
+     */
+    public void setCommandTimeout(long timeoutMs) {
+        CommandTracker.getInstance().setTimeout(timeoutMs);
+    }
+
+    @Override
+    CompletableFuture<Void> send(BroadcastAction.Type type, WritableMap data) {
+        CommandTracker tracker = CommandTracker.getInstance();
+        CompletableFuture<Void> future = new CompletableFuture<>();
+        String id = tracker.assignId(data);
+
+        tracker.track(id, type, future);
+        if (!ReactInstanceManagerHolder.emitEvent(type.getAction(), data)) {
+            tracker.cancel(id, notRunning());
+        }
+
+        return future;
+    }
+
+    private static IllegalStateException notRunning() {
+        return new IllegalStateException("React Native isn't running");
+    }
+
+    /**
+     * Commands sent to JS in a single bridge call, in order. Their latency is measured from when the
+     * batch is committed.
+     */
+    public static final class Batch extends JitsiMeetCommands {
+        private final WritableArray commands = Arguments.createArray();
+        private final List<String> ids = new ArrayList<>();
+        private final List<BroadcastAction.Type> types = new ArrayList<>();
+        private final List<CompletableFuture<Void>> futures = new ArrayList<>();
+        private boolean committed;
+
+        private Batch() {
+        }
+
+        @Override
+        synchronized CompletableFuture<Void> send(BroadcastAction.Type type, WritableMap data) {
+            if (committed) {
+                throw new IllegalStateException("Batch already committed");
+            }
+
+            ids.add(CommandTracker.getInstance().assignId(data));
+            types.add(type);
+
+            WritableMap command = Arguments.createMap();
+            command.putString("name", type.getAction());
+            command.putMap("data", data);
+            commands.pushMap(command);
+
+            CompletableFuture<Void> future = new CompletableFuture<>();
+            futures.add(future);
+
+            return future;
+        }
+
+        /**
+         * Sends the commands of the batch.
+         *
+         * @return A future completed when JS applied all the commands.
+         */
+        public synchronized CompletableFuture<Void> commit() {
+            if (committed) {
+                throw new IllegalStateException("Batch already committed");
+            }
+            committed = true;
+
+            if (!futures.isEmpty()) {
+                CommandTracker tracker = CommandTracker.getInstance();
+
+                for (int i = 0; i < ids.size(); i++) {
+                    tracker.track(ids.get(i), types.get(i), futures.get(i));
+                }
+
+                WritableMap data = Arguments.createMap();
+                data.putArray("commands", commands);
+
+                if (!ReactInstanceManagerHolder.emitEvent(COMMANDS_EVENT, data)) {
+                    for (String id : ids) {
+                        tracker.cancel(id, notRunning());
+                    }
+                }
+            }
+
+            return CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]));
+        }
+    }
+}
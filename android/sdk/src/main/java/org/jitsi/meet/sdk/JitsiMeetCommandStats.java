@@ -0,0 +1,135 @@
+/*
+ * Copyright @ 2025-present 8x8, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jitsi.meet.sdk;
+
+import org.jitsi.meet.sdk.log.JitsiMeetLogger;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Statistics of the commands sent to JS, per {@link BroadcastAction.Type}: the latency from when
+ * a command is sent to when JS acknowledges it, and how many were applied, rejected, failed, or
+ * not acknowledged in time.
+ */
+public final class JitsiMeetCommandStats {
+    private static final String TAG = JitsiMeetCommandStats.class.getSimpleName();
+
+    private static final JitsiMeetCommandStats instance = new JitsiMeetCommandStats();
+
+    private final Map<BroadcastAction.Type, LatencyHistogram> latencies
+        = new EnumMap<>(BroadcastAction.Type.class);
+    private final Map<BroadcastAction.Type, AtomicLongArray> outcomes
+        = new EnumMap<>(BroadcastAction.Type.class);
+    private final List<Listener> listeners = new CopyOnWriteArrayList<>();
+
+    public static JitsiMeetCommandStats getInstance() {
+        return instance;
+    }
+
+    private JitsiMeetCommandStats() {
+        for (BroadcastAction.Type type : BroadcastAction.Type.values()) {
+            latencies.put(type, new LatencyHistogram());
+            outcomes.put(type, new AtomicLongArray(Outcome.values().length));
+        }
+    }
+
+    /**
+     * Gets the latencies of the acknowledged commands of the given type, whatever their outcome.
+     */
+    public LatencyHistogram getLatencyHistogram(BroadcastAction.Type type) {
+        return latencies.get(type);
+    }
+
+    public long getCount(BroadcastAction.Type type, Outcome outcome) {
+        return outcomes.get(type).get(outcome.ordinal());
+    }
+
+    public long getTimeoutCount(BroadcastAction.Type type) {
+        return getCount(type, Outcome.TIMED_OUT);
+    }
+
+    /**
+     * Registers a listener called when a command completes, on the React Native modules thread or,
+     * for timeouts, the main thread. It must return quickly.
+     */
+    public void addListener(Listener listener) {
+        listeners.add(listener);
+    }
+
+    public void removeListener(Listener listener) {
+        listeners.remove(listener);
+    }
+
+    public void reset() {
+        for (BroadcastAction.Type type : BroadcastAction.Type.values()) {
+            latencies.get(type).reset();
+
+            AtomicLongArray counts = outcomes.get(type);
+            for (int i = 0; i < counts.length(); i++) {
+                counts.set(i, 0);
+            }
+        }
+    }
+
+    void record(BroadcastAction.Type type, Outcome outcome, long latencyNanos) {
+        if (outcome != Outcome.TIMED_OUT) {
+            latencies.get(type).record(latencyNanos);
+        }
+        outcomes.get(type).incrementAndGet(outcome.ordinal());
+
+        for (Listener listener : listeners) {
+            try {
+                listener.onCommandCompleted(type, outcome, latencyNanos / 1_000_000);
+            } catch (RuntimeException e) {
+                JitsiMeetLogger.e(e, TAG + " Listener failed");
+            }
+        }
+    }
+
+    public enum Outcome {
+        /**
+         * JS applied the command.
+         */
+        APPLIED,
+
+        /**
+         * JS refused the command, e.g. because of invalid parameters.
+         */
+        REJECTED,
+
+        /**
+         * Applying the command threw in JS.
+         */
+        FAILED,
+
+        /**
+         * JS didn't acknowledge the command in time.
+         */
+        TIMED_OUT
+    }
+
+    public interface Listener {
+        /**
+         * @param latencyMs The time JS took to acknowledge the command, or the timeout.
+         */
+        void onCommandCompleted(BroadcastAction.Type type, Outcome outcome, long latencyMs);
+    }
+}
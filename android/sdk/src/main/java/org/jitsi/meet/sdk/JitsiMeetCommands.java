@@ -0,0 +1,177 @@
+/*
+ * Copyright @ 2025-present 8x8, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jitsi.meet.sdk;
+
+import android.os.Bundle;
+
+import androidx.annotation.Nullable;
+
+import com.facebook.react.bridge.Arguments;
+import com.facebook.react.bridge.WritableMap;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * The commands a host app can send to the meeting, the typed counterpart of the
+ * {@link BroadcastIntentHelper} {@code Intent}s. Each returns a future completed once JS applied
+ * the command. It fails with an {@link IllegalStateException} if JS rejected the command, failed to
+ * apply it, or React Native isn't running, and with a {@link java.util.concurrent.TimeoutException}
+ * if JS didn't acknowledge it in time.
+ *
+ * @see JitsiMeetCommandClient
+ */
+public abstract class JitsiMeetCommands {
+    JitsiMeetCommands() {
+    }
+
+    abstract CompletableFuture<Void> send(BroadcastAction.Type type, WritableMap data);
+
+    public CompletableFuture<Void> setAudioMuted(boolean muted) {
+        WritableMap data = Arguments.createMap();
+        data.putBoolean("muted", muted);
+
+        return send(BroadcastAction.Type.SET_AUDIO_MUTED, data);
+    }
+
+    public CompletableFuture<Void> setVideoMuted(boolean muted) {
+        WritableMap data = Arguments.createMap();
+        data.putBoolean("muted", muted);
+
+        return send(BroadcastAction.Type.SET_VIDEO_MUTED, data);
+    }
+
+    public CompletableFuture<Void> hangUp() {
+        return send(BroadcastAction.Type.HANG_UP, Arguments.createMap());
+    }
+
+    public CompletableFuture<Void> sendEndpointTextMessage(String to, String message) {
+        WritableMap data = Arguments.createMap();
+        data.putString("to", to);
+        data.putString("message", message);
+
+        return send(BroadcastAction.Type.SEND_ENDPOINT_TEXT_MESSAGE, data);
+    }
+
+    public CompletableFuture<Void> toggleScreenShare(boolean enabled) {
+        WritableMap data = Arguments.createMap();
+        data.putBoolean("enabled", enabled);
+
+        return send(BroadcastAction.Type.TOGGLE_SCREEN_SHARE, data);
+    }
+
+    public CompletableFuture<Void> openChat(@Nullable String participantId) {
+        WritableMap data = Arguments.createMap();
+        data.putString("to", participantId);
+
+        return send(BroadcastAction.Type.OPEN_CHAT, data);
+    }
+
+    public CompletableFuture<Void> closeChat() {
+        return send(BroadcastAction.Type.CLOSE_CHAT, Arguments.createMap());
+    }
+
+    /**
+     * Sends a chat message, to everyone if {@code participantId} is {@code null}.
+     */
+    public CompletableFuture<Void> sendChatMessage(@Nullable String participantId, String message) {
+        WritableMap data = Arguments.createMap();
+        data.putString("to", participantId);
+        data.putString("message", message);
+
+        return send(BroadcastAction.Type.SEND_CHAT_MESSAGE, data);
+    }
+
+    public CompletableFuture<Void> setClosedCaptionsEnabled(boolean enabled) {
+        WritableMap data = Arguments.createMap();
+        data.putBoolean("enabled", enabled);
+
+        return send(BroadcastAction.Type.SET_CLOSED_CAPTIONS_ENABLED, data);
+    }
+
+    public CompletableFuture<Void> toggleCamera() {
+        return send(BroadcastAction.Type.TOGGLE_CAMERA, Arguments.createMap());
+    }
+
+    public CompletableFuture<Void> showNotification(
+            String appearance, String description, String timeout, String title, String uid) {
+        WritableMap data = Arguments.createMap();
+        data.putString("appearance", appearance);
+        data.putString("description", description);
+        data.putString("timeout", timeout);
+        data.putString("title", title);
+        data.putString("uid", uid);
+
+        return send(BroadcastAction.Type.SHOW_NOTIFICATION, data);
+    }
+
+    public CompletableFuture<Void> hideNotification(String uid) {
+        WritableMap data = Arguments.createMap();
+        data.putString("uid", uid);
+
+        return send(BroadcastAction.Type.HIDE_NOTIFICATION, data);
+    }
+
+    public CompletableFuture<Void> startRecording(
+            BroadcastIntentHelper.RecordingMode mode,
+            @Nullable String dropboxToken,
+            boolean shouldShare,
+            @Nullable String rtmpStreamKey,
+            @Nullable String rtmpBroadcastID,
+            @Nullable String youtubeStreamKey,
+            @Nullable String youtubeBroadcastID,
+            @Nullable Bundle extraMetadata,
+            boolean transcription) {
+        WritableMap data = Arguments.createMap();
+        data.putString("mode", mode.getMode());
+        data.putString("dropboxToken", dropboxToken);
+        data.putBoolean("shouldShare", shouldShare);
+        data.putString("rtmpStreamKey", rtmpStreamKey);
+        data.putString("rtmpBroadcastID", rtmpBroadcastID);
+        data.putString("youtubeStreamKey", youtubeStreamKey);
+        data.putString("youtubeBroadcastID", youtubeBroadcastID);
+        if (extraMetadata != null) {
+            data.putMap("extraMetadata", Arguments.fromBundle(extraMetadata));
+        }
+        data.putBoolean("transcription", transcription);
+
+        return send(BroadcastAction.Type.START_RECORDING, data);
+    }
+
+    public CompletableFuture<Void> stopRecording(
+            BroadcastIntentHelper.RecordingMode mode, boolean transcription) {
+        WritableMap data = Arguments.createMap();
+        data.putString("mode", mode.getMode());
+        data.putBoolean("transcription", transcription);
+
+        return send(BroadcastAction.Type.STOP_RECORDING, data);
+    }
+
+    public CompletableFuture<Void> overwriteConfig(Bundle config) {
+        WritableMap data = Arguments.createMap();
+        data.putMap("config", Arguments.fromBundle(config));
+
+        return send(BroadcastAction.Type.OVERWRITE_CONFIG, data);
+    }
+
+    public CompletableFuture<Void> sendCameraFacingModeMessage(String to, String facingMode) {
+        WritableMap data = Arguments.createMap();
+        data.putString("to", to);
+        data.putString("facingMode", facingMode);
+
+        return send(BroadcastAction.Type.SEND_CAMERA_FACING_MODE_MESSAGE, data);
+    }
+}
@@ -0,0 +1,176 @@
+/*
+ * Copyright @ 2025-present 8x8, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jitsi.meet.sdk;
+
+import androidx.annotation.Nullable;
+
+import com.facebook.react.bridge.ReadableMap;
+import com.facebook.react.bridge.ReadableMapKeySetIterator;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * An event delivered by the {@link JitsiMeetEventBus}. The data keeps the types JS sent: strings,
+ * booleans, numbers (as {@code Double}), maps ({@code HashMap}) and lists ({@code ArrayList}).
+ *
+ * Events are pooled: listeners must not keep a reference to the event or its data after
+ * {@link JitsiMeetEventBus.Listener#onEvent} returns; copy what's needed instead.
+ */
+public final class JitsiMeetEvent {
+    private static final int MAX_POOL_SIZE = 16;
+
+    private static final Object poolLock = new Object();
+    @Nullable
+    private static JitsiMeetEvent pool;
+    private static int poolSize;
+
+    private final HashMap<String, Object> data = new HashMap<>();
+
+    @Nullable
+    private BroadcastEvent.Type type;
+    @Nullable
+    private JitsiMeetEvent next;
+
+    private JitsiMeetEvent() {
+    }
+
+    /**
+     * Gets an event from the pool, or a new one if it's empty.
+     */
+    static JitsiMeetEvent obtain(BroadcastEvent.Type type) {
+        JitsiMeetEvent event = null;
+
+        synchronized (poolLock) {
+            if (pool != null) {
+                event = pool;
+                pool = event.next;
+                event.next = null;
+                poolSize--;
+            }
+        }
+
+        if (event == null) {
+            event = new JitsiMeetEvent();
+        }
+        event.type = type;
+
+        return event;
+    }
+
+    static JitsiMeetEvent obtain(BroadcastEvent.Type type, @Nullable ReadableMap readableMap) {
+        JitsiMeetEvent event = obtain(type);
+
+        if (readableMap != null) {
+            event.putAll(readableMap);
+        }
+
+        return event;
+    }
+
+    /**
+     * Gets a copy of the given event, from the pool.
+     */
+    static JitsiMeetEvent obtain(JitsiMeetEvent other) {
+        JitsiMeetEvent event = obtain(other.type);
+
+        event.data.putAll(other.data);
+
+        return event;
+    }
+
+    /**
+     * Returns the event to the pool.
+     */
+    void recycle() {
+        type = null;
+        data.clear();
+
+        synchronized (poolLock) {
+            if (poolSize < MAX_POOL_SIZE) {
+                next = pool;
+                pool = this;
+                poolSize++;
+            }
+        }
+    }
+
+    public BroadcastEvent.Type getType() {
+        return type;
+    }
+
+    /**
+     * Gets the data of the event. Only valid until the listener returns.
+     */
+    public Map<String, Object> getData() {
+        return data;
+    }
+
+    void put(String key, @Nullable Object value) {
+        data.put(key, value);
+    }
+
+    /**
+     * Gets a copy of the data with every value converted to a string, as the data of the
+     * {@code Intent}-based events is. Maps and lists are converted to JSON.
+     */
+    public HashMap<String, Object> toLegacyData() {
+        HashMap<String, Object> legacyData = new HashMap<>();
+
+        for (Map.Entry<String, Object> e : data.entrySet()) {
+            if (e.getValue() != null) {
+                legacyData.put(e.getKey(), JsonPayloads.toExtraString(e.getValue()));
+            }
+        }
+
+        return legacyData;
+    }
+
+    private void putAll(ReadableMap readableMap) {
+        ReadableMapKeySetIterator iterator = readableMap.keySetIterator();
+
+        while (iterator.hasNextKey()) {
+            String key = iterator.nextKey();
+
+            switch (readableMap.getType(key)) {
+                case Null:
+                    data.put(key, null);
+                    break;
+                case Boolean:
+                    data.put(key, readableMap.getBoolean(key));
+                    break;
+                case Number:
+                    data.put(key, readableMap.getDouble(key));
+                    break;
+                case String:
+                    data.put(key, readableMap.getString(key));
+                    break;
+                case Map:
+                    data.put(key, readableMap.getMap(key).toHashMap());
+                    break;
+                case Array:
+                    data.put(key, readableMap.getArray(key).toArrayList());
+                    break;
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        return type + " " + data;
+    }
+}
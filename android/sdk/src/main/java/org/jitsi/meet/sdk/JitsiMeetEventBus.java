@@ -0,0 +1,506 @@
+/*
+ * Copyright @ 2025-present 8x8, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jitsi.meet.sdk;
+
+import android.content.Context;
+import android.content.Intent;
+import android.os.Handler;
+import android.os.Looper;
+
+import androidx.annotation.Nullable;
+import androidx.localbroadcastmanager.content.LocalBroadcastManager;
+
+import com.facebook.react.bridge.Arguments;
+import com.facebook.react.bridge.ReadableArray;
+import com.facebook.react.bridge.ReadableMap;
+
+import org.jitsi.meet.sdk.log.JitsiMeetLogger;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * In-process bus for the events the SDK emits, i.e. the {@link BroadcastEvent.Type}s.
+ *
+ * Listeners register per event type and are called directly, with the event data in its original
+ * types, so dispatching costs O(listeners) and no {@code Intent} / {@code Bundle} conversions.
+ * Listeners are called either on the thread which posts the event (the React Native module thread
+ * for JS events), or on the main thread.
+ *
+ * JS sends events in batches, once per frame. {@link BatchListener}s get each batch in a single
+ * call, after the per type listeners.
+ *
+ * For compatibility, events are also sent as {@code LocalBroadcastManager} broadcasts, unless
+ * disabled with {@link #setLocalBroadcastsEnabled(boolean)} or restricted to some types with
+ * {@link #setLocalBroadcastTypes(Set)}.
+ *
+ * The bus keeps track of the types somebody observes, through a listener or a broadcast. JS drops
+ * the events of the other types before sending them, see {@link #getUnobservedTypes()}.
+ *
+ * The bus can't know which broadcast receivers the app has, so the types broadcast by default,
+ * {@link #DEFAULT_LOCAL_BROADCAST_TYPES}, always count as observed. The high rate types only meant
+ * for listeners aren't among them, so they're dropped unless listened to. Apps drop more by
+ * restricting the broadcasts to the types they have receivers for, as {@link JitsiMeetActivity}
+ * does.
+ */
+public final class JitsiMeetEventBus {
+    private static final String TAG = JitsiMeetEventBus.class.getSimpleName();
+
+    /**
+     * The types the SDK needs whether they're listened to or not, as {@link OngoingConferenceTracker}
+     * gets them before they reach the bus.
+     */
+    private static final Set<BroadcastEvent.Type> ALWAYS_OBSERVED_TYPES
+        = EnumSet.of(BroadcastEvent.Type.CONFERENCE_WILL_JOIN, BroadcastEvent.Type.CONFERENCE_TERMINATED);
+
+    /**
+     * The types broadcast unless {@link #setLocalBroadcastTypes(Set)} says otherwise: all but the
+     * frequent ones added along with the bus, which no receiver expects.
+     */
+    public static final Set<BroadcastEvent.Type> DEFAULT_LOCAL_BROADCAST_TYPES
+        = Collections.unmodifiableSet(EnumSet.complementOf(EnumSet.of(
+            BroadcastEvent.Type.PARTICIPANT_UPDATED,
+            BroadcastEvent.Type.VIDEO_DECODER_STATS,
+            BroadcastEvent.Type.NOTIFICATION_ACTION_LATENCY)));
+
+    private static final JitsiMeetEventBus instance = new JitsiMeetEventBus();
+
+    private final Map<BroadcastEvent.Type, List<Registration<Listener>>> listeners
+        = new EnumMap<>(BroadcastEvent.Type.class);
+    private final List<Registration<BatchListener>> batchListeners = new CopyOnWriteArrayList<>();
+
+    /**
+     * Created on first use, so the bus can be used off Android, e.g. in JVM unit tests.
+     */
+    @Nullable
+    private volatile Handler mainHandler;
+
+    @Nullable
+    private volatile BroadcastEmitter broadcastEmitter;
+    @Nullable
+    private volatile LocalBroadcastManager localBroadcastManager;
+    private volatile boolean localBroadcastsEnabled = true;
+    private volatile Set<BroadcastEvent.Type> localBroadcastTypes = EnumSet.copyOf(DEFAULT_LOCAL_BROADCAST_TYPES);
+
+    /**
+     * Measures the stages of {@link #post(ReadableArray)}, see {@link EventStreamReplayer}.
+     */
+    @Nullable
+    private volatile StageTimer stageTimer;
+
+    /**
+     * The types nobody observes. Replaced, never modified, when listeners are added or removed.
+     */
+    private volatile Set<BroadcastEvent.Type> unobservedTypes = EnumSet.noneOf(BroadcastEvent.Type.class);
+    @Nullable
+    private volatile Runnable unobservedTypesListener;
+
+    public static JitsiMeetEventBus getInstance() {
+        return instance;
+    }
+
+    private JitsiMeetEventBus() {
+        for (BroadcastEvent.Type type : BroadcastEvent.Type.values()) {
+            listeners.put(type, new CopyOnWriteArrayList<>());
+        }
+        updateUnobservedTypes();
+    }
+
+    synchronized void init(Context context) {
+        broadcastEmitter = new BroadcastEmitter(context);
+        localBroadcastManager = LocalBroadcastManager.getInstance(context);
+    }
+
+    /**
+     * Replaces the emitter of the broadcasts of the events coming from JS.
+     *
+     * @return The previous one.
+     */
+    @Nullable
+    synchronized BroadcastEmitter setBroadcastEmitter(@Nullable BroadcastEmitter broadcastEmitter) {
+        BroadcastEmitter previous = this.broadcastEmitter;
+
+        this.broadcastEmitter = broadcastEmitter;
+
+        return previous;
+    }
+
+    void setStageTimer(@Nullable StageTimer stageTimer) {
+        this.stageTimer = stageTimer;
+    }
+
+    /**
+     * Registers a listener called on the thread which posts the event. It must return quickly.
+     */
+    public void addListener(BroadcastEvent.Type type, Listener listener) {
+        listeners.get(type).add(new Registration<>(listener, /* mainThread */ false));
+        updateUnobservedTypes();
+    }
+
+    /**
+     * Registers a listener called on the main thread.
+     */
+    public void addMainThreadListener(BroadcastEvent.Type type, Listener listener) {
+        listeners.get(type).add(new Registration<>(listener, /* mainThread */ true));
+        updateUnobservedTypes();
+    }
+
+    public void removeListener(BroadcastEvent.Type type, Listener listener) {
+        List<Registration<Listener>> registrations = listeners.get(type);
+
+        for (Registration<Listener> registration : registrations) {
+            if (registration.listener == listener) {
+                registrations.remove(registration);
+            }
+        }
+        updateUnobservedTypes();
+    }
+
+    /**
+     * Registers a listener for batches of events, called on the thread which posts them. It must
+     * return quickly.
+     */
+    public void addBatchListener(BatchListener listener) {
+        batchListeners.add(new Registration<>(listener, /* mainThread */ false));
+        updateUnobservedTypes();
+    }
+
+    /**
+     * Registers a listener for batches of events, called on the main thread.
+     */
+    public void addMainThreadBatchListener(BatchListener listener) {
+        batchListeners.add(new Registration<>(listener, /* mainThread */ true));
+        updateUnobservedTypes();
+    }
+
+    public void removeBatchListener(BatchListener listener) {
+        for (Registration<BatchListener> registration : batchListeners) {
+            if (registration.listener == listener) {
+                batchListeners.remove(registration);
+            }
+        }
+        updateUnobservedTypes();
+    }
+
+    /**
+     * Enables or disables sending the events as {@code LocalBroadcastManager} broadcasts too.
+     * Apps which only use this bus can disable them to save the conversion.
+     */
+    public void setLocalBroadcastsEnabled(boolean enabled) {
+        localBroadcastsEnabled = enabled;
+        updateUnobservedTypes();
+    }
+
+    /**
+     * Restricts the {@code LocalBroadcastManager} broadcasts to the given types, those the app has
+     * receivers for. The receivers can't be known, so {@link #DEFAULT_LOCAL_BROADCAST_TYPES} are
+     * broadcast, and hence observed, by default; calling this lets the other types be dropped.
+     */
+    public void setLocalBroadcastTypes(Set<BroadcastEvent.Type> types) {
+        localBroadcastTypes = types.isEmpty()
+            ? EnumSet.noneOf(BroadcastEvent.Type.class) : EnumSet.copyOf(types);
+        updateUnobservedTypes();
+    }
+
+    /**
+     * Whether somebody observes the events of the given type, so they need to be posted. Always
+     * true for the broadcast types.
+     */
+    public boolean isObserved(BroadcastEvent.Type type) {
+        return !unobservedTypes.contains(type);
+    }
+
+    /**
+     * Gets the types nobody observes.
+     */
+    Set<BroadcastEvent.Type> getUnobservedTypes() {
+        return unobservedTypes;
+    }
+
+    /**
+     * Sets the listener called, on the thread changing them, when the unobserved types change.
+     */
+    void setUnobservedTypesListener(@Nullable Runnable listener) {
+        unobservedTypesListener = listener;
+    }
+
+    private void updateUnobservedTypes() {
+        Runnable listener;
+
+        synchronized (this) {
+            Set<BroadcastEvent.Type> unobservedTypes = EnumSet.noneOf(BroadcastEvent.Type.class);
+
+            if (batchListeners.isEmpty()) {
+                for (BroadcastEvent.Type type : BroadcastEvent.Type.values()) {
+                    if (listeners.get(type).isEmpty()
+                            && !ALWAYS_OBSERVED_TYPES.contains(type)
+                            && !(localBroadcastsEnabled && localBroadcastTypes.contains(type))) {
+                        unobservedTypes.add(type);
+                    }
+                }
+            }
+
+            if (unobservedTypes.equals(this.unobservedTypes)) {
+                return;
+            }
+
+            this.unobservedTypes = unobservedTypes;
+            listener = unobservedTypesListener;
+        }
+
+        if (listener != null) {
+            listener.run();
+        }
+    }
+
+    /**
+     * Posts an event coming from JS.
+     */
+    void post(String name, @Nullable ReadableMap data) {
+        if (data == null) {
+            data = Arguments.createMap();
+        }
+
+        BroadcastEvent.Type type = BroadcastEvent.Type.buildTypeFromName(name);
+
+        if (type != null) {
+            if (!isObserved(type)) {
+                return;
+            }
+
+            JitsiMeetEvent event = JitsiMeetEvent.obtain(type, data);
+            dispatch(event);
+            event.recycle();
+        }
+
+        BroadcastEmitter broadcastEmitter = this.broadcastEmitter;
+        if (isBroadcast(type) && broadcastEmitter != null) {
+            broadcastEmitter.sendBroadcast(name, data);
+        }
+    }
+
+    /**
+     * Posts a batch of events coming from JS, each a map with the {@code name} and {@code data} of
+     * the event.
+     */
+    void post(ReadableArray events) {
+        int size = events.size();
+        List<JitsiMeetEvent> batch = new ArrayList<>(size);
+        BroadcastEmitter broadcastEmitter = this.broadcastEmitter;
+        StageTimer timer = stageTimer;
+
+        for (int i = 0; i < size; i++) {
+            ReadableMap e = events.getMap(i);
+            String name = e.getString("name");
+            BroadcastEvent.Type type = BroadcastEvent.Type.buildTypeFromName(name);
+
+            if (type != null && !isObserved(type)) {
+                // Sent before JS learnt nobody observes it.
+                continue;
+            }
+
+            // JS may omit the data, which the events and broadcasts expect.
+            ReadableMap data = e.hasKey("data") && !e.isNull("data") ? e.getMap("data") : Arguments.createMap();
+
+            if (type != null) {
+                JitsiMeetEvent event = JitsiMeetEvent.obtain(type, data);
+
+                if (timer != null) {
+                    timer.onStageEnd(EventStreamReplayer.Stage.DECODE);
+                }
+
+                dispatch(event);
+                batch.add(event);
+
+                if (timer != null) {
+                    timer.onStageEnd(EventStreamReplayer.Stage.DISPATCH);
+                }
+            }
+
+            if (broadcastEmitter != null && isBroadcast(type)) {
+                broadcastEmitter.sendBroadcast(name, data);
+
+                if (timer != null) {
+                    timer.onStageEnd(EventStreamReplayer.Stage.BROADCAST);
+                }
+            }
+        }
+
+        dispatchBatch(batch);
+
+        if (timer != null) {
+            timer.onStageEnd(EventStreamReplayer.Stage.DISPATCH);
+        }
+
+        for (JitsiMeetEvent event : batch) {
+            event.recycle();
+        }
+    }
+
+    /**
+     * Posts an event originating on the native side. The event is recycled afterwards.
+     */
+    void post(JitsiMeetEvent event) {
+        if (!isObserved(event.getType())) {
+            event.recycle();
+            return;
+        }
+
+        dispatch(event);
+        dispatchBatch(Collections.singletonList(event));
+
+        LocalBroadcastManager localBroadcastManager = this.localBroadcastManager;
+        if (isBroadcast(event.getType()) && localBroadcastManager != null) {
+            Intent intent = new BroadcastEvent(event.getType(), event.toLegacyData()).buildIntent();
+
+            if (intent != null) {
+                localBroadcastManager.sendBroadcast(intent);
+            }
+        }
+
+        event.recycle();
+    }
+
+    /**
+     * Whether events of the given type, {@code null} for those unknown to the bus, are broadcast.
+     */
+    private boolean isBroadcast(@Nullable BroadcastEvent.Type type) {
+        return localBroadcastsEnabled && (type == null || localBroadcastTypes.contains(type));
+    }
+
+    void dispatch(JitsiMeetEvent event) {
+        for (Registration<Listener> registration : listeners.get(event.getType())) {
+            if (registration.mainThread) {
+                // The posted event is recycled once we return, so hand over a copy.
+                JitsiMeetEvent copy = JitsiMeetEvent.obtain(event);
+
+                getMainHandler().post(() -> {
+                    deliver(registration.listener, copy);
+                    copy.recycle();
+                });
+            } else {
+                deliver(registration.listener, event);
+            }
+        }
+    }
+
+    void dispatchBatch(List<JitsiMeetEvent> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        for (Registration<BatchListener> registration : batchListeners) {
+            BatchListener listener = registration.listener;
+
+            if (registration.mainThread) {
+                List<JitsiMeetEvent> copy = new ArrayList<>(batch.size());
+
+                for (JitsiMeetEvent event : batch) {
+                    copy.add(JitsiMeetEvent.obtain(event));
+                }
+
+                getMainHandler().post(() -> {
+                    deliver(listener, copy);
+
+                    for (JitsiMeetEvent event : copy) {
+                        event.recycle();
+                    }
+                });
+            } else {
+                deliver(listener, batch);
+            }
+        }
+    }
+
+    private Handler getMainHandler() {
+        Handler mainHandler = this.mainHandler;
+
+        if (mainHandler == null) {
+            synchronized (this) {
+                mainHandler = this.mainHandler;
+                if (mainHandler == null) {
+                    mainHandler = new Handler(Looper.getMainLooper());
+                    this.mainHandler = mainHandler;
+                }
+            }
+        }
+
+        return mainHandler;
+    }
+
+    private static void deliver(BatchListener listener, List<JitsiMeetEvent> batch) {
+        try {
+            listener.onEvents(Collections.unmodifiableList(batch));
+        } catch (RuntimeException e) {
+            JitsiMeetLogger.e(e, TAG + " Batch listener failed");
+        }
+    }
+
+    private static void deliver(Listener listener, JitsiMeetEvent event) {
+        try {
+            listener.onEvent(event);
+        } catch (RuntimeException e) {
+            JitsiMeetLogger.e(e, TAG + " Listener failed for " + event.getType());
+        }
+    }
+
+    /**
+     * Listener for {@link JitsiMeetEvent}s.
+     */
+    public interface Listener {
+        /**
+         * Called when an event is posted. The event and its data must not be kept after this
+         * returns, as they are recycled.
+         */
+        void onEvent(JitsiMeetEvent event);
+    }
+
+    /**
+     * Listener for batches of {@link JitsiMeetEvent}s.
+     */
+    public interface BatchListener {
+        /**
+         * Called with the events posted together, in order. The events must not be kept after this
+         * returns, as they are recycled.
+         */
+        void onEvents(List<JitsiMeetEvent> events);
+    }
+
+    /**
+     * Told when {@link #post(ReadableArray)} is done with a stage of the pipeline for an event, or
+     * for the batch.
+     */
+    interface StageTimer {
+        void onStageEnd(EventStreamReplayer.Stage stage);
+    }
+
+    private static final class Registration<L> {
+        final L listener;
+        final boolean mainThread;
+
+        Registration(L listener, boolean mainThread) {
+            this.listener = listener;
+            this.mainThread = mainThread;
+        }
+    }
+}
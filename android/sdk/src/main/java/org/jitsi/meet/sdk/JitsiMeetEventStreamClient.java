@@ -0,0 +1,283 @@
+/*
+ * Copyright @ 2025-present 8x8, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jitsi.meet.sdk;
+
+import android.content.ComponentName;
+import android.content.Context;
+import android.content.Intent;
+import android.content.ServiceConnection;
+import android.os.Binder;
+import android.os.Build;
+import android.os.Handler;
+import android.os.IBinder;
+import android.os.Looper;
+import android.os.Parcel;
+import android.os.RemoteException;
+import android.os.SharedMemory;
+import android.system.ErrnoException;
+
+import androidx.annotation.Nullable;
+
+import org.jitsi.meet.sdk.log.JitsiMeetLogger;
+
+import java.nio.ByteBuffer;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Receives the external API events in another process of the app than the one running the
+ * meeting, through the {@link JitsiMeetEventStreamService}.
+ *
+ * <pre>
+ * JitsiMeetEventStreamClient client = new JitsiMeetEventStreamClient(context, (type, data) -&gt; {
+ *     ...
+ * });
+ * client.connect();
+ * </pre>
+ *
+ * The event data has the types of the in-process events, see {@link JitsiMeetEvent#getData()}.
+ * Requires Android 8.1.
+ */
+public final class JitsiMeetEventStreamClient {
+    private static final String TAG = JitsiMeetEventStreamClient.class.getSimpleName();
+
+    private final Context context;
+    private final Listener listener;
+    private final Handler handler;
+
+    private final IBinder doorbell = new Doorbell();
+    private final AtomicBoolean drainScheduled = new AtomicBoolean();
+    private final Runnable drain = this::drain;
+
+    private final ServiceConnection connection = new ServiceConnection() {
+        @Override
+        public void onServiceConnected(ComponentName name, IBinder service) {
+            handler.post(() -> subscribe(service));
+        }
+
+        @Override
+        public void onServiceDisconnected(ComponentName name) {
+            // The meeting process died, we're connected again once it restarts.
+            handler.post(JitsiMeetEventStreamClient.this::release);
+        }
+    };
+
+    private final EventRing.Visitor visitor = new EventRing.Visitor() {
+        @Override
+        public void onEvent(BroadcastEvent.Type type, Map<String, Object> data) {
+            try {
+                listener.onEvent(type, data);
+            } catch (RuntimeException e) {
+                JitsiMeetLogger.e(e, TAG + " Listener failed for " + type);
+            }
+        }
+
+        @Override
+        public void onLost(long bytes) {
+            JitsiMeetLogger.w(TAG + " Fell behind, " + bytes + " bytes of events lost");
+            listener.onEventsLost();
+        }
+    };
+
+    // Only accessed on the handler thread.
+    @Nullable
+    private IBinder service;
+    @Nullable
+    private SharedMemory sharedMemory;
+    @Nullable
+    private ByteBuffer mapping;
+    @Nullable
+    private EventRing ring;
+    private long readPosition;
+    private boolean connected;
+
+    /**
+     * Creates a client calling the listener on the main thread.
+     */
+    public JitsiMeetEventStreamClient(Context context, Listener listener) {
+        this(context, listener, new Handler(Looper.getMainLooper()));
+    }
+
+    /**
+     * Creates a client calling the listener on the thread of the given handler.
+     */
+    public JitsiMeetEventStreamClient(Context context, Listener listener, Handler handler) {
+        this.context = context.getApplicationContext();
+        this.listener = listener;
+        this.handler = handler;
+    }
+
+    /**
+     * Binds to the service, starting the delivery of the events.
+     *
+     * @return Whether the service could be bound.
+     */
+    public boolean connect() {
+        if (Build.VERSION.SDK_INT < Build.VERSION_CODES.O_MR1) {
+            return false;
+        }
+
+        Intent intent = new Intent(context, JitsiMeetEventStreamService.class);
+
+        connected = context.bindService(intent, connection, Context.BIND_AUTO_CREATE);
+
+        return connected;
+    }
+
+    public void disconnect() {
+        if (!connected) {
+            return;
+        }
+
+        connected = false;
+        context.unbindService(connection);
+        handler.post(() -> {
+            IBinder service = this.service;
+
+            if (service != null) {
+                transact(service, JitsiMeetEventStreamService.TRANSACTION_UNSUBSCRIBE, null);
+            }
+            release();
+        });
+    }
+
+    private void subscribe(IBinder service) {
+        if (Build.VERSION.SDK_INT < Build.VERSION_CODES.O_MR1) {
+            return;
+        }
+
+        release();
+
+        Parcel data = Parcel.obtain();
+        Parcel reply = Parcel.obtain();
+
+        try {
+            data.writeInterfaceToken(JitsiMeetEventStreamService.DESCRIPTOR);
+            data.writeStrongBinder(doorbell);
+            service.transact(JitsiMeetEventStreamService.TRANSACTION_SUBSCRIBE, data, reply, 0);
+            reply.readException();
+
+            sharedMemory = SharedMemory.CREATOR.createFromParcel(reply);
+            readPosition = reply.readLong();
+            mapping = sharedMemory.mapReadOnly();
+        } catch (RemoteException | ErrnoException | RuntimeException e) {
+            JitsiMeetLogger.e(e, TAG + " Failed to subscribe to the event stream");
+            release();
+            return;
+        } finally {
+            data.recycle();
+            reply.recycle();
+        }
+
+        EventRing ring = new EventRing(mapping);
+
+        if (!ring.isValid()) {
+            JitsiMeetLogger.e(TAG + " Invalid event stream");
+            release();
+            return;
+        }
+
+        this.ring = ring;
+        this.service = service;
+        arm(service);
+    }
+
+    private void drain() {
+        drainScheduled.set(false);
+
+        EventRing ring = this.ring;
+        IBinder service = this.service;
+
+        if (ring == null || service == null) {
+            return;
+        }
+
+        readPosition = ring.read(readPosition, visitor);
+        arm(service);
+    }
+
+    private void arm(IBinder service) {
+        transact(service, JitsiMeetEventStreamService.TRANSACTION_ARM, readPosition);
+    }
+
+    private void transact(IBinder service, int code, @Nullable Long position) {
+        Parcel data = Parcel.obtain();
+
+        try {
+            data.writeInterfaceToken(JitsiMeetEventStreamService.DESCRIPTOR);
+            data.writeStrongBinder(doorbell);
+            if (position != null) {
+                data.writeLong(position);
+            }
+            service.transact(code, data, null, IBinder.FLAG_ONEWAY);
+        } catch (RemoteException e) {
+            JitsiMeetLogger.w(e, TAG + " Event stream service unreachable");
+        } finally {
+            data.recycle();
+        }
+    }
+
+    private void release() {
+        ring = null;
+        service = null;
+
+        if (Build.VERSION.SDK_INT < Build.VERSION_CODES.O_MR1) {
+            return;
+        }
+
+        if (mapping != null) {
+            SharedMemory.unmap(mapping);
+            mapping = null;
+        }
+        if (sharedMemory != null) {
+            sharedMemory.close();
+            sharedMemory = null;
+        }
+    }
+
+    private final class Doorbell extends Binder {
+        @Override
+        protected boolean onTransact(int code, Parcel data, @Nullable Parcel reply, int flags)
+                throws RemoteException {
+            if (code == JitsiMeetEventStreamService.TRANSACTION_RING) {
+                data.enforceInterface(JitsiMeetEventStreamService.DESCRIPTOR);
+                if (drainScheduled.compareAndSet(false, true)) {
+                    handler.post(drain);
+                }
+                return true;
+            }
+
+            return super.onTransact(code, data, reply, flags);
+        }
+    }
+
+    /**
+     * Listener for the events of the stream.
+     */
+    public interface Listener {
+        /**
+         * Called for each event, in order.
+         */
+        void onEvent(BroadcastEvent.Type type, Map<String, Object> data);
+
+        /**
+         * Called when events were lost because the listener didn't keep up with them.
+         */
+        default void onEventsLost() {
+        }
+    }
+}
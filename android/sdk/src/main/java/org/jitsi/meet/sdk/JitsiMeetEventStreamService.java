@@ -0,0 +1,290 @@
+/*
+ * Copyright @ 2025-present 8x8, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jitsi.meet.sdk;
+
+import android.app.Service;
+import android.content.Intent;
+import android.os.Binder;
+import android.os.Build;
+import android.os.IBinder;
+import android.os.Parcel;
+import android.os.RemoteException;
+import android.os.SharedMemory;
+import android.system.ErrnoException;
+import android.system.OsConstants;
+
+import androidx.annotation.Nullable;
+
+import org.jitsi.meet.sdk.log.JitsiMeetLogger;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Bound service exposing the external API events to other processes of the app, e.g. to run
+ * analytics or overlays out of the process running the meeting. Use it through the
+ * {@link JitsiMeetEventStreamClient}.
+ *
+ * Events are written to an {@link EventRing} in shared memory, which clients map read-only, and
+ * clients are only woken up with a one-way Binder call (the doorbell) when they've drained the ring
+ * and new events arrive. A client reading as fast as events are written thus costs a Binder call per
+ * batch of events at most, and one falling behind none at all.
+ *
+ * Requires Android 8.1, for {@link SharedMemory}; binding fails on older versions.
+ */
+public class JitsiMeetEventStreamService extends Service implements JitsiMeetEventBus.BatchListener {
+    private static final String TAG = JitsiMeetEventStreamService.class.getSimpleName();
+
+    static final String DESCRIPTOR = "org.jitsi.meet.sdk.JitsiMeetEventStreamService";
+
+    /**
+     * Subscribes a doorbell, replies with the shared memory and the current write position.
+     */
+    static final int TRANSACTION_SUBSCRIBE = IBinder.FIRST_CALL_TRANSACTION;
+
+    /**
+     * Asks for the doorbell to be rung once events past the given read position are written.
+     */
+    static final int TRANSACTION_ARM = IBinder.FIRST_CALL_TRANSACTION + 1;
+
+    static final int TRANSACTION_UNSUBSCRIBE = IBinder.FIRST_CALL_TRANSACTION + 2;
+
+    /**
+     * Sent to the doorbell of a client.
+     */
+    static final int TRANSACTION_RING = IBinder.FIRST_CALL_TRANSACTION;
+
+    private static final int RING_SIZE = 1024 * 1024;
+
+    private final IBinder binder = new StreamBinder();
+    private final EventRing.Encoder encoder = new EventRing.Encoder();
+
+    /**
+     * The subscribed clients, by doorbell. Guarded by this.
+     */
+    private final Map<IBinder, Subscriber> subscribers = new HashMap<>();
+
+    @Nullable
+    private SharedMemory sharedMemory;
+    @Nullable
+    private ByteBuffer mapping;
+    @Nullable
+    private EventRing ring;
+    private long writePosition;
+
+    @Override
+    public void onCreate() {
+        super.onCreate();
+
+        if (Build.VERSION.SDK_INT < Build.VERSION_CODES.O_MR1) {
+            JitsiMeetLogger.w(TAG + " Shared memory isn't available, the event stream is disabled");
+            return;
+        }
+
+        try {
+            sharedMemory = SharedMemory.create("jitsi-meet-events", RING_SIZE);
+            mapping = sharedMemory.mapReadWrite();
+            // Only affects the mappings made from now on, i.e. those of the clients.
+            sharedMemory.setProtect(OsConstants.PROT_READ);
+        } catch (ErrnoException e) {
+            JitsiMeetLogger.e(e, TAG + " Failed to create the shared memory");
+            release();
+            return;
+        }
+
+        ring = new EventRing(mapping);
+        ring.reset();
+
+        JitsiMeetEventBus.getInstance().addBatchListener(this);
+    }
+
+    @Nullable
+    @Override
+    public IBinder onBind(Intent intent) {
+        return ring != null ? binder : null;
+    }
+
+    @Override
+    public void onDestroy() {
+        JitsiMeetEventBus.getInstance().removeBatchListener(this);
+
+        synchronized (this) {
+            for (Subscriber subscriber : subscribers.values()) {
+                subscriber.doorbell.unlinkToDeath(subscriber, 0);
+            }
+            subscribers.clear();
+            ring = null;
+        }
+
+        release();
+
+        super.onDestroy();
+    }
+
+    private void release() {
+        if (Build.VERSION.SDK_INT < Build.VERSION_CODES.O_MR1) {
+            return;
+        }
+
+        if (mapping != null) {
+            SharedMemory.unmap(mapping);
+            mapping = null;
+        }
+        if (sharedMemory != null) {
+            sharedMemory.close();
+            sharedMemory = null;
+        }
+    }
+
+    @Override
+    public void onEvents(List<JitsiMeetEvent> events) {
+        List<IBinder> doorbells = null;
+
+        synchronized (this) {
+            if (ring == null) {
+                return;
+            }
+
+            writePosition = ring.write(events, encoder);
+
+            for (Subscriber subscriber : subscribers.values()) {
+                if (subscriber.armed) {
+                    subscriber.armed = false;
+                    if (doorbells == null) {
+                        doorbells = new ArrayList<>();
+                    }
+                    doorbells.add(subscriber.doorbell);
+                }
+            }
+        }
+
+        if (doorbells != null) {
+            for (IBinder doorbell : doorbells) {
+                ring(doorbell);
+            }
+        }
+    }
+
+    private synchronized long subscribe(IBinder doorbell) throws RemoteException {
+        if (!subscribers.containsKey(doorbell)) {
+            Subscriber subscriber = new Subscriber(doorbell);
+
+            doorbell.linkToDeath(subscriber, 0);
+            subscribers.put(doorbell, subscriber);
+        }
+
+        return writePosition;
+    }
+
+    private void arm(IBinder doorbell, long readPosition) {
+        synchronized (this) {
+            Subscriber subscriber = subscribers.get(doorbell);
+
+            if (subscriber == null) {
+                return;
+            }
+
+            if (readPosition >= writePosition) {
+                subscriber.armed = true;
+                return;
+            }
+        }
+
+        // Events were written while the client was draining.
+        ring(doorbell);
+    }
+
+    private synchronized void unsubscribe(IBinder doorbell) {
+        Subscriber subscriber = subscribers.remove(doorbell);
+
+        if (subscriber != null) {
+            doorbell.unlinkToDeath(subscriber, 0);
+        }
+    }
+
+    private void ring(IBinder doorbell) {
+        Parcel data = Parcel.obtain();
+
+        try {
+            data.writeInterfaceToken(DESCRIPTOR);
+            doorbell.transact(TRANSACTION_RING, data, null, IBinder.FLAG_ONEWAY);
+        } catch (RemoteException e) {
+            JitsiMeetLogger.w(e, TAG + " Failed to ring a doorbell");
+            unsubscribe(doorbell);
+        } finally {
+            data.recycle();
+        }
+    }
+
+    private final class StreamBinder extends Binder {
+        @Override
+        protected boolean onTransact(int code, Parcel data, @Nullable Parcel reply, int flags)
+                throws RemoteException {
+            switch (code) {
+                case TRANSACTION_SUBSCRIBE: {
+                    data.enforceInterface(DESCRIPTOR);
+                    long position = subscribe(data.readStrongBinder());
+                    SharedMemory sharedMemory = JitsiMeetEventStreamService.this.sharedMemory;
+
+                    if (reply == null || sharedMemory == null) {
+                        return false;
+                    }
+
+                    reply.writeNoException();
+                    sharedMemory.writeToParcel(reply, 0);
+                    reply.writeLong(position);
+                    return true;
+                }
+
+                case TRANSACTION_ARM:
+                    data.enforceInterface(DESCRIPTOR);
+                    arm(data.readStrongBinder(), data.readLong());
+                    return true;
+
+                case TRANSACTION_UNSUBSCRIBE:
+                    data.enforceInterface(DESCRIPTOR);
+                    unsubscribe(data.readStrongBinder());
+                    return true;
+            }
+
+            return super.onTransact(code, data, reply, flags);
+        }
+    }
+
+    private final class Subscriber implements IBinder.DeathRecipient {
+        final IBinder doorbell;
+
+        /**
+         * Whether the client drained the ring and waits for the doorbell.
+         */
+        boolean armed;
+
+        Subscriber(IBinder doorbell) {
+            this.doorbell = doorbell;
+        }
+
+        @Override
+        public void binderDied() {
+            synchronized (JitsiMeetEventStreamService.this) {
+                subscribers.remove(doorbell);
+            }
+        }
+    }
+}
@@ -26,15 +26,12 @@ import android.app.Service;
 import android.content.ComponentName;
 import android.content.Context;
 import android.content.Intent;
-import android.content.IntentFilter;
 import android.content.pm.PackageManager;
 import android.content.pm.ServiceInfo;
 import android.os.Build;
 import android.os.Bundle;
 import android.os.IBinder;
 
-import androidx.localbroadcastmanager.content.LocalBroadcastManager;
-
 import com.facebook.react.modules.core.PermissionListener;
 
 import org.jitsi.meet.sdk.log.JitsiMeetLogger;
@@ -51,7 +48,8 @@ import java.util.Random;
  *
  * See: https://developer.android.com/guide/components/services
  */
-public class JitsiMeetOngoingConferenceService extends Service implements OngoingConferenceTracker.OngoingConferenceListener {
+public class JitsiMeetOngoingConferenceService extends Service
+        implements OngoingConferenceTracker.OngoingConferenceListener, OngoingConferenceActions.Listener {
     private static final String TAG = JitsiMeetOngoingConferenceService.class.getSimpleName();
     private static final String ACTIVITY_DATA_KEY = "activityDataKey";
     private static final String EXTRA_DATA_KEY = "extraDataKey";
@@ -60,7 +58,7 @@ public class JitsiMeetOngoingConferenceService extends Service implements Ongoin
 
     private static final int PERMISSIONS_REQUEST_CODE = (int) (Math.random() * Short.MAX_VALUE);
 
-    private final BroadcastReceiver broadcastReceiver = new BroadcastReceiver();
+    private final JitsiMeetEventBus.Listener audioMutedListener = this::onAudioMutedChanged;
 
     private boolean isAudioMuted;
     private Class tapBackActivity;
@@ -170,15 +168,17 @@ public class JitsiMeetOngoingConferenceService extends Service implements Ongoin
 
         OngoingConferenceTracker.getInstance().addListener(this);
 
-        IntentFilter intentFilter = new IntentFilter();
-        intentFilter.addAction(BroadcastEvent.Type.AUDIO_MUTED_CHANGED.getAction());
-        LocalBroadcastManager.getInstance(getApplicationContext()).registerReceiver(broadcastReceiver, intentFilter);
+        JitsiMeetEventBus.getInstance().addMainThreadListener(
+            BroadcastEvent.Type.AUDIO_MUTED_CHANGED, audioMutedListener);
+        OngoingConferenceActions.getInstance().setListener(this);
     }
 
     @Override
     public void onDestroy() {
         OngoingConferenceTracker.getInstance().removeListener(this);
-        LocalBroadcastManager.getInstance(getApplicationContext()).unregisterReceiver(broadcastReceiver);
+        JitsiMeetEventBus.getInstance().removeListener(
+            BroadcastEvent.Type.AUDIO_MUTED_CHANGED, audioMutedListener);
+        OngoingConferenceActions.getInstance().setListener(null);
 
         super.onDestroy();
     }
@@ -200,6 +200,11 @@ public class JitsiMeetOngoingConferenceService extends Service implements Ongoin
                 this.isAudioMuted = Boolean.parseBoolean(intent.getStringExtra("muted"));
             }
 
+            // Show the new state right away, the change is applied natively below.
+            if (action == Action.MUTE || action == Action.UNMUTE) {
+                this.isAudioMuted = action == Action.MUTE;
+            }
+
             if (tapBackActivity == null) {
                 String targetActivityName = intent.getExtras().getString(ACTIVITY_DATA_KEY);
                 Class<? extends Activity> targetActivity = null;
@@ -226,14 +231,12 @@ public class JitsiMeetOngoingConferenceService extends Service implements Ongoin
             switch (action) {
                 case UNMUTE:
                 case MUTE:
-                    Intent muteBroadcastIntent = BroadcastIntentHelper.buildSetAudioMutedIntent(action == Action.MUTE);
-                    LocalBroadcastManager.getInstance(getApplicationContext()).sendBroadcast(muteBroadcastIntent);
+                    OngoingConferenceActions.getInstance().setAudioMuted(action == Action.MUTE);
                     break;
                 case HANGUP:
                     JitsiMeetLogger.i(TAG + " Hangup requested");
 
-                    Intent hangupBroadcastIntent = BroadcastIntentHelper.buildHangUpIntent();
-                    LocalBroadcastManager.getInstance(getApplicationContext()).sendBroadcast(hangupBroadcastIntent);
+                    OngoingConferenceActions.getInstance().hangUp();
 
                     stopSelf();
                     break;
@@ -289,22 +292,33 @@ public class JitsiMeetOngoingConferenceService extends Service implements Ongoin
         return null;
     }
 
-    private class BroadcastReceiver extends android.content.BroadcastReceiver {
+    private void onAudioMutedChanged(JitsiMeetEvent event) {
+        boolean muted = Boolean.parseBoolean(String.valueOf(event.getData().get("muted")));
 
-        @Override
-        public void onReceive(Context context, Intent intent) {
-            Class tapBackActivity = JitsiMeetOngoingConferenceService.this.tapBackActivity;
-            isAudioMuted = Boolean.parseBoolean(intent.getStringExtra("muted"));
-            Notification notification = OngoingNotification.buildOngoingConferenceNotification(isAudioMuted, context, tapBackActivity);
-            if (notification == null) {
-                stopSelf();
-                JitsiMeetLogger.w(TAG + " Couldn't update service, notification is null");
-            } else {
-                NotificationManager notificationManager = (NotificationManager) getSystemService(Context.NOTIFICATION_SERVICE);
-                notificationManager.notify(NOTIFICATION_ID, notification);
+        if (OngoingConferenceActions.getInstance().isStale(muted)) {
+            // Sent before JS applied the change made from the notification.
+            return;
+        }
 
-                JitsiMeetLogger.i(TAG + " audio muted changed");
-            }
+        updateAudioMuted(muted);
+    }
+
+    @Override
+    public void onAudioMutedReconciled(boolean muted) {
+        updateAudioMuted(muted);
+    }
+
+    private void updateAudioMuted(boolean muted) {
+        isAudioMuted = muted;
+        Notification notification = OngoingNotification.buildOngoingConferenceNotification(isAudioMuted, this, tapBackActivity);
+        if (notification == null) {
+            stopSelf();
+            JitsiMeetLogger.w(TAG + " Couldn't update service, notification is null");
+        } else {
+            NotificationManager notificationManager = (NotificationManager) getSystemService(Context.NOTIFICATION_SERVICE);
+            notificationManager.notify(NOTIFICATION_ID, notification);
+
+            JitsiMeetLogger.i(TAG + " audio muted changed");
         }
     }
 }
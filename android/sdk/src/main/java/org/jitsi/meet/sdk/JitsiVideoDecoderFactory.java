@@ -26,9 +26,13 @@ import org.webrtc.VideoDecoderFallback;
 
 import java.util.Arrays;
 import java.util.LinkedHashSet;
+import java.util.function.Supplier;
 
 /**
- * Custom decoder factory which uses HW decoders and falls back to SW.
+ * Custom decoder factory which uses HW decoders and falls back to SW. The number of concurrent HW
+ * decoders is bounded by {@link HardwareDecoderBudget}; the streams without a HW slot go to the
+ * native SW decoders (libvpx / dav1d). The platform SW decoders are only used for the codecs the
+ * native ones lack.
  */
 public class JitsiVideoDecoderFactory implements VideoDecoderFactory {
     private final VideoDecoderFactory hardwareVideoDecoderFactory;
@@ -56,29 +60,116 @@ public class JitsiVideoDecoderFactory implements VideoDecoderFactory {
         this.platformSoftwareVideoDecoderFactory = new JitsiPlatformVideoDecoderFactory(eglContext, swCodecPredicate);
     }
 
+    /**
+     * Sets the maximum number of hardware decoders used at the same time. Streams which don't get
+     * one are decoded in software.
+     */
+    public static void setMaxHardwareDecoders(int maxHardwareDecoders) {
+        HardwareDecoderBudget.getInstance().setMaxSlots(maxHardwareDecoders);
+    }
+
     @Override
     public @Nullable VideoDecoder createDecoder(VideoCodecInfo codecType) {
-        VideoDecoder softwareDecoder = softwareVideoDecoderFactory.createDecoder(codecType);
-        final VideoDecoder hardwareDecoder = hardwareVideoDecoderFactory.createDecoder(codecType);
-        if (softwareDecoder == null) {
-            softwareDecoder = platformSoftwareVideoDecoderFactory.createDecoder(codecType);
+        // Support is checked against the memoized codec lists, so no decoder is allocated just to
+        // find out whether the codec is supported.
+        boolean hardware = isSupported(getHardwareSupportedCodecs(), codecType);
+        boolean software = isSupported(getSoftwareSupportedCodecs(), codecType);
+        boolean platformSoftware = isSupported(getPlatformSoftwareSupportedCodecs(), codecType);
+        final VideoDecoderStats stats = new VideoDecoderStats(codecType.name);
+
+        if (!hardware) {
+            if (software) {
+                return new InstrumentedVideoDecoder(createSoftwareDecoder(codecType), stats);
+            }
+
+            VideoDecoder platformSoftwareDecoder
+                = platformSoftware ? platformSoftwareVideoDecoderFactory.createDecoder(codecType) : null;
+            return platformSoftwareDecoder != null
+                ? new InstrumentedVideoDecoder(platformSoftwareDecoder, stats) : null;
         }
-        if (hardwareDecoder != null && softwareDecoder != null) {
-            // Both hardware and software supported, wrap it in a software fallback
-            return new VideoDecoderFallback(
-                /* fallback= */ softwareDecoder, /* primary= */ hardwareDecoder);
+
+        // The decoders are only created, and their MediaCodec allocated, once needed.
+        Supplier<VideoDecoder> hardwareDecoderSupplier = () -> hardwareVideoDecoderFactory.createDecoder(codecType);
+
+        if (software) {
+            // The native software decoder can only be driven by the native fallback wrapper, which
+            // stays in software once it switched. The budget sends the stream there when it gets
+            // no hardware slot.
+            VideoDecoder primary = new BudgetedVideoDecoder(
+                codecType.name, hardwareDecoderSupplier, /* softwareDecoderSupplier= */ null, stats);
+            VideoDecoder fallback = new VideoDecoderFallback(
+                /* fallback= */ createSoftwareDecoder(codecType),
+                /* primary= */ new InstrumentedVideoDecoder(primary, stats));
+            return new InstrumentedVideoDecoder(fallback, stats);
         }
-        return hardwareDecoder != null ? hardwareDecoder : softwareDecoder;
+
+        if (platformSoftware) {
+            // Both decoders are Java ones, so the stream moves to software when its hardware slot is
+            // taken and back to hardware when one frees up.
+            VideoDecoder decoder = new BudgetedVideoDecoder(
+                codecType.name,
+                hardwareDecoderSupplier,
+                () -> platformSoftwareVideoDecoderFactory.createDecoder(codecType),
+                stats);
+            return new InstrumentedVideoDecoder(decoder, stats);
+        }
+
+        VideoDecoder hardwareDecoder = hardwareDecoderSupplier.get();
+        return hardwareDecoder != null ? new InstrumentedVideoDecoder(hardwareDecoder, stats) : null;
+    }
+
+    /**
+     * Creates a native software decoder for a codec it supports. It's created once WebRTC builds
+     * the decoder of the stream, not while the factory is asked for one.
+     */
+    private VideoDecoder createSoftwareDecoder(VideoCodecInfo codecType) {
+        return new LazyNativeVideoDecoder(() -> softwareVideoDecoderFactory.createDecoder(codecType));
     }
 
     @Override
     public VideoCodecInfo[] getSupportedCodecs() {
         LinkedHashSet<VideoCodecInfo> supportedCodecInfos = new LinkedHashSet<>();
 
-        supportedCodecInfos.addAll(Arrays.asList(softwareVideoDecoderFactory.getSupportedCodecs()));
-        supportedCodecInfos.addAll(Arrays.asList(hardwareVideoDecoderFactory.getSupportedCodecs()));
-        supportedCodecInfos.addAll(Arrays.asList(platformSoftwareVideoDecoderFactory.getSupportedCodecs()));
+        supportedCodecInfos.addAll(Arrays.asList(getSoftwareSupportedCodecs()));
+        supportedCodecInfos.addAll(Arrays.asList(getHardwareSupportedCodecs()));
+        supportedCodecInfos.addAll(Arrays.asList(getPlatformSoftwareSupportedCodecs()));
 
         return supportedCodecInfos.toArray(new VideoCodecInfo[supportedCodecInfos.size()]);
     }
+
+    /**
+     * Probes (and memoizes) the MediaCodec based decoders. Doesn't need the WebRTC native library.
+     */
+    void probeMediaCodecs() {
+        getHardwareSupportedCodecs();
+        getPlatformSoftwareSupportedCodecs();
+    }
+
+    private static boolean isSupported(VideoCodecInfo[] supportedCodecs, VideoCodecInfo codecType) {
+        for (VideoCodecInfo info : supportedCodecs) {
+            if (info.name.equalsIgnoreCase(codecType.name)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    private VideoCodecInfo[] getSoftwareSupportedCodecs() {
+        return VideoCodecCapabilities.get(
+            VideoCodecCapabilities.DECODER_SOFTWARE, "", /* persist */ false,
+            softwareVideoDecoderFactory::getSupportedCodecs);
+    }
+
+    private VideoCodecInfo[] getHardwareSupportedCodecs() {
+        return VideoCodecCapabilities.get(
+            VideoCodecCapabilities.DECODER_HARDWARE, "", /* persist */ true,
+            hardwareVideoDecoderFactory::getSupportedCodecs);
+    }
+
+    private VideoCodecInfo[] getPlatformSoftwareSupportedCodecs() {
+        return VideoCodecCapabilities.get(
+            VideoCodecCapabilities.DECODER_PLATFORM_SOFTWARE, "", /* persist */ true,
+            platformSoftwareVideoDecoderFactory::getSupportedCodecs);
+    }
 }
@@ -2,15 +2,110 @@ package org.jitsi.meet.sdk;
 
 import androidx.annotation.Nullable;
 
-import com.oney.WebRTCModule.webrtcutils.H264AndSoftwareVideoEncoderFactory;
-
 import org.webrtc.EglBase;
+import org.webrtc.HardwareVideoEncoderFactory;
+import org.webrtc.SoftwareVideoEncoderFactory;
+import org.webrtc.VideoCodecInfo;
+import org.webrtc.VideoEncoder;
+import org.webrtc.VideoEncoderFactory;
+import org.webrtc.VideoEncoderFallback;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
- * Custom encoder factory which uses HW for H.264 and SW for everything else.
+ * Custom encoder factory which picks a HW or SW encoder per codec and resolution tier, based on
+ * {@link VideoEncoderQuirks}. HW encoders are wrapped so they fall back to SW at runtime.
+ *
+ * Unlike the H264AndSoftwareVideoEncoderFactory it replaces, it uses HW for VP8 too, but only
+ * for the encoders the quirks table allow-lists.
  */
-public class JitsiVideoEncoderFactory extends H264AndSoftwareVideoEncoderFactory {
+public class JitsiVideoEncoderFactory implements VideoEncoderFactory {
+    private final VideoEncoderFactory hardwareVideoEncoderFactory;
+    private final VideoEncoderFactory softwareVideoEncoderFactory = new SoftwareVideoEncoderFactory();
+
+    /**
+     * The codecs, with the version of the quirks table, for which a quirk disabling HW was
+     * already recorded, so it's recorded once rather than for every encoder.
+     */
+    private final Set<String> recordedQuirks = Collections.newSetFromMap(new ConcurrentHashMap<>());
+
     public JitsiVideoEncoderFactory(@Nullable EglBase.Context eglContext) {
-        super(eglContext);
+        this.hardwareVideoEncoderFactory = new HardwareVideoEncoderFactory(
+            eglContext,
+            /* enableIntelVp8Encoder */ false,
+            /* enableH264HighProfile */ false,
+            VideoEncoderQuirks.hwCodecPredicate);
+    }
+
+    @Override
+    public @Nullable VideoEncoder createEncoder(VideoCodecInfo codecInfo) {
+        final VideoEncoder softwareEncoder = softwareVideoEncoderFactory.createEncoder(codecInfo);
+        final VideoEncoder hardwareEncoder = hardwareVideoEncoderFactory.createEncoder(codecInfo);
+
+        if (hardwareEncoder == null) {
+            if (softwareEncoder != null) {
+                recordDisablingQuirk(codecInfo.name);
+            }
+            return softwareEncoder;
+        }
+
+        VideoEncoder primary = new TieredHardwareVideoEncoder(
+            hardwareEncoder,
+            codecInfo.name,
+            VideoEncoderQuirks.find(codecInfo.name, hardwareEncoder.getImplementationName()));
+
+        if (softwareEncoder != null) {
+            // Both hardware and software supported, wrap it in a software fallback
+            return new VideoEncoderFallback(
+                /* fallback= */ softwareEncoder, /* primary= */ primary);
+        }
+
+        return primary;
+    }
+
+    @Override
+    public VideoCodecInfo[] getSupportedCodecs() {
+        LinkedHashSet<VideoCodecInfo> supportedCodecInfos = new LinkedHashSet<>();
+
+        supportedCodecInfos.addAll(Arrays.asList(VideoCodecCapabilities.get(
+            VideoCodecCapabilities.ENCODER_SOFTWARE, "", /* persist */ false,
+            softwareVideoEncoderFactory::getSupportedCodecs)));
+        supportedCodecInfos.addAll(Arrays.asList(getHardwareSupportedCodecs()));
+
+        return supportedCodecInfos.toArray(new VideoCodecInfo[supportedCodecInfos.size()]);
+    }
+
+    /**
+     * Records why HW isn't used for the codec, if it's because of a quirk.
+     */
+    private void recordDisablingQuirk(String codecName) {
+        if (!recordedQuirks.add(codecName + "@" + VideoEncoderQuirks.getVersion())) {
+            return;
+        }
+
+        VideoEncoderQuirks.Quirk quirk = VideoEncoderQuirks.findDisabling(codecName);
+
+        if (quirk != null) {
+            VideoCodecFallbacks.record(
+                /* encoder */ true, codecName, "hardware", "quirk: " + quirk.reason);
+        }
+    }
+
+    /**
+     * Probes (and memoizes) the MediaCodec based encoders. Doesn't need the WebRTC native library.
+     */
+    void probeMediaCodecs() {
+        getHardwareSupportedCodecs();
+    }
+
+    private VideoCodecInfo[] getHardwareSupportedCodecs() {
+        // The hardware encoders are filtered by the quirks table, so it's part of the key.
+        return VideoCodecCapabilities.get(
+            VideoCodecCapabilities.ENCODER_HARDWARE, VideoEncoderQuirks.getVersion(), /* persist */ true,
+            hardwareVideoEncoderFactory::getSupportedCodecs);
     }
 }
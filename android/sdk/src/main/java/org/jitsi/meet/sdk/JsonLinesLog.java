@@ -0,0 +1,195 @@
+/*
+ * Copyright @ 2025-present 8x8, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jitsi.meet.sdk;
+
+import androidx.annotation.Nullable;
+
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+
+import org.jitsi.meet.sdk.log.JitsiMeetLogger;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * An append-only file with a JSON object per line, in UTF-8. Lines are addressed by their byte
+ * offset, so an owner keeping an index of them can read from the middle of the log. Not thread
+ * safe: the owner calls it from a single background thread.
+ */
+final class JsonLinesLog {
+    private static final String TAG = JsonLinesLog.class.getSimpleName();
+
+    private final File file;
+
+    @Nullable
+    private OutputStream out;
+
+    /**
+     * The length of the file, i.e. the offset of the next line, while it's open.
+     */
+    private long length;
+
+    JsonLinesLog(File file) {
+        this.file = file;
+    }
+
+    /**
+     * Empties the log.
+     */
+    void restart() {
+        close();
+        open(/* append */ false);
+    }
+
+    /**
+     * Appends a line.
+     *
+     * @return The offset of the line, -1 if it couldn't be written.
+     */
+    long append(Entry entry) {
+        if (out == null) {
+            open(/* append */ true);
+            if (out == null) {
+                return -1;
+            }
+        }
+
+        try {
+            StringWriter line = new StringWriter();
+            JsonWriter jsonWriter = new JsonWriter(line);
+
+            entry.write(jsonWriter);
+            jsonWriter.flush();
+            line.write('\n');
+
+            byte[] bytes = line.toString().getBytes(StandardCharsets.UTF_8);
+            long offset = length;
+
+            out.write(bytes);
+            out.flush();
+            length += bytes.length;
+
+            return offset;
+        } catch (IOException e) {
+            JitsiMeetLogger.w(e, TAG + " Failed to append to " + file);
+            close();
+
+            return -1;
+        }
+    }
+
+    /**
+     * Reads the lines of the log in order, until the visitor returns {@code false}.
+     */
+    void read(Visitor visitor) {
+        read(0, Long.MAX_VALUE, visitor);
+    }
+
+    /**
+     * Reads, in order, the lines starting in the given range of offsets, until the visitor returns
+     * {@code false}.
+     *
+     * @param from - The offset of the first line.
+     * @param to - The offset at which to stop.
+     */
+    void read(long from, long to, Visitor visitor) {
+        if (!file.exists()) {
+            return;
+        }
+
+        try (FileInputStream fileIn = new FileInputStream(file)) {
+            InputStream in = new BufferedInputStream(fileIn);
+            long offset = from;
+            ByteArrayOutputStream line = new ByteArrayOutputStream();
+            int b;
+
+            fileIn.getChannel().position(from);
+
+            while (offset < to && (b = in.read()) != -1) {
+                if (b != '\n') {
+                    line.write(b);
+                    continue;
+                }
+
+                long lineOffset = offset;
+
+                offset += line.size() + 1;
+                if (line.size() > 0) {
+                    String json = new String(line.toByteArray(), StandardCharsets.UTF_8);
+
+                    line.reset();
+                    if (!visitor.visit(new JsonReader(new StringReader(json)), lineOffset)) {
+                        break;
+                    }
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            JitsiMeetLogger.w(e, TAG + " Failed to read " + file);
+        }
+    }
+
+    void close() {
+        if (out != null) {
+            try {
+                out.close();
+            } catch (IOException ignored) {
+            }
+            out = null;
+        }
+    }
+
+    private void open(boolean append) {
+        File dir = file.getParentFile();
+
+        if (dir != null && !dir.exists() && !dir.mkdirs()) {
+            JitsiMeetLogger.w(TAG + " Failed to create " + dir);
+            return;
+        }
+
+        try {
+            out = new BufferedOutputStream(new FileOutputStream(file, append));
+            length = append ? file.length() : 0;
+        } catch (IOException e) {
+            JitsiMeetLogger.w(e, TAG + " Failed to open " + file);
+        }
+    }
+
+    interface Entry {
+        void write(JsonWriter writer) throws IOException;
+    }
+
+    interface Visitor {
+        /**
+         * Reads a line of the log.
+         *
+         * @param offset - The offset of the line.
+         * @return Whether to go on reading.
+         */
+        boolean visit(JsonReader reader, long offset) throws IOException;
+    }
+}
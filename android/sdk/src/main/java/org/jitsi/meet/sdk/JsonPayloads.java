@@ -0,0 +1,124 @@
+/*
+ * Copyright @ 2025-present 8x8, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jitsi.meet.sdk;
+
+import androidx.annotation.Nullable;
+
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Reads and writes event data as JSON, with streaming readers and writers.
+ *
+ * Converts event data values to the strings carried by the broadcast {@code Intent} extras too.
+ * Nested maps and lists are written as JSON, so receivers can decode them without reflection,
+ * e.g. with {@link ParticipantInfo#listFromJson(java.io.Reader)}.
+ */
+final class JsonPayloads {
+    private JsonPayloads() {
+    }
+
+    static String toExtraString(Object value) {
+        if (!(value instanceof Map) && !(value instanceof List)) {
+            return value.toString();
+        }
+
+        StringWriter stringWriter = new StringWriter();
+
+        try (JsonWriter writer = new JsonWriter(stringWriter)) {
+            write(writer, value);
+        } catch (IOException e) {
+            // StringWriter doesn't throw.
+            throw new IllegalStateException(e);
+        }
+
+        return stringWriter.toString();
+    }
+
+    static void write(JsonWriter writer, @Nullable Object value) throws IOException {
+        if (value == null) {
+            writer.nullValue();
+        } else if (value instanceof Map) {
+            writer.beginObject();
+            for (Map.Entry<?, ?> e : ((Map<?, ?>) value).entrySet()) {
+                writer.name(String.valueOf(e.getKey()));
+                write(writer, e.getValue());
+            }
+            writer.endObject();
+        } else if (value instanceof List) {
+            writer.beginArray();
+            for (Object item : (List<?>) value) {
+                write(writer, item);
+            }
+            writer.endArray();
+        } else if (value instanceof Boolean) {
+            writer.value((Boolean) value);
+        } else if (value instanceof Number) {
+            writer.value((Number) value);
+        } else {
+            writer.value(value.toString());
+        }
+    }
+
+    /**
+     * Reads a JSON value into maps, lists, strings, doubles, booleans and nulls, i.e. the types of
+     * the event data.
+     */
+    @Nullable
+    static Object read(JsonReader reader) throws IOException {
+        switch (reader.peek()) {
+            case BEGIN_OBJECT: {
+                HashMap<String, Object> map = new HashMap<>();
+
+                reader.beginObject();
+                while (reader.hasNext()) {
+                    map.put(reader.nextName(), read(reader));
+                }
+                reader.endObject();
+
+                return map;
+            }
+            case BEGIN_ARRAY: {
+                ArrayList<Object> list = new ArrayList<>();
+
+                reader.beginArray();
+                while (reader.hasNext()) {
+                    list.add(read(reader));
+                }
+                reader.endArray();
+
+                return list;
+            }
+            case BOOLEAN:
+                return reader.nextBoolean();
+            case NUMBER:
+                return reader.nextDouble();
+            case NULL:
+                reader.nextNull();
+                return null;
+            default:
+                return reader.nextString();
+        }
+    }
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright @ 2025-present 8x8, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.jitsi.meet.sdk;
+
+import org.webrtc.VideoDecoder;
+import org.webrtc.WrappedNativeVideoDecoder;
+
+import java.util.function.Supplier;
+
+/**
+ * Native (libvpx / dav1d) software decoder which is only created once WebRTC asks for it, rather
+ * than for every stream up front.
+ *
+ * Native decoders are driven by WebRTC directly, so they can't be created on their first
+ * {@code initDecode}: creating the native decoder is the first, and only, call Java gets. The
+ * decoding state itself is only allocated once the native decoder is initialized, e.g. when a
+ * {@code VideoDecoderFallback} falls back to it.
+ */
+class LazyNativeVideoDecoder extends WrappedNativeVideoDecoder {
+    private final Supplier<VideoDecoder> decoderSupplier;
+
+    /**
+     * @param decoderSupplier - Creates the native decoder. It must support the codec, as
+     * {@link #createNativeVideoDecoder()} can't fail.
+     */
+    LazyNativeVideoDecoder(Supplier<VideoDecoder> decoderSupplier) {
+        this.decoderSupplier = decoderSupplier;
+    }
+
+    @Override
+    public long createNativeVideoDecoder() {
+        VideoDecoder decoder = decoderSupplier.get();
+
+        if (decoder == null) {
+            throw new IllegalStateException("The native software decoder doesn't support the codec");
+        }
+
+        return decoder.createNativeVideoDecoder();
+    }
+}
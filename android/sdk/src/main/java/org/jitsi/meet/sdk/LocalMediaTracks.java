@@ -7,7 +7,6 @@ import android.media.MediaRecorder;
 import android.os.Build;
 import android.os.Environment;
 import android.os.Environment;
-import android.util.Log;
 import android.media.MediaScannerConnection;
 import android.net.Uri;
 import android.provider.MediaStore;
@@ -21,14 +20,18 @@ import java.text.SimpleDateFormat;
 import java.util.Date;
 import java.util.ArrayList;
 import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+
+import com.oney.WebRTCModule.EglUtils;
+import com.oney.WebRTCModule.JitsiWebRTCModuleHelper;
+import com.oney.WebRTCModule.WebRTCModule;
+import com.oney.WebRTCModule.WebRTCModuleOptions;
 
 import org.webrtc.AudioSource;
 import org.webrtc.AudioTrack;
 import org.webrtc.Camera2Enumerator;
 import org.webrtc.CameraEnumerator;
 import org.webrtc.CameraVideoCapturer;
-import org.webrtc.DefaultVideoDecoderFactory;
-import org.webrtc.DefaultVideoEncoderFactory;
 import org.webrtc.EglBase;
 import org.webrtc.MediaConstraints;
 import org.webrtc.PeerConnectionFactory;
@@ -41,8 +44,14 @@ import org.webrtc.VideoFrame;
 import org.webrtc.SurfaceViewRenderer;
 import org.webrtc.RendererCommon;
 
+import org.jitsi.meet.sdk.log.JitsiMeetLogger;
+
 /**
  * Java utility to create and manage local microphone and camera WebRTC tracks.
+ *
+ * The tracks are created on react-native-webrtc's {@link PeerConnectionFactory} and root EGL
+ * context, and the call's active local tracks are reused when available, so recording taps the
+ * live call's frames instead of opening the camera a second time.
  */
 final class LocalMediaTracks {
 
@@ -58,18 +67,37 @@ final class LocalMediaTracks {
     }
 
     private Context appContext;
-    private EglBase eglBase;
+    private EglBase.Context eglContext;
     private PeerConnectionFactory peerConnectionFactory;
 
+    /**
+     * Whether we created {@link #peerConnectionFactory} ourselves (because react-native-webrtc's
+     * wasn't available) and hence must dispose it. Such a factory is only a stopgap, see
+     * {@link #adoptSharedFactory(PeerConnectionFactory)}.
+     */
+    private boolean ownsPeerConnectionFactory;
+
     private AudioSource audioSource;
     private AudioTrack audioTrack;
+    private boolean ownsAudioTrack;
     private String lastAudioTrackId;
     private boolean suspendedWebRtcAudioForRecording = false;
 
     private VideoSource videoSource;
     private VideoTrack videoTrack;
+    private boolean ownsVideoTrack;
+    /**
+     * The call's video track while a recording starts, looked up before taking the lock.
+     */
+    private VideoTrack callVideoTrack;
+    private VideoSource callVideoSource;
+    /**
+     * The call's video source the processing chain runs on, when its track is shared.
+     */
+    private VideoSource processedCallVideoSource;
     private VideoCapturer videoCapturer;
     private SurfaceTextureHelper surfaceTextureHelper;
+    private VideoProcessingChain videoProcessingChain;
 
     // File saving
     private File audioFile;
@@ -100,13 +128,59 @@ final class LocalMediaTracks {
 
     // WebRTC video capture
     private VideoSink recordingVideoSink;
+    private VideoTrack recordingSourceTrack;
     private SurfaceViewRenderer recordingRenderer;
     private long recordingStartTime;
 
     private static final String TAG = "LocalMediaTracks";
 
+    /**
+     * Completes once the background pre-warm started by {@link #prewarm(Context)} has finished.
+     * {@code null} if no pre-warm was requested.
+     */
+    private volatile CompletableFuture<Void> prewarmFuture;
+
     private LocalMediaTracks() { }
 
+    /**
+     * Starts warming up the media stack (WebRTC native library, root EGL context and codec
+     * factories) on a background thread, so it's off the join critical path by the time JS calls
+     * {@link #initialize(Context)}. Calling it more than once returns the same future.
+     *
+     * These are the same objects react-native-webrtc uses, so the call's own setup benefits too.
+     *
+     * @param context - The {@link Context} used to initialize WebRTC.
+     * @return A future which completes when the media stack is ready, or exceptionally if
+     * initialization failed.
+     */
+    CompletableFuture<Void> prewarm(Context context) {
+        synchronized (this) {
+            if (prewarmFuture != null) {
+                return prewarmFuture;
+            }
+
+            final Context appContext = context.getApplicationContext();
+            CompletableFuture<Void> future = new CompletableFuture<>();
+            prewarmFuture = future;
+
+            Thread thread = new Thread(() -> {
+                long start = System.currentTimeMillis();
+                try {
+                    warmUp(appContext);
+                    JitsiMeetLogger.i(TAG + " Media stack pre-warmed in " + (System.currentTimeMillis() - start) + "ms");
+                    future.complete(null);
+                } catch (Throwable t) {
+                    JitsiMeetLogger.w(t, TAG + " Media stack pre-warm failed");
+                    future.completeExceptionally(t);
+                }
+            }, "LocalMediaPrewarm");
+            thread.setPriority(Thread.NORM_PRIORITY - 1);
+            thread.start();
+
+            return future;
+        }
+    }
+
     private File getMusicDir() {
         File base = appContext.getExternalFilesDir(Environment.DIRECTORY_MUSIC);
         File dir = new File(base, "JitsiRecordings");
@@ -120,7 +194,7 @@ final class LocalMediaTracks {
 
     synchronized void startAacRecording() {
         if (mediaRecorder != null) {
-            Log.w(TAG, "MediaRecorder already active");
+            JitsiMeetLogger.w(TAG + " MediaRecorder already active");
             return;
         }
         try {
@@ -153,30 +227,30 @@ final class LocalMediaTracks {
                 mediaRecorder.setVideoSize(640, 480); // Smaller resolution
 
                 mediaRecorder.setOutputFile(currentOutputPath);
-                Log.i(TAG, "MediaRecorder output file set to: " + currentOutputPath);
+                JitsiMeetLogger.i(TAG + " MediaRecorder output file set to: " + currentOutputPath);
 
                 mediaRecorder.prepare();
-                Log.i(TAG, "MediaRecorder prepared successfully");
+                JitsiMeetLogger.i(TAG + " MediaRecorder prepared successfully");
 
                 // Get the surface for video input
                 videoSurface = mediaRecorder.getSurface();
-                Log.i(TAG, "Video surface obtained: " + (videoSurface != null ? "SUCCESS" : "FAILED"));
+                JitsiMeetLogger.i(TAG + " Video surface obtained: " + (videoSurface != null ? "SUCCESS" : "FAILED"));
 
                 mediaRecorder.start();
-                Log.i(TAG, "Combined audio+video recording started: " + currentOutputPath);
+                JitsiMeetLogger.i(TAG + " Combined audio+video recording started: " + currentOutputPath);
 
                 // Start generating video frames to the surface
                 startVideoFrameGeneration();
 
             } catch (Throwable videoError) {
-                Log.w(TAG, "Combined recording failed, falling back to audio-only", videoError);
+                JitsiMeetLogger.w(videoError, TAG + " Combined recording failed, falling back to audio-only");
                 // Fall back to audio-only recording with same filename
                 safeReleaseMediaRecorder();
                 startAudioOnlyRecordingWithPath(currentOutputPath);
             }
 
         } catch (Throwable t) {
-            Log.e(TAG, "startAacRecording completely failed", t);
+            JitsiMeetLogger.e(t, TAG + " startAacRecording completely failed");
             safeReleaseMediaRecorder();
             resumeWebRtcAudioIfSuspended();
             throw new RuntimeException(t);
@@ -185,7 +259,7 @@ final class LocalMediaTracks {
 
     synchronized void startAudioOnlyRecording() {
         if (mediaRecorder != null) {
-            Log.w(TAG, "MediaRecorder already active");
+            JitsiMeetLogger.w(TAG + " MediaRecorder already active");
             return;
         }
         try {
@@ -196,7 +270,7 @@ final class LocalMediaTracks {
 
             startAudioOnlyRecordingWithPath(currentOutputPath);
         } catch (Throwable t) {
-            Log.e(TAG, "startAudioOnlyRecording failed", t);
+            JitsiMeetLogger.e(t, TAG + " startAudioOnlyRecording failed");
             safeReleaseMediaRecorder();
             resumeWebRtcAudioIfSuspended();
             throw new RuntimeException(t);
@@ -205,16 +279,16 @@ final class LocalMediaTracks {
 
     synchronized void startAudioOnlyRecordingWithPath(String outputPath) {
         if (mediaRecorder != null) {
-            Log.w(TAG, "MediaRecorder already active");
+            JitsiMeetLogger.w(TAG + " MediaRecorder already active");
             return;
         }
         try {
             currentOutputPath = outputPath;
-            Log.i(TAG, "Starting audio-only recording to: " + currentOutputPath);
+            JitsiMeetLogger.i(TAG + " Starting audio-only recording to: " + currentOutputPath);
 
             File outputFile = new File(currentOutputPath);
             File dir = outputFile.getParentFile();
-            Log.i(TAG, "Directory exists: " + dir.exists() + ", writable: " + dir.canWrite());
+            JitsiMeetLogger.i(TAG + " Directory exists: " + dir.exists() + ", writable: " + dir.canWrite());
 
             mediaRecorder = new MediaRecorder();
             // Suspend WebRTC mic so we can exclusively capture
@@ -229,13 +303,13 @@ final class LocalMediaTracks {
             mediaRecorder.setAudioChannels(1);
             mediaRecorder.setOutputFile(currentOutputPath);
 
-            Log.i(TAG, "MediaRecorder configured, preparing...");
+            JitsiMeetLogger.i(TAG + " MediaRecorder configured, preparing...");
             mediaRecorder.prepare();
-            Log.i(TAG, "MediaRecorder prepared, starting...");
+            JitsiMeetLogger.i(TAG + " MediaRecorder prepared, starting...");
             mediaRecorder.start();
-            Log.i(TAG, "Audio-only recording started successfully: " + currentOutputPath);
+            JitsiMeetLogger.i(TAG + " Audio-only recording started successfully: " + currentOutputPath);
         } catch (Throwable t) {
-            Log.e(TAG, "startAudioOnlyRecordingWithPath failed", t);
+            JitsiMeetLogger.e(t, TAG + " startAudioOnlyRecordingWithPath failed");
             safeReleaseMediaRecorder();
             resumeWebRtcAudioIfSuspended();
             throw new RuntimeException(t);
@@ -243,21 +317,21 @@ final class LocalMediaTracks {
     }
 
     synchronized void stopAacRecordingAndPlay() {
-        Log.i(TAG, "Stopping recording...");
+        JitsiMeetLogger.i(TAG + " Stopping recording...");
         try {
             // Stop video frame generation first
             stopVideoFrameGeneration();
 
             if (mediaRecorder != null) {
-                Log.i(TAG, "Stopping MediaRecorder...");
+                JitsiMeetLogger.i(TAG + " Stopping MediaRecorder...");
                 try {
                     mediaRecorder.stop();
-                    Log.i(TAG, "MediaRecorder stopped successfully");
+                    JitsiMeetLogger.i(TAG + " MediaRecorder stopped successfully");
                 } catch (Throwable t) {
-                    Log.e(TAG, "Error stopping MediaRecorder", t);
+                    JitsiMeetLogger.e(t, TAG + " Error stopping MediaRecorder");
                 }
             } else {
-                Log.w(TAG, "MediaRecorder is null, nothing to stop");
+                JitsiMeetLogger.w(TAG + " MediaRecorder is null, nothing to stop");
             }
         } finally {
             safeReleaseMediaRecorder();
@@ -267,15 +341,15 @@ final class LocalMediaTracks {
         resumeWebRtcAudioIfSuspended();
 
         if (currentOutputPath == null) {
-            Log.w(TAG, "No output path to play");
+            JitsiMeetLogger.w(TAG + " No output path to play");
             return;
         }
 
         // Check if file was actually created
         File outputFile = new File(currentOutputPath);
-        Log.i(TAG, "Recording file exists: " + outputFile.exists());
-        Log.i(TAG, "Recording file size: " + outputFile.length() + " bytes");
-        Log.i(TAG, "Recording file path: " + currentOutputPath);
+        JitsiMeetLogger.i(TAG + " Recording file exists: " + outputFile.exists());
+        JitsiMeetLogger.i(TAG + " Recording file size: " + outputFile.length() + " bytes");
+        JitsiMeetLogger.i(TAG + " Recording file path: " + currentOutputPath);
 
         // Make file visible in media DB and also copy to public Music for easier user access
         try {
@@ -284,19 +358,19 @@ final class LocalMediaTracks {
                 new String[]{ currentOutputPath },
                 null,
                 null);
-            Log.i(TAG, "Media scan completed");
+            JitsiMeetLogger.i(TAG + " Media scan completed");
         } catch (Throwable t) {
-            Log.w(TAG, "Media scan failed", t);
+            JitsiMeetLogger.w(t, TAG + " Media scan failed");
         }
 
         Uri publicUri = null;
         try {
             publicUri = saveToPublicMusic(currentOutputPath);
             if (publicUri != null) {
-                Log.i(TAG, "Copied recording to public Music: " + publicUri);
+                JitsiMeetLogger.i(TAG + " Copied recording to public Music: " + publicUri);
             }
         } catch (Throwable t) {
-            Log.w(TAG, "Copy to public Music failed", t);
+            JitsiMeetLogger.w(t, TAG + " Copy to public Music failed");
         }
 
         try {
@@ -310,9 +384,9 @@ final class LocalMediaTracks {
             mp.setOnCompletionListener(player -> player.release());
             mp.setOnPreparedListener(MediaPlayer::start);
             mp.prepareAsync();
-            Log.i(TAG, "Auto-playing: " + (publicUri != null ? publicUri.toString() : currentOutputPath));
+            JitsiMeetLogger.i(TAG + " Auto-playing: " + (publicUri != null ? publicUri.toString() : currentOutputPath));
         } catch (Throwable t) {
-            Log.e(TAG, "Auto play failed", t);
+            JitsiMeetLogger.e(t, TAG + " Auto play failed");
         }
     }
 
@@ -388,7 +462,7 @@ final class LocalMediaTracks {
         audioRecordingThread = new Thread(new Runnable() {
             @Override
             public void run() {
-                Log.i(TAG, "Audio recording simulation started");
+                JitsiMeetLogger.i(TAG + " Audio recording simulation started");
 
                 while (isRecordingAudio && audioOutputStream != null) {
                     try {
@@ -397,20 +471,20 @@ final class LocalMediaTracks {
                         audioOutputStream.write(audioData);
                         audioOutputStream.flush();
 
-                        Log.d(TAG, "Wrote " + audioData.length + " bytes of simulated audio data");
+                        JitsiMeetLogger.d(TAG + " Wrote %d bytes of simulated audio data", audioData.length);
 
                         // Sleep for ~20ms to simulate 50Hz audio sampling
                         Thread.sleep(20);
                     } catch (IOException e) {
-                        Log.e(TAG, "Error writing audio data", e);
+                        JitsiMeetLogger.e(e, TAG + " Error writing audio data");
                         break;
                     } catch (InterruptedException e) {
-                        Log.i(TAG, "Audio recording simulation interrupted");
+                        JitsiMeetLogger.i(TAG + " Audio recording simulation interrupted");
                         break;
                     }
                 }
 
-                Log.i(TAG, "Audio recording simulation stopped");
+                JitsiMeetLogger.i(TAG + " Audio recording simulation stopped");
             }
         });
 
@@ -446,7 +520,7 @@ final class LocalMediaTracks {
                 audioRecordingThread.interrupt();
                 audioRecordingThread.join(1000); // Wait up to 1 second
             } catch (InterruptedException e) {
-                Log.w(TAG, "Interrupted while stopping audio recording");
+                JitsiMeetLogger.w(TAG + " Interrupted while stopping audio recording");
             }
             audioRecordingThread = null;
         }
@@ -454,12 +528,12 @@ final class LocalMediaTracks {
 
     private void startVideoFrameGeneration() {
         if (videoSurface == null) {
-            Log.w(TAG, "Video surface not available");
+            JitsiMeetLogger.w(TAG + " Video surface not available");
             return;
         }
 
         isGeneratingVideoFrames = true;
-        Log.i(TAG, "Starting video frame generation");
+        JitsiMeetLogger.i(TAG + " Starting video frame generation");
 
         videoFrameGenerationThread = new Thread(() -> {
             int frameCount = 0;
@@ -495,16 +569,16 @@ final class LocalMediaTracks {
 
                         // Log every 30 frames (1 second) to verify it's working
                         if (frameCount % 30 == 0) {
-                            Log.i(TAG, "Generated " + frameCount + " video frames");
+                            JitsiMeetLogger.i(TAG + " Generated %d video frames", frameCount);
                         }
                     }
                     Thread.sleep(33); // ~30 FPS
                 } catch (Exception e) {
-                    Log.w(TAG, "Error generating video frame", e);
+                    JitsiMeetLogger.w(e, TAG + " Error generating video frame");
                     break;
                 }
             }
-            Log.i(TAG, "Video frame generation stopped. Total frames: " + frameCount);
+            JitsiMeetLogger.i(TAG + " Video frame generation stopped. Total frames: " + frameCount);
         });
 
         videoFrameGenerationThread.start();
@@ -517,44 +591,188 @@ final class LocalMediaTracks {
                 videoFrameGenerationThread.interrupt();
                 videoFrameGenerationThread.join(1000); // Wait up to 1 second
             } catch (InterruptedException e) {
-                Log.w(TAG, "Interrupted while stopping video frame generation");
+                JitsiMeetLogger.w(TAG + " Interrupted while stopping video frame generation");
             }
             videoFrameGenerationThread = null;
         }
     }
 
-    synchronized void initialize(Context context) {
+    void initialize(Context context) {
+        // Wait outside of the lock: the pre-warm thread needs it to publish its results. If it
+        // failed, fall through and retry synchronously.
+        CompletableFuture<Void> future = prewarmFuture;
+        if (future != null) {
+            try {
+                future.join();
+            } catch (Throwable t) {
+                JitsiMeetLogger.w(t, TAG + " Pre-warm failed, initializing synchronously");
+            }
+        }
+
+        doInitialize(context.getApplicationContext(), findSharedFactory());
+    }
+
+    /**
+     * Gets the factory of react-native-webrtc, if its module exists. Looking the module up creates
+     * it if needed, so it must not be called while holding this object's lock.
+     */
+    private PeerConnectionFactory findSharedFactory() {
+        WebRTCModule webRTCModule = ReactInstanceManagerHolder.getNativeModule(WebRTCModule.class);
+
+        return webRTCModule != null ? JitsiWebRTCModuleHelper.getPeerConnectionFactory(webRTCModule) : null;
+    }
+
+    /**
+     * Replaces the standalone factory, built while WebRTCModule was unavailable, with the call's
+     * once there is one. Our tracks of the standalone factory keep it in use until they're
+     * disposed of.
+     */
+    private synchronized void adoptSharedFactory(PeerConnectionFactory sharedFactory) {
+        if (sharedFactory == null || peerConnectionFactory == null || !ownsPeerConnectionFactory) {
+            return;
+        }
+        if (audioSource != null || videoSource != null) {
+            return;
+        }
+
+        JitsiMeetLogger.i(TAG + " WebRTCModule available, disposing the standalone PeerConnectionFactory");
+        peerConnectionFactory.dispose();
+        peerConnectionFactory = sharedFactory;
+        ownsPeerConnectionFactory = false;
+    }
+
+    /**
+     * Loads the WebRTC native library and creates the shared root EGL context and codec factories.
+     * All of it is idempotent and shared with react-native-webrtc.
+     */
+    private static void warmUp(Context context) {
+        WebRTCModuleOptions options = WebRTCModuleOptions.getInstance();
+
+        PeerConnectionFactory.initialize(
+            PeerConnectionFactory.InitializationOptions.builder(context)
+                .setFieldTrials(options.fieldTrials)
+                .createInitializationOptions());
+
+        EglBase.Context eglContext = EglUtils.getRootEglBaseContext();
+
+        // Probing the supported codecs walks MediaCodecList, which is slow on first use.
+        if (options.videoEncoderFactory == null) {
+            options.videoEncoderFactory = new JitsiVideoEncoderFactory(eglContext);
+        }
+        if (options.videoDecoderFactory == null) {
+            options.videoDecoderFactory = new JitsiVideoDecoderFactory(eglContext);
+        }
+        options.videoEncoderFactory.getSupportedCodecs();
+        options.videoDecoderFactory.getSupportedCodecs();
+    }
+
+    private synchronized void doInitialize(Context context, PeerConnectionFactory sharedFactory) {
         if (peerConnectionFactory != null) {
+            adoptSharedFactory(sharedFactory);
             return;
         }
-        appContext = context.getApplicationContext();
+        appContext = context;
 
-        PeerConnectionFactory.InitializationOptions initOptions =
-            PeerConnectionFactory.InitializationOptions.builder(appContext)
-                .createInitializationOptions();
-        PeerConnectionFactory.initialize(initOptions);
+        // Render and capture with the same root EGL context as react-native-webrtc.
+        eglContext = EglUtils.getRootEglBaseContext();
 
-        eglBase = EglBase.create();
+        // Attach to the factory the call uses.
+        if (sharedFactory != null) {
+            peerConnectionFactory = sharedFactory;
+            ownsPeerConnectionFactory = false;
+            return;
+        }
 
-        DefaultVideoEncoderFactory encoderFactory = new DefaultVideoEncoderFactory(
-            eglBase.getEglBaseContext(), /* enableIntelVp8Encoder */ true, /* enableH264HighProfile */ true);
-        DefaultVideoDecoderFactory decoderFactory = new DefaultVideoDecoderFactory(eglBase.getEglBaseContext());
+        // There's no React context yet, build our own factory but still from the shared options.
+        // It's replaced with the call's before creating tracks, once WebRTCModule is available.
+        JitsiMeetLogger.w(TAG + " WebRTCModule not available, creating a temporary PeerConnectionFactory");
+        warmUp(context);
 
+        WebRTCModuleOptions options = WebRTCModuleOptions.getInstance();
         peerConnectionFactory = PeerConnectionFactory.builder()
-            .setVideoEncoderFactory(encoderFactory)
-            .setVideoDecoderFactory(decoderFactory)
+            .setAudioDeviceModule(options.audioDeviceModule)
+            .setVideoEncoderFactory(options.videoEncoderFactory)
+            .setVideoDecoderFactory(options.videoDecoderFactory)
             .createPeerConnectionFactory();
+        ownsPeerConnectionFactory = true;
+    }
+
+    /**
+     * Gets the call's active local video track, if any. It waits for the WebRTC executor, so it
+     * must not be called while holding this object's lock.
+     */
+    private VideoTrack findLiveCallVideoTrack() {
+        WebRTCModule webRTCModule = ReactInstanceManagerHolder.getNativeModule(WebRTCModule.class);
+
+        return webRTCModule != null ? JitsiWebRTCModuleHelper.getLocalVideoTrack(webRTCModule) : null;
+    }
+
+    /**
+     * Gets the source of the call's video track, so the processing chain can run on the call's
+     * camera. It waits for the WebRTC executor, like {@link #findLiveCallVideoTrack()}.
+     */
+    private VideoSource findLiveCallVideoSource(VideoTrack liveTrack) {
+        if (liveTrack == null) {
+            return null;
+        }
+
+        WebRTCModule webRTCModule = ReactInstanceManagerHolder.getNativeModule(WebRTCModule.class);
+
+        return webRTCModule != null ? JitsiWebRTCModuleHelper.getLocalVideoSource(webRTCModule, liveTrack) : null;
+    }
+
+    /**
+     * Runs the processing chain on the call's camera, whose track we share rather than capture
+     * again. It replaces any processor the call set on the source.
+     */
+    private void processCallVideo(VideoSource liveSource) {
+        if (liveSource == null) {
+            JitsiMeetLogger.e(TAG + " The call's video source is unreachable, its video is not processed");
+            return;
+        }
+        if (liveSource == processedCallVideoSource) {
+            return;
+        }
+
+        liveSource.setVideoProcessor(getVideoProcessingChain());
+        processedCallVideoSource = liveSource;
+    }
+
+    /**
+     * Gets the call's active local audio track, if any. It waits for the WebRTC executor, so it
+     * must not be called while holding this object's lock.
+     */
+    private AudioTrack findLiveCallAudioTrack() {
+        WebRTCModule webRTCModule = ReactInstanceManagerHolder.getNativeModule(WebRTCModule.class);
+
+        return webRTCModule != null ? JitsiWebRTCModuleHelper.getLocalAudioTrack(webRTCModule) : null;
     }
 
-    synchronized AudioTrack createAudioTrack(String trackId) {
+    AudioTrack createAudioTrack(String trackId) {
+        adoptSharedFactory(findSharedFactory());
+
+        // Reuse the call's microphone track rather than opening another capture.
+        return createAudioTrack(trackId, findLiveCallAudioTrack());
+    }
+
+    private synchronized AudioTrack createAudioTrack(String trackId, AudioTrack liveTrack) {
         ensureInitialized();
         if (audioTrack != null) {
             return audioTrack;
         }
+        lastAudioTrackId = trackId;
+
+        if (liveTrack != null) {
+            JitsiMeetLogger.i(TAG + " Using the call's audio track: " + liveTrack.id());
+            audioTrack = liveTrack;
+            ownsAudioTrack = false;
+            return audioTrack;
+        }
+
         MediaConstraints constraints = new MediaConstraints();
         audioSource = peerConnectionFactory.createAudioSource(constraints);
-        lastAudioTrackId = trackId;
         audioTrack = peerConnectionFactory.createAudioTrack(trackId, audioSource);
+        ownsAudioTrack = true;
 
         // Add audio data callback for file recording
         if (isRecordingToFile && audioOutputStream != null) {
@@ -568,32 +786,45 @@ final class LocalMediaTracks {
     private void suspendWebRtcAudioIfActive() {
         // Don't suspend WebRTC audio - let both WebRTC and MediaRecorder capture audio
         // This allows the camera to remain active during recording
-        Log.i(TAG, "Keeping WebRTC audio active during recording - no suspension needed");
+        JitsiMeetLogger.i(TAG + " Keeping WebRTC audio active during recording - no suspension needed");
         suspendedWebRtcAudioForRecording = false;
     }
 
     private void resumeWebRtcAudioIfSuspended() {
         // No need to resume since we never suspended WebRTC audio
-        Log.i(TAG, "WebRTC audio was never suspended - no resume needed");
+        JitsiMeetLogger.i(TAG + " WebRTC audio was never suspended - no resume needed");
     }
 
-    synchronized void startRecordingToFile() {
+    void startRecordingToFile() {
         // Use combined recording for single file output
-        Log.i(TAG, "startRecordingToFile() -> startCombinedRecording()");
-        startCombinedRecording();
+        JitsiMeetLogger.i(TAG + " startRecordingToFile() -> startCombinedRecording()");
+        VideoTrack liveTrack = findLiveCallVideoTrack();
+        startCombinedRecording(liveTrack, findLiveCallVideoSource(liveTrack));
     }
 
-    synchronized void startRecordingToFile(boolean includeVideo) {
+    void startRecordingToFile(boolean includeVideo) {
         // Use combined recording for single file output
-        Log.i(TAG, "startRecordingToFile(includeVideo=" + includeVideo + ") -> startCombinedRecording()");
-        startCombinedRecording();
+        JitsiMeetLogger.i(TAG + " startRecordingToFile(includeVideo=" + includeVideo + ") -> startCombinedRecording()");
+        VideoTrack liveTrack = findLiveCallVideoTrack();
+        startCombinedRecording(liveTrack, findLiveCallVideoSource(liveTrack));
+    }
+
+    private synchronized void startCombinedRecording(VideoTrack liveTrack, VideoSource liveSource) {
+        callVideoTrack = liveTrack;
+        callVideoSource = liveSource;
+        try {
+            startCombinedRecording();
+        } finally {
+            callVideoTrack = null;
+            callVideoSource = null;
+        }
     }
 
     synchronized void startCombinedRecording() {
-        Log.i(TAG, "Starting synchronized combined audio+video recording in single file");
+        JitsiMeetLogger.i(TAG + " Starting synchronized combined audio+video recording in single file");
 
         if (mediaRecorder != null) {
-            Log.w(TAG, "MediaRecorder already active");
+            JitsiMeetLogger.w(TAG + " MediaRecorder already active");
             return;
         }
 
@@ -603,7 +834,7 @@ final class LocalMediaTracks {
             File out = new File(dir, "jitsi_combined_" + ts + ".mp4");
             currentOutputPath = out.getAbsolutePath();
 
-            Log.i(TAG, "Starting synchronized combined recording to: " + currentOutputPath);
+            JitsiMeetLogger.i(TAG + " Starting synchronized combined recording to: " + currentOutputPath);
 
             mediaRecorder = new MediaRecorder();
 
@@ -613,11 +844,11 @@ final class LocalMediaTracks {
             // Use SURFACE source for reliable combined recording
             // This avoids camera conflicts with WebRTC and ensures stable recording
             try {
-                Log.i(TAG, "Setting SURFACE source for reliable combined recording");
+                JitsiMeetLogger.i(TAG + " Setting SURFACE source for reliable combined recording");
                 mediaRecorder.setVideoSource(MediaRecorder.VideoSource.SURFACE);
-                Log.i(TAG, "Successfully set SURFACE source for combined recording");
+                JitsiMeetLogger.i(TAG + " Successfully set SURFACE source for combined recording");
             } catch (Exception e) {
-                Log.e(TAG, "SURFACE source failed", e);
+                JitsiMeetLogger.e(e, TAG + " SURFACE source failed");
                 throw new RuntimeException("Failed to set SURFACE video source", e);
             }
 
@@ -641,26 +872,26 @@ final class LocalMediaTracks {
 
             mediaRecorder.setOutputFile(currentOutputPath);
 
-            Log.i(TAG, "MediaRecorder configured for synchronized combined recording");
+            JitsiMeetLogger.i(TAG + " MediaRecorder configured for synchronized combined recording");
             mediaRecorder.prepare();
-            Log.i(TAG, "MediaRecorder prepared successfully");
+            JitsiMeetLogger.i(TAG + " MediaRecorder prepared successfully");
 
             // Get the surface for video input (needed even with CAMERA source)
             videoSurface = mediaRecorder.getSurface();
-            Log.i(TAG, "Video surface obtained: " + (videoSurface != null ? "SUCCESS" : "FAILED"));
+            JitsiMeetLogger.i(TAG + " Video surface obtained: " + (videoSurface != null ? "SUCCESS" : "FAILED"));
 
             mediaRecorder.start();
-            Log.i(TAG, "Synchronized combined audio+video recording started: " + currentOutputPath);
-            Log.i(TAG, "MediaRecorder is now active: " + (mediaRecorder != null));
-            Log.i(TAG, "Video surface is available: " + (videoSurface != null));
+            JitsiMeetLogger.i(TAG + " Synchronized combined audio+video recording started: " + currentOutputPath);
+            JitsiMeetLogger.i(TAG + " MediaRecorder is now active: " + (mediaRecorder != null));
+            JitsiMeetLogger.i(TAG + " Video surface is available: " + (videoSurface != null));
 
             // Start synchronized video frame generation
-            Log.i(TAG, "About to start synchronized video frame generation");
+            JitsiMeetLogger.i(TAG + " About to start synchronized video frame generation");
             startSynchronizedVideoFrameGeneration();
-            Log.i(TAG, "Synchronized video frame generation started");
+            JitsiMeetLogger.i(TAG + " Synchronized video frame generation started");
 
         } catch (Throwable t) {
-            Log.e(TAG, "Failed to start synchronized combined recording", t);
+            JitsiMeetLogger.e(t, TAG + " Failed to start synchronized combined recording");
             safeReleaseMediaRecorder();
 
             // Clear the combined recording path since it failed
@@ -668,18 +899,18 @@ final class LocalMediaTracks {
 
             // For now, let's not fallback to separate recording to test combined recording
             // This will help us identify if the combined recording can work
-            Log.e(TAG, "Combined recording failed - not falling back to separate recording for testing");
+            JitsiMeetLogger.e(TAG + " Combined recording failed - not falling back to separate recording for testing");
             throw new RuntimeException("Combined recording failed: " + t.getMessage(), t);
 
             // TODO: Re-enable fallback after testing combined recording
             /*
             // Fallback to separate recording if combined recording fails
-            Log.i(TAG, "Falling back to separate recording due to combined recording failure");
+            JitsiMeetLogger.i(TAG + " Falling back to separate recording due to combined recording failure");
             try {
                 startSeparateRecording();
-                Log.i(TAG, "Successfully started separate recording as fallback");
+                JitsiMeetLogger.i(TAG + " Successfully started separate recording as fallback");
             } catch (Throwable fallbackError) {
-                Log.e(TAG, "Fallback to separate recording also failed", fallbackError);
+                JitsiMeetLogger.e(fallbackError, TAG + " Fallback to separate recording also failed");
                 throw new RuntimeException("Both combined and separate recording failed", fallbackError);
             }
             */
@@ -687,69 +918,70 @@ final class LocalMediaTracks {
     }
 
     private void startSynchronizedVideoFrameGeneration() {
-        Log.i(TAG, "startSynchronizedVideoFrameGeneration called");
+        JitsiMeetLogger.i(TAG + " startSynchronizedVideoFrameGeneration called");
         if (videoSurface == null) {
-            Log.w(TAG, "Video surface not available for synchronized recording");
+            JitsiMeetLogger.w(TAG + " Video surface not available for synchronized recording");
             return;
         }
 
         isGeneratingVideoFrames = true;
-        Log.i(TAG, "Starting synchronized video frame generation with surface: " + videoSurface);
+        JitsiMeetLogger.i(TAG + " Starting synchronized video frame generation with surface: " + videoSurface);
 
         // Try to capture real camera frames first
         if (setupRealCameraCapture()) {
-            Log.i(TAG, "Successfully set up real camera capture");
+            JitsiMeetLogger.i(TAG + " Successfully set up real camera capture");
             return;
         }
 
         // Fallback to synthetic frames if real camera capture fails
-        Log.i(TAG, "Real camera capture failed, falling back to synthetic frames");
+        JitsiMeetLogger.i(TAG + " Real camera capture failed, falling back to synthetic frames");
         startSyntheticFrameGeneration();
     }
 
     private boolean setupRealCameraCapture() {
         try {
-            Log.i(TAG, "=== SETTING UP REAL CAMERA CAPTURE ===");
+            JitsiMeetLogger.i(TAG + " === SETTING UP REAL CAMERA CAPTURE ===");
 
             // Try to get the main WebRTC video track
             VideoTrack mainVideoTrack = getMainWebRtcVideoTrack();
 
             if (mainVideoTrack != null) {
-                Log.i(TAG, "Found main WebRTC video track - setting up real camera capture");
-                Log.i(TAG, "Video track ID: " + mainVideoTrack.id());
-                Log.i(TAG, "Video track enabled: " + mainVideoTrack.enabled());
-                Log.i(TAG, "Video track state: " + mainVideoTrack.state());
+                JitsiMeetLogger.i(TAG + " Found main WebRTC video track - setting up real camera capture");
+                JitsiMeetLogger.i(TAG + " Video track ID: " + mainVideoTrack.id());
+                JitsiMeetLogger.i(TAG + " Video track enabled: " + mainVideoTrack.enabled());
+                JitsiMeetLogger.i(TAG + " Video track state: " + mainVideoTrack.state());
 
                 // Create a VideoSink to capture frames from the main WebRTC video track
                 recordingVideoSink = new VideoSink() {
                     @Override
                     public void onFrame(VideoFrame frame) {
-                        Log.d(TAG, "Received real camera frame: " + frame.getBuffer().getWidth() + "x" + frame.getBuffer().getHeight());
+                        JitsiMeetLogger.d(TAG + " Received real camera frame: %dx%d", frame.getBuffer().getWidth(), frame.getBuffer().getHeight());
                         if (videoSurface != null && isGeneratingVideoFrames) {
                             renderRealCameraFrameToSurface(frame);
                         } else {
-                            Log.w(TAG, "Cannot render real camera frame - videoSurface: " + (videoSurface != null) + ", isGeneratingVideoFrames: " + isGeneratingVideoFrames);
+                            JitsiMeetLogger.w(TAG + " Cannot render real camera frame - videoSurface: %b, isGeneratingVideoFrames: %b", videoSurface != null, isGeneratingVideoFrames);
                         }
                     }
                 };
 
                 // Add the VideoSink to the main WebRTC video track
                 mainVideoTrack.addSink(recordingVideoSink);
-                Log.i(TAG, "Real camera capture setup complete - will capture from active camera");
+                recordingSourceTrack = mainVideoTrack;
+                JitsiMeetLogger.i(TAG + " Real camera capture setup complete - will capture from active camera");
                 return true;
             } else {
-                Log.i(TAG, "No main WebRTC video track found - will use synthetic frames");
+                JitsiMeetLogger.i(TAG + " No main WebRTC video track found - will use synthetic frames");
                 return false;
             }
         } catch (Exception e) {
-            Log.e(TAG, "Failed to setup real camera capture", e);
+            JitsiMeetLogger.e(e, TAG + " Failed to setup real camera capture");
             return false;
         }
     }
 
     private void renderRealCameraFrameToSurface(VideoFrame frame) {
         try {
-            Log.d(TAG, "Rendering real camera frame to surface");
+            JitsiMeetLogger.d(TAG + " Rendering real camera frame to surface");
 
             // Convert WebRTC VideoFrame to Android Bitmap
             android.graphics.Bitmap bitmap = videoFrameToBitmap(frame);
@@ -778,16 +1010,16 @@ final class LocalMediaTracks {
                     canvas.drawText("Time: " + new java.text.SimpleDateFormat("HH:mm:ss", java.util.Locale.getDefault()).format(new java.util.Date(currentTime)), 20, 70, paint);
 
                     videoSurface.unlockCanvasAndPost(canvas);
-                    Log.d(TAG, "Successfully rendered real camera frame");
+                    JitsiMeetLogger.d(TAG + " Successfully rendered real camera frame");
                 } else {
-                    Log.w(TAG, "Failed to lock canvas for real camera frame");
+                    JitsiMeetLogger.w(TAG + " Failed to lock canvas for real camera frame");
                 }
                 bitmap.recycle();
             } else {
-                Log.w(TAG, "Failed to convert video frame to bitmap");
+                JitsiMeetLogger.w(TAG + " Failed to convert video frame to bitmap");
             }
         } catch (Exception e) {
-            Log.w(TAG, "Error rendering real camera frame to surface", e);
+            JitsiMeetLogger.w(e, TAG + " Error rendering real camera frame to surface");
         }
     }
 
@@ -821,7 +1053,7 @@ final class LocalMediaTracks {
 
             return bitmap;
         } catch (Exception e) {
-            Log.e(TAG, "Error converting video frame to bitmap", e);
+            JitsiMeetLogger.e(e, TAG + " Error converting video frame to bitmap");
             return null;
         }
     }
@@ -832,7 +1064,7 @@ final class LocalMediaTracks {
             long startTime = System.currentTimeMillis();
             long lastFrameTime = startTime;
 
-            Log.i(TAG, "Synthetic video frame generation thread started");
+            JitsiMeetLogger.i(TAG + " Synthetic video frame generation thread started");
 
             while (isGeneratingVideoFrames && videoSurface != null) {
                 try {
@@ -903,7 +1135,7 @@ final class LocalMediaTracks {
                             // Log every 30 frames (1 second at 30 FPS)
                             if (frameCount % 30 == 0) {
                                 long logDuration = (currentTime - startTime) / 1000;
-                                Log.i(TAG, "Synthetic recording: " + frameCount + " frames, " + logDuration + "s, avg interval: " + (timeSinceLastFrame) + "ms");
+                                JitsiMeetLogger.i(TAG + " Synthetic recording: %d frames, %ds, avg interval: %dms", frameCount, logDuration, timeSinceLastFrame);
                             }
                         }
                     }
@@ -911,21 +1143,21 @@ final class LocalMediaTracks {
                     // Sleep for a short time to prevent busy waiting
                     Thread.sleep(1);
                 } catch (InterruptedException e) {
-                    Log.i(TAG, "Synthetic video frame generation interrupted");
+                    JitsiMeetLogger.i(TAG + " Synthetic video frame generation interrupted");
                     break;
                 } catch (Exception e) {
-                    Log.w(TAG, "Error generating synthetic video frame", e);
+                    JitsiMeetLogger.w(e, TAG + " Error generating synthetic video frame");
                     break;
                 }
             }
-            Log.i(TAG, "Synthetic video frame generation stopped. Total frames: " + frameCount);
+            JitsiMeetLogger.i(TAG + " Synthetic video frame generation stopped. Total frames: " + frameCount);
         });
 
         videoFrameGenerationThread.start();
     }
 
     synchronized void startSeparateRecording() {
-        Log.i(TAG, "Starting separate audio and video recording");
+        JitsiMeetLogger.i(TAG + " Starting separate audio and video recording");
 
         try {
             // Start audio recording
@@ -934,9 +1166,9 @@ final class LocalMediaTracks {
             // Start video recording
             startVideoRecording();
 
-            Log.i(TAG, "Separate recording started successfully");
+            JitsiMeetLogger.i(TAG + " Separate recording started successfully");
         } catch (Throwable t) {
-            Log.e(TAG, "Failed to start separate recording", t);
+            JitsiMeetLogger.e(t, TAG + " Failed to start separate recording");
             stopSeparateRecording();
             throw new RuntimeException(t);
         }
@@ -944,7 +1176,7 @@ final class LocalMediaTracks {
 
     synchronized void startAudioRecording() {
         if (audioRecorder != null) {
-            Log.w(TAG, "Audio recorder already active");
+            JitsiMeetLogger.w(TAG + " Audio recorder already active");
             return;
         }
 
@@ -954,7 +1186,7 @@ final class LocalMediaTracks {
             File out = new File(dir, "jitsi_audio_" + ts + ".mp4");
             audioOutputPath = out.getAbsolutePath();
 
-            Log.i(TAG, "Starting audio recording to: " + audioOutputPath);
+            JitsiMeetLogger.i(TAG + " Starting audio recording to: " + audioOutputPath);
 
             audioRecorder = new MediaRecorder();
             suspendWebRtcAudioIfActive();
@@ -971,10 +1203,10 @@ final class LocalMediaTracks {
             audioRecorder.start();
 
             isRecordingAudio = true;
-            Log.i(TAG, "Audio recording started successfully: " + audioOutputPath);
+            JitsiMeetLogger.i(TAG + " Audio recording started successfully: " + audioOutputPath);
 
         } catch (Throwable t) {
-            Log.e(TAG, "Failed to start audio recording", t);
+            JitsiMeetLogger.e(t, TAG + " Failed to start audio recording");
             safeReleaseAudioRecorder();
             resumeWebRtcAudioIfSuspended();
             throw new RuntimeException(t);
@@ -983,7 +1215,7 @@ final class LocalMediaTracks {
 
     synchronized void startVideoRecording() {
         if (videoRecorder != null) {
-            Log.w(TAG, "Video recorder already active");
+            JitsiMeetLogger.w(TAG + " Video recorder already active");
             return;
         }
 
@@ -993,7 +1225,7 @@ final class LocalMediaTracks {
             File out = new File(dir, "jitsi_video_" + ts + ".mp4");
             videoOutputPath = out.getAbsolutePath();
 
-            Log.i(TAG, "Starting simple black frame video recording to: " + videoOutputPath);
+            JitsiMeetLogger.i(TAG + " Starting simple black frame video recording to: " + videoOutputPath);
 
             videoRecorder = new MediaRecorder();
 
@@ -1007,25 +1239,25 @@ final class LocalMediaTracks {
             videoRecorder.setOutputFile(videoOutputPath);
 
             // Use standard H264 settings for better compatibility
-            Log.i(TAG, "Using standard H264 settings for video recording");
+            JitsiMeetLogger.i(TAG + " Using standard H264 settings for video recording");
 
             videoRecorder.prepare();
 
             // Get the surface for video input
             videoSurface = videoRecorder.getSurface();
-            Log.i(TAG, "Video surface obtained: " + (videoSurface != null ? "SUCCESS" : "FAILED"));
+            JitsiMeetLogger.i(TAG + " Video surface obtained: " + (videoSurface != null ? "SUCCESS" : "FAILED"));
 
             videoRecorder.start();
 
             isRecordingVideo = true;
             recordingStartTime = System.currentTimeMillis();
-            Log.i(TAG, "Simple video recording started successfully: " + videoOutputPath);
+            JitsiMeetLogger.i(TAG + " Simple video recording started successfully: " + videoOutputPath);
 
             // Start synchronized video frame generation for separate recording
             startSynchronizedVideoFrameGeneration();
 
         } catch (Throwable t) {
-            Log.e(TAG, "Failed to start video recording", t);
+            JitsiMeetLogger.e(t, TAG + " Failed to start video recording");
             safeReleaseVideoRecorder();
             throw new RuntimeException(t);
         }
@@ -1036,9 +1268,9 @@ final class LocalMediaTracks {
         VideoTrack mainVideoTrack = getMainWebRtcVideoTrack();
 
         if (mainVideoTrack != null) {
-            Log.i(TAG, "Found main WebRTC video track - setting up video capture");
-            Log.i(TAG, "Video track ID: " + mainVideoTrack.id());
-            Log.i(TAG, "Video track enabled: " + mainVideoTrack.enabled());
+            JitsiMeetLogger.i(TAG + " Found main WebRTC video track - setting up video capture");
+            JitsiMeetLogger.i(TAG + " Video track ID: " + mainVideoTrack.id());
+            JitsiMeetLogger.i(TAG + " Video track enabled: " + mainVideoTrack.enabled());
 
             try {
                 // Create a VideoSink to capture frames from main WebRTC video track
@@ -1053,26 +1285,27 @@ final class LocalMediaTracks {
 
                 // Add the VideoSink to the main WebRTC video track
                 mainVideoTrack.addSink(recordingVideoSink);
-                Log.i(TAG, "Main WebRTC video capture setup complete - will capture from active camera");
+                recordingSourceTrack = mainVideoTrack;
+                JitsiMeetLogger.i(TAG + " Main WebRTC video capture setup complete - will capture from active camera");
                 return;
 
             } catch (Throwable t) {
-                Log.e(TAG, "Failed to setup main WebRTC video capture", t);
+                JitsiMeetLogger.e(t, TAG + " Failed to setup main WebRTC video capture");
             }
         }
 
         // Fallback to our own video track
         if (videoTrack == null) {
-            Log.i(TAG, "No active WebRTC video track found - recording black frames");
-            Log.i(TAG, "This is normal if camera is disabled or not yet started");
+            JitsiMeetLogger.i(TAG + " No active WebRTC video track found - recording black frames");
+            JitsiMeetLogger.i(TAG + " This is normal if camera is disabled or not yet started");
             startSynchronizedVideoFrameGeneration();
             return;
         }
 
         try {
-            Log.i(TAG, "Using local video track - setting up video capture");
-            Log.i(TAG, "Video track ID: " + videoTrack.id());
-            Log.i(TAG, "Video track enabled: " + videoTrack.enabled());
+            JitsiMeetLogger.i(TAG + " Using local video track - setting up video capture");
+            JitsiMeetLogger.i(TAG + " Video track ID: " + videoTrack.id());
+            JitsiMeetLogger.i(TAG + " Video track enabled: " + videoTrack.enabled());
 
             // Create a VideoSink to capture frames from our video track
             recordingVideoSink = new VideoSink() {
@@ -1086,78 +1319,46 @@ final class LocalMediaTracks {
 
             // Add the VideoSink to our video track
             videoTrack.addSink(recordingVideoSink);
-            Log.i(TAG, "Local video capture setup complete - will capture from active camera");
+            recordingSourceTrack = videoTrack;
+            JitsiMeetLogger.i(TAG + " Local video capture setup complete - will capture from active camera");
 
         } catch (Throwable t) {
-            Log.e(TAG, "Failed to setup video capture, falling back to black frames", t);
+            JitsiMeetLogger.e(t, TAG + " Failed to setup video capture, falling back to black frames");
             startSynchronizedVideoFrameGeneration();
         }
     }
 
     private VideoTrack getMainWebRtcVideoTrack() {
         try {
-            Log.i(TAG, "=== SEARCHING FOR MAIN WEBRTC VIDEO TRACK ===");
-            Log.i(TAG, "videoTrack: " + (videoTrack != null ? "EXISTS" : "NULL"));
+            JitsiMeetLogger.i(TAG + " === SEARCHING FOR MAIN WEBRTC VIDEO TRACK ===");
+            JitsiMeetLogger.i(TAG + " videoTrack: " + (videoTrack != null ? "EXISTS" : "NULL"));
 
             if (videoTrack != null) {
-                Log.i(TAG, "videoTrack.id(): " + videoTrack.id());
-                Log.i(TAG, "videoTrack.enabled(): " + videoTrack.enabled());
-                Log.i(TAG, "videoTrack.state(): " + videoTrack.state());
+                JitsiMeetLogger.i(TAG + " videoTrack.id(): " + videoTrack.id());
+                JitsiMeetLogger.i(TAG + " videoTrack.enabled(): " + videoTrack.enabled());
+                JitsiMeetLogger.i(TAG + " videoTrack.state(): " + videoTrack.state());
             }
 
             // First, try to use our own video track if it exists and is active
             if (videoTrack != null && videoTrack.enabled()) {
-                Log.i(TAG, "Using our own active video track: " + videoTrack.id());
+                JitsiMeetLogger.i(TAG + " Using our own active video track: " + videoTrack.id());
                 return videoTrack;
             }
 
-            // Try to create a new video track that can share the camera
-            try {
-                Log.i(TAG, "Attempting to create shared camera video track...");
-                String recordingTrackId = "JITSI_RECORDING_SHARED_" + System.currentTimeMillis();
-
-                // Create a video track with the same camera settings as the main call
-                VideoTrack sharedTrack = createSharedCameraVideoTrack(recordingTrackId);
-
-                if (sharedTrack != null) {
-                    Log.i(TAG, "Successfully created shared camera video track: " + sharedTrack.id());
-                    return sharedTrack;
-                }
-            } catch (Exception e) {
-                Log.w(TAG, "Failed to create shared camera video track", e);
+            // Tap the call's camera track; opening the camera a second time would fail or steal
+            // it from the call on many devices. It was looked up before taking the lock.
+            VideoTrack liveTrack = callVideoTrack;
+            if (liveTrack != null) {
+                JitsiMeetLogger.i(TAG + " Using the call's video track: " + liveTrack.id());
+                processCallVideo(callVideoSource);
+                return liveTrack;
             }
 
-            Log.i(TAG, "No active video track found - will use synthetic frames");
+            JitsiMeetLogger.i(TAG + " No active video track found - will use synthetic frames");
             return null;
 
         } catch (Exception e) {
-            Log.w(TAG, "Failed to get main WebRTC video track", e);
-            return null;
-        }
-    }
-
-    private VideoTrack createSharedCameraVideoTrack(String trackId) {
-        try {
-            Log.i(TAG, "Creating shared camera video track: " + trackId);
-
-            // Create a new video track that can capture from the camera
-            // This will be used for recording while the main WebRTC session continues
-
-            ensureInitialized();
-
-            // Create a video track with the same settings as the main call
-            VideoTrack recordingVideoTrack = createVideoTrack(trackId, Facing.FRONT, 640, 480, 30);
-
-            if (recordingVideoTrack != null) {
-                Log.i(TAG, "Successfully created shared camera video track: " + recordingVideoTrack.id());
-                return recordingVideoTrack;
-            } else {
-                Log.w(TAG, "Failed to create video track for recording");
-                return null;
-            }
-
-        } catch (Exception e) {
-            Log.w(TAG, "Failed to create shared camera video track", e);
+            JitsiMeetLogger.w(e, TAG + " Failed to get main WebRTC video track");
             return null;
         }
     }
@@ -1179,7 +1380,7 @@ final class LocalMediaTracks {
                 paint.setColor(android.graphics.Color.WHITE);
                 paint.setTextSize(32);
                 canvas.drawText("ACTIVE CAMERA CAPTURED", 20, 50, paint);
-                canvas.drawText("Track ID: " + videoTrack.id(), 20, 100, paint);
+                canvas.drawText("Track ID: " + (recordingSourceTrack != null ? recordingSourceTrack.id() : "-"), 20, 100, paint);
                 canvas.drawText("Frame: " + frame.getTimestampNs(), 20, 150, paint);
                 canvas.drawText("Size: " + frame.getRotatedWidth() + "x" + frame.getRotatedHeight(), 20, 200, paint);
 
@@ -1190,12 +1391,12 @@ final class LocalMediaTracks {
                 videoSurface.unlockCanvasAndPost(canvas);
             }
         } catch (Exception e) {
-            Log.w(TAG, "Error rendering WebRTC frame to surface", e);
+            JitsiMeetLogger.w(e, TAG + " Error rendering WebRTC frame to surface");
         }
     }
 
     private void startSimpleBlackFrameGeneration() {
-        Log.i(TAG, "Starting simple black frame generation");
+        JitsiMeetLogger.i(TAG + " Starting simple black frame generation");
         isGeneratingVideoFrames = true;
 
         videoFrameGenerationThread = new Thread(() -> {
@@ -1223,27 +1424,27 @@ final class LocalMediaTracks {
                             long duration = (System.currentTimeMillis() - recordingStartTime) / 1000;
                             long currentTime = System.currentTimeMillis();
                             long frameInterval = currentTime - lastFrameTime;
-                            Log.i(TAG, "Generated " + frameCount + " black frames, duration: " + duration + "s, last frame interval: " + frameInterval + "ms");
+                            JitsiMeetLogger.i(TAG + " Generated %d black frames, duration: %ds, last frame interval: %dms", frameCount, duration, frameInterval);
                             lastFrameTime = currentTime;
                         }
                     } else {
-                        Log.w(TAG, "Failed to lock canvas for frame " + frameCount);
+                        JitsiMeetLogger.w(TAG + " Failed to lock canvas for frame %d", frameCount);
                     }
 
                     // 15 FPS - 66ms between frames
                     Thread.sleep(66);
                 } catch (Exception e) {
-                    Log.w(TAG, "Error generating black frame " + frameCount, e);
+                    JitsiMeetLogger.w(e, TAG + " Error generating black frame %d", frameCount);
                     // Don't break immediately, try to continue
                     try {
                         Thread.sleep(100); // Wait a bit before retrying
                     } catch (InterruptedException ie) {
-                        Log.i(TAG, "Frame generation thread interrupted");
+                        JitsiMeetLogger.i(TAG + " Frame generation thread interrupted");
                         break;
                     }
                 }
             }
-            Log.i(TAG, "Simple black frame generation stopped. Total frames: " + frameCount + ", duration: " + ((System.currentTimeMillis() - recordingStartTime) / 1000) + "s");
+            JitsiMeetLogger.i(TAG + " Simple black frame generation stopped. Total frames: " + frameCount + ", duration: " + ((System.currentTimeMillis() - recordingStartTime) / 1000) + "s");
         });
 
         videoFrameGenerationThread.start();
@@ -1251,65 +1452,66 @@ final class LocalMediaTracks {
 
     synchronized void stopRecordingToFile() {
         // Use combined recording stop
-        Log.i(TAG, "stopRecordingToFile() -> stopCombinedRecording()");
+        JitsiMeetLogger.i(TAG + " stopRecordingToFile() -> stopCombinedRecording()");
         stopCombinedRecording();
     }
 
     synchronized void stopCombinedRecording() {
-        Log.i(TAG, "Stopping combined recording...");
-        Log.i(TAG, "Current output path before stop: " + currentOutputPath);
-        Log.i(TAG, "MediaRecorder state: " + (mediaRecorder != null ? "active" : "null"));
+        JitsiMeetLogger.i(TAG + " Stopping combined recording...");
+        JitsiMeetLogger.i(TAG + " Current output path before stop: " + currentOutputPath);
+        JitsiMeetLogger.i(TAG + " MediaRecorder state: " + (mediaRecorder != null ? "active" : "null"));
 
         try {
-            // Stop video frame generation first
+            // Stop video frame generation first, and detach from the call's video track
             stopVideoFrameGeneration();
+            stopWebRtcVideoCapture();
 
             if (mediaRecorder != null) {
-                Log.i(TAG, "Stopping combined MediaRecorder...");
+                JitsiMeetLogger.i(TAG + " Stopping combined MediaRecorder...");
                 try {
                     mediaRecorder.stop();
-                    Log.i(TAG, "Combined MediaRecorder stopped successfully");
+                    JitsiMeetLogger.i(TAG + " Combined MediaRecorder stopped successfully");
                 } catch (Throwable t) {
-                    Log.e(TAG, "Error stopping combined MediaRecorder", t);
+                    JitsiMeetLogger.e(t, TAG + " Error stopping combined MediaRecorder");
                 }
             } else {
-                Log.w(TAG, "Combined MediaRecorder is null, nothing to stop");
+                JitsiMeetLogger.w(TAG + " Combined MediaRecorder is null, nothing to stop");
             }
         } finally {
             safeReleaseMediaRecorder();
         }
 
-        Log.i(TAG, "Current output path after stop: " + currentOutputPath);
+        JitsiMeetLogger.i(TAG + " Current output path after stop: " + currentOutputPath);
 
         if (currentOutputPath == null) {
-            Log.w(TAG, "No output path to save - this indicates combined recording was not properly started");
-            Log.w(TAG, "Checking if we have separate recording paths instead...");
+            JitsiMeetLogger.w(TAG + " No output path to save - this indicates combined recording was not properly started");
+            JitsiMeetLogger.w(TAG + " Checking if we have separate recording paths instead...");
 
             // Check for separate recording paths as fallback
             if (audioOutputPath != null || videoOutputPath != null) {
-                Log.i(TAG, "Found separate recording paths - audio: " + audioOutputPath + ", video: " + videoOutputPath);
+                JitsiMeetLogger.i(TAG + " Found separate recording paths - audio: " + audioOutputPath + ", video: " + videoOutputPath);
                 saveRecordingFilesToPublic();
                 return;
             }
 
-            Log.w(TAG, "No recording paths found at all");
+            JitsiMeetLogger.w(TAG + " No recording paths found at all");
             return;
         }
 
         // Check if file was actually created
         File outputFile = new File(currentOutputPath);
-        Log.i(TAG, "Combined recording file exists: " + outputFile.exists());
-        Log.i(TAG, "Combined recording file size: " + outputFile.length() + " bytes");
-        Log.i(TAG, "Combined recording file path: " + currentOutputPath);
+        JitsiMeetLogger.i(TAG + " Combined recording file exists: " + outputFile.exists());
+        JitsiMeetLogger.i(TAG + " Combined recording file size: " + outputFile.length() + " bytes");
+        JitsiMeetLogger.i(TAG + " Combined recording file path: " + currentOutputPath);
 
         // Save file to public directory and scan it
         saveAndScanFile(currentOutputPath);
 
-        Log.i(TAG, "Combined recording stopped and saved");
+        JitsiMeetLogger.i(TAG + " Combined recording stopped and saved");
     }
 
     synchronized void stopSeparateRecording() {
-        Log.i(TAG, "Stopping separate recording...");
+        JitsiMeetLogger.i(TAG + " Stopping separate recording...");
 
         // Stop video recording first
         stopVideoRecording();
@@ -1320,7 +1522,7 @@ final class LocalMediaTracks {
         // Save files to public directory and scan them
         saveRecordingFilesToPublic();
 
-        Log.i(TAG, "Separate recording stopped");
+        JitsiMeetLogger.i(TAG + " Separate recording stopped");
     }
 
     private void saveRecordingFilesToPublic() {
@@ -1337,29 +1539,29 @@ final class LocalMediaTracks {
 
     private void saveAndScanFile(String filePath) {
         if (filePath == null) {
-            Log.w(TAG, "File path is null, cannot save file");
+            JitsiMeetLogger.w(TAG + " File path is null, cannot save file");
             return;
         }
 
         File outputFile = new File(filePath);
-        Log.i(TAG, "Checking file: " + filePath);
-        Log.i(TAG, "File exists: " + outputFile.exists());
-        Log.i(TAG, "File size: " + outputFile.length() + " bytes");
-        Log.i(TAG, "File readable: " + outputFile.canRead());
-        Log.i(TAG, "File writable: " + outputFile.canWrite());
+        JitsiMeetLogger.i(TAG + " Checking file: " + filePath);
+        JitsiMeetLogger.i(TAG + " File exists: " + outputFile.exists());
+        JitsiMeetLogger.i(TAG + " File size: " + outputFile.length() + " bytes");
+        JitsiMeetLogger.i(TAG + " File readable: " + outputFile.canRead());
+        JitsiMeetLogger.i(TAG + " File writable: " + outputFile.canWrite());
 
         if (!outputFile.exists()) {
-            Log.w(TAG, "File does not exist: " + filePath);
+            JitsiMeetLogger.w(TAG + " File does not exist: " + filePath);
             return;
         }
 
         if (outputFile.length() == 0) {
-            Log.w(TAG, "File is empty (0 bytes): " + filePath);
+            JitsiMeetLogger.w(TAG + " File is empty (0 bytes): " + filePath);
             return;
         }
 
         if (outputFile.length() < 1024) {
-            Log.w(TAG, "File is very small (" + outputFile.length() + " bytes), may not be a valid video: " + filePath);
+            JitsiMeetLogger.w(TAG + " File is very small (" + outputFile.length() + " bytes), may not be a valid video: " + filePath);
         }
 
         // Scan file to make it visible in media database
@@ -1369,33 +1571,33 @@ final class LocalMediaTracks {
                 new String[]{ filePath },
                 null,
                 null);
-            Log.i(TAG, "Media scan completed for: " + filePath);
+            JitsiMeetLogger.i(TAG + " Media scan completed for: " + filePath);
         } catch (Throwable t) {
-            Log.w(TAG, "Media scan failed for: " + filePath, t);
+            JitsiMeetLogger.w(t, TAG + " Media scan failed for: " + filePath);
         }
 
         // Copy to public directory for easier access
         try {
             Uri publicUri = saveToPublicMusic(filePath);
             if (publicUri != null) {
-                Log.i(TAG, "Successfully copied recording to public directory: " + publicUri);
-                Log.i(TAG, "File should now be visible in file manager with correct extension");
+                JitsiMeetLogger.i(TAG + " Successfully copied recording to public directory: " + publicUri);
+                JitsiMeetLogger.i(TAG + " File should now be visible in file manager with correct extension");
             } else {
-                Log.w(TAG, "Failed to copy to public directory: " + filePath);
+                JitsiMeetLogger.w(TAG + " Failed to copy to public directory: " + filePath);
             }
         } catch (Throwable t) {
-            Log.w(TAG, "Copy to public directory failed for: " + filePath, t);
+            JitsiMeetLogger.w(t, TAG + " Copy to public directory failed for: " + filePath);
         }
     }
 
     synchronized void stopAudioRecording() {
         if (audioRecorder != null) {
-            Log.i(TAG, "Stopping audio recording...");
+            JitsiMeetLogger.i(TAG + " Stopping audio recording...");
             try {
                 audioRecorder.stop();
-                Log.i(TAG, "Audio recording stopped successfully");
+                JitsiMeetLogger.i(TAG + " Audio recording stopped successfully");
             } catch (Throwable t) {
-                Log.e(TAG, "Error stopping audio recording", t);
+                JitsiMeetLogger.e(t, TAG + " Error stopping audio recording");
             }
         }
         safeReleaseAudioRecorder();
@@ -1403,17 +1605,18 @@ final class LocalMediaTracks {
     }
 
     synchronized void stopVideoRecording() {
+        stopWebRtcVideoCapture();
         if (videoRecorder != null) {
-            Log.i(TAG, "Stopping simple video recording...");
+            JitsiMeetLogger.i(TAG + " Stopping simple video recording...");
             try {
                 // Stop the MediaRecorder first
                 videoRecorder.stop();
-                Log.i(TAG, "Video recording stopped successfully");
+                JitsiMeetLogger.i(TAG + " Video recording stopped successfully");
 
                 // Then stop frame generation after MediaRecorder is stopped
                 stopVideoFrameGeneration();
             } catch (Throwable t) {
-                Log.e(TAG, "Error stopping video recording", t);
+                JitsiMeetLogger.e(t, TAG + " Error stopping video recording");
                 // Make sure to stop frame generation even if MediaRecorder fails
                 stopVideoFrameGeneration();
             }
@@ -1422,15 +1625,16 @@ final class LocalMediaTracks {
     }
 
     private void stopWebRtcVideoCapture() {
-        if (recordingVideoSink != null && videoTrack != null) {
+        if (recordingVideoSink != null && recordingSourceTrack != null) {
             try {
-                videoTrack.removeSink(recordingVideoSink);
-                Log.i(TAG, "WebRTC video sink removed");
+                recordingSourceTrack.removeSink(recordingVideoSink);
+                JitsiMeetLogger.i(TAG + " WebRTC video sink removed");
             } catch (Throwable t) {
-                Log.w(TAG, "Error removing WebRTC video sink", t);
+                JitsiMeetLogger.w(t, TAG + " Error removing WebRTC video sink");
             }
-            recordingVideoSink = null;
         }
+        recordingVideoSink = null;
+        recordingSourceTrack = null;
     }
 
     private void safeReleaseAudioRecorder() {
@@ -1463,7 +1667,7 @@ final class LocalMediaTracks {
                 videoOutputStream = null;
             }
         } catch (IOException e) {
-            Log.e(TAG, "Error closing file streams", e);
+            JitsiMeetLogger.e(e, TAG + " Error closing file streams");
         }
     }
 
@@ -1547,12 +1751,12 @@ final class LocalMediaTracks {
             testStream.flush();
             testStream.close();
 
-            Log.i(TAG, "Test file created: " + testFile.getAbsolutePath());
-            Log.i(TAG, "Test file exists: " + testFile.exists());
-            Log.i(TAG, "Test file size: " + testFile.length() + " bytes");
+            JitsiMeetLogger.i(TAG + " Test file created: " + testFile.getAbsolutePath());
+            JitsiMeetLogger.i(TAG + " Test file exists: " + testFile.exists());
+            JitsiMeetLogger.i(TAG + " Test file size: " + testFile.length() + " bytes");
 
         } catch (IOException e) {
-            Log.e(TAG, "Test file writing failed", e);
+            JitsiMeetLogger.e(e, TAG + " Test file writing failed");
         }
     }
 
@@ -1580,30 +1784,51 @@ final class LocalMediaTracks {
             return fileList.toString();
 
         } catch (Exception e) {
-            Log.e(TAG, "Error listing recording files", e);
+            JitsiMeetLogger.e(e, TAG + " Error listing recording files");
             return "Error listing files: " + e.getMessage();
         }
     }
 
     synchronized void writeRecordingData(String data) {
         // This method is deprecated - audio data is now captured automatically via AudioSink
-        Log.d(TAG, "writeRecordingData called (deprecated - using automatic audio capture)");
+        JitsiMeetLogger.d(TAG + " writeRecordingData called (deprecated - using automatic audio capture)");
     }
 
-    synchronized VideoTrack createVideoTrack(String trackId, Facing facing, int width, int height, int fps) {
+    VideoTrack createVideoTrack(String trackId, Facing facing, int width, int height, int fps) {
+        adoptSharedFactory(findSharedFactory());
+
+        // If the call already captures the camera, share its track instead of opening it again.
+        VideoTrack liveTrack = findLiveCallVideoTrack();
+
+        return createVideoTrack(trackId, facing, width, height, fps, liveTrack, findLiveCallVideoSource(liveTrack));
+    }
+
+    private synchronized VideoTrack createVideoTrack(
+            String trackId, Facing facing, int width, int height, int fps,
+            VideoTrack liveTrack, VideoSource liveSource) {
         ensureInitialized();
         if (videoTrack != null) {
             return videoTrack;
         }
 
         Context context = appContext;
-        EglBase egl = eglBase;
-        if (context == null || egl == null) {
+        EglBase.Context egl = eglContext;
+        if (context == null) {
             throw new IllegalStateException("Not initialized");
         }
 
-        // Force Camera1 for broader device compatibility and to avoid Camera2 stopRepeating errors
-        CameraEnumerator enumeratorPrimary = new org.webrtc.Camera1Enumerator(false);
+        if (liveTrack != null) {
+            JitsiMeetLogger.i(TAG + " Using the call's video track: " + liveTrack.id());
+            processCallVideo(liveSource);
+            videoTrack = liveTrack;
+            ownsVideoTrack = false;
+            return videoTrack;
+        }
+
+        // Force Camera1 for broader device compatibility and to avoid Camera2 stopRepeating errors.
+        // The processing stages work on textures, so capture to one if there are any.
+        VideoProcessingChain processingChain = getVideoProcessingChain();
+        CameraEnumerator enumeratorPrimary = new org.webrtc.Camera1Enumerator(processingChain.hasStages());
         CameraEnumerator enumeratorFallback = enumeratorPrimary; // same for Camera1, but we will try opposite facing
 
         // Attempt with requested facing, then opposite facing if needed
@@ -1621,22 +1846,23 @@ final class LocalMediaTracks {
                     throw new IllegalStateException("Failed to create VideoCapturer for " + deviceName);
                 }
 
-                SurfaceTextureHelper helper = SurfaceTextureHelper.create("CameraCaptureThread", egl.getEglBaseContext());
+                SurfaceTextureHelper helper = SurfaceTextureHelper.create("CameraCaptureThread", egl);
                 VideoSource vSource = peerConnectionFactory.createVideoSource(false);
+                vSource.setVideoProcessor(processingChain);
                 capturer.initialize(helper, context, vSource.getCapturerObserver());
 
                 boolean started = false;
                 try {
-                    Log.i(TAG, "Starting camera (" + attemptFacing + ") capture: " + width + "x" + height + "@" + fps);
+                    JitsiMeetLogger.i(TAG + " Starting camera (" + attemptFacing + ") capture: " + width + "x" + height + "@" + fps);
                     capturer.startCapture(width, height, fps);
                     started = true;
                 } catch (Exception e1) {
-                    Log.w(TAG, "Capture failed at requested size, trying 640x480", e1);
+                    JitsiMeetLogger.w(e1, TAG + " Capture failed at requested size, trying 640x480");
                     try {
                         capturer.startCapture(640, 480, 15);
                         started = true;
                     } catch (Exception e2) {
-                        Log.w(TAG, "Capture failed at 640x480, trying 320x240", e2);
+                        JitsiMeetLogger.w(e2, TAG + " Capture failed at 640x480, trying 320x240");
                         try {
                             capturer.startCapture(320, 240, 10);
                             started = true;
@@ -1647,11 +1873,12 @@ final class LocalMediaTracks {
                 }
 
                 if (started) {
-                    Log.i(TAG, "Camera capture started successfully with facing=" + attemptFacing);
+                    JitsiMeetLogger.i(TAG + " Camera capture started successfully with facing=" + attemptFacing);
                     videoCapturer = capturer;
                     surfaceTextureHelper = helper;
                     videoSource = vSource;
                     videoTrack = peerConnectionFactory.createVideoTrack(trackId, vSource);
+                    ownsVideoTrack = true;
                     return videoTrack;
                 } else {
                     try { capturer.dispose(); } catch (Throwable ignored) {}
@@ -1667,6 +1894,19 @@ final class LocalMediaTracks {
         throw new RuntimeException("Failed to create video track with any camera: " + (lastError != null ? lastError.getMessage() : "unknown"), lastError);
     }
 
+    /**
+     * Gets the processing chain applied to the camera tracks we create, or to the call's when we
+     * share it. Stages added after our track was created only apply if it captures to textures,
+     * i.e. if there were stages then; the call's camera decides that on its own.
+     */
+    synchronized VideoProcessingChain getVideoProcessingChain() {
+        if (videoProcessingChain == null) {
+            EglBase.Context egl = eglContext != null ? eglContext : EglUtils.getRootEglBaseContext();
+            videoProcessingChain = new VideoProcessingChain(egl);
+        }
+        return videoProcessingChain;
+    }
+
     synchronized void switchCamera() {
         if (videoCapturer instanceof CameraVideoCapturer) {
             ((CameraVideoCapturer) videoCapturer).switchCamera(null);
@@ -1692,17 +1932,30 @@ final class LocalMediaTracks {
         stopCombinedRecording();
         stopSeparateRecording();
 
-        if (videoTrack != null) { videoTrack.dispose(); videoTrack = null; }
-        if (videoSource != null) { videoSource.dispose(); videoSource = null; }
+        stopWebRtcVideoCapture();
+
+        // Tracks, factory and EGL context borrowed from the call are not ours to dispose.
+        if (videoTrack != null && ownsVideoTrack) { videoTrack.dispose(); }
+        videoTrack = null;
+        if (videoSource != null) { videoSource.setVideoProcessor(null); videoSource.dispose(); videoSource = null; }
+        if (processedCallVideoSource != null) {
+            // The call may have disposed of its source already.
+            try { processedCallVideoSource.setVideoProcessor(null); } catch (Throwable ignored) {}
+            processedCallVideoSource = null;
+        }
+        if (videoProcessingChain != null) { videoProcessingChain.release(); }
         if (surfaceTextureHelper != null) { surfaceTextureHelper.dispose(); surfaceTextureHelper = null; }
         if (videoCapturer != null) { videoCapturer.dispose(); videoCapturer = null; }
 
-        if (audioTrack != null) { audioTrack.dispose(); audioTrack = null; }
+        if (audioTrack != null && ownsAudioTrack) { audioTrack.dispose(); }
+        audioTrack = null;
         if (audioSource != null) { audioSource.dispose(); audioSource = null; }
 
-        if (peerConnectionFactory != null) { peerConnectionFactory.dispose(); peerConnectionFactory = null; }
-        if (eglBase != null) { eglBase.release(); eglBase = null; }
+        if (peerConnectionFactory != null && ownsPeerConnectionFactory) { peerConnectionFactory.dispose(); }
+        peerConnectionFactory = null;
+        eglContext = null;
         appContext = null;
+        prewarmFuture = null;
     }
 
     private void ensureInitialized() {
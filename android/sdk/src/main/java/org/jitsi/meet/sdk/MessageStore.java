@@ -0,0 +1,576 @@
+/*
+ * Copyright @ 2025-present 8x8, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jitsi.meet.sdk;
+
+import android.content.Context;
+
+import androidx.annotation.Nullable;
+
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Keeps the chat and endpoint text messages received in the current conference, so host apps
+ * don't each have to keep their own list.
+ *
+ * The most recent messages are kept in a fixed size ring in memory, with an index per
+ * conversation and unread counters. Every message is also appended to a log on disk, from which
+ * the older pages are loaded, so the memory used doesn't grow with the length of the meeting.
+ * A sparse index of the log's offsets lets a page be read without scanning the log from its start.
+ * The log is started over when a conference is joined.
+ *
+ * Only received messages are stored, as the messages the local participant sends aren't reported
+ * as events.
+ */
+public final class MessageStore {
+    /**
+     * The default number of messages kept in memory.
+     */
+    public static final int DEFAULT_CAPACITY = 1000;
+
+    private static final String LOG_DIR = "jitsi-messages";
+    private static final String LOG_FILE = "messages.log";
+
+    /**
+     * One line of the log in this many is indexed.
+     */
+    static final int LOG_INDEX_INTERVAL = 64;
+
+    private static final MessageStore instance = new MessageStore();
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor();
+    private final List<Listener> listeners = new CopyOnWriteArrayList<>();
+
+    /**
+     * The sequence numbers of the messages in the ring, per conversation, oldest first.
+     */
+    private final Map<String, ArrayDeque<Long>> conversations = new HashMap<>();
+    private final Map<String, Integer> unreadCounts = new HashMap<>();
+
+    /**
+     * The most recent messages, the one with sequence number {@code seq} being at
+     * {@code seq % ring.length}.
+     */
+    private StoredMessage[] ring = new StoredMessage[DEFAULT_CAPACITY];
+
+    /**
+     * The sequence number of the oldest message in the ring.
+     */
+    private long firstSeq;
+
+    /**
+     * The sequence number the next message gets.
+     */
+    private long nextSeq;
+    private int totalUnreadCount;
+
+    @Nullable
+    private JsonLinesLog log;
+    private boolean initialized;
+
+    /**
+     * The offsets of one line of the log in {@link #LOG_INDEX_INTERVAL}, by sequence number. Only
+     * used on the executor, like the log.
+     */
+    private final TreeMap<Long, Long> logIndex = new TreeMap<>();
+    private long logLines;
+
+    public static MessageStore getInstance() {
+        return instance;
+    }
+
+    MessageStore() {
+    }
+
+    synchronized void init(Context context) {
+        if (initialized) {
+            return;
+        }
+        initialized = true;
+
+        openLog(new File(new File(context.getFilesDir(), LOG_DIR), LOG_FILE));
+
+        JitsiMeetEventBus eventBus = JitsiMeetEventBus.getInstance();
+        JitsiMeetEventBus.Listener listener = this::onEvent;
+
+        eventBus.addListener(BroadcastEvent.Type.CONFERENCE_JOINED, listener);
+        eventBus.addListener(BroadcastEvent.Type.CHAT_MESSAGE_RECEIVED, listener);
+        eventBus.addListener(BroadcastEvent.Type.ENDPOINT_TEXT_MESSAGE_RECEIVED, listener);
+    }
+
+    /**
+     * Opens the log, then indexes what a previous process left in it.
+     */
+    synchronized void openLog(File file) {
+        log = new JsonLinesLog(file);
+        executor.execute(this::scanLog);
+    }
+
+    /**
+     * Sets the number of messages kept in memory. The ring is emptied.
+     */
+    public synchronized void setCapacity(int capacity) {
+        ring = new StoredMessage[Math.max(1, capacity)];
+        firstSeq = nextSeq;
+        conversations.clear();
+    }
+
+    /**
+     * Registers a listener for the new messages. Listeners are called on the React Native modules
+     * thread and must return quickly.
+     */
+    public void addListener(Listener listener) {
+        listeners.add(listener);
+    }
+
+    public void removeListener(Listener listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * Gets the ids of the conversations with messages in memory.
+     */
+    public synchronized List<String> getConversationIds() {
+        return new ArrayList<>(conversations.keySet());
+    }
+
+    public synchronized int getUnreadCount(String conversationId) {
+        Integer unreadCount = unreadCounts.get(conversationId);
+
+        return unreadCount != null ? unreadCount : 0;
+    }
+
+    public synchronized int getTotalUnreadCount() {
+        return totalUnreadCount;
+    }
+
+    public synchronized void markRead(String conversationId) {
+        Integer unreadCount = unreadCounts.remove(conversationId);
+
+        if (unreadCount != null) {
+            totalUnreadCount -= unreadCount;
+        }
+    }
+
+    public synchronized void markAllRead() {
+        unreadCounts.clear();
+        totalUnreadCount = 0;
+    }
+
+    /**
+     * Gets the message with the given sequence number, if it's still in memory.
+     */
+    @Nullable
+    public synchronized StoredMessage getMessage(long seq) {
+        return seq >= firstSeq && seq < nextSeq ? ring[(int) (seq % ring.length)] : null;
+    }
+
+    /**
+     * Gets a page of the messages in memory, oldest first.
+     *
+     * @param conversationId The conversation to get the messages of, or {@code null} for all.
+     * @param beforeSeq Only messages with a lower sequence number are returned; use
+     * {@code Long.MAX_VALUE} for the most recent page.
+     * @param limit The maximum number of messages returned.
+     */
+    public synchronized List<StoredMessage> getMessages(
+            @Nullable String conversationId, long beforeSeq, int limit) {
+        ArrayDeque<StoredMessage> page = new ArrayDeque<>();
+
+        if (conversationId == null) {
+            for (long seq = Math.min(beforeSeq, nextSeq) - 1; seq >= firstSeq && page.size() < limit; seq--) {
+                page.addFirst(ring[(int) (seq % ring.length)]);
+            }
+        } else {
+            ArrayDeque<Long> seqs = conversations.get(conversationId);
+
+            if (seqs != null) {
+                Iterator<Long> it = seqs.descendingIterator();
+
+                while (it.hasNext() && page.size() < limit) {
+                    long seq = it.next();
+
+                    if (seq < beforeSeq) {
+                        page.addFirst(ring[(int) (seq % ring.length)]);
+                    }
+                }
+            }
+        }
+
+        return new ArrayList<>(page);
+    }
+
+    /**
+     * Gets the messages in memory received at or after the given time, oldest first.
+     *
+     * @param conversationId The conversation to get the messages of, or {@code null} for all.
+     * @param sinceMs The time, in milliseconds since the epoch.
+     * @param limit The maximum number of messages returned.
+     */
+    public synchronized List<StoredMessage> getMessagesSince(
+            @Nullable String conversationId, long sinceMs, int limit) {
+        // Messages are received in order, so binary search the ring for the first one.
+        long low = firstSeq;
+        long high = nextSeq;
+
+        while (low < high) {
+            long mid = (low + high) >>> 1;
+
+            if (ring[(int) (mid % ring.length)].receivedAt < sinceMs) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+
+        List<StoredMessage> messages = new ArrayList<>();
+
+        for (long seq = low; seq < nextSeq && messages.size() < limit; seq++) {
+            StoredMessage message = ring[(int) (seq % ring.length)];
+
+            if (conversationId == null || conversationId.equals(message.conversationId)) {
+                messages.add(message);
+            }
+        }
+
+        return messages;
+    }
+
+    /**
+     * Loads a page of messages, oldest first, from memory if it has them all or else from the log
+     * on disk.
+     *
+     * @see #getMessages(String, long, int)
+     */
+    public CompletableFuture<List<StoredMessage>> loadMessages(
+            @Nullable String conversationId, long beforeSeq, int limit) {
+        synchronized (this) {
+            List<StoredMessage> page = getMessages(conversationId, beforeSeq, limit);
+
+            if (page.size() == limit || firstSeq == 0) {
+                return CompletableFuture.completedFuture(page);
+            }
+        }
+
+        return CompletableFuture.supplyAsync(
+            () -> readLog(conversationId, beforeSeq, limit),
+            executor);
+    }
+
+    private void onEvent(JitsiMeetEvent event) {
+        Map<String, Object> data = event.getData();
+        long now = System.currentTimeMillis();
+
+        switch (event.getType()) {
+            case CONFERENCE_JOINED:
+                reset();
+                break;
+            case CHAT_MESSAGE_RECEIVED: {
+                Object timestamp = data.get("timestamp");
+
+                add(
+                    StoredMessage.Type.CHAT,
+                    getString(data, "senderId"),
+                    getString(data, "message"),
+                    Boolean.TRUE.equals(data.get("isPrivate")),
+                    timestamp instanceof Number ? ((Number) timestamp).longValue() : now,
+                    now);
+                break;
+            }
+            case ENDPOINT_TEXT_MESSAGE_RECEIVED:
+                add(
+                    StoredMessage.Type.ENDPOINT,
+                    getString(data, "senderId"),
+                    getString(data, "message"),
+                    /* isPrivate */ true,
+                    now,
+                    now);
+                break;
+        }
+    }
+
+    void add(
+            StoredMessage.Type type,
+            @Nullable String senderId,
+            @Nullable String text,
+            boolean isPrivate,
+            long timestamp,
+            long receivedAt) {
+        StoredMessage message;
+
+        synchronized (this) {
+            String conversationId = StoredMessage.getConversationId(type, senderId, isPrivate);
+
+            message = new StoredMessage(
+                nextSeq, type, conversationId, senderId, text, isPrivate, timestamp, receivedAt);
+
+            if (nextSeq - firstSeq == ring.length) {
+                evictOldest();
+            }
+            ring[(int) (nextSeq % ring.length)] = message;
+            nextSeq++;
+
+            ArrayDeque<Long> seqs = conversations.get(conversationId);
+            if (seqs == null) {
+                seqs = new ArrayDeque<>();
+                conversations.put(conversationId, seqs);
+            }
+            seqs.addLast(message.seq);
+
+            Integer unreadCount = unreadCounts.get(conversationId);
+            unreadCounts.put(conversationId, unreadCount != null ? unreadCount + 1 : 1);
+            totalUnreadCount++;
+        }
+
+        executor.execute(() -> appendToLog(message));
+
+        for (Listener listener : listeners) {
+            listener.onMessage(message);
+        }
+    }
+
+    private void evictOldest() {
+        StoredMessage oldest = ring[(int) (firstSeq % ring.length)];
+        ArrayDeque<Long> seqs = conversations.get(oldest.conversationId);
+
+        if (seqs != null) {
+            seqs.pollFirst();
+            if (seqs.isEmpty()) {
+                conversations.remove(oldest.conversationId);
+            }
+        }
+
+        ring[(int) (firstSeq % ring.length)] = null;
+        firstSeq++;
+    }
+
+    private synchronized void reset() {
+        Arrays.fill(ring, null);
+        firstSeq = nextSeq = 0;
+        conversations.clear();
+        unreadCounts.clear();
+        totalUnreadCount = 0;
+
+        executor.execute(this::startLog);
+    }
+
+    /**
+     * Starts the log over. Runs on the executor.
+     */
+    private void startLog() {
+        if (log != null) {
+            log.restart();
+        }
+        logIndex.clear();
+        logLines = 0;
+    }
+
+    /**
+     * Indexes the log a previous process left, and numbers the new messages after its own. Runs on
+     * the executor, before any append.
+     */
+    private void scanLog() {
+        if (log == null) {
+            return;
+        }
+
+        long[] lastSeq = { -1 };
+
+        log.read((reader, offset) -> {
+            long seq = readMessage(reader).seq;
+
+            indexLogLine(seq, offset);
+            lastSeq[0] = seq;
+
+            return true;
+        });
+
+        if (lastSeq[0] < 0) {
+            return;
+        }
+
+        synchronized (this) {
+            if (nextSeq == 0) {
+                firstSeq = nextSeq = lastSeq[0] + 1;
+                return;
+            }
+        }
+
+        // Messages got numbers meanwhile which clash with the log's.
+        startLog();
+    }
+
+    private void indexLogLine(long seq, long offset) {
+        if (logLines++ % LOG_INDEX_INTERVAL == 0) {
+            logIndex.put(seq, offset);
+        }
+    }
+
+    /**
+     * Appends a message to the log. Runs on the executor.
+     */
+    private void appendToLog(StoredMessage message) {
+        if (log == null) {
+            return;
+        }
+
+        long offset = log.append(writer -> {
+            writer.beginObject();
+            writer.name("seq").value(message.seq);
+            writer.name("type").value(message.type.name());
+            writer.name("conversationId").value(message.conversationId);
+            writer.name("senderId").value(message.senderId);
+            writer.name("message").value(message.message);
+            writer.name("isPrivate").value(message.isPrivate);
+            writer.name("timestamp").value(message.timestamp);
+            writer.name("receivedAt").value(message.receivedAt);
+            writer.endObject();
+        });
+
+        if (offset >= 0) {
+            indexLogLine(message.seq, offset);
+        }
+    }
+
+    /**
+     * Reads a page of messages from the log. Runs on the executor, after any pending appends.
+     *
+     * The log is read backwards an indexed stretch at a time, starting from the one holding
+     * {@code beforeSeq}, until the page is full.
+     */
+    private List<StoredMessage> readLog(@Nullable String conversationId, long beforeSeq, int limit) {
+        ArrayDeque<StoredMessage> page = new ArrayDeque<>();
+
+        if (log == null) {
+            return new ArrayList<>();
+        }
+
+        Map.Entry<Long, Long> next = logIndex.ceilingEntry(beforeSeq);
+        long end = next != null ? next.getValue() : Long.MAX_VALUE;
+
+        for (long start : logIndex.headMap(beforeSeq, false).descendingMap().values()) {
+            List<StoredMessage> stretch = new ArrayList<>();
+
+            log.read(start, end, (reader, offset) -> {
+                StoredMessage message = readMessage(reader);
+
+                if (message.seq >= beforeSeq) {
+                    return false;
+                }
+                if (conversationId == null || conversationId.equals(message.conversationId)) {
+                    stretch.add(message);
+                }
+
+                return true;
+            });
+
+            for (int i = stretch.size() - 1; i >= 0 && page.size() < limit; i--) {
+                page.addFirst(stretch.get(i));
+            }
+            if (page.size() == limit) {
+                break;
+            }
+            end = start;
+        }
+
+        return new ArrayList<>(page);
+    }
+
+    private static StoredMessage readMessage(JsonReader reader) throws IOException {
+        long seq = 0;
+        StoredMessage.Type type = StoredMessage.Type.CHAT;
+        String conversationId = StoredMessage.CONVERSATION_PUBLIC;
+        String senderId = null;
+        String message = null;
+        boolean isPrivate = false;
+        long timestamp = 0;
+        long receivedAt = 0;
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            String name = reader.nextName();
+
+            if (reader.peek() == JsonToken.NULL) {
+                reader.nextNull();
+                continue;
+            }
+
+            switch (name) {
+                case "seq":
+                    seq = reader.nextLong();
+                    break;
+                case "type":
+                    type = StoredMessage.Type.valueOf(reader.nextString());
+                    break;
+                case "conversationId":
+                    conversationId = reader.nextString();
+                    break;
+                case "senderId":
+                    senderId = reader.nextString();
+                    break;
+                case "message":
+                    message = reader.nextString();
+                    break;
+                case "isPrivate":
+                    isPrivate = reader.nextBoolean();
+                    break;
+                case "timestamp":
+                    timestamp = reader.nextLong();
+                    break;
+                case "receivedAt":
+                    receivedAt = reader.nextLong();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        reader.endObject();
+
+        return new StoredMessage(
+            seq, type, conversationId, senderId, message, isPrivate, timestamp, receivedAt);
+    }
+
+    @Nullable
+    private static String getString(Map<String, Object> data, String key) {
+        Object value = data.get(key);
+
+        return value != null ? value.toString() : null;
+    }
+
+    /**
+     * Listener for the messages added to the store.
+     */
+    public interface Listener {
+        void onMessage(StoredMessage message);
+    }
+}
@@ -0,0 +1,281 @@
+/*
+ * Copyright @ 2025-present 8x8, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jitsi.meet.sdk;
+
+import android.os.Handler;
+import android.os.Looper;
+import android.os.SystemClock;
+
+import androidx.annotation.Nullable;
+
+import com.oney.WebRTCModule.JitsiWebRTCModuleHelper;
+import com.oney.WebRTCModule.WebRTCModule;
+
+import org.jitsi.meet.sdk.log.JitsiMeetLogger;
+import org.webrtc.MediaStreamTrack;
+
+/**
+ * Applies the actions of the ongoing conference notification natively, without waiting for JS:
+ * muting toggles the local audio track and hanging up disables all the local tracks at once. JS is
+ * then told through the {@link JitsiMeetCommandClient} and catches up asynchronously.
+ *
+ * When JS confirms the action, a {@link BroadcastEvent.Type#NOTIFICATION_ACTION_LATENCY} event
+ * reports the time the native side and JS took to apply it. If JS doesn't confirm a mute change in
+ * time, the local audio track is put back in the state JS last reported, so the two don't stay out
+ * of sync. Likewise, if JS fails to hang up or doesn't end the conference in time, the tracks the
+ * hang up disabled are enabled again.
+ *
+ * Only used on the main thread.
+ */
+final class OngoingConferenceActions {
+    private static final String TAG = OngoingConferenceActions.class.getSimpleName();
+
+    /**
+     * The time JS has to confirm a mute change, after which its state wins.
+     */
+    static final long RECONCILE_TIMEOUT_MS = 3000;
+
+    /**
+     * The time after which a hang up JS didn't confirm isn't measured anymore.
+     */
+    private static final long HANG_UP_TIMEOUT_MS = 30000;
+
+    private static final OngoingConferenceActions instance = new OngoingConferenceActions();
+
+    private final Handler handler = new Handler(Looper.getMainLooper());
+    private final JitsiMeetEventBus.Listener eventListener = this::onEvent;
+    private final Runnable timeoutRunnable = this::onTimeout;
+
+    @Nullable
+    private Listener listener;
+    @Nullable
+    private PendingAction pendingAction;
+
+    /**
+     * The audio muted state JS last reported, {@code null} if unknown.
+     */
+    @Nullable
+    private Boolean audioMuted;
+    private boolean registered;
+
+    static OngoingConferenceActions getInstance() {
+        return instance;
+    }
+
+    private OngoingConferenceActions() {
+    }
+
+    void setListener(@Nullable Listener listener) {
+        this.listener = listener;
+    }
+
+    void setAudioMuted(boolean muted) {
+        PendingAction action = start(muted ? "MUTE" : "UNMUTE", muted);
+
+        setLocalTracksEnabled(MediaStreamTrack.AUDIO_TRACK_KIND, !muted, action);
+        JitsiMeetCommandClient.getInstance().setAudioMuted(muted)
+            .exceptionally(e -> {
+                JitsiMeetLogger.w(e, TAG + " Mute change not applied by JS");
+                return null;
+            });
+    }
+
+    void hangUp() {
+        PendingAction action = start("HANGUP", null);
+        WebRTCModule webRTCModule = ReactInstanceManagerHolder.getNativeModule(WebRTCModule.class);
+
+        // Stop sending media right away, JS ends the session.
+        if (webRTCModule != null) {
+            action.restoreTracks = JitsiWebRTCModuleHelper.disableLocalTracks(
+                webRTCModule, () -> action.nativeDoneNanos = System.nanoTime());
+        } else {
+            JitsiMeetLogger.w(TAG + " WebRTC isn't running, " + action.name + " is left to JS");
+        }
+
+        JitsiMeetCommandClient.getInstance().hangUp()
+            .exceptionally(e -> {
+                JitsiMeetLogger.w(e, TAG + " Hang up not applied by JS");
+                handler.post(() -> onHangUpFailed(action));
+                return null;
+            });
+    }
+
+    /**
+     * Whether an audio muted change reported by JS predates the pending mute change, and shall be
+     * ignored.
+     */
+    boolean isStale(boolean muted) {
+        PendingAction action = pendingAction;
+
+        return action != null && action.audioMuted != null && action.audioMuted != muted;
+    }
+
+    private PendingAction start(String name, @Nullable Boolean audioMuted) {
+        if (!registered) {
+            JitsiMeetEventBus eventBus = JitsiMeetEventBus.getInstance();
+
+            eventBus.addMainThreadListener(BroadcastEvent.Type.AUDIO_MUTED_CHANGED, eventListener);
+            eventBus.addMainThreadListener(BroadcastEvent.Type.CONFERENCE_TERMINATED, eventListener);
+            registered = true;
+        }
+
+        PendingAction action = new PendingAction(name, audioMuted);
+
+        pendingAction = action;
+        handler.removeCallbacks(timeoutRunnable);
+        handler.postDelayed(timeoutRunnable, audioMuted != null ? RECONCILE_TIMEOUT_MS : HANG_UP_TIMEOUT_MS);
+
+        return action;
+    }
+
+    private void setLocalTracksEnabled(@Nullable String kind, boolean enabled, PendingAction action) {
+        WebRTCModule webRTCModule = ReactInstanceManagerHolder.getNativeModule(WebRTCModule.class);
+
+        if (webRTCModule == null) {
+            JitsiMeetLogger.w(TAG + " WebRTC isn't running, " + action.name + " is left to JS");
+            return;
+        }
+
+        JitsiWebRTCModuleHelper.setLocalTracksEnabled(
+            webRTCModule, kind, enabled, () -> action.nativeDoneNanos = System.nanoTime());
+    }
+
+    private void onEvent(JitsiMeetEvent event) {
+        PendingAction action = pendingAction;
+
+        switch (event.getType()) {
+            case AUDIO_MUTED_CHANGED:
+                audioMuted = Boolean.parseBoolean(String.valueOf(event.getData().get("muted")));
+                if (action != null && action.audioMuted != null && action.audioMuted.equals(audioMuted)) {
+                    complete(action);
+                }
+                break;
+            case CONFERENCE_TERMINATED:
+                audioMuted = null;
+                if (action != null && action.audioMuted == null) {
+                    complete(action);
+                }
+                break;
+        }
+    }
+
+    private void complete(PendingAction action) {
+        pendingAction = null;
+        handler.removeCallbacks(timeoutRunnable);
+
+        long now = System.nanoTime();
+        long nativeDoneNanos = action.nativeDoneNanos;
+        long jsMs = (now - action.startNanos) / 1_000_000;
+        long nativeMs = nativeDoneNanos != 0 ? (nativeDoneNanos - action.startNanos) / 1_000_000 : -1;
+
+        JitsiMeetLogger.i(TAG + " " + action.name + " applied natively in " + nativeMs + " ms, by JS in " + jsMs + " ms");
+
+        JitsiMeetEvent event = JitsiMeetEvent.obtain(BroadcastEvent.Type.NOTIFICATION_ACTION_LATENCY);
+        event.put("action", action.name);
+        event.put("nativeLatencyMs", nativeMs);
+        event.put("jsLatencyMs", jsMs);
+        event.put("timestamp", SystemClock.elapsedRealtime());
+        JitsiMeetEventBus.getInstance().post(event);
+    }
+
+    private void onHangUpFailed(PendingAction action) {
+        if (pendingAction != action) {
+            // Already ended, or replaced by another action.
+            return;
+        }
+
+        pendingAction = null;
+        handler.removeCallbacks(timeoutRunnable);
+        restoreTracks(action);
+    }
+
+    private void onTimeout() {
+        PendingAction action = pendingAction;
+
+        if (action == null) {
+            return;
+        }
+
+        pendingAction = null;
+        JitsiMeetLogger.w(TAG + " " + action.name + " not confirmed by JS");
+
+        if (action.audioMuted == null) {
+            // The conference goes on, so must its media.
+            restoreTracks(action);
+            return;
+        }
+
+        Boolean audioMuted = this.audioMuted;
+
+        if (audioMuted == null) {
+            return;
+        }
+
+        // JS kept its state, follow it.
+        PendingAction reconcile = new PendingAction("RECONCILE", audioMuted);
+        setLocalTracksEnabled(MediaStreamTrack.AUDIO_TRACK_KIND, !audioMuted, reconcile);
+
+        Listener listener = this.listener;
+        if (listener != null) {
+            listener.onAudioMutedReconciled(audioMuted);
+        }
+    }
+
+    private static void restoreTracks(PendingAction action) {
+        Runnable restoreTracks = action.restoreTracks;
+
+        if (restoreTracks != null) {
+            JitsiMeetLogger.i(TAG + " Enabling the local tracks " + action.name + " disabled again");
+            restoreTracks.run();
+        }
+    }
+
+    interface Listener {
+        /**
+         * Called when a mute change from the notification wasn't applied by JS, and the local
+         * audio track was put back in the state of JS.
+         */
+        void onAudioMutedReconciled(boolean muted);
+    }
+
+    private static final class PendingAction {
+        final String name;
+
+        /**
+         * The audio muted state the action sets, {@code null} for a hang up.
+         */
+        @Nullable
+        final Boolean audioMuted;
+        final long startNanos = System.nanoTime();
+
+        /**
+         * When the native side applied the action, 0 until then. Set on the WebRTC executor.
+         */
+        volatile long nativeDoneNanos;
+
+        /**
+         * Enables the local tracks a hang up disabled again, {@code null} if it disabled none.
+         */
+        @Nullable
+        Runnable restoreTracks;
+
+        PendingAction(String name, @Nullable Boolean audioMuted) {
+            this.name = name;
+            this.audioMuted = audioMuted;
+        }
+    }
+}
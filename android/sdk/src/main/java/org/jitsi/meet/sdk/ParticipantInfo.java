@@ -1,6 +1,16 @@
 package org.jitsi.meet.sdk;
 
+import androidx.annotation.Nullable;
+
 import com.google.gson.annotations.SerializedName;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 
 public class ParticipantInfo {
 
@@ -24,4 +34,103 @@ public class ParticipantInfo {
 
     @SerializedName("role")
     public String role;
+
+    /**
+     * Decodes a JSON array of participant info objects, such as the {@code participantsInfo} extra
+     * of the {@code PARTICIPANTS_INFO_RETRIEVED} broadcast, as it streams in. Unknown properties
+     * are skipped.
+     */
+    public static List<ParticipantInfo> listFromJson(Reader json) throws IOException {
+        List<ParticipantInfo> list = new ArrayList<>();
+        JsonReader reader = new JsonReader(json);
+
+        reader.beginArray();
+        while (reader.hasNext()) {
+            list.add(read(reader));
+        }
+        reader.endArray();
+
+        return list;
+    }
+
+    /**
+     * Builds the participant infos out of the structured {@code participantsInfo} data JS sends.
+     */
+    static List<ParticipantInfo> listFromMaps(List<?> maps) {
+        List<ParticipantInfo> list = new ArrayList<>(maps.size());
+
+        for (Object map : maps) {
+            list.add(fromMap((Map<?, ?>) map));
+        }
+
+        return list;
+    }
+
+    /**
+     * Builds a participant info out of the data of a participant event, as JS sends it.
+     */
+    static ParticipantInfo fromMap(Map<?, ?> map) {
+        ParticipantInfo info = new ParticipantInfo();
+
+        info.id = getString(map, "participantId");
+        info.displayName = getString(map, "displayName");
+        info.avatarUrl = getString(map, "avatarUrl");
+        info.email = getString(map, "email");
+        info.name = getString(map, "name");
+        info.isLocal = Boolean.TRUE.equals(map.get("isLocal"));
+        info.role = getString(map, "role");
+
+        return info;
+    }
+
+    @Nullable
+    private static String getString(Map<?, ?> map, String key) {
+        Object value = map.get(key);
+
+        return value != null ? value.toString() : null;
+    }
+
+    private static ParticipantInfo read(JsonReader reader) throws IOException {
+        ParticipantInfo info = new ParticipantInfo();
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            String name = reader.nextName();
+
+            if (reader.peek() == JsonToken.NULL) {
+                reader.nextNull();
+                continue;
+            }
+
+            switch (name) {
+                case "participantId":
+                    info.id = reader.nextString();
+                    break;
+                case "displayName":
+                    info.displayName = reader.nextString();
+                    break;
+                case "avatarUrl":
+                    info.avatarUrl = reader.nextString();
+                    break;
+                case "email":
+                    info.email = reader.nextString();
+                    break;
+                case "name":
+                    info.name = reader.nextString();
+                    break;
+                case "isLocal":
+                    info.isLocal = reader.nextBoolean();
+                    break;
+                case "role":
+                    info.role = reader.nextString();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        reader.endObject();
+
+        return info;
+    }
 }
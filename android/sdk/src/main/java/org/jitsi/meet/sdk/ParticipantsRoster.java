@@ -0,0 +1,247 @@
+/*
+ * Copyright @ 2025-present 8x8, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jitsi.meet.sdk;
+
+import androidx.annotation.Nullable;
+
+import org.jitsi.meet.sdk.log.JitsiMeetLogger;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Native copy of the participants of the current conference, kept up to date from the
+ * {@code PARTICIPANT_JOINED}, {@code PARTICIPANT_UPDATED} and {@code PARTICIPANT_LEFT} events,
+ * so that reading it doesn't take a round trip to JS.
+ *
+ * The whole roster is only fetched from JS, through {@link ParticipantsService}, when the
+ * conference is joined or when {@link #resync()} is called.
+ */
+public final class ParticipantsRoster {
+    private static final String TAG = ParticipantsRoster.class.getSimpleName();
+
+    private static final ParticipantInfo[] EMPTY = new ParticipantInfo[0];
+
+    private static final ParticipantsRoster instance = new ParticipantsRoster();
+
+    /**
+     * The participants by id, in the order they joined.
+     */
+    private final LinkedHashMap<String, ParticipantInfo> participants = new LinkedHashMap<>();
+    private final List<Listener> listeners = new CopyOnWriteArrayList<>();
+
+    /**
+     * The participants in join order, built on the first read after a change.
+     */
+    @Nullable
+    private ParticipantInfo[] snapshot = EMPTY;
+    private boolean initialized;
+
+    public static ParticipantsRoster getInstance() {
+        return instance;
+    }
+
+    private ParticipantsRoster() {
+    }
+
+    synchronized void init() {
+        if (initialized) {
+            return;
+        }
+        initialized = true;
+
+        JitsiMeetEventBus eventBus = JitsiMeetEventBus.getInstance();
+        JitsiMeetEventBus.Listener listener = this::onEvent;
+
+        eventBus.addListener(BroadcastEvent.Type.CONFERENCE_JOINED, listener);
+        eventBus.addListener(BroadcastEvent.Type.CONFERENCE_TERMINATED, listener);
+        eventBus.addListener(BroadcastEvent.Type.PARTICIPANT_JOINED, listener);
+        eventBus.addListener(BroadcastEvent.Type.PARTICIPANT_UPDATED, listener);
+        eventBus.addListener(BroadcastEvent.Type.PARTICIPANT_LEFT, listener);
+    }
+
+    /**
+     * Registers a listener for the changes to the roster. Listeners are called on the React Native
+     * modules thread and must return quickly.
+     */
+    public void addListener(Listener listener) {
+        listeners.add(listener);
+    }
+
+    public void removeListener(Listener listener) {
+        listeners.remove(listener);
+    }
+
+    @Nullable
+    public synchronized ParticipantInfo getParticipant(String id) {
+        return participants.get(id);
+    }
+
+    public synchronized int getParticipantCount() {
+        return participants.size();
+    }
+
+    /**
+     * Gets all the participants, in the order they joined.
+     */
+    public List<ParticipantInfo> getParticipants() {
+        return Collections.unmodifiableList(Arrays.asList(getSnapshot()));
+    }
+
+    /**
+     * Gets a page of the participants, in the order they joined.
+     *
+     * @param offset The index of the first participant of the page.
+     * @param limit The maximum number of participants in the page.
+     */
+    public List<ParticipantInfo> getParticipants(int offset, int limit) {
+        ParticipantInfo[] snapshot = getSnapshot();
+        int from = Math.max(0, Math.min(offset, snapshot.length));
+        int to = Math.min(snapshot.length, from + Math.max(0, limit));
+
+        return Collections.unmodifiableList(Arrays.asList(snapshot).subList(from, to));
+    }
+
+    /**
+     * Fetches the whole roster from JS again, replacing the current one.
+     */
+    public void resync() {
+        ParticipantsService participantsService = ParticipantsService.getInstance();
+
+        if (participantsService != null) {
+            participantsService.retrieveParticipantsInfo().whenComplete((participantInfoList, error) -> {
+                if (error != null) {
+                    JitsiMeetLogger.w(error, TAG + " Resync failed");
+                } else {
+                    onResynced(participantInfoList);
+                }
+            });
+        }
+    }
+
+    private synchronized ParticipantInfo[] getSnapshot() {
+        if (snapshot == null) {
+            snapshot = participants.values().toArray(EMPTY);
+        }
+
+        return snapshot;
+    }
+
+    private void onEvent(JitsiMeetEvent event) {
+        Map<String, Object> data = event.getData();
+
+        switch (event.getType()) {
+            case CONFERENCE_JOINED:
+                resync();
+                break;
+            case CONFERENCE_TERMINATED:
+                reset(Collections.emptyList());
+                break;
+            case PARTICIPANT_JOINED:
+            case PARTICIPANT_UPDATED:
+                put(ParticipantInfo.fromMap(data));
+                break;
+            case PARTICIPANT_LEFT:
+                remove(String.valueOf(data.get("participantId")));
+                break;
+        }
+    }
+
+    private void onResynced(List<ParticipantInfo> participantInfoList) {
+        JitsiMeetLogger.d(TAG + " Resynced " + participantInfoList.size() + " participants");
+
+        reset(participantInfoList);
+    }
+
+    private void put(ParticipantInfo participant) {
+        if (participant.id == null) {
+            return;
+        }
+
+        boolean joined;
+
+        synchronized (this) {
+            joined = participants.put(participant.id, participant) == null;
+            snapshot = null;
+        }
+
+        for (Listener listener : listeners) {
+            if (joined) {
+                listener.onParticipantJoined(participant);
+            } else {
+                listener.onParticipantUpdated(participant);
+            }
+        }
+    }
+
+    private void remove(String id) {
+        ParticipantInfo participant;
+
+        synchronized (this) {
+            participant = participants.remove(id);
+            snapshot = null;
+        }
+
+        if (participant != null) {
+            for (Listener listener : listeners) {
+                listener.onParticipantLeft(participant);
+            }
+        }
+    }
+
+    private void reset(List<ParticipantInfo> participantInfoList) {
+        synchronized (this) {
+            participants.clear();
+
+            for (ParticipantInfo participant : participantInfoList) {
+                if (participant.id != null) {
+                    participants.put(participant.id, participant);
+                }
+            }
+            snapshot = null;
+        }
+
+        for (Listener listener : listeners) {
+            listener.onRosterReset(getParticipants());
+        }
+    }
+
+    /**
+     * Listener for the changes to the roster.
+     */
+    public interface Listener {
+        default void onParticipantJoined(ParticipantInfo participant) {
+        }
+
+        default void onParticipantUpdated(ParticipantInfo participant) {
+        }
+
+        default void onParticipantLeft(ParticipantInfo participant) {
+        }
+
+        /**
+         * Called when the whole roster was replaced, i.e. after a resync or when the conference
+         * ended.
+         */
+        default void onRosterReset(List<ParticipantInfo> participants) {
+        }
+    }
+}
@@ -2,23 +2,22 @@ package org.jitsi.meet.sdk;
 
 import android.content.Context;
 import android.content.Intent;
-import android.content.IntentFilter;
-
-import androidx.localbroadcastmanager.content.LocalBroadcastManager;
+import android.os.Handler;
+import android.os.Looper;
+import android.os.SystemClock;
 
 import com.facebook.react.bridge.Arguments;
 import com.facebook.react.bridge.WritableMap;
-import com.google.gson.Gson;
-import com.google.gson.reflect.TypeToken;
 
 import org.jitsi.meet.sdk.log.JitsiMeetLogger;
 
 import java.lang.ref.WeakReference;
-import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeoutException;
 
 import javax.annotation.Nullable;
 
@@ -27,7 +26,23 @@ public class ParticipantsService extends android.content.BroadcastReceiver {
     private static final String TAG = ParticipantsService.class.getSimpleName();
     private static final String REQUEST_ID = "requestId";
 
-    private final Map<String, WeakReference<ParticipantsInfoCallback>> participantsInfoCallbackMap = new HashMap<>();
+    /**
+     * The default time after which a request for the participants info fails.
+     */
+    public static final long DEFAULT_REQUEST_TIMEOUT_MS = 5000;
+
+    /**
+     * The requests sent to JS and not answered yet, by request id.
+     */
+    private final Map<String, Request> pendingRequests = new ConcurrentHashMap<>();
+    private final Handler handler = new Handler(Looper.getMainLooper());
+
+    /**
+     * The last request sent to JS, which new requests are merged into while it's pending.
+     */
+    @Nullable
+    private Request inFlightRequest;
+    private volatile long requestTimeoutMs = DEFAULT_REQUEST_TIMEOUT_MS;
 
     private static ParticipantsService instance;
 
@@ -36,48 +51,161 @@ public class ParticipantsService extends android.content.BroadcastReceiver {
         return instance;
     }
 
-    private ParticipantsService(Context context) {
-        LocalBroadcastManager localBroadcastManager = LocalBroadcastManager.getInstance(context);
+    private ParticipantsService() {
+        JitsiMeetEventBus.getInstance().addListener(
+            BroadcastEvent.Type.PARTICIPANTS_INFO_RETRIEVED, this::onEvent);
+    }
+
+    static void init() {
+        instance = new ParticipantsService();
+    }
 
-        IntentFilter intentFilter = new IntentFilter();
-        intentFilter.addAction(BroadcastEvent.Type.PARTICIPANTS_INFO_RETRIEVED.getAction());
-        localBroadcastManager.registerReceiver(this, intentFilter);
+    /**
+     * Sets the time after which a request sent to JS fails if it wasn't answered.
+     */
+    public void setRequestTimeout(long timeoutMs) {
+        requestTimeoutMs = timeoutMs;
     }
 
-    static void init(Context context) {
-        instance = new ParticipantsService(context);
+    /**
+     * Retrieves the participants info from JS, failing with a {@link TimeoutException} after the
+     * configured request timeout.
+     *
+     * @see #retrieveParticipantsInfo(long)
+     */
+    public CompletableFuture<List<ParticipantInfo>> retrieveParticipantsInfo() {
+        return retrieveParticipantsInfo(requestTimeoutMs);
     }
 
+    /**
+     * Retrieves the participants info from JS. If a request is already pending, this one is merged
+     * into it instead of sending another one, so concurrent callers cost a single round trip.
+     *
+     * The returned future is completed on the React Native modules thread and may be cancelled
+     * without affecting other callers.
+     *
+     * @param timeoutMs The time after which the returned future fails with a
+     * {@link TimeoutException}. The request sent to JS expires at the latest deadline of the
+     * callers merged into it.
+     */
+    public CompletableFuture<List<ParticipantInfo>> retrieveParticipantsInfo(long timeoutMs) {
+        Request request;
+        boolean send = false;
+
+        synchronized (this) {
+            request = inFlightRequest;
+
+            if (request == null || request.result.isDone()) {
+                request = new Request(UUID.randomUUID().toString());
+                inFlightRequest = request;
+                pendingRequests.put(request.id, request);
+                send = true;
+            }
+
+            long deadline = SystemClock.uptimeMillis() + timeoutMs;
+
+            if (deadline > request.deadline) {
+                Request expiringRequest = request;
+
+                request.deadline = deadline;
+                handler.removeCallbacks(request.expiry);
+                request.expiry = () -> expire(expiringRequest);
+                handler.postAtTime(request.expiry, deadline);
+            }
+        }
+
+        CompletableFuture<List<ParticipantInfo>> future = new CompletableFuture<>();
+
+        request.result.whenComplete((participantInfoList, error) -> {
+            if (error != null) {
+                future.completeExceptionally(error);
+            } else {
+                future.complete(participantInfoList);
+            }
+        });
+
+        Runnable timeout = () -> future.completeExceptionally(
+            new TimeoutException("Participants info not retrieved in " + timeoutMs + " ms"));
+
+        handler.postDelayed(timeout, timeoutMs);
+        future.whenComplete((participantInfoList, error) -> handler.removeCallbacks(timeout));
+
+        if (send) {
+            String actionName = BroadcastAction.Type.RETRIEVE_PARTICIPANTS_INFO.getAction();
+            WritableMap data = Arguments.createMap();
+            data.putString(REQUEST_ID, request.id);
+            ReactInstanceManagerHolder.emitEvent(actionName, data);
+        }
+
+        return future;
+    }
+
+    /**
+     * Retrieves the participants info from JS. The callback is called on the main thread, unless
+     * it was garbage collected first.
+     */
     public void retrieveParticipantsInfo(ParticipantsInfoCallback participantsInfoCallback) {
-        String callbackKey = UUID.randomUUID().toString();
-        this.participantsInfoCallbackMap.put(callbackKey, new WeakReference<>(participantsInfoCallback));
+        WeakReference<ParticipantsInfoCallback> callbackRef = new WeakReference<>(participantsInfoCallback);
 
-        String actionName = BroadcastAction.Type.RETRIEVE_PARTICIPANTS_INFO.getAction();
-        WritableMap data = Arguments.createMap();
-        data.putString(REQUEST_ID, callbackKey);
-        ReactInstanceManagerHolder.emitEvent(actionName, data);
+        retrieveParticipantsInfo().thenAccept(participantInfoList -> handler.post(() -> {
+            ParticipantsInfoCallback callback = callbackRef.get();
+
+            if (callback != null) {
+                callback.onReceived(participantInfoList);
+            }
+        }));
     }
 
+    /**
+     * @deprecated Participants info is delivered through the {@link JitsiMeetEventBus}, this
+     * receiver is no longer registered. Kept for compatibility, it does nothing.
+     */
+    @Deprecated
     @Override
     public void onReceive(Context context, Intent intent) {
-        BroadcastEvent event = new BroadcastEvent(intent);
+    }
 
+    private void expire(Request request) {
+        if (pendingRequests.remove(request.id) == null) {
+            return;
+        }
+
+        synchronized (this) {
+            if (inFlightRequest == request) {
+                inFlightRequest = null;
+            }
+        }
+
+        JitsiMeetLogger.w(TAG + " Participants info request timed out");
+        request.result.completeExceptionally(new TimeoutException("Participants info request timed out"));
+    }
+
+    private void onEvent(JitsiMeetEvent event) {
         switch (event.getType()) {
             case PARTICIPANTS_INFO_RETRIEVED:
-                try {
-                    List<ParticipantInfo> participantInfoList = new Gson().fromJson(
-                        event.getData().get("participantsInfo").toString(),
-                        new TypeToken<ArrayList<ParticipantInfo>>() {
-                        }.getType());
+                Object requestId = event.getData().get(REQUEST_ID);
+                Request request = requestId != null ? pendingRequests.remove(requestId.toString()) : null;
 
-                    ParticipantsInfoCallback participantsInfoCallback = this.participantsInfoCallbackMap.get(event.getData().get(REQUEST_ID).toString()).get();
+                if (request == null) {
+                    // Expired, or not sent by us.
+                    break;
+                }
 
-                    if (participantsInfoCallback != null) {
-                        participantsInfoCallback.onReceived(participantInfoList);
-                        this.participantsInfoCallbackMap.remove(participantsInfoCallback);
+                synchronized (this) {
+                    if (inFlightRequest == request) {
+                        inFlightRequest = null;
                     }
+
+                    handler.removeCallbacks(request.expiry);
+                }
+
+                try {
+                    List<?> participantsInfo = (List<?>) event.getData().get("participantsInfo");
+
+                    request.result.complete(ParticipantInfo.listFromMaps(participantsInfo));
                 } catch (Exception e) {
-                    JitsiMeetLogger.w(TAG + "error parsing participantsList", e);
+                    JitsiMeetLogger.w(e, TAG + " error parsing participantsList");
+                    request.result.completeExceptionally(e);
                 }
 
                 break;
@@ -87,4 +215,21 @@ public class ParticipantsService extends android.content.BroadcastReceiver {
     public interface ParticipantsInfoCallback {
         void onReceived(List<ParticipantInfo> participantInfoList);
     }
+
+    private static final class Request {
+        final String id;
+        final CompletableFuture<List<ParticipantInfo>> result = new CompletableFuture<>();
+
+        /**
+         * The uptime at which the request expires, the latest deadline of the merged callers.
+         * Guarded by the service.
+         */
+        long deadline;
+        @Nullable
+        Runnable expiry;
+
+        Request(String id) {
+            this.id = id;
+        }
+    }
 }
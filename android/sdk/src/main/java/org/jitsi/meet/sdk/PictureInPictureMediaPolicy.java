@@ -0,0 +1,127 @@
+/*
+ * Copyright @ 2025-present 8x8, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jitsi.meet.sdk;
+
+import com.oney.WebRTCModule.JitsiWebRTCModuleHelper;
+import com.oney.WebRTCModule.WebRTCModule;
+
+import org.jitsi.meet.sdk.log.JitsiMeetLogger;
+import org.webrtc.RtpParameters;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Native part of the media policy applied while in Picture-in-Picture: it caps the frame rate of
+ * the local video senders, and restores their previous limits on exit. The receive side (lower
+ * receive constraints, no off-screen streams) is applied by the JS side, which owns the bridge
+ * constraints.
+ */
+class PictureInPictureMediaPolicy {
+    private static final String TAG = PictureInPictureMediaPolicy.class.getSimpleName();
+
+    /**
+     * Default for the frame rate cap of the local video, in fps.
+     */
+    static final int DEFAULT_MAX_CAMERA_FPS = 5;
+
+    private boolean enabled = true;
+    private int maxCameraFps = DEFAULT_MAX_CAMERA_FPS;
+    private boolean applied;
+
+    /**
+     * The {@code maxFramerate} of each encoding before it was capped, keyed by sender id. Only
+     * accessed on the WebRTC module's executor.
+     */
+    private final Map<String, List<Integer>> savedMaxFramerates = new HashMap<>();
+
+    synchronized void configure(boolean enabled, int maxCameraFps) {
+        this.enabled = enabled;
+        this.maxCameraFps = maxCameraFps > 0 ? maxCameraFps : DEFAULT_MAX_CAMERA_FPS;
+    }
+
+    synchronized boolean isEnabled() {
+        return enabled;
+    }
+
+    synchronized void apply() {
+        if (!enabled || applied) {
+            return;
+        }
+
+        WebRTCModule webRTCModule = ReactInstanceManagerHolder.getNativeModule(WebRTCModule.class);
+
+        if (webRTCModule == null) {
+            return;
+        }
+
+        applied = true;
+        final int maxCameraFps = this.maxCameraFps;
+        JitsiMeetLogger.i(TAG + " Capping local video at " + maxCameraFps + " fps");
+
+        JitsiWebRTCModuleHelper.forEachLocalVideoSender(webRTCModule, sender -> {
+            RtpParameters parameters = sender.getParameters();
+            List<Integer> saved = new ArrayList<>(parameters.encodings.size());
+
+            for (RtpParameters.Encoding encoding : parameters.encodings) {
+                saved.add(encoding.maxFramerate);
+                if (encoding.maxFramerate == null || encoding.maxFramerate > maxCameraFps) {
+                    encoding.maxFramerate = maxCameraFps;
+                }
+            }
+
+            if (sender.setParameters(parameters)) {
+                savedMaxFramerates.put(sender.id(), saved);
+            }
+        });
+    }
+
+    synchronized void restore() {
+        if (!applied) {
+            return;
+        }
+
+        applied = false;
+
+        WebRTCModule webRTCModule = ReactInstanceManagerHolder.getNativeModule(WebRTCModule.class);
+
+        if (webRTCModule == null) {
+            return;
+        }
+
+        JitsiMeetLogger.i(TAG + " Restoring local video frame rate");
+
+        JitsiWebRTCModuleHelper.forEachLocalVideoSender(webRTCModule, sender -> {
+            List<Integer> saved = savedMaxFramerates.remove(sender.id());
+
+            if (saved == null) {
+                return;
+            }
+
+            RtpParameters parameters = sender.getParameters();
+
+            // The encodings may have changed meanwhile, only restore what still matches.
+            for (int i = 0; i < parameters.encodings.size() && i < saved.size(); i++) {
+                parameters.encodings.get(i).maxFramerate = saved.get(i);
+            }
+
+            sender.setParameters(parameters);
+        });
+    }
+}
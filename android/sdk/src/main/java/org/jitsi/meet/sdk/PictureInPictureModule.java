@@ -22,10 +22,13 @@ import android.app.ActivityManager;
 import android.app.PictureInPictureParams;
 import android.util.Rational;
 
+import com.facebook.react.bridge.Arguments;
 import com.facebook.react.bridge.Promise;
 import com.facebook.react.bridge.ReactApplicationContext;
 import com.facebook.react.bridge.ReactContextBaseJavaModule;
 import com.facebook.react.bridge.ReactMethod;
+import com.facebook.react.bridge.ReadableMap;
+import com.facebook.react.bridge.WritableMap;
 import com.facebook.react.module.annotations.ReactModule;
 
 import org.jitsi.meet.sdk.log.JitsiMeetLogger;
@@ -41,9 +44,13 @@ class PictureInPictureModule extends ReactContextBaseJavaModule {
     public static final String NAME = "PictureInPicture";
     private static final String TAG = NAME;
 
+    private static final String MODE_CHANGED_EVENT = "org.jitsi.meet:features/picture-in-picture#mode-changed";
+
     private static boolean isSupported;
     private boolean isEnabled;
 
+    private final PictureInPictureMediaPolicy mediaPolicy = new PictureInPictureMediaPolicy();
+
     public PictureInPictureModule(ReactApplicationContext reactContext) {
         super(reactContext);
 
@@ -65,6 +72,7 @@ class PictureInPictureModule extends ReactContextBaseJavaModule {
     public Map<String, Object> getConstants() {
         Map<String, Object> constants = new HashMap<>();
         constants.put("SUPPORTED", isSupported);
+        constants.put("MODE_CHANGED_EVENT", MODE_CHANGED_EVENT);
         return constants;
     }
 
@@ -134,6 +142,49 @@ class PictureInPictureModule extends ReactContextBaseJavaModule {
         this.isEnabled = enabled;
     }
 
+    /**
+     * Configures the media policy applied while in Picture-in-Picture.
+     *
+     * @param policy - Map with the keys {@code enabled} (boolean) and {@code maxCameraFps} (number).
+     */
+    @ReactMethod
+    public void setMediaPolicy(ReadableMap policy) {
+        boolean enabled = !policy.hasKey("enabled") || policy.getBoolean("enabled");
+        int maxCameraFps = policy.hasKey("maxCameraFps")
+            ? policy.getInt("maxCameraFps") : PictureInPictureMediaPolicy.DEFAULT_MAX_CAMERA_FPS;
+
+        mediaPolicy.configure(enabled, maxCameraFps);
+    }
+
+    @ReactMethod
+    public void addListener(String eventName) {
+        // Keep: Required for RN built in Event Emitter Calls.
+    }
+
+    @ReactMethod
+    public void removeListeners(Integer count) {
+        // Keep: Required for RN built in Event Emitter Calls.
+    }
+
+    /**
+     * Called when the current {@link Activity} enters or leaves Picture-in-Picture. Applies or
+     * restores the native part of the media policy and notifies JS, which adjusts the receive
+     * constraints.
+     */
+    void onPictureInPictureModeChanged(boolean isInPictureInPictureMode) {
+        JitsiMeetLogger.i(TAG + " Picture-in-Picture mode changed: " + isInPictureInPictureMode);
+
+        if (isInPictureInPictureMode) {
+            mediaPolicy.apply();
+        } else {
+            mediaPolicy.restore();
+        }
+
+        WritableMap data = Arguments.createMap();
+        data.putBoolean("isInPictureInPictureMode", isInPictureInPictureMode);
+        ReactInstanceManagerHolder.emitEvent(MODE_CHANGED_EVENT, data);
+    }
+
     public boolean isPictureInPictureSupported() {
         return isSupported;
     }
@@ -19,6 +19,7 @@ package org.jitsi.meet.sdk;
 import android.annotation.SuppressLint;
 import android.app.Activity;
 import android.app.Application;
+import android.media.AudioAttributes;
 
 import androidx.annotation.Nullable;
 
@@ -36,6 +37,7 @@ import com.oney.WebRTCModule.WebRTCModuleOptions;
 
 import org.jitsi.meet.sdk.log.JitsiMeetLogger;
 import org.webrtc.EglBase;
+import org.webrtc.audio.JavaAudioDeviceModule;
 
 import java.lang.reflect.Constructor;
 import java.util.ArrayList;
@@ -160,8 +162,10 @@ class ReactInstanceManagerHolder {
      *
      * @param eventName {@code String} containing the event name.
      * @param data {@code Object} optional ancillary data for the event.
+     * @return {@code true} if the event was handed to JavaScript, {@code false} if React Native
+     * isn't running.
      */
-    static void emitEvent(
+    static boolean emitEvent(
             String eventName,
             @Nullable Object data) {
         ReactInstanceManager reactInstanceManager
@@ -175,8 +179,12 @@ class ReactInstanceManagerHolder {
                 reactContext
                     .getJSModule(DeviceEventManagerModule.RCTDeviceEventEmitter.class)
                     .emit(eventName, data);
+
+                return true;
             }
         }
+
+        return false;
     }
 
     /**
@@ -228,6 +236,22 @@ class ReactInstanceManagerHolder {
                 options.videoEncoderFactory = new JitsiVideoEncoderFactory(eglContext);
             }
         }
+        if (options.audioDeviceModule == null) {
+            // Route the recorded audio through the SDK's audio processing chain. This replaces the
+            // module WebRTCModule would create, so configure it the same way: the platform's echo
+            // canceler and noise suppressor where available, and voice call audio attributes.
+            // Hosts which set their own module keep it, without the processing chain.
+            options.audioDeviceModule = JavaAudioDeviceModule.builder(app)
+                .setEnableVolumeLogger(false)
+                .setUseHardwareAcousticEchoCanceler(JavaAudioDeviceModule.isBuiltInAcousticEchoCancelerSupported())
+                .setUseHardwareNoiseSuppressor(JavaAudioDeviceModule.isBuiltInNoiseSuppressorSupported())
+                .setAudioAttributes(new AudioAttributes.Builder()
+                    .setUsage(AudioAttributes.USAGE_VOICE_COMMUNICATION)
+                    .setContentType(AudioAttributes.CONTENT_TYPE_SPEECH)
+                    .build())
+                .setAudioRecordDataCallback(AudioProcessingChain.getInstance())
+                .createAudioDeviceModule();
+        }
 
         JitsiMeetLogger.d(TAG, "initializing RN");
 
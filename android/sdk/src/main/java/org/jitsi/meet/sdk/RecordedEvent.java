@@ -0,0 +1,39 @@
+/*
+ * Copyright @ 2025-present 8x8, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jitsi.meet.sdk;
+
+import java.util.Map;
+
+/**
+ * An external API event captured by the {@link EventStreamRecorder}, or made up for a replay.
+ */
+public final class RecordedEvent {
+    /**
+     * The time of the event, in microseconds since the start of the recording.
+     */
+    public final long timeUs;
+
+    public final String name;
+
+    public final Map<String, Object> data;
+
+    public RecordedEvent(long timeUs, String name, Map<String, Object> data) {
+        this.timeUs = timeUs;
+        this.name = name;
+        this.data = data;
+    }
+}
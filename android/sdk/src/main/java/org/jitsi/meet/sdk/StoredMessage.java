@@ -0,0 +1,93 @@
+/*
+ * Copyright @ 2025-present 8x8, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jitsi.meet.sdk;
+
+import androidx.annotation.Nullable;
+
+/**
+ * A message kept by the {@link MessageStore}.
+ */
+public final class StoredMessage {
+    /**
+     * The conversation of the public chat messages.
+     */
+    public static final String CONVERSATION_PUBLIC = "public";
+
+    public enum Type {
+        CHAT,
+        ENDPOINT
+    }
+
+    /**
+     * The sequence number of the message, increasing in the order the messages were received.
+     */
+    public final long seq;
+
+    public final Type type;
+
+    /**
+     * The conversation the message belongs to: {@link #CONVERSATION_PUBLIC}, or one per sender
+     * for private chat messages and for endpoint messages.
+     */
+    public final String conversationId;
+
+    @Nullable
+    public final String senderId;
+
+    @Nullable
+    public final String message;
+
+    public final boolean isPrivate;
+
+    /**
+     * The time the message was sent at, as reported by the sender, or the time it was received
+     * at if there's none.
+     */
+    public final long timestamp;
+
+    /**
+     * The time the message was received at.
+     */
+    public final long receivedAt;
+
+    StoredMessage(
+            long seq,
+            Type type,
+            String conversationId,
+            @Nullable String senderId,
+            @Nullable String message,
+            boolean isPrivate,
+            long timestamp,
+            long receivedAt) {
+        this.seq = seq;
+        this.type = type;
+        this.conversationId = conversationId;
+        this.senderId = senderId;
+        this.message = message;
+        this.isPrivate = isPrivate;
+        this.timestamp = timestamp;
+        this.receivedAt = receivedAt;
+    }
+
+    static String getConversationId(Type type, @Nullable String senderId, boolean isPrivate) {
+        if (type == Type.ENDPOINT) {
+            return "endpoint:" + senderId;
+        }
+
+        return isPrivate ? "private:" + senderId : CONVERSATION_PUBLIC;
+    }
+}
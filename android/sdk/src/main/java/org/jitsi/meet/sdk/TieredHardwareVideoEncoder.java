@@ -0,0 +1,133 @@
+/*
+ * Copyright @ 2025-present 8x8, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jitsi.meet.sdk;
+
+import androidx.annotation.Nullable;
+
+import org.webrtc.VideoCodecStatus;
+import org.webrtc.VideoEncoder;
+import org.webrtc.VideoFrame;
+
+/**
+ * Wraps a hardware {@link VideoEncoder} and asks for the software fallback (by returning
+ * {@link VideoCodecStatus#FALLBACK_SOFTWARE}) when the resolution leaves the tier the quirk table
+ * allows for it, or when the hardware encoder fails. Every fallback is recorded with its reason.
+ */
+class TieredHardwareVideoEncoder implements VideoEncoder {
+    private final VideoEncoder hardwareEncoder;
+    private final String codecName;
+    @Nullable
+    private final VideoEncoderQuirks.Quirk quirk;
+
+    private int lastWidth;
+    private int lastHeight;
+
+    TieredHardwareVideoEncoder(VideoEncoder hardwareEncoder, String codecName, @Nullable VideoEncoderQuirks.Quirk quirk) {
+        this.hardwareEncoder = hardwareEncoder;
+        this.codecName = codecName;
+        this.quirk = quirk;
+    }
+
+    @Override
+    public VideoCodecStatus initEncode(Settings settings, Callback encodeCallback) {
+        if (!isAllowed(settings.width, settings.height)) {
+            return VideoCodecStatus.FALLBACK_SOFTWARE;
+        }
+
+        return checkStatus(hardwareEncoder.initEncode(settings, encodeCallback), "initEncode");
+    }
+
+    @Override
+    public VideoCodecStatus release() {
+        return hardwareEncoder.release();
+    }
+
+    @Override
+    public VideoCodecStatus encode(VideoFrame frame, EncodeInfo info) {
+        VideoFrame.Buffer buffer = frame.getBuffer();
+        int width = buffer.getWidth();
+        int height = buffer.getHeight();
+
+        // Only re-check the tier when the resolution changes.
+        if ((width != lastWidth || height != lastHeight) && !isAllowed(width, height)) {
+            return VideoCodecStatus.FALLBACK_SOFTWARE;
+        }
+
+        return checkStatus(hardwareEncoder.encode(frame, info), "encode");
+    }
+
+    @Override
+    public VideoCodecStatus setRateAllocation(BitrateAllocation allocation, int framerate) {
+        return hardwareEncoder.setRateAllocation(allocation, framerate);
+    }
+
+    @Override
+    public VideoCodecStatus setRates(RateControlParameters rcParameters) {
+        return hardwareEncoder.setRates(rcParameters);
+    }
+
+    @Override
+    public ScalingSettings getScalingSettings() {
+        return hardwareEncoder.getScalingSettings();
+    }
+
+    @Override
+    public ResolutionBitrateLimits[] getResolutionBitrateLimits() {
+        return hardwareEncoder.getResolutionBitrateLimits();
+    }
+
+    @Override
+    public String getImplementationName() {
+        return hardwareEncoder.getImplementationName();
+    }
+
+    @Override
+    public EncoderInfo getEncoderInfo() {
+        return hardwareEncoder.getEncoderInfo();
+    }
+
+    @Override
+    public boolean isHardwareEncoder() {
+        return hardwareEncoder.isHardwareEncoder();
+    }
+
+    private boolean isAllowed(int width, int height) {
+        lastWidth = width;
+        lastHeight = height;
+
+        if (quirk == null || quirk.allowsResolution(width, height)) {
+            return true;
+        }
+
+        VideoCodecFallbacks.record(
+            /* encoder */ true,
+            codecName,
+            getImplementationName(),
+            width + "x" + height + " outside the hardware tier: " + quirk.reason);
+
+        return false;
+    }
+
+    private VideoCodecStatus checkStatus(VideoCodecStatus status, String operation) {
+        if (status == VideoCodecStatus.FALLBACK_SOFTWARE || status == VideoCodecStatus.ERROR) {
+            VideoCodecFallbacks.record(
+                /* encoder */ true, codecName, getImplementationName(), operation + " returned " + status);
+        }
+
+        return status;
+    }
+}
@@ -0,0 +1,313 @@
+/*
+ * Copyright @ 2025-present 8x8, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jitsi.meet.sdk;
+
+import android.content.Context;
+
+import androidx.annotation.Nullable;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Assembles the transcript of the current conference out of the
+ * {@code TRANSCRIPTION_CHUNK_RECEIVED} events.
+ *
+ * The interim chunks of a message are merged by message id until its final chunk arrives, at
+ * which point the segment joins the timeline, overall and per speaker, ordered by start time.
+ * Final segments are also appended to a file, a JSON object per line. Each chunk costs O(1),
+ * unless finals arrive out of order, so the transcript of a long meeting is kept up to date
+ * cheaply.
+ *
+ * The transcript is started over when a conference is joined.
+ */
+public final class TranscriptAssembler {
+    private static final String TRANSCRIPT_DIR = "jitsi-transcripts";
+    private static final String TRANSCRIPT_FILE = "transcript.log";
+
+    private static final TranscriptAssembler instance = new TranscriptAssembler();
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor();
+    private final List<Listener> listeners = new CopyOnWriteArrayList<>();
+
+    /**
+     * The segments which didn't get their final chunk yet, by message id.
+     */
+    private final Map<String, TranscriptSegment> interimSegments = new LinkedHashMap<>();
+
+    /**
+     * The final segments, ordered by start time.
+     */
+    private final ArrayList<TranscriptSegment> timeline = new ArrayList<>();
+
+    /**
+     * The final segments of each speaker, ordered by start time.
+     */
+    private final Map<String, ArrayList<TranscriptSegment>> speakerTimelines = new HashMap<>();
+
+    @Nullable
+    private File file;
+    @Nullable
+    private JsonLinesLog log;
+    private boolean initialized;
+
+    public static TranscriptAssembler getInstance() {
+        return instance;
+    }
+
+    private TranscriptAssembler() {
+    }
+
+    synchronized void init(Context context) {
+        if (initialized) {
+            return;
+        }
+        initialized = true;
+
+        file = new File(new File(context.getFilesDir(), TRANSCRIPT_DIR), TRANSCRIPT_FILE);
+        log = new JsonLinesLog(file);
+
+        JitsiMeetEventBus eventBus = JitsiMeetEventBus.getInstance();
+        JitsiMeetEventBus.Listener listener = this::onEvent;
+
+        eventBus.addListener(BroadcastEvent.Type.CONFERENCE_JOINED, listener);
+        eventBus.addListener(BroadcastEvent.Type.TRANSCRIPTION_CHUNK_RECEIVED, listener);
+    }
+
+    /**
+     * Registers a listener for the changes to the transcript. Listeners are called on the React
+     * Native modules thread and must return quickly.
+     */
+    public void addListener(Listener listener) {
+        listeners.add(listener);
+    }
+
+    public void removeListener(Listener listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * Gets the file the final segments are appended to, a JSON object per line.
+     */
+    @Nullable
+    public File getTranscriptFile() {
+        return file;
+    }
+
+    public synchronized int getSegmentCount() {
+        return timeline.size();
+    }
+
+    public synchronized List<String> getSpeakerIds() {
+        return new ArrayList<>(speakerTimelines.keySet());
+    }
+
+    /**
+     * Gets the segments still being transcribed.
+     */
+    public synchronized List<TranscriptSegment> getInterimSegments() {
+        return new ArrayList<>(interimSegments.values());
+    }
+
+    /**
+     * Gets the final segments which started in the given time range, ordered by start time.
+     *
+     * @param fromMs The start of the range, inclusive, in milliseconds since the epoch.
+     * @param toMs The end of the range, exclusive, in milliseconds since the epoch.
+     */
+    public synchronized List<TranscriptSegment> getSegments(long fromMs, long toMs) {
+        return range(timeline, fromMs, toMs);
+    }
+
+    /**
+     * Gets the final segments of a speaker which started in the given time range, ordered by start
+     * time.
+     *
+     * @see #getSegments(long, long)
+     */
+    public synchronized List<TranscriptSegment> getSegments(String speakerId, long fromMs, long toMs) {
+        ArrayList<TranscriptSegment> speakerTimeline = speakerTimelines.get(speakerId);
+
+        return speakerTimeline != null ? range(speakerTimeline, fromMs, toMs) : Collections.emptyList();
+    }
+
+    private void onEvent(JitsiMeetEvent event) {
+        switch (event.getType()) {
+            case CONFERENCE_JOINED:
+                reset();
+                break;
+            case TRANSCRIPTION_CHUNK_RECEIVED:
+                onChunk(event.getData());
+                break;
+        }
+    }
+
+    private void onChunk(Map<String, Object> data) {
+        Object messageId = data.get("messageID");
+        Object participant = data.get("participant");
+        Object text = data.get("text");
+
+        if (messageId == null || !(text instanceof Map)) {
+            return;
+        }
+
+        Map<?, ?> speaker = participant instanceof Map ? (Map<?, ?>) participant : Collections.emptyMap();
+        Map<?, ?> chunk = (Map<?, ?>) text;
+        boolean isFinal = chunk.containsKey("final");
+        String chunkText = getString(chunk, isFinal ? "final" : chunk.containsKey("stable") ? "stable" : "unstable");
+        long now = System.currentTimeMillis();
+        TranscriptSegment segment;
+
+        synchronized (this) {
+            TranscriptSegment previous = interimSegments.get(messageId.toString());
+
+            segment = new TranscriptSegment(
+                messageId.toString(),
+                getString(speaker, "id"),
+                getString(speaker, "name"),
+                getString(data, "language"),
+                chunkText,
+                isFinal,
+                previous != null ? previous.startedAt : now,
+                now);
+
+            if (isFinal) {
+                interimSegments.remove(segment.messageId);
+                insert(timeline, segment);
+
+                if (segment.speakerId != null) {
+                    ArrayList<TranscriptSegment> speakerTimeline = speakerTimelines.get(segment.speakerId);
+
+                    if (speakerTimeline == null) {
+                        speakerTimeline = new ArrayList<>();
+                        speakerTimelines.put(segment.speakerId, speakerTimeline);
+                    }
+                    insert(speakerTimeline, segment);
+                }
+            } else {
+                interimSegments.put(segment.messageId, segment);
+            }
+        }
+
+        if (isFinal) {
+            executor.execute(() -> appendToLog(segment));
+        }
+
+        for (Listener listener : listeners) {
+            listener.onSegmentUpdated(segment);
+        }
+    }
+
+    private synchronized void reset() {
+        interimSegments.clear();
+        timeline.clear();
+        speakerTimelines.clear();
+
+        executor.execute(() -> {
+            if (log != null) {
+                log.restart();
+            }
+        });
+    }
+
+    /**
+     * Appends a final segment to the log. Runs on the executor.
+     */
+    private void appendToLog(TranscriptSegment segment) {
+        if (log == null) {
+            return;
+        }
+
+        log.append(writer -> {
+            writer.beginObject();
+            writer.name("messageId").value(segment.messageId);
+            writer.name("speakerId").value(segment.speakerId);
+            writer.name("speakerName").value(segment.speakerName);
+            writer.name("language").value(segment.language);
+            writer.name("text").value(segment.text);
+            writer.name("startedAt").value(segment.startedAt);
+            writer.name("endedAt").value(segment.updatedAt);
+            writer.endObject();
+        });
+    }
+
+    /**
+     * Inserts a segment in a timeline, after the segments which started before or with it.
+     * Segments mostly arrive in order, so the search starts from the end.
+     */
+    private static void insert(ArrayList<TranscriptSegment> timeline, TranscriptSegment segment) {
+        int index = timeline.size();
+
+        while (index > 0 && timeline.get(index - 1).startedAt > segment.startedAt) {
+            index--;
+        }
+
+        timeline.add(index, segment);
+    }
+
+    private static List<TranscriptSegment> range(List<TranscriptSegment> timeline, long fromMs, long toMs) {
+        int from = lowerBound(timeline, fromMs);
+        int to = Math.max(from, lowerBound(timeline, toMs));
+
+        return new ArrayList<>(timeline.subList(from, to));
+    }
+
+    /**
+     * Gets the index of the first segment which started at or after the given time.
+     */
+    private static int lowerBound(List<TranscriptSegment> timeline, long timeMs) {
+        int low = 0;
+        int high = timeline.size();
+
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+
+            if (timeline.get(mid).startedAt < timeMs) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+
+        return low;
+    }
+
+    @Nullable
+    private static String getString(Map<?, ?> map, String key) {
+        Object value = map.get(key);
+
+        return value != null ? value.toString() : null;
+    }
+
+    /**
+     * Listener for the changes to the transcript.
+     */
+    public interface Listener {
+        /**
+         * Called when a chunk was merged into a segment, interim or final.
+         */
+        void onSegmentUpdated(TranscriptSegment segment);
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright @ 2025-present 8x8, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jitsi.meet.sdk;
+
+import androidx.annotation.Nullable;
+
+/**
+ * A transcribed message, i.e. the chunks of a transcription with the same message id merged
+ * together.
+ */
+public final class TranscriptSegment {
+    public final String messageId;
+
+    @Nullable
+    public final String speakerId;
+
+    @Nullable
+    public final String speakerName;
+
+    @Nullable
+    public final String language;
+
+    /**
+     * The text of the last chunk received: the final text, or the current interim one.
+     */
+    @Nullable
+    public final String text;
+
+    /**
+     * Whether the final chunk was received, after which the segment doesn't change anymore.
+     */
+    public final boolean isFinal;
+
+    /**
+     * The time the first chunk was received at, in milliseconds since the epoch.
+     */
+    public final long startedAt;
+
+    /**
+     * The time the last chunk was received at, in milliseconds since the epoch.
+     */
+    public final long updatedAt;
+
+    TranscriptSegment(
+            String messageId,
+            @Nullable String speakerId,
+            @Nullable String speakerName,
+            @Nullable String language,
+            @Nullable String text,
+            boolean isFinal,
+            long startedAt,
+            long updatedAt) {
+        this.messageId = messageId;
+        this.speakerId = speakerId;
+        this.speakerName = speakerName;
+        this.language = language;
+        this.text = text;
+        this.isFinal = isFinal;
+        this.startedAt = startedAt;
+        this.updatedAt = updatedAt;
+    }
+}
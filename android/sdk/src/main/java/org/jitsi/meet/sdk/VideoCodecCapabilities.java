@@ -0,0 +1,275 @@
+/*
+ * Copyright @ 2025-present 8x8, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jitsi.meet.sdk;
+
+import android.content.Context;
+import android.content.SharedPreferences;
+import android.media.MediaCodecInfo;
+import android.media.MediaCodecList;
+import android.os.Build;
+
+import androidx.annotation.Nullable;
+
+import com.google.gson.Gson;
+import com.google.gson.annotations.SerializedName;
+import com.oney.WebRTCModule.WebRTCModuleOptions;
+
+import org.jitsi.meet.sdk.log.JitsiMeetLogger;
+import org.webrtc.VideoCodecInfo;
+import org.webrtc.VideoDecoderFactory;
+import org.webrtc.VideoEncoderFactory;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Process-wide memo of the codecs supported by the video encoder and decoder factories.
+ *
+ * Walking {@code MediaCodecList} and querying codec capabilities is slow, and WebRTC asks for the
+ * supported codecs on every offer / answer. Each list is computed once per process, and the
+ * MediaCodec based ones are also persisted, keyed by the build fingerprint and the set of
+ * installed codecs, so they survive launches until the OS or the codecs change.
+ */
+final class VideoCodecCapabilities {
+    private static final String TAG = VideoCodecCapabilities.class.getSimpleName();
+
+    static final String DECODER_HARDWARE = "decoder.hardware";
+    static final String DECODER_PLATFORM_SOFTWARE = "decoder.platformSoftware";
+    static final String DECODER_SOFTWARE = "decoder.software";
+    static final String ENCODER_HARDWARE = "encoder.hardware";
+    static final String ENCODER_SOFTWARE = "encoder.software";
+
+    private static final String PREFERENCES_NAME = "jitsi-codec-capabilities";
+    private static final String SNAPSHOT_KEY = "snapshot";
+
+    private static final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    @Nullable
+    private static volatile SharedPreferences preferences;
+    @Nullable
+    private static volatile String fingerprint;
+    @Nullable
+    private static CompletableFuture<Void> probeFuture;
+
+    private VideoCodecCapabilities() {
+    }
+
+    /**
+     * Gets the memoized codec list for the given key, probing it (once) if needed.
+     *
+     * @param key - Identifies the factory, one of the {@code DECODER_*} / {@code ENCODER_*} keys.
+     * @param tag - Anything else the list depends on, e.g. the encoder quirks table version. A
+     * memoized list with a different tag is probed again.
+     * @param persist - Whether the list may be persisted. Only MediaCodec based lists are, the
+     * native ones are cheap and depend on the WebRTC build.
+     * @param probe - Computes the list.
+     */
+    static VideoCodecInfo[] get(String key, String tag, boolean persist, Supplier<VideoCodecInfo[]> probe) {
+        Entry entry = entries.get(key);
+
+        if (entry != null && entry.tag.equals(tag)) {
+            return entry.codecs;
+        }
+
+        synchronized (VideoCodecCapabilities.class) {
+            entry = entries.get(key);
+
+            if (entry == null || !entry.tag.equals(tag)) {
+                long start = System.nanoTime();
+                entry = new Entry(tag, probe.get(), persist);
+                entries.put(key, entry);
+                JitsiMeetLogger.d(TAG + " Probed " + key + " in " + (System.nanoTime() - start) / 1000000 + "ms");
+
+                if (persist) {
+                    save();
+                }
+            }
+        }
+
+        return entry.codecs;
+    }
+
+    /**
+     * Loads the persisted lists and probes the missing MediaCodec based ones on a background
+     * thread, so they are ready by the time the first call starts.
+     */
+    static synchronized CompletableFuture<Void> probeAsync(Context context) {
+        if (probeFuture == null) {
+            Context appContext = context.getApplicationContext();
+
+            CompletableFuture<Void> future = new CompletableFuture<>();
+            probeFuture = future;
+
+            // A thread of its own, rather than the common pool, whose priority isn't ours to lower.
+            Thread thread = new Thread(() -> {
+                try {
+                    load(appContext);
+
+                    WebRTCModuleOptions options = WebRTCModuleOptions.getInstance();
+                    VideoDecoderFactory decoderFactory = options.videoDecoderFactory;
+                    VideoEncoderFactory encoderFactory = options.videoEncoderFactory;
+
+                    if (decoderFactory instanceof JitsiVideoDecoderFactory) {
+                        ((JitsiVideoDecoderFactory) decoderFactory).probeMediaCodecs();
+                    }
+                    if (encoderFactory instanceof JitsiVideoEncoderFactory) {
+                        ((JitsiVideoEncoderFactory) encoderFactory).probeMediaCodecs();
+                    }
+                } catch (Throwable t) {
+                    JitsiMeetLogger.w(t, TAG + " Failed to probe codec capabilities");
+                }
+                future.complete(null);
+            }, "VideoCodecProbe");
+            thread.setPriority(Thread.NORM_PRIORITY - 1);
+            thread.start();
+        }
+
+        return probeFuture;
+    }
+
+    private static void load(Context context) {
+        SharedPreferences preferences = context.getSharedPreferences(PREFERENCES_NAME, Context.MODE_PRIVATE);
+        String fingerprint = computeFingerprint();
+        String json = preferences.getString(SNAPSHOT_KEY, null);
+
+        if (json != null) {
+            try {
+                Snapshot snapshot = new Gson().fromJson(json, Snapshot.class);
+
+                if (snapshot != null && fingerprint.equals(snapshot.fingerprint) && snapshot.entries != null) {
+                    for (Map.Entry<String, PersistedEntry> e : snapshot.entries.entrySet()) {
+                        // Don't clobber what was probed in the meantime.
+                        entries.putIfAbsent(e.getKey(), e.getValue().toEntry());
+                    }
+                    JitsiMeetLogger.d(TAG + " Loaded " + snapshot.entries.size() + " codec lists");
+                } else {
+                    JitsiMeetLogger.i(TAG + " OS or codecs changed, probing again");
+                }
+            } catch (Exception e) {
+                JitsiMeetLogger.w(e, TAG + " Invalid persisted codec lists");
+            }
+        }
+
+        VideoCodecCapabilities.fingerprint = fingerprint;
+        VideoCodecCapabilities.preferences = preferences;
+
+        // Persist whatever was probed before the preferences were available.
+        synchronized (VideoCodecCapabilities.class) {
+            save();
+        }
+    }
+
+    /**
+     * Must be called with the class lock held.
+     */
+    private static void save() {
+        SharedPreferences preferences = VideoCodecCapabilities.preferences;
+
+        if (preferences == null) {
+            return;
+        }
+
+        Snapshot snapshot = new Snapshot();
+        snapshot.fingerprint = fingerprint;
+        snapshot.entries = new HashMap<>();
+        for (Map.Entry<String, Entry> e : entries.entrySet()) {
+            if (e.getValue().persist) {
+                snapshot.entries.put(e.getKey(), new PersistedEntry(e.getValue()));
+            }
+        }
+
+        preferences.edit().putString(SNAPSHOT_KEY, new Gson().toJson(snapshot)).apply();
+    }
+
+    /**
+     * Identifies the OS build and the set of installed codecs. Listing the codecs is cheap, it's
+     * querying their capabilities that isn't.
+     */
+    private static String computeFingerprint() {
+        int codecs = 1;
+
+        for (MediaCodecInfo info : new MediaCodecList(MediaCodecList.REGULAR_CODECS).getCodecInfos()) {
+            codecs = 31 * codecs + info.getName().hashCode();
+            for (String type : info.getSupportedTypes()) {
+                codecs = 31 * codecs + type.hashCode();
+            }
+        }
+
+        return Build.FINGERPRINT + "/" + BuildConfig.SDK_VERSION + "/" + Integer.toHexString(codecs);
+    }
+
+    private static final class Entry {
+        final String tag;
+        final VideoCodecInfo[] codecs;
+        final boolean persist;
+
+        Entry(String tag, VideoCodecInfo[] codecs, boolean persist) {
+            this.tag = tag;
+            this.codecs = codecs;
+            this.persist = persist;
+        }
+    }
+
+    private static final class Snapshot {
+        @SerializedName("fingerprint")
+        String fingerprint;
+
+        @SerializedName("entries")
+        Map<String, PersistedEntry> entries;
+    }
+
+    private static final class PersistedEntry {
+        @SerializedName("tag")
+        String tag;
+
+        @SerializedName("codecs")
+        PersistedCodec[] codecs;
+
+        PersistedEntry() {
+        }
+
+        PersistedEntry(Entry entry) {
+            tag = entry.tag;
+            codecs = new PersistedCodec[entry.codecs.length];
+            for (int i = 0; i < codecs.length; i++) {
+                codecs[i] = new PersistedCodec();
+                codecs[i].name = entry.codecs[i].name;
+                codecs[i].params = entry.codecs[i].params;
+            }
+        }
+
+        Entry toEntry() {
+            VideoCodecInfo[] infos = new VideoCodecInfo[codecs.length];
+            for (int i = 0; i < infos.length; i++) {
+                infos[i] = new VideoCodecInfo(codecs[i].name, codecs[i].params);
+            }
+
+            return new Entry(tag, infos, /* persist */ true);
+        }
+    }
+
+    private static final class PersistedCodec {
+        @SerializedName("name")
+        String name;
+
+        @SerializedName("params")
+        Map<String, String> params;
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright @ 2025-present 8x8, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jitsi.meet.sdk;
+
+import org.jitsi.meet.sdk.log.JitsiMeetLogger;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Keeps a bounded history of the times a video codec was moved off hardware, and why.
+ */
+public final class VideoCodecFallbacks {
+    private static final String TAG = VideoCodecFallbacks.class.getSimpleName();
+
+    private static final int MAX_EVENTS = 50;
+
+    private static final ArrayDeque<Event> events = new ArrayDeque<>(MAX_EVENTS);
+
+    private VideoCodecFallbacks() {
+    }
+
+    /**
+     * Records a fallback from hardware to software.
+     *
+     * @param encoder - {@code true} for an encoder, {@code false} for a decoder.
+     * @param codecName - The WebRTC codec name, e.g. "VP8".
+     * @param implementation - The implementation which was abandoned.
+     * @param reason - Why it was abandoned.
+     */
+    static void record(boolean encoder, String codecName, String implementation, String reason) {
+        Event event = new Event(System.currentTimeMillis(), encoder, codecName, implementation, reason);
+
+        synchronized (events) {
+            if (events.size() == MAX_EVENTS) {
+                events.removeFirst();
+            }
+            events.addLast(event);
+        }
+
+        JitsiMeetLogger.i(TAG + " " + event);
+    }
+
+    /**
+     * Gets the recorded fallbacks, oldest first.
+     */
+    public static List<Event> getRecent() {
+        synchronized (events) {
+            return new ArrayList<>(events);
+        }
+    }
+
+    public static final class Event {
+        public final long timestamp;
+        public final boolean encoder;
+        public final String codecName;
+        public final String implementation;
+        public final String reason;
+
+        Event(long timestamp, boolean encoder, String codecName, String implementation, String reason) {
+            this.timestamp = timestamp;
+            this.encoder = encoder;
+            this.codecName = codecName;
+            this.implementation = implementation;
+            this.reason = reason;
+        }
+
+        @Override
+        public String toString() {
+            return (encoder ? "encoder" : "decoder") + " fallback: " + codecName
+                + " (" + implementation + "): " + reason;
+        }
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright @ 2025-present 8x8, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jitsi.meet.sdk;
+
+import androidx.annotation.Nullable;
+
+import org.webrtc.VideoDecoder;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Counters for a single remote video stream's decoder. Updating them doesn't allocate, so they
+ * can be used on the decode path; only {@link #toMap()} does.
+ */
+final class VideoDecoderStats {
+    /**
+     * Upper bounds (exclusive) of the decode latency histogram buckets, in ms. The last bucket
+     * holds everything above.
+     */
+    static final int[] LATENCY_BUCKETS_MS = { 2, 4, 8, 16, 33, 50, 100 };
+
+    private static final AtomicInteger nextId = new AtomicInteger();
+
+    final int id = nextId.incrementAndGet();
+    final String codecName;
+
+    private final AtomicLongArray latencyHistogram = new AtomicLongArray(LATENCY_BUCKETS_MS.length + 1);
+    private final AtomicLong framesReceived = new AtomicLong();
+    private final AtomicLong framesDecoded = new AtomicLong();
+    private final AtomicLong framesDropped = new AtomicLong();
+    private final AtomicLong totalDecodeTimeMs = new AtomicLong();
+    private final AtomicInteger fallbacks = new AtomicInteger();
+
+    @Nullable
+    private volatile String lastFallbackReason;
+    @Nullable
+    private volatile VideoDecoder decoder;
+
+    VideoDecoderStats(String codecName) {
+        this.codecName = codecName;
+    }
+
+    void setDecoder(@Nullable VideoDecoder decoder) {
+        this.decoder = decoder;
+    }
+
+    void onFrameReceived() {
+        framesReceived.incrementAndGet();
+    }
+
+    void onFrameDecoded(int decodeTimeMs) {
+        framesDecoded.incrementAndGet();
+
+        if (decodeTimeMs >= 0) {
+            totalDecodeTimeMs.addAndGet(decodeTimeMs);
+            latencyHistogram.incrementAndGet(bucketOf(decodeTimeMs));
+        }
+    }
+
+    void onFrameDropped() {
+        framesDropped.incrementAndGet();
+    }
+
+    void onFallback(String reason) {
+        fallbacks.incrementAndGet();
+        lastFallbackReason = reason;
+    }
+
+    private static int bucketOf(int decodeTimeMs) {
+        int i = 0;
+
+        while (i < LATENCY_BUCKETS_MS.length && decodeTimeMs >= LATENCY_BUCKETS_MS[i]) {
+            i++;
+        }
+
+        return i;
+    }
+
+    /**
+     * Takes a snapshot of the counters.
+     */
+    Map<String, Object> toMap() {
+        Map<String, Object> map = new HashMap<>();
+        VideoDecoder decoder = this.decoder;
+        long decoded = framesDecoded.get();
+
+        long[] histogram = new long[latencyHistogram.length()];
+        for (int i = 0; i < histogram.length; i++) {
+            histogram[i] = latencyHistogram.get(i);
+        }
+
+        map.put("id", id);
+        map.put("codec", codecName);
+        map.put("implementation", decoder != null ? decoder.getImplementationName() : null);
+        map.put("framesReceived", framesReceived.get());
+        map.put("framesDecoded", decoded);
+        map.put("framesDropped", framesDropped.get());
+        map.put("averageDecodeTimeMs", decoded > 0 ? totalDecodeTimeMs.get() / decoded : 0);
+        map.put("decodeTimeBucketsMs", LATENCY_BUCKETS_MS);
+        map.put("decodeTimeHistogram", histogram);
+        map.put("fallbacks", fallbacks.get());
+        map.put("lastFallbackReason", lastFallbackReason);
+
+        return map;
+    }
+}
@@ -0,0 +1,271 @@
+/*
+ * Copyright @ 2025-present 8x8, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jitsi.meet.sdk;
+
+import android.os.Handler;
+import android.os.Looper;
+
+import com.google.gson.Gson;
+import com.oney.WebRTCModule.JitsiWebRTCModuleHelper;
+import com.oney.WebRTCModule.WebRTCModule;
+
+import org.webrtc.RTCStats;
+import org.webrtc.RTCStatsReport;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Keeps the {@link VideoDecoderStats} of the active remote video decoders and periodically
+ * broadcasts a snapshot of them as a {@link BroadcastEvent.Type#VIDEO_DECODER_STATS} event.
+ *
+ * Native decoders can't be instrumented, so while there may be any, the snapshot also has the
+ * inbound video stats of the peer connections for the streams they decode. WebRTC's fallback
+ * wrapper renames its implementation when it switches to software, which is recorded in
+ * {@link VideoCodecFallbacks}.
+ */
+final class VideoDecoderTelemetry {
+    /**
+     * How often a snapshot is broadcast while there are active decoders.
+     */
+    static final long SNAPSHOT_INTERVAL_MS = 5000;
+
+    /**
+     * What WebRTC's fallback wrapper adds to the implementation name of its software decoder once
+     * it switched to it.
+     */
+    private static final String FALLBACK_MARKER = " (fallback from: ";
+
+    private static final VideoDecoderTelemetry instance = new VideoDecoderTelemetry();
+
+    private final Handler handler = new Handler(Looper.getMainLooper());
+    private final List<VideoDecoderStats> active = new ArrayList<>();
+    private final Runnable snapshotRunnable = this::broadcastSnapshot;
+
+    private boolean scheduled;
+
+    /**
+     * Whether native decoders were created since the peer connections last had no remote video.
+     */
+    private boolean nativeDecoders;
+
+    /**
+     * The implementations of the natively decoded streams at the last snapshot, by stats id.
+     */
+    private final Map<String, String> nativeImplementations = new HashMap<>();
+
+    static VideoDecoderTelemetry getInstance() {
+        return instance;
+    }
+
+    private VideoDecoderTelemetry() {
+    }
+
+    synchronized void register(VideoDecoderStats stats) {
+        if (!active.contains(stats)) {
+            active.add(stats);
+        }
+
+        schedule();
+    }
+
+    /**
+     * Called when a native decoder is created, so its stream's stats are taken from the peer
+     * connections.
+     */
+    synchronized void registerNative() {
+        nativeDecoders = true;
+
+        schedule();
+    }
+
+    synchronized void unregister(VideoDecoderStats stats) {
+        active.remove(stats);
+    }
+
+    /**
+     * Takes a snapshot of the stats of all active decoders.
+     */
+    synchronized List<Map<String, Object>> getSnapshot() {
+        List<Map<String, Object>> snapshot = new ArrayList<>(active.size());
+
+        for (VideoDecoderStats stats : active) {
+            snapshot.add(stats.toMap());
+        }
+
+        return snapshot;
+    }
+
+    private void schedule() {
+        if (!scheduled) {
+            scheduled = true;
+            handler.postDelayed(snapshotRunnable, SNAPSHOT_INTERVAL_MS);
+        }
+    }
+
+    private void broadcastSnapshot() {
+        List<Map<String, Object>> snapshot;
+        boolean nativeDecoders;
+
+        synchronized (this) {
+            if (active.isEmpty() && !this.nativeDecoders) {
+                scheduled = false;
+                return;
+            }
+
+            handler.postDelayed(snapshotRunnable, SNAPSHOT_INTERVAL_MS);
+            nativeDecoders = this.nativeDecoders;
+
+            // The native stats are also needed to record fallbacks.
+            if (!nativeDecoders
+                    && !JitsiMeetEventBus.getInstance().isObserved(BroadcastEvent.Type.VIDEO_DECODER_STATS)) {
+                return;
+            }
+
+            snapshot = getSnapshot();
+        }
+
+        WebRTCModule webRTCModule
+            = nativeDecoders ? ReactInstanceManagerHolder.getNativeModule(WebRTCModule.class) : null;
+
+        if (webRTCModule == null) {
+            post(snapshot);
+            return;
+        }
+
+        JitsiWebRTCModuleHelper.getStats(webRTCModule, reports -> {
+            addNativeStats(snapshot, reports);
+            post(snapshot);
+        });
+    }
+
+    /**
+     * Adds the inbound video stats of the streams not decoded by the instrumented decoders to the
+     * snapshot, and records the fallbacks of their decoders.
+     */
+    private void addNativeStats(List<Map<String, Object>> snapshot, List<RTCStatsReport> reports) {
+        Set<Object> instrumented = new HashSet<>();
+        Map<String, String> implementations = new HashMap<>();
+        Map<String, String> codecNames = new HashMap<>();
+        boolean remoteVideo = false;
+
+        for (Map<String, Object> stats : snapshot) {
+            instrumented.add(stats.get("implementation"));
+        }
+
+        for (RTCStatsReport report : reports) {
+            Map<String, RTCStats> statsMap = report.getStatsMap();
+
+            for (RTCStats stats : statsMap.values()) {
+                Map<String, Object> members = stats.getMembers();
+
+                if (!"inbound-rtp".equals(stats.getType()) || !"video".equals(members.get("kind"))) {
+                    continue;
+                }
+
+                remoteVideo = true;
+
+                Object implementation = members.get("decoderImplementation");
+
+                if (implementation == null || instrumented.contains(implementation)) {
+                    continue;
+                }
+
+                String codecName = getCodecName(statsMap, members.get("codecId"));
+
+                implementations.put(stats.getId(), implementation.toString());
+                codecNames.put(stats.getId(), codecName);
+                snapshot.add(toMap(stats, codecName, implementation.toString()));
+            }
+        }
+
+        synchronized (this) {
+            for (Map.Entry<String, String> entry : implementations.entrySet()) {
+                String implementation = entry.getValue();
+                int marker = implementation.indexOf(FALLBACK_MARKER);
+
+                // E.g. "libvpx (fallback from: c2.qti.vp8.decoder)"
+                if (marker >= 0 && !implementation.equals(nativeImplementations.get(entry.getKey()))) {
+                    VideoCodecFallbacks.record(
+                        /* encoder */ false,
+                        codecNames.get(entry.getKey()),
+                        implementation.substring(marker + FALLBACK_MARKER.length(), implementation.length() - 1),
+                        "switched to " + implementation.substring(0, marker));
+                }
+            }
+
+            nativeImplementations.clear();
+            nativeImplementations.putAll(implementations);
+
+            if (!remoteVideo) {
+                nativeDecoders = false;
+            }
+        }
+    }
+
+    private static String getCodecName(Map<String, RTCStats> statsMap, Object codecId) {
+        RTCStats codec = codecId != null ? statsMap.get(codecId.toString()) : null;
+        Object mimeType = codec != null ? codec.getMembers().get("mimeType") : null;
+
+        if (mimeType == null) {
+            return "unknown";
+        }
+
+        String name = mimeType.toString();
+
+        // E.g. video/VP8
+        return name.substring(name.indexOf('/') + 1);
+    }
+
+    private static Map<String, Object> toMap(RTCStats stats, String codecName, String implementation) {
+        Map<String, Object> members = stats.getMembers();
+        Map<String, Object> map = new HashMap<>();
+        long decoded = toLong(members.get("framesDecoded"));
+        Object totalDecodeTime = members.get("totalDecodeTime");
+
+        map.put("id", stats.getId());
+        map.put("codec", codecName);
+        map.put("implementation", implementation);
+        map.put("native", true);
+        map.put("framesReceived", toLong(members.get("framesReceived")));
+        map.put("framesDecoded", decoded);
+        map.put("framesDropped", toLong(members.get("framesDropped")));
+        map.put("averageDecodeTimeMs", decoded > 0 && totalDecodeTime instanceof Number
+            ? (long) (((Number) totalDecodeTime).doubleValue() * 1000 / decoded) : 0);
+
+        return map;
+    }
+
+    private static long toLong(Object value) {
+        return value instanceof Number ? ((Number) value).longValue() : 0;
+    }
+
+    private static void post(List<Map<String, Object>> snapshot) {
+        if (!JitsiMeetEventBus.getInstance().isObserved(BroadcastEvent.Type.VIDEO_DECODER_STATS)) {
+            return;
+        }
+
+        JitsiMeetEvent event = JitsiMeetEvent.obtain(BroadcastEvent.Type.VIDEO_DECODER_STATS);
+        event.put("decoders", new Gson().toJson(snapshot));
+
+        JitsiMeetEventBus.getInstance().post(event);
+    }
+}
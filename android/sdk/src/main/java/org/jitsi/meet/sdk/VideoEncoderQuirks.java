@@ -0,0 +1,310 @@
+/*
+ * Copyright @ 2025-present 8x8, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jitsi.meet.sdk;
+
+import android.media.MediaCodecInfo;
+import android.media.MediaCodecList;
+import android.os.Build;
+
+import androidx.annotation.Nullable;
+
+import com.google.gson.Gson;
+import com.google.gson.annotations.SerializedName;
+import com.google.gson.reflect.TypeToken;
+
+import org.jitsi.meet.sdk.log.JitsiMeetLogger;
+import org.webrtc.Predicate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Table of known hardware video encoder problems, keyed by SoC and codec name. It decides, per
+ * codec and resolution tier, whether {@link JitsiVideoEncoderFactory} may use a hardware encoder.
+ *
+ * A bundled table ships with the SDK; apps can replace the updatable part at runtime with
+ * {@link #update(String)}, e.g. with a table downloaded from their backend. The first matching
+ * entry wins, the updatable ones first, so they can also allow hardware the bundled ones disable.
+ *
+ * Hardware VP8 encoders are of uneven quality, so VP8 stays in software unless an entry which
+ * doesn't disable hardware allow-lists the SoC or encoder.
+ */
+public final class VideoEncoderQuirks {
+    private static final String TAG = VideoEncoderQuirks.class.getSimpleName();
+
+    /**
+     * Matches any SoC / any encoder implementation.
+     */
+    private static final String ANY = "*";
+
+    /**
+     * The quirks bundled with the SDK.
+     */
+    private static final List<Quirk> BUNDLED = Arrays.asList(
+        // The bridge uses VP9 and AV1 in SVC mode, which hardware encoders don't implement.
+        new Quirk(ANY, "VP9", ANY, 0, 0, true, "Hardware VP9 encoders do not support SVC"),
+        new Quirk(ANY, "AV1", ANY, 0, 0, true, "Hardware AV1 encoders do not support SVC"),
+        // The VP8 encoders WebRTC itself uses hardware for.
+        new Quirk(ANY, "VP8", "OMX.qcom.", 0, 0, false, "Allow-listed Qualcomm VP8 encoder"),
+        new Quirk(ANY, "VP8", "c2.qti.", 0, 0, false, "Allow-listed Qualcomm VP8 encoder"),
+        new Quirk(ANY, "VP8", "OMX.Exynos.", 0, 0, false, "Allow-listed Exynos VP8 encoder"),
+        new Quirk(ANY, "VP8", "c2.exynos.", 0, 0, false, "Allow-listed Exynos VP8 encoder"),
+        new Quirk(ANY, "VP8", ANY, 0, 0, true, "Hardware VP8 encoder not allow-listed")
+    );
+
+    private static volatile List<Quirk> updated = Collections.emptyList();
+
+    /**
+     * The names of the hardware MediaCodec encoders of each codec. The device's codecs don't
+     * change, so they're only listed once.
+     */
+    private static final Map<String, List<String>> hardwareEncoderNames = new ConcurrentHashMap<>();
+
+    /**
+     * Identifies the current updatable table, so capability lists derived from it can be
+     * invalidated when it changes.
+     */
+    private static volatile String version = "";
+
+    private VideoEncoderQuirks() {
+    }
+
+    /**
+     * Replaces the updatable part of the table. The bundled quirks always apply.
+     *
+     * @param json - JSON array of quirk objects with the keys {@code soc}, {@code codec},
+     * {@code implementation}, {@code minPixels}, {@code maxPixels}, {@code disabled} and
+     * {@code reason}. {@code "*"} matches any SoC or implementation.
+     */
+    public static void update(String json) {
+        try {
+            List<Quirk> quirks = new Gson().fromJson(json, new TypeToken<ArrayList<Quirk>>() {}.getType());
+            updated = quirks != null ? Collections.unmodifiableList(quirks) : Collections.emptyList();
+            version = Integer.toHexString(json.hashCode());
+            JitsiMeetLogger.i(TAG + " Loaded " + updated.size() + " encoder quirks");
+        } catch (Exception e) {
+            JitsiMeetLogger.w(e, TAG + " Invalid encoder quirks, keeping the previous table");
+        }
+    }
+
+    /**
+     * Gets the version of the updatable table, empty if only the bundled quirks apply.
+     */
+    static String getVersion() {
+        return version;
+    }
+
+    /**
+     * Gets the SoC identifier used as the table's key.
+     */
+    static String getSoc() {
+        if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.S && !Build.UNKNOWN.equals(Build.SOC_MODEL)) {
+            return Build.SOC_MODEL;
+        }
+
+        return Build.HARDWARE;
+    }
+
+    /**
+     * Finds the first quirk matching this device, the codec and the MediaCodec implementation.
+     *
+     * @param codecName - The WebRTC codec name, e.g. "VP8".
+     * @param implementation - The MediaCodec name, e.g. "c2.qti.vp8.encoder".
+     * @return The matching {@link Quirk}, or {@code null} if hardware encoding is fine.
+     */
+    @Nullable
+    static Quirk find(String codecName, String implementation) {
+        String soc = getSoc();
+        Quirk quirk = find(updated, soc, codecName, implementation);
+
+        return quirk != null ? quirk : find(BUNDLED, soc, codecName, implementation);
+    }
+
+    @Nullable
+    private static Quirk find(List<Quirk> quirks, String soc, String codecName, String implementation) {
+        for (Quirk quirk : quirks) {
+            if (quirk.matches(soc, codecName, implementation)) {
+                return quirk;
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * Finds the quirk which disables hardware encoding of the codec on this device, checking each
+     * of the device's hardware encoders of the codec by its MediaCodec name.
+     *
+     * @param codecName - The WebRTC codec name, e.g. "VP8".
+     * @return The disabling {@link Quirk}, or {@code null} if a hardware encoder may be used.
+     */
+    @Nullable
+    static Quirk findDisabling(String codecName) {
+        for (String implementation : getHardwareEncoderNames(codecName)) {
+            Quirk quirk = find(codecName, implementation);
+
+            if (quirk != null && quirk.disabled) {
+                return quirk;
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * Gets the MediaCodec names of the device's hardware encoders of the codec.
+     */
+    static List<String> getHardwareEncoderNames(String codecName) {
+        return hardwareEncoderNames.computeIfAbsent(codecName.toUpperCase(Locale.ROOT), name -> {
+            List<String> names = new ArrayList<>();
+
+            try {
+                for (MediaCodecInfo info : new MediaCodecList(MediaCodecList.REGULAR_CODECS).getCodecInfos()) {
+                    if (!info.isEncoder() || isSoftwareOnly(info)) {
+                        continue;
+                    }
+                    for (String type : info.getSupportedTypes()) {
+                        if (name.equals(codecNameForMimeType(type))) {
+                            names.add(info.getName());
+                            break;
+                        }
+                    }
+                }
+            } catch (RuntimeException e) {
+                JitsiMeetLogger.w(e, TAG + " Failed to list the " + name + " encoders");
+            }
+
+            return Collections.unmodifiableList(names);
+        });
+    }
+
+    private static boolean isSoftwareOnly(MediaCodecInfo info) {
+        if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.Q) {
+            return info.isSoftwareOnly();
+        }
+
+        String name = info.getName();
+
+        return name.startsWith("OMX.google.") || name.startsWith("c2.android.");
+    }
+
+    /**
+     * Predicate for {@code HardwareVideoEncoderFactory} which filters out the encoders which are
+     * disabled on this device for all resolutions.
+     */
+    static final Predicate<MediaCodecInfo> hwCodecPredicate = arg -> {
+        for (String type : arg.getSupportedTypes()) {
+            Quirk quirk = find(codecNameForMimeType(type), arg.getName());
+
+            if (quirk != null && quirk.disabled) {
+                return false;
+            }
+        }
+
+        return true;
+    };
+
+    private static String codecNameForMimeType(String mimeType) {
+        switch (mimeType.toLowerCase(Locale.ROOT)) {
+            case "video/x-vnd.on2.vp8":
+                return "VP8";
+            case "video/x-vnd.on2.vp9":
+                return "VP9";
+            case "video/avc":
+                return "H264";
+            case "video/hevc":
+                return "H265";
+            case "video/av01":
+                return "AV1";
+            default:
+                return mimeType;
+        }
+    }
+
+    /**
+     * A single entry of the table.
+     */
+    static class Quirk {
+        @SerializedName("soc")
+        String soc;
+
+        @SerializedName("codec")
+        String codec;
+
+        @SerializedName("implementation")
+        String implementation;
+
+        /**
+         * Hardware is only used for frames of at least this many pixels. 0 means no limit.
+         */
+        @SerializedName("minPixels")
+        int minPixels;
+
+        /**
+         * Hardware is only used for frames of at most this many pixels. 0 means no limit.
+         */
+        @SerializedName("maxPixels")
+        int maxPixels;
+
+        /**
+         * Hardware is never used for this codec.
+         */
+        @SerializedName("disabled")
+        boolean disabled;
+
+        @SerializedName("reason")
+        String reason;
+
+        Quirk(String soc, String codec, String implementation, int minPixels, int maxPixels, boolean disabled, String reason) {
+            this.soc = soc;
+            this.codec = codec;
+            this.implementation = implementation;
+            this.minPixels = minPixels;
+            this.maxPixels = maxPixels;
+            this.disabled = disabled;
+            this.reason = reason;
+        }
+
+        /**
+         * Whether hardware may be used for frames of the given size.
+         */
+        boolean allowsResolution(int width, int height) {
+            int pixels = width * height;
+
+            return !disabled
+                && (minPixels <= 0 || pixels >= minPixels)
+                && (maxPixels <= 0 || pixels <= maxPixels);
+        }
+
+        private boolean matches(String soc, String codecName, String implementation) {
+            return matches(this.soc, soc)
+                && this.codec != null && this.codec.equalsIgnoreCase(codecName)
+                && (this.implementation == null
+                    || ANY.equals(this.implementation)
+                    || implementation.toLowerCase(Locale.ROOT).startsWith(this.implementation.toLowerCase(Locale.ROOT)));
+        }
+
+        private static boolean matches(String pattern, String value) {
+            return pattern == null || ANY.equals(pattern) || pattern.equalsIgnoreCase(value);
+        }
+    }
+}
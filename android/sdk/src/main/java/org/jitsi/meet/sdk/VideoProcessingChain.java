@@ -0,0 +1,373 @@
+/*
+ * Copyright @ 2025-present 8x8, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jitsi.meet.sdk;
+
+import android.opengl.GLES20;
+import android.os.Handler;
+import android.os.HandlerThread;
+
+import androidx.annotation.Nullable;
+
+import org.jitsi.meet.sdk.log.JitsiMeetLogger;
+import org.webrtc.EglBase;
+import org.webrtc.VideoFrame;
+import org.webrtc.VideoProcessor;
+import org.webrtc.VideoSink;
+import org.webrtc.YuvConverter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Chain of {@link VideoProcessingStage}s between the local camera and its {@code VideoSource}.
+ *
+ * Frames are processed on a dedicated GL thread. At most one frame is in flight; frames captured
+ * meanwhile are dropped, so a slow chain lowers the frame rate instead of adding latency. Each
+ * stage has a per-frame time budget, and a stage which exceeds it is skipped for the next
+ * {@link #SKIP_FRAMES} frames before it's given another chance.
+ *
+ * With no stages, frames are passed through on the capture thread at no cost.
+ */
+public final class VideoProcessingChain implements VideoProcessor {
+    private static final String TAG = VideoProcessingChain.class.getSimpleName();
+
+    /**
+     * How many frames a stage over its budget is skipped for.
+     */
+    static final int SKIP_FRAMES = 30;
+
+    private final List<StageHolder> stages = new CopyOnWriteArrayList<>();
+    private final AtomicBoolean frameInFlight = new AtomicBoolean();
+
+    @Nullable
+    private final EglBase.Context sharedContext;
+
+    @Nullable
+    private volatile VideoSink sink;
+
+    @Nullable
+    private HandlerThread glThread;
+    @Nullable
+    private Handler glHandler;
+    @Nullable
+    private EglBase eglBase;
+    @Nullable
+    private YuvConverter yuvConverter;
+
+    private long frameCount;
+
+    VideoProcessingChain(@Nullable EglBase.Context sharedContext) {
+        this.sharedContext = sharedContext;
+    }
+
+    /**
+     * Appends a stage to the chain.
+     *
+     * @param stage - The stage.
+     * @param budgetMs - The time the stage may take per frame, in ms.
+     */
+    public void addStage(VideoProcessingStage stage, double budgetMs) {
+        stages.add(new StageHolder(stage, (long) (budgetMs * 1000000)));
+    }
+
+    /**
+     * Removes a stage from the chain. It's released on the GL thread.
+     */
+    public void removeStage(VideoProcessingStage stage) {
+        for (StageHolder holder : stages) {
+            if (holder.stage == stage) {
+                stages.remove(holder);
+                releaseStage(holder);
+            }
+        }
+    }
+
+    boolean hasStages() {
+        return !stages.isEmpty();
+    }
+
+    /**
+     * Gets the timing metrics of each stage, in chain order.
+     */
+    public List<StageStats> getStats() {
+        List<StageStats> stats = new ArrayList<>(stages.size());
+
+        for (StageHolder holder : stages) {
+            stats.add(holder.getStats());
+        }
+
+        return stats;
+    }
+
+    @Override
+    public void setSink(@Nullable VideoSink sink) {
+        this.sink = sink;
+    }
+
+    @Override
+    public void onCapturerStarted(boolean success) {
+    }
+
+    @Override
+    public void onCapturerStopped() {
+    }
+
+    @Override
+    public void onFrameCaptured(VideoFrame frame) {
+        VideoSink sink = this.sink;
+
+        if (sink == null) {
+            return;
+        }
+
+        // The stages only handle textures; byte buffers are passed through.
+        if (stages.isEmpty() || !(frame.getBuffer() instanceof VideoFrame.TextureBuffer)) {
+            sink.onFrame(frame);
+            return;
+        }
+
+        if (!frameInFlight.compareAndSet(false, true)) {
+            // Still busy with the previous frame, drop this one.
+            return;
+        }
+
+        frame.retain();
+
+        boolean posted;
+
+        // Posted under the lock release() takes, so the GL thread can't quit in between.
+        synchronized (this) {
+            posted = ensureGlThread().post(() -> {
+                try {
+                    processFrame(frame, sink);
+                } finally {
+                    frame.release();
+                    frameInFlight.set(false);
+                }
+            });
+        }
+
+        if (!posted) {
+            frame.release();
+            frameInFlight.set(false);
+        }
+    }
+
+    /**
+     * Stops the GL thread and releases all stages.
+     */
+    synchronized void release() {
+        if (glHandler == null) {
+            return;
+        }
+
+        Handler handler = glHandler;
+        HandlerThread thread = glThread;
+
+        handler.post(() -> {
+            for (StageHolder holder : stages) {
+                holder.release();
+            }
+            if (yuvConverter != null) {
+                yuvConverter.release();
+            }
+            if (eglBase != null) {
+                eglBase.release();
+            }
+        });
+        thread.quitSafely();
+
+        glHandler = null;
+        glThread = null;
+    }
+
+    /**
+     * Starts the GL thread if needed. Must be called while holding the lock, like
+     * {@link #release()}.
+     */
+    private Handler ensureGlThread() {
+        if (glHandler == null) {
+            glThread = new HandlerThread("VideoProcessingGL");
+            glThread.start();
+            glHandler = new Handler(glThread.getLooper());
+            glHandler.post(() -> {
+                eglBase = EglBase.create(sharedContext, EglBase.CONFIG_PIXEL_BUFFER);
+                eglBase.createDummyPbufferSurface();
+                eglBase.makeCurrent();
+                yuvConverter = new YuvConverter();
+            });
+        }
+
+        return glHandler;
+    }
+
+    private void releaseStage(StageHolder holder) {
+        Handler handler;
+
+        synchronized (this) {
+            handler = glHandler;
+        }
+
+        if (handler != null) {
+            handler.post(holder::release);
+        } else {
+            holder.release();
+        }
+    }
+
+    /**
+     * Runs the stages on a frame. Called on the GL thread.
+     */
+    private void processFrame(VideoFrame frame, VideoSink sink) {
+        long frameNumber = frameCount++;
+        VideoFrame.TextureBuffer buffer = (VideoFrame.TextureBuffer) frame.getBuffer();
+        boolean ownsBuffer = false;
+
+        for (StageHolder holder : stages) {
+            if (holder.shouldSkip(frameNumber)) {
+                continue;
+            }
+
+            if (!holder.initialized) {
+                holder.stage.init(glHandler, yuvConverter);
+                holder.initialized = true;
+            }
+
+            long start = System.nanoTime();
+            VideoFrame.TextureBuffer output;
+
+            try {
+                output = holder.stage.process(buffer, frame.getRotation());
+                // Wait for the GPU, so the timing covers the stage's actual work.
+                GLES20.glFinish();
+            } catch (RuntimeException e) {
+                JitsiMeetLogger.w(e, TAG + " Stage " + holder.stage.getName() + " failed, skipping it");
+                holder.skipUntil(frameNumber + SKIP_FRAMES);
+                continue;
+            }
+
+            holder.onProcessed(System.nanoTime() - start, frameNumber);
+
+            if (output != null && output != buffer) {
+                if (ownsBuffer) {
+                    buffer.release();
+                }
+                buffer = output;
+                ownsBuffer = true;
+            }
+        }
+
+        if (ownsBuffer) {
+            VideoFrame processed = new VideoFrame(buffer, frame.getRotation(), frame.getTimestampNs());
+            sink.onFrame(processed);
+            processed.release();
+        } else {
+            sink.onFrame(frame);
+        }
+    }
+
+    /**
+     * Timing metrics of a stage.
+     */
+    public static final class StageStats {
+        public final String name;
+        public final long budgetNs;
+        public final long framesProcessed;
+        public final long framesSkipped;
+        public final long averageTimeNs;
+        public final long maxTimeNs;
+
+        StageStats(
+                String name,
+                long budgetNs,
+                long framesProcessed,
+                long framesSkipped,
+                long averageTimeNs,
+                long maxTimeNs) {
+            this.name = name;
+            this.budgetNs = budgetNs;
+            this.framesProcessed = framesProcessed;
+            this.framesSkipped = framesSkipped;
+            this.averageTimeNs = averageTimeNs;
+            this.maxTimeNs = maxTimeNs;
+        }
+    }
+
+    private static final class StageHolder {
+        final VideoProcessingStage stage;
+        final long budgetNs;
+        boolean initialized;
+
+        // Written on the GL thread, read by getStats().
+        private volatile long framesProcessed;
+        private volatile long framesSkipped;
+        private volatile long totalTimeNs;
+        private volatile long maxTimeNs;
+        private long skipUntilFrame = -1;
+
+        StageHolder(VideoProcessingStage stage, long budgetNs) {
+            this.stage = stage;
+            this.budgetNs = budgetNs;
+        }
+
+        boolean shouldSkip(long frameNumber) {
+            if (frameNumber < skipUntilFrame) {
+                framesSkipped++;
+                return true;
+            }
+
+            return false;
+        }
+
+        void skipUntil(long frameNumber) {
+            skipUntilFrame = frameNumber;
+        }
+
+        void onProcessed(long elapsedNs, long frameNumber) {
+            framesProcessed++;
+            totalTimeNs += elapsedNs;
+            if (elapsedNs > maxTimeNs) {
+                maxTimeNs = elapsedNs;
+            }
+
+            if (elapsedNs > budgetNs) {
+                skipUntil(frameNumber + 1 + SKIP_FRAMES);
+            }
+        }
+
+        void release() {
+            if (initialized) {
+                initialized = false;
+                stage.release();
+            }
+        }
+
+        StageStats getStats() {
+            long processed = framesProcessed;
+
+            return new StageStats(
+                stage.getName(),
+                budgetNs,
+                processed,
+                framesSkipped,
+                processed > 0 ? totalTimeNs / processed : 0,
+                maxTimeNs);
+        }
+    }
+}
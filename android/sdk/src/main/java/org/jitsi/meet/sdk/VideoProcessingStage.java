@@ -0,0 +1,57 @@
+/*
+ * Copyright @ 2025-present 8x8, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jitsi.meet.sdk;
+
+import android.os.Handler;
+
+import org.webrtc.VideoFrame;
+import org.webrtc.YuvConverter;
+
+/**
+ * A stage of the {@link VideoProcessingChain} of the local camera, e.g. background blur,
+ * auto-framing or denoising. All methods are called on the chain's GL thread, with an EGL context
+ * (shared with the call's) current.
+ */
+public interface VideoProcessingStage {
+    /**
+     * Gets the name of the stage, used in the metrics.
+     */
+    String getName();
+
+    /**
+     * Called once before the first frame.
+     *
+     * @param glHandler - Handler of the GL thread, for the {@code TextureBuffer}s the stage creates.
+     * @param yuvConverter - Converter for the {@code TextureBuffer}s the stage creates.
+     */
+    void init(Handler glHandler, YuvConverter yuvConverter);
+
+    /**
+     * Processes a frame. The input may be an OES or an RGB texture.
+     *
+     * @param buffer - The input, owned by the chain. It must not be released.
+     * @param rotation - The rotation of the frame, in degrees.
+     * @return The input buffer to pass it through unchanged, or a new buffer which is then owned
+     * by the chain.
+     */
+    VideoFrame.TextureBuffer process(VideoFrame.TextureBuffer buffer, int rotation);
+
+    /**
+     * Called when the stage is removed from the chain or the chain is released.
+     */
+    void release();
+}
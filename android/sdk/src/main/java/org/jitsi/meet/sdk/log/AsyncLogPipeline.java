@@ -0,0 +1,328 @@
+/*
+ * Copyright @ 2025-present 8x8, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.jitsi.meet.sdk.log;
+
+import android.util.Log;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Moves log records off the calling thread. Callers only claim a preallocated slot in a bounded
+ * multi-producer ring and store the unformatted message and its arguments in it; a single writer
+ * thread formats the records and hands them to the handlers. When the ring is full records are
+ * dropped and counted rather than blocking the caller.
+ *
+ * Debug and info records are also rate limited per message template, i.e. per call site, so a
+ * message logged for every frame cannot flood the ring or the handlers, nor use up the budget of
+ * the other messages of its class. Warnings and errors are never rate limited.
+ */
+final class AsyncLogPipeline {
+    private static final String TAG = AsyncLogPipeline.class.getSimpleName();
+
+    /**
+     * The number of slots in the ring, a power of two.
+     */
+    private static final int CAPACITY = 1024;
+    private static final int MASK = CAPACITY - 1;
+
+    /**
+     * The maximum number of templates the rate limiter keeps budgets for. Messages concatenating
+     * values are templates of their own, so the budgets are forgotten once there are more.
+     */
+    private static final int MAX_RATE_LIMITED_TEMPLATES = 1024;
+
+    /**
+     * The maximum time the writer sleeps without being woken up, as a safety net.
+     */
+    private static final long IDLE_PARK_NS = TimeUnit.MILLISECONDS.toNanos(100);
+
+    private final List<JitsiMeetBaseLogHandler> handlers;
+    private final Slot[] slots = new Slot[CAPACITY];
+
+    /**
+     * The position of the next slot to be claimed by a producer.
+     */
+    private final AtomicLong tail = new AtomicLong();
+
+    /**
+     * The position of the next slot to be read by the writer, advanced once its record is handed
+     * to the handlers. Only written by the writer.
+     */
+    private volatile long head;
+
+    private final AtomicLong dropped = new AtomicLong();
+    private long reportedDropped;
+
+    /**
+     * The rate limiting budgets, by message template.
+     */
+    private final ConcurrentHashMap<String, Budget> budgets = new ConcurrentHashMap<>();
+    private volatile int rateLimit;
+
+    private final Thread writer;
+    private volatile boolean writerParked;
+
+    AsyncLogPipeline(List<JitsiMeetBaseLogHandler> handlers, int rateLimit) {
+        this.handlers = handlers;
+        this.rateLimit = rateLimit;
+
+        for (int i = 0; i < CAPACITY; i++) {
+            slots[i] = new Slot(i);
+        }
+
+        writer = new Thread(this::run, "JitsiMeetLogger");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    /**
+     * Sets the maximum number of records below {@link Log#WARN} accepted per message template and
+     * second, 0 meaning unlimited.
+     */
+    void setRateLimit(int rateLimit) {
+        this.rateLimit = rateLimit;
+    }
+
+    /**
+     * Queues a record for the writer thread. Never blocks and doesn't build any string.
+     *
+     * @return Whether the record was queued, as opposed to rate limited or dropped because the
+     * ring is full.
+     */
+    boolean offer(int priority, @Nullable Throwable t, @Nullable String message, @Nullable Object[] args) {
+        int suppressed = 0;
+
+        if (priority < Log.WARN) {
+            suppressed = acquire(message);
+
+            if (suppressed < 0) {
+                return false;
+            }
+        }
+
+        Slot slot;
+        long position;
+
+        while (true) {
+            position = tail.get();
+            slot = slots[(int) position & MASK];
+
+            long diff = slot.sequence - position;
+
+            if (diff == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    break;
+                }
+            } else if (diff < 0) {
+                // The writer hasn't freed this slot yet, the ring is full.
+                dropped.incrementAndGet();
+                return false;
+            }
+            // Otherwise another producer claimed it first, try the next one.
+        }
+
+        slot.priority = priority;
+        slot.throwable = t;
+        slot.message = message;
+        slot.args = args;
+        slot.suppressed = suppressed;
+
+        // Publishes the record to the writer.
+        slot.sequence = position + 1;
+
+        if (writerParked) {
+            LockSupport.unpark(writer);
+        }
+
+        return true;
+    }
+
+    /**
+     * Waits until the records queued so far are handed to the handlers, or the timeout expires.
+     */
+    void flush(long timeoutMs) {
+        if (Thread.currentThread() == writer) {
+            return;
+        }
+
+        long target = tail.get();
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMs);
+
+        while (head < target && System.nanoTime() < deadline) {
+            LockSupport.unpark(writer);
+            Thread.yield();
+        }
+    }
+
+    /**
+     * Counts a record against the budget of its message template for the current second.
+     *
+     * @return The number of records of the same template suppressed since the last accepted one,
+     * or -1 if this one is suppressed.
+     */
+    private int acquire(@Nullable String message) {
+        int limit = rateLimit;
+
+        if (limit <= 0) {
+            return 0;
+        }
+
+        String template = message != null ? message : "";
+        Budget budget = budgets.get(template);
+
+        if (budget == null) {
+            if (budgets.size() >= MAX_RATE_LIMITED_TEMPLATES) {
+                budgets.clear();
+            }
+
+            Budget created = new Budget();
+
+            budget = budgets.putIfAbsent(template, created);
+            if (budget == null) {
+                budget = created;
+            }
+        }
+
+        long window = System.nanoTime() / TimeUnit.SECONDS.toNanos(1);
+        long current = budget.window.get();
+
+        if (current != window && budget.window.compareAndSet(current, window)) {
+            budget.count.set(0);
+        }
+
+        if (budget.count.incrementAndGet() > limit) {
+            budget.suppressed.incrementAndGet();
+            return -1;
+        }
+
+        return budget.suppressed.getAndSet(0);
+    }
+
+    private void run() {
+        while (true) {
+            Slot slot = slots[(int) head & MASK];
+
+            if (slot.sequence != head + 1) {
+                reportDropped();
+
+                writerParked = true;
+
+                // Check again, a producer may have published before seeing the flag.
+                if (slot.sequence != head + 1) {
+                    LockSupport.parkNanos(this, IDLE_PARK_NS);
+                }
+
+                writerParked = false;
+                continue;
+            }
+
+            int priority = slot.priority;
+            Throwable t = slot.throwable;
+            String message = slot.message;
+            Object[] args = slot.args;
+            int suppressed = slot.suppressed;
+
+            slot.throwable = null;
+            slot.message = null;
+            slot.args = null;
+
+            // Hands the slot back to the producers.
+            slot.sequence = head + CAPACITY;
+
+            dispatch(priority, t, format(message, args, suppressed));
+
+            head = head + 1;
+        }
+    }
+
+    private void reportDropped() {
+        long count = dropped.get();
+
+        if (count != reportedDropped) {
+            dispatch(Log.WARN, null, TAG + " " + (count - reportedDropped) + " log records dropped, the queue was full");
+            reportedDropped = count;
+        }
+    }
+
+    private static String format(@Nullable String message, @Nullable Object[] args, int suppressed) {
+        if (message == null) {
+            message = "";
+        } else if (args != null && args.length > 0) {
+            try {
+                message = String.format(message, args);
+            } catch (Throwable e) {
+                // Never lose the record because of a malformed template.
+                message = message + " " + Arrays.toString(args);
+            }
+        }
+
+        if (suppressed > 0) {
+            message = message + " (" + suppressed + " records like this suppressed before)";
+        }
+
+        return message;
+    }
+
+    private void dispatch(int priority, @Nullable Throwable t, String message) {
+        for (JitsiMeetBaseLogHandler handler : handlers) {
+            try {
+                handler.log(priority, null, message, t);
+            } catch (Throwable e) {
+                Log.e(TAG, "Log handler failed", e);
+            }
+        }
+    }
+
+    /**
+     * The rate limiting budget of a message template.
+     */
+    private static final class Budget {
+        /**
+         * The second the count is for.
+         */
+        final AtomicLong window = new AtomicLong();
+        final AtomicInteger count = new AtomicInteger();
+        final AtomicInteger suppressed = new AtomicInteger();
+    }
+
+    private static final class Slot {
+        /**
+         * The position at which this slot can be claimed by a producer, or that position + 1 once
+         * the record in it is published to the writer.
+         */
+        volatile long sequence;
+
+        int priority;
+        @Nullable Throwable throwable;
+        @Nullable String message;
+        @Nullable Object[] args;
+        int suppressed;
+
+        Slot(long sequence) {
+            this.sequence = sequence;
+        }
+    }
+}
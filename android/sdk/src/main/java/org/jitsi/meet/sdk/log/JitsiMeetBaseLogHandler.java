@@ -21,8 +21,6 @@ import android.util.Log;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import java.text.MessageFormat;
-
 import timber.log.Timber;
 
 /**
@@ -39,7 +37,7 @@ public abstract class JitsiMeetBaseLogHandler extends Timber.Tree {
         if (errmsg.isEmpty()) {
             doLog(priority, getDefaultTag(), msg);
         } else {
-            doLog(priority, getDefaultTag(), MessageFormat.format("{0}\n{1}", msg, errmsg));
+            doLog(priority, getDefaultTag(), msg + "\n" + errmsg);
         }
     }
 
@@ -0,0 +1,454 @@
+/*
+ * Copyright @ 2025-present 8x8, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.jitsi.meet.sdk.log;
+
+import android.util.Log;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * A {@link JitsiMeetBaseLogHandler} which keeps the logs on disk, so they can be attached to
+ * support tickets without reproducing the problem with adb attached.
+ *
+ * Logs are appended to a memory-mapped segment file, so writing them is a memory copy, and they
+ * survive crashes of the process as the kernel writes the mapped pages back. Full segments are
+ * compressed in the background, the oldest compressed segments being deleted once they take more
+ * than the configured total size.
+ *
+ * <pre>
+ * JitsiMeetFileLogHandler handler = new JitsiMeetFileLogHandler(new File(context.getFilesDir(), "logs"));
+ * JitsiMeetLogger.addHandler(handler);
+ * ...
+ * handler.exportLogs(TimeUnit.MINUTES.toMillis(10), file).thenAccept(this::attachToTicket);
+ * </pre>
+ */
+public class JitsiMeetFileLogHandler extends JitsiMeetBaseLogHandler {
+    private static final String TAG = JitsiMeetFileLogHandler.class.getSimpleName();
+
+    /**
+     * The default size of a segment before compression.
+     */
+    public static final int DEFAULT_SEGMENT_SIZE = 1024 * 1024;
+
+    /**
+     * The default maximum size of the compressed segments.
+     */
+    public static final long DEFAULT_MAX_TOTAL_SIZE = 10 * 1024 * 1024;
+
+    private static final String ACTIVE_FILE = "active.log";
+    private static final String PENDING_PREFIX = "pending-";
+    private static final String PENDING_SUFFIX = ".log";
+    private static final String SEGMENT_SUFFIX = ".log.gz";
+
+    /**
+     * The header of a segment: magic, end of the written data, time of the first record and time
+     * of the last record.
+     */
+    private static final int MAGIC = 0x4a4d4c31;
+    private static final int POSITION_OFFSET = 4;
+    private static final int FIRST_TIME_OFFSET = 8;
+    private static final int LAST_TIME_OFFSET = 16;
+    private static final int DATA_OFFSET = 24;
+
+    private static final String LEVELS = "VDIWEA";
+
+    private final File directory;
+    private final int segmentSize;
+    private final long maxTotalSize;
+
+    /**
+     * Compresses the full segments and exports the logs, in order.
+     */
+    private final ExecutorService executor = Executors.newSingleThreadExecutor();
+
+    private final SimpleDateFormat dateFormat = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss.SSS", Locale.US);
+    private final Date date = new Date();
+
+    @Nullable
+    private MappedByteBuffer buffer;
+    private int position;
+    private long firstTime;
+
+    public JitsiMeetFileLogHandler(File directory) {
+        this(directory, DEFAULT_SEGMENT_SIZE, DEFAULT_MAX_TOTAL_SIZE);
+    }
+
+    /**
+     * @param directory The directory the segments are stored in, used by this handler only.
+     * @param segmentSize The size of a segment before compression.
+     * @param maxTotalSize The size the compressed segments are kept under, not counting the
+     * segment being written.
+     */
+    public JitsiMeetFileLogHandler(File directory, int segmentSize, long maxTotalSize) {
+        this.directory = directory;
+        this.segmentSize = Math.max(segmentSize, DATA_OFFSET + 1024);
+        this.maxTotalSize = maxTotalSize;
+
+        synchronized (this) {
+            // The segment written before the process died is compressed like a full one.
+            File active = new File(directory, ACTIVE_FILE);
+
+            if (active.exists() && !active.renameTo(pendingFile(System.currentTimeMillis()))) {
+                active.delete();
+            }
+
+            File[] pending = directory.listFiles((dir, name) -> name.startsWith(PENDING_PREFIX));
+
+            if (pending != null) {
+                for (File file : pending) {
+                    executor.execute(() -> compress(file));
+                }
+            }
+
+            openSegment();
+        }
+    }
+
+    @Override
+    protected synchronized void doLog(int priority, @NotNull String tag, @NotNull String msg) {
+        if (buffer == null) {
+            return;
+        }
+
+        long now = System.currentTimeMillis();
+        int level = priority - Log.VERBOSE;
+
+        date.setTime(now);
+
+        String line = dateFormat.format(date)
+            + ' ' + (level >= 0 && level < LEVELS.length() ? LEVELS.charAt(level) : '?')
+            + '/' + tag + ": " + msg + '\n';
+        byte[] bytes = line.getBytes(StandardCharsets.UTF_8);
+        int length = Math.min(bytes.length, segmentSize - DATA_OFFSET);
+
+        if (position + length > segmentSize) {
+            rotate();
+
+            if (buffer == null) {
+                return;
+            }
+        }
+
+        buffer.position(position);
+        buffer.put(bytes, 0, length);
+        position += length;
+
+        if (firstTime == 0) {
+            firstTime = now;
+            buffer.putLong(FIRST_TIME_OFFSET, now);
+        }
+        buffer.putLong(LAST_TIME_OFFSET, now);
+        buffer.putInt(POSITION_OFFSET, position);
+    }
+
+    @Override
+    protected String getDefaultTag() {
+        return "JitsiMeetSDK";
+    }
+
+    /**
+     * Writes the logs of at least the last given time to a single gzip file. The oldest segment
+     * is exported whole, so the file may start earlier.
+     *
+     * @return A future completed with the destination file once it's written.
+     */
+    public CompletableFuture<File> exportLogs(long durationMs, File destination) {
+        CompletableFuture<File> future = new CompletableFuture<>();
+        long since = System.currentTimeMillis() - durationMs;
+        byte[] active;
+
+        synchronized (this) {
+            active = new byte[buffer != null ? position - DATA_OFFSET : 0];
+
+            if (buffer != null) {
+                ByteBuffer data = buffer.duplicate();
+
+                data.position(DATA_OFFSET);
+                data.get(active);
+            }
+
+            // Queued after the compression of the segments rotated so far.
+            Runnable export = () -> {
+                try (OutputStream out = new FileOutputStream(destination)) {
+                    // Concatenated gzip members make a valid gzip file.
+                    for (Segment segment : listSegments()) {
+                        if (segment.lastTime >= since) {
+                            try (InputStream in = new FileInputStream(segment.file)) {
+                                copy(in, out, Long.MAX_VALUE);
+                            }
+                        }
+                    }
+
+                    GZIPOutputStream gzip = new GZIPOutputStream(out);
+
+                    gzip.write(active);
+                    gzip.finish();
+
+                    future.complete(destination);
+                } catch (Throwable t) {
+                    future.completeExceptionally(t);
+                }
+            };
+
+            try {
+                executor.execute(export);
+            } catch (RejectedExecutionException e) {
+                // Closed.
+                future.completeExceptionally(e);
+            }
+        }
+
+        return future;
+    }
+
+    /**
+     * Writes the current segment back to disk and stops logging.
+     */
+    public synchronized void close() {
+        if (buffer != null) {
+            buffer.force();
+            buffer = null;
+        }
+
+        executor.shutdown();
+    }
+
+    /**
+     * Hands the current segment over to the executor for compression and starts a new one.
+     */
+    private void rotate() {
+        File pending = pendingFile(firstTime);
+
+        buffer = null;
+
+        if (new File(directory, ACTIVE_FILE).renameTo(pending)) {
+            executor.execute(() -> compress(pending));
+        } else {
+            Log.w(TAG, "Couldn't rotate the log segment, it's overwritten");
+        }
+
+        openSegment();
+    }
+
+    private void openSegment() {
+        position = DATA_OFFSET;
+        firstTime = 0;
+
+        try {
+            if (!directory.isDirectory() && !directory.mkdirs()) {
+                throw new IOException("Couldn't create " + directory);
+            }
+
+            try (RandomAccessFile file = new RandomAccessFile(new File(directory, ACTIVE_FILE), "rw")) {
+                FileChannel channel = file.getChannel();
+
+                // Discards the content of the segment if it couldn't be rotated.
+                file.setLength(0);
+
+                // Allocates the blocks of the segment by writing them: a store into a mapped page
+                // without backing storage kills the process with SIGBUS when the disk is full,
+                // where a write fails with an IOException.
+                ByteBuffer zeros = ByteBuffer.allocate(64 * 1024);
+
+                for (long offset = 0; offset < segmentSize; offset += zeros.capacity()) {
+                    zeros.clear();
+                    zeros.limit((int) Math.min(zeros.capacity(), segmentSize - offset));
+
+                    while (zeros.hasRemaining()) {
+                        channel.write(zeros, offset + zeros.position());
+                    }
+                }
+                channel.force(false);
+
+                // The mapping remains valid once the file is closed.
+                buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentSize);
+            }
+
+            buffer.putInt(0, MAGIC);
+            buffer.putInt(POSITION_OFFSET, position);
+        } catch (Throwable t) {
+            // E.g. the disk is full. Not logged through JitsiMeetLogger, which would call this
+            // handler again.
+            Log.e(TAG, "Couldn't open the log segment, file logging is disabled", t);
+            buffer = null;
+        }
+    }
+
+    /**
+     * Gets a file name for a rotated segment which isn't taken, as segments may start within the
+     * same millisecond.
+     */
+    private File pendingFile(long time) {
+        for (int index = 0; ; index++) {
+            File file = new File(directory, PENDING_PREFIX + time + "-" + index + PENDING_SUFFIX);
+
+            if (!file.exists()) {
+                return file;
+            }
+        }
+    }
+
+    /**
+     * Compresses a rotated segment into {@code <first time>-<last time>-<index>.log.gz}, the index
+     * telling apart segments with the same times. Runs on the executor.
+     */
+    private void compress(File pending) {
+        try (RandomAccessFile file = new RandomAccessFile(pending, "r")) {
+            ByteBuffer header = ByteBuffer.allocate(DATA_OFFSET);
+
+            file.getChannel().read(header, 0);
+
+            int end = header.getInt(POSITION_OFFSET);
+
+            if (header.getInt(0) == MAGIC && end > DATA_OFFSET && end <= file.length()) {
+                long firstTime = header.getLong(FIRST_TIME_OFFSET);
+                long lastTime = header.getLong(LAST_TIME_OFFSET);
+                File segment;
+
+                for (int index = 0; ; index++) {
+                    segment = new File(directory, firstTime + "-" + lastTime + "-" + index + SEGMENT_SUFFIX);
+
+                    if (!segment.exists()) {
+                        break;
+                    }
+                }
+
+                try (InputStream in = new FileInputStream(pending);
+                     GZIPOutputStream out = new GZIPOutputStream(new FileOutputStream(segment))) {
+                    in.skip(DATA_OFFSET);
+                    copy(in, out, end - DATA_OFFSET);
+                }
+            }
+        } catch (Throwable t) {
+            Log.w(TAG, "Couldn't compress log segment " + pending, t);
+        }
+
+        pending.delete();
+        trim();
+    }
+
+    /**
+     * Deletes the oldest compressed segments until they fit in the maximum total size.
+     */
+    private void trim() {
+        List<Segment> segments = listSegments();
+        long totalSize = 0;
+
+        for (Segment segment : segments) {
+            totalSize += segment.file.length();
+        }
+
+        for (Segment segment : segments) {
+            if (totalSize <= maxTotalSize) {
+                break;
+            }
+
+            totalSize -= segment.file.length();
+            segment.file.delete();
+        }
+    }
+
+    /**
+     * Lists the compressed segments, oldest first.
+     */
+    private List<Segment> listSegments() {
+        List<Segment> segments = new ArrayList<>();
+        File[] files = directory.listFiles((dir, name) -> name.endsWith(SEGMENT_SUFFIX));
+
+        if (files != null) {
+            for (File file : files) {
+                String name = file.getName();
+                String[] parts = name.substring(0, name.length() - SEGMENT_SUFFIX.length()).split("-");
+
+                try {
+                    segments.add(new Segment(
+                        file,
+                        Long.parseLong(parts[0]),
+                        Long.parseLong(parts[1]),
+                        parts.length > 2 ? Integer.parseInt(parts[2]) : 0));
+                } catch (RuntimeException e) {
+                    // Not ours.
+                }
+            }
+        }
+
+        segments.sort((a, b) -> {
+            if (a.firstTime != b.firstTime) {
+                return Long.compare(a.firstTime, b.firstTime);
+            }
+            if (a.lastTime != b.lastTime) {
+                return Long.compare(a.lastTime, b.lastTime);
+            }
+            return Integer.compare(a.index, b.index);
+        });
+
+        return segments;
+    }
+
+    private static void copy(InputStream in, OutputStream out, long length) throws IOException {
+        byte[] chunk = new byte[64 * 1024];
+
+        while (length > 0) {
+            int read = in.read(chunk, 0, (int) Math.min(chunk.length, length));
+
+            if (read < 0) {
+                break;
+            }
+
+            out.write(chunk, 0, read);
+            length -= read;
+        }
+    }
+
+    private static final class Segment {
+        final File file;
+        final long firstTime;
+        final long lastTime;
+        final int index;
+
+        Segment(File file, long firstTime, long lastTime, int index) {
+            this.file = file;
+            this.firstTime = firstTime;
+            this.lastTime = lastTime;
+            this.index = index;
+        }
+    }
+}
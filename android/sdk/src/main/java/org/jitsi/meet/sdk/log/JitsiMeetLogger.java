@@ -16,14 +16,42 @@
 
 package org.jitsi.meet.sdk.log;
 
+import android.util.Log;
+
+import java.util.concurrent.CopyOnWriteArrayList;
+
 import timber.log.Timber;
 
+/**
+ * Logging entry point of the SDK. Records below the minimum level are discarded before anything
+ * is formatted, the rest are queued unformatted and written to the handlers by a background
+ * thread, so pass values as format arguments instead of concatenating them on hot paths:
+ *
+ * <pre>
+ * JitsiMeetLogger.d(TAG + " Frame: %dx%d", width, height);
+ * </pre>
+ *
+ * Records below {@link Log#WARN} are rate limited per message template, see
+ * {@link #setRateLimit(int)}.
+ */
 public class JitsiMeetLogger {
+    /**
+     * The default maximum number of records per message template and second.
+     */
+    public static final int DEFAULT_RATE_LIMIT = 20;
+
+    private static final CopyOnWriteArrayList<JitsiMeetBaseLogHandler> handlers = new CopyOnWriteArrayList<>();
+    private static final AsyncLogPipeline pipeline = new AsyncLogPipeline(handlers, DEFAULT_RATE_LIMIT);
+    private static volatile int minPriority = Log.VERBOSE;
+
     static {
         addHandler(new JitsiMeetDefaultLogHandler());
     }
 
     public static void addHandler(JitsiMeetBaseLogHandler handler) {
+        handlers.addIfAbsent(handler);
+
+        // Also planted so that logs of other libraries using Timber reach the handler.
         if (!Timber.forest().contains(handler)) {
             try {
                 Timber.plant(handler);
@@ -35,6 +63,8 @@ public class JitsiMeetLogger {
     }
 
     public static void removeHandler(JitsiMeetBaseLogHandler handler) {
+        handlers.remove(handler);
+
         if (Timber.forest().contains(handler)) {
             try {
                 Timber.uproot(handler);
@@ -44,64 +74,102 @@ public class JitsiMeetLogger {
         }
     }
 
+    /**
+     * Sets the minimum priority of the records to log, one of the {@link Log} constants.
+     */
+    public static void setMinLevel(int priority) {
+        minPriority = priority;
+    }
+
+    /**
+     * Whether records of the given priority are logged. Use it to skip computing expensive
+     * arguments.
+     */
+    public static boolean isLoggable(int priority) {
+        return priority >= minPriority;
+    }
+
+    /**
+     * Sets the maximum number of records below {@link Log#WARN} logged per message template, i.e.
+     * per call site, and second. The number of suppressed records is reported with the next
+     * record logged with the template. 0 disables rate limiting.
+     */
+    public static void setRateLimit(int recordsPerSecond) {
+        pipeline.setRateLimit(recordsPerSecond);
+    }
+
+    /**
+     * Waits up to the given time for the records logged so far to reach the handlers, e.g. before
+     * the process dies.
+     */
+    public static void flush(long timeoutMs) {
+        pipeline.flush(timeoutMs);
+    }
+
+    private static void log(int priority, Throwable t, String message, Object[] args) {
+        if (priority >= minPriority) {
+            pipeline.offer(priority, t, message, args);
+        }
+    }
+
     public static void v(String message, Object... args) {
-        Timber.v(message, args);
+        log(Log.VERBOSE, null, message, args);
     }
 
     public static void v(Throwable t, String message, Object... args) {
-        Timber.v(t, message, args);
+        log(Log.VERBOSE, t, message, args);
     }
 
     public static void v(Throwable t) {
-        Timber.v(t);
+        log(Log.VERBOSE, t, null, null);
     }
 
     public static void d(String message, Object... args) {
-        Timber.d(message, args);
+        log(Log.DEBUG, null, message, args);
     }
 
     public static void d(Throwable t, String message, Object... args) {
-        Timber.d(t, message, args);
+        log(Log.DEBUG, t, message, args);
     }
 
     public static void d(Throwable t) {
-        Timber.d(t);
+        log(Log.DEBUG, t, null, null);
     }
 
     public static void i(String message, Object... args) {
-        Timber.i(message, args);
+        log(Log.INFO, null, message, args);
     }
 
     public static void i(Throwable t, String message, Object... args) {
-        Timber.i(t, message, args);
+        log(Log.INFO, t, message, args);
     }
 
     public static void i(Throwable t) {
-        Timber.i(t);
+        log(Log.INFO, t, null, null);
     }
 
     public static void w(String message, Object... args) {
-        Timber.w(message, args);
+        log(Log.WARN, null, message, args);
     }
 
     public static void w(Throwable t, String message, Object... args) {
-        Timber.w(t, message, args);
+        log(Log.WARN, t, message, args);
     }
 
     public static void w(Throwable t) {
-        Timber.w(t);
+        log(Log.WARN, t, null, null);
     }
 
     public static void e(String message, Object... args) {
-        Timber.e(message, args);
+        log(Log.ERROR, null, message, args);
     }
 
     public static void e(Throwable t, String message, Object... args) {
-        Timber.e(t, message, args);
+        log(Log.ERROR, t, message, args);
     }
 
     public static void e(Throwable t) {
-        Timber.e(t);
+        log(Log.ERROR, t, null, null);
     }
 
 }
@@ -0,0 +1,206 @@
+/*
+ * Copyright @ 2025-present 8x8, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jitsi.meet.sdk;
+
+import com.facebook.react.bridge.JavaOnlyArray;
+import com.facebook.react.bridge.JavaOnlyMap;
+import com.facebook.react.bridge.ReadableMap;
+
+import org.junit.After;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for {@link EventStreamRecorder} and {@link EventStreamReplayer}, with the React Native
+ * bridge data stubbed by {@link JavaOnlyMap}s.
+ */
+public class EventStreamReplayerTest {
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private final JitsiMeetEventBus eventBus = JitsiMeetEventBus.getInstance();
+    private final List<JitsiMeetEventBus.Listener> listeners = new ArrayList<>();
+    private final AtomicInteger intents = new AtomicInteger();
+
+    @After
+    public void tearDown() {
+        for (JitsiMeetEventBus.Listener listener : listeners) {
+            eventBus.removeListener(BroadcastEvent.Type.PARTICIPANT_JOINED, listener);
+        }
+    }
+
+    /**
+     * Replays 1000 participants joining, as fast as possible.
+     */
+    @Test
+    public void testReplayJoinStorm() throws Exception {
+        AtomicInteger joined = new AtomicInteger();
+
+        addListener(event -> {
+            assertNotNull(event.getData().get("participantId"));
+            joined.incrementAndGet();
+        });
+
+        List<RecordedEvent> events = EventStreamReplayer.participantsJoining(1000, 10000);
+        EventStreamReplayer.Report report
+            = newReplayer().replay(events, false);
+
+        assertEquals(1000, joined.get());
+        assertEquals(1000, intents.get());
+        assertEquals(1000, report.count);
+        assertEquals(0, report.skipped);
+        for (EventStreamReplayer.Stage stage : EventStreamReplayer.Stage.values()) {
+            EventStreamReplayer.StageReport stageReport = report.getStage(stage);
+
+            assertEquals(1000, stageReport.count);
+            // Posted in batches, as JS sends them.
+            assertEquals(16, stageReport.batches);
+            assertTrue(stageReport.p50Nanos <= stageReport.p99Nanos);
+            assertTrue(stageReport.p99Nanos <= stageReport.maxNanos);
+        }
+    }
+
+    /**
+     * Replays in real time, checking the pace of the events is kept.
+     */
+    @Test
+    public void testReplayRealTime() throws Exception {
+        List<RecordedEvent> events = EventStreamReplayer.participantsJoining(20, 200);
+        EventStreamReplayer.Report report
+            = newReplayer().replay(events, true);
+
+        assertEquals(20, report.count);
+        assertTrue(report.durationNanos >= 200 * 1000000L);
+    }
+
+    @Test
+    public void testRecordAndReplay() throws Exception {
+        File file = folder.newFile("events.gz");
+        EventStreamRecorder recorder = new EventStreamRecorder(eventBus);
+
+        recorder.start(file);
+        newReplayer()
+            .replay(EventStreamReplayer.participantsJoining(100, 0), false);
+
+        Map<String, Object> nested = new HashMap<>();
+        List<Object> participantsInfo = new ArrayList<>();
+        participantsInfo.add(EventStreamReplayer.participantsJoining(1, 0).get(0).data);
+        nested.put("participantsInfo", participantsInfo);
+        nested.put("requestId", "request");
+        newReplayer().replay(
+            Collections.singletonList(new RecordedEvent(0, "PARTICIPANTS_INFO_RETRIEVED", nested)),
+            false);
+        recorder.stop();
+
+        List<RecordedEvent> recorded = EventStreamRecorder.read(file);
+
+        assertEquals(101, recorded.size());
+        assertEquals("PARTICIPANT_JOINED", recorded.get(0).name);
+        assertEquals("participant-42", recorded.get(42).data.get("participantId"));
+        assertEquals(Boolean.FALSE, recorded.get(42).data.get("isLocal"));
+        assertEquals("PARTICIPANTS_INFO_RETRIEVED", recorded.get(100).name);
+        assertEquals(1, ((List<?>) recorded.get(100).data.get("participantsInfo")).size());
+
+        EventStreamReplayer.Report report
+            = newReplayer().replay(recorded, false);
+
+        assertEquals(101, report.count);
+    }
+
+    /**
+     * Makes a replayer which counts the broadcasts instead of building their {@code Intent}s, as
+     * {@code Intent} isn't implemented in JVM unit tests. Their extras are still built, so the
+     * broadcast stage measures the conversion.
+     */
+    private EventStreamReplayer newReplayer() {
+        return new EventStreamReplayer(eventBus, EventStreamReplayerTest::toReadableMap, (action, extras) -> {
+            assertTrue(action, action.startsWith("org.jitsi.meet."));
+            intents.incrementAndGet();
+            return null;
+        });
+    }
+
+    private void addListener(JitsiMeetEventBus.Listener listener) {
+        listeners.add(listener);
+        eventBus.addListener(BroadcastEvent.Type.PARTICIPANT_JOINED, listener);
+    }
+
+    /**
+     * Builds the {@link ReadableMap} the bridge would deliver for the given data.
+     */
+    private static ReadableMap toReadableMap(Map<String, Object> data) {
+        JavaOnlyMap map = new JavaOnlyMap();
+
+        for (Map.Entry<String, Object> e : data.entrySet()) {
+            Object value = e.getValue();
+
+            if (value == null) {
+                map.putNull(e.getKey());
+            } else if (value instanceof Boolean) {
+                map.putBoolean(e.getKey(), (Boolean) value);
+            } else if (value instanceof Number) {
+                map.putDouble(e.getKey(), ((Number) value).doubleValue());
+            } else if (value instanceof Map) {
+                map.putMap(e.getKey(), toReadableMap(castMap(value)));
+            } else if (value instanceof List) {
+                map.putArray(e.getKey(), toReadableArray((List<?>) value));
+            } else {
+                map.putString(e.getKey(), value.toString());
+            }
+        }
+
+        return map;
+    }
+
+    private static JavaOnlyArray toReadableArray(List<?> list) {
+        JavaOnlyArray array = new JavaOnlyArray();
+
+        for (Object value : list) {
+            if (value == null) {
+                array.pushNull();
+            } else if (value instanceof Boolean) {
+                array.pushBoolean((Boolean) value);
+            } else if (value instanceof Number) {
+                array.pushDouble(((Number) value).doubleValue());
+            } else if (value instanceof Map) {
+                array.pushMap(toReadableMap(castMap(value)));
+            } else if (value instanceof List) {
+                array.pushArray(toReadableArray((List<?>) value));
+            } else {
+                array.pushString(value.toString());
+            }
+        }
+
+        return array;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> castMap(Object value) {
+        return (Map<String, Object>) value;
+    }
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright @ 2025-present 8x8, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.jitsi.meet.sdk;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for {@link LatencyHistogram}.
+ */
+public class LatencyHistogramTest {
+    @Test
+    public void testBucketsCoverEveryLatency() {
+        long previousBound = -1;
+
+        for (int bucket = 0; bucket < 108; bucket++) {
+            long bound = LatencyHistogram.lowerBoundOf(bucket);
+
+            assertTrue("Bounds increase at bucket " + bucket, bound > previousBound);
+            assertEquals(bucket, LatencyHistogram.bucketOf(bound));
+            if (bucket > 0) {
+                assertEquals(bucket - 1, LatencyHistogram.bucketOf(bound - 1));
+            }
+            previousBound = bound;
+        }
+
+        assertEquals(107, LatencyHistogram.bucketOf(Long.MAX_VALUE));
+        assertEquals(0, LatencyHistogram.bucketOf(0));
+    }
+
+    @Test
+    public void testPercentilesAreWithinTheBucketError() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        Random random = new Random(42);
+        long[] micros = new long[10000];
+
+        for (int i = 0; i < micros.length; i++) {
+            micros[i] = 100 + random.nextInt(1000000);
+            histogram.record(micros[i] * 1000);
+        }
+        Arrays.sort(micros);
+
+        for (double percentile : new double[] { 50, 90, 99, 100 }) {
+            double exact = micros[(int) Math.ceil(percentile / 100 * micros.length) - 1] / 1000.0;
+            double estimate = histogram.getPercentileMillis(percentile);
+
+            assertTrue("p" + percentile + " " + estimate + " < " + exact, estimate >= exact);
+            assertTrue("p" + percentile + " " + estimate + " > " + exact, estimate <= exact * 1.25);
+        }
+
+        assertEquals(micros[micros.length - 1] / 1000.0, histogram.getMaxMillis(), 0);
+        assertEquals(micros[micros.length - 1] / 1000.0, histogram.getPercentileMillis(100), 0);
+    }
+
+    @Test
+    public void testMeanAndReset() {
+        LatencyHistogram histogram = new LatencyHistogram();
+
+        assertEquals(0, histogram.getPercentileMillis(50), 0);
+        assertEquals(0, histogram.getMeanMillis(), 0);
+
+        histogram.record(1000000);
+        histogram.record(3000000);
+        // Negative latencies, e.g. from a clock adjustment, count as 0.
+        histogram.record(-5000);
+
+        assertEquals(3, histogram.getCount());
+        assertEquals(4.0 / 3, histogram.getMeanMillis(), 0.001);
+        assertEquals(3, histogram.getMaxMillis(), 0);
+
+        histogram.reset();
+
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.getMaxMillis(), 0);
+        assertEquals(0, histogram.getPercentileMillis(99), 0);
+    }
+
+    @Test
+    public void testConcurrentRecording() throws Exception {
+        LatencyHistogram histogram = new LatencyHistogram();
+        int threads = 4;
+        int perThread = 100000;
+        CountDownLatch start = new CountDownLatch(1);
+        Thread[] recorders = new Thread[threads];
+
+        for (int i = 0; i < threads; i++) {
+            recorders[i] = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                for (int j = 0; j < perThread; j++) {
+                    histogram.record(2000000);
+                }
+            });
+            recorders[i].start();
+        }
+        start.countDown();
+        for (Thread recorder : recorders) {
+            recorder.join();
+        }
+
+        assertEquals(threads * perThread, histogram.getCount());
+        assertEquals(2, histogram.getMeanMillis(), 0);
+        assertEquals(2, histogram.getPercentileMillis(50), 0);
+    }
+}
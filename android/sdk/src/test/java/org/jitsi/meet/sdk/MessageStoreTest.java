@@ -0,0 +1,196 @@
+/*
+ * Copyright @ 2025-present 8x8, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.jitsi.meet.sdk;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for {@link MessageStore}: the ring in memory, the per conversation index, and the pages
+ * loaded from the log on disk.
+ */
+public class MessageStoreTest {
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void testRingKeepsTheMostRecentMessages() {
+        MessageStore store = new MessageStore();
+
+        store.setCapacity(3);
+        for (int i = 0; i < 5; i++) {
+            addChat(store, "a", /* isPrivate */ false, i);
+        }
+
+        assertNull(store.getMessage(1));
+        assertEquals(2, store.getMessage(2).seq);
+        assertEquals(4, store.getMessage(4).seq);
+        assertNull(store.getMessage(5));
+        assertEquals(seqs(2, 3, 4), seqsOf(store.getMessages(null, Long.MAX_VALUE, 10)));
+        assertEquals(seqs(3, 4), seqsOf(store.getMessages(null, Long.MAX_VALUE, 2)));
+        assertEquals(seqs(2, 3), seqsOf(store.getMessages(null, 4, 10)));
+        assertEquals(5, store.getTotalUnreadCount());
+    }
+
+    @Test
+    public void testConversationIndex() {
+        MessageStore store = new MessageStore();
+
+        store.setCapacity(3);
+        addChat(store, "a", /* isPrivate */ true, 0);
+        addChat(store, "b", /* isPrivate */ true, 1);
+        addChat(store, "a", /* isPrivate */ false, 2);
+        addChat(store, "a", /* isPrivate */ true, 3);
+        addEndpointMessage(store, "c", 4);
+
+        // The first two were evicted, and the conversation of b with them.
+        assertFalse(store.getConversationIds().contains("private:b"));
+        assertTrue(store.getConversationIds().contains("private:a"));
+        assertTrue(store.getConversationIds().contains(StoredMessage.CONVERSATION_PUBLIC));
+        assertTrue(store.getConversationIds().contains("endpoint:c"));
+
+        assertEquals(seqs(3), seqsOf(store.getMessages("private:a", Long.MAX_VALUE, 10)));
+        assertEquals(seqs(2), seqsOf(store.getMessages(StoredMessage.CONVERSATION_PUBLIC, Long.MAX_VALUE, 10)));
+        assertEquals(seqs(), seqsOf(store.getMessages("private:a", 3, 10)));
+
+        // Unread counts outlive the messages in memory.
+        assertEquals(2, store.getUnreadCount("private:a"));
+        assertEquals(1, store.getUnreadCount("private:b"));
+        store.markRead("private:a");
+        assertEquals(0, store.getUnreadCount("private:a"));
+        assertEquals(3, store.getTotalUnreadCount());
+        store.markAllRead();
+        assertEquals(0, store.getTotalUnreadCount());
+    }
+
+    @Test
+    public void testGetMessagesSince() {
+        MessageStore store = new MessageStore();
+
+        store.setCapacity(5);
+        // Received every 10 ms from 1000; the ring wraps and keeps 5 to 9.
+        for (int i = 0; i < 10; i++) {
+            addChat(store, i % 2 == 0 ? "a" : "b", /* isPrivate */ true, 1000 + i * 10);
+        }
+
+        assertEquals(seqs(5, 6, 7, 8, 9), seqsOf(store.getMessagesSince(null, 0, 10)));
+        assertEquals(seqs(8, 9), seqsOf(store.getMessagesSince(null, 1075, 10)));
+        assertEquals(seqs(8, 9), seqsOf(store.getMessagesSince(null, 1080, 10)));
+        assertEquals(seqs(9), seqsOf(store.getMessagesSince(null, 1090, 10)));
+        assertEquals(seqs(), seqsOf(store.getMessagesSince(null, 1091, 10)));
+        assertEquals(seqs(6, 8), seqsOf(store.getMessagesSince("private:a", 1055, 10)));
+        assertEquals(seqs(5, 6), seqsOf(store.getMessagesSince(null, 0, 2)));
+    }
+
+    @Test
+    public void testLoadsOlderPagesFromTheLog() throws Exception {
+        MessageStore store = new MessageStore();
+
+        store.openLog(new File(folder.newFolder(), "messages.log"));
+        store.setCapacity(10);
+        for (int i = 0; i < 300; i++) {
+            addChat(store, i % 2 == 0 ? "a" : "b", /* isPrivate */ true, i);
+        }
+
+        // Within an indexed stretch, and across several.
+        assertEquals(range(150, 200, 1), seqsOf(store.loadMessages(null, 200, 50).get()));
+        assertEquals(range(10, 140, 1), seqsOf(store.loadMessages(null, 140, 130).get()));
+        assertEquals(range(0, 5, 1), seqsOf(store.loadMessages(null, 5, 10).get()));
+        assertEquals(range(40, 100, 2), seqsOf(store.loadMessages("private:a", 100, 30).get()));
+        assertEquals(range(1, 9, 2), seqsOf(store.loadMessages("private:b", 9, 30).get()));
+
+        // In memory.
+        assertEquals(range(295, 300, 1), seqsOf(store.loadMessages(null, Long.MAX_VALUE, 5).get()));
+    }
+
+    @Test
+    public void testScansTheLogOfAPreviousProcess() throws Exception {
+        File file = new File(folder.newFolder(), "messages.log");
+        MessageStore previous = new MessageStore();
+
+        previous.openLog(file);
+        previous.setCapacity(10);
+        for (int i = 0; i < 100; i++) {
+            addChat(previous, "a", /* isPrivate */ false, i);
+        }
+        // Waits for the appends.
+        previous.loadMessages(null, 1, 1).get();
+
+        MessageStore store = new MessageStore();
+        List<StoredMessage> page = new ArrayList<>();
+
+        store.openLog(file);
+        // Until the log is scanned, the store is empty.
+        for (long deadline = System.currentTimeMillis() + 5000;
+                page.isEmpty() && System.currentTimeMillis() < deadline; ) {
+            page = store.loadMessages(null, Long.MAX_VALUE, 10).get();
+        }
+
+        assertEquals(range(90, 100, 1), seqsOf(page));
+
+        // New messages are numbered after those of the log.
+        addChat(store, "a", /* isPrivate */ false, 100);
+        assertEquals(100, store.getMessage(100).seq);
+        assertEquals(range(50, 101, 1), seqsOf(store.loadMessages(null, 101, 51).get()));
+    }
+
+    private static void addChat(MessageStore store, String senderId, boolean isPrivate, long receivedAt) {
+        store.add(StoredMessage.Type.CHAT, senderId, "message", isPrivate, receivedAt, receivedAt);
+    }
+
+    private static void addEndpointMessage(MessageStore store, String senderId, long receivedAt) {
+        store.add(StoredMessage.Type.ENDPOINT, senderId, "message", /* isPrivate */ true, receivedAt, receivedAt);
+    }
+
+    private static List<Long> seqsOf(List<StoredMessage> messages) {
+        List<Long> seqs = new ArrayList<>(messages.size());
+
+        for (StoredMessage message : messages) {
+            seqs.add(message.seq);
+        }
+
+        return seqs;
+    }
+
+    private static List<Long> seqs(long... values) {
+        List<Long> seqs = new ArrayList<>(values.length);
+
+        for (long value : values) {
+            seqs.add(value);
+        }
+
+        return seqs;
+    }
+
+    private static List<Long> range(long from, long to, long step) {
+        List<Long> seqs = new ArrayList<>();
+
+        for (long seq = from; seq < to; seq += step) {
+            seqs.add(seq);
+        }
+
+        return seqs;
+    }
+}
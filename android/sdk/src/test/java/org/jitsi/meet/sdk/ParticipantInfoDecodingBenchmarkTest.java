@@ -0,0 +1,166 @@
+/*
+ * Copyright @ 2025-present 8x8, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jitsi.meet.sdk;
+
+import com.google.gson.Gson;
+import com.google.gson.reflect.TypeToken;
+
+import org.junit.Ignore;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.*;
+
+/**
+ * Compares the ways of decoding the {@code participantsInfo} payload of
+ * {@code PARTICIPANTS_INFO_RETRIEVED}, at several roster sizes:
+ * <ul>
+ *     <li>legacy: {@code toString()} of the data, then Gson reflection (the former path);</li>
+ *     <li>structured: straight from the data sent over the bridge;</li>
+ *     <li>streaming: from the JSON broadcast extra, with a {@code JsonReader}.</li>
+ * </ul>
+ * The benchmark depends on the machine, so it's not part of the unit tests; run it manually. It
+ * only checks that both new decoders beat the legacy one.
+ */
+public class ParticipantInfoDecodingBenchmarkTest {
+    private static final int[] SIZES = { 10, 500, 5000 };
+    private static final int WARMUP_ITERATIONS = 20;
+    private static final int ITERATIONS = 50;
+
+    @Test
+    public void testDecodersAgree() throws IOException {
+        List<Map<String, Object>> data = buildParticipantsInfo(100);
+
+        List<ParticipantInfo> structured = ParticipantInfo.listFromMaps(data);
+        List<ParticipantInfo> streaming
+            = ParticipantInfo.listFromJson(new StringReader(JsonPayloads.toExtraString(data)));
+
+        assertEquals(data.size(), structured.size());
+        assertEquals(data.size(), streaming.size());
+
+        for (int i = 0; i < data.size(); i++) {
+            assertParticipantInfoEquals(structured.get(i), streaming.get(i));
+        }
+        assertEquals("participant-7", structured.get(7).id);
+        assertTrue(structured.get(0).isLocal);
+        assertFalse(structured.get(1).isLocal);
+    }
+
+    @Test
+    public void testStreamingSkipsUnknownProperties() throws IOException {
+        String json = "[{\"participantId\":\"a\",\"extra\":{\"nested\":[1,2]},\"email\":null,\"role\":\"none\"}]";
+
+        List<ParticipantInfo> participants = ParticipantInfo.listFromJson(new StringReader(json));
+
+        assertEquals(1, participants.size());
+        assertEquals("a", participants.get(0).id);
+        assertNull(participants.get(0).email);
+        assertEquals("none", participants.get(0).role);
+    }
+
+    @Ignore("Benchmark, run manually")
+    @Test
+    public void benchmark() throws IOException {
+        Gson gson = new Gson();
+
+        for (int size : SIZES) {
+            List<Map<String, Object>> data = buildParticipantsInfo(size);
+            String json = JsonPayloads.toExtraString(data);
+
+            long legacy = measure(() -> {
+                List<ParticipantInfo> participants = gson.fromJson(
+                    data.toString(),
+                    new TypeToken<ArrayList<ParticipantInfo>>() {
+                    }.getType());
+                assertEquals(size, participants.size());
+            });
+            long structured = measure(() -> assertEquals(size, ParticipantInfo.listFromMaps(data).size()));
+            long streaming = measure(
+                () -> assertEquals(size, ParticipantInfo.listFromJson(new StringReader(json)).size()));
+
+            String timings = String.format(
+                "participantsInfo x%d: legacy %d us, structured %d us, streaming %d us",
+                size, legacy / 1000, structured / 1000, streaming / 1000);
+
+            assertTrue(timings, structured < legacy);
+            assertTrue(timings, streaming < legacy);
+        }
+    }
+
+    private static List<Map<String, Object>> buildParticipantsInfo(int size) {
+        List<Map<String, Object>> participantsInfo = new ArrayList<>(size);
+
+        for (int i = 0; i < size; i++) {
+            // No spaces, commas, equal signs or slashes in the values, which the legacy path can't
+            // decode.
+            Map<String, Object> participantInfo = new HashMap<>();
+
+            participantInfo.put("participantId", "participant-" + i);
+            participantInfo.put("displayName", "Participant_" + i);
+            participantInfo.put("avatarUrl", "avatar-" + i + ".png");
+            participantInfo.put("email", "participant" + i + "@example.com");
+            participantInfo.put("name", "participant" + i);
+            participantInfo.put("isLocal", i == 0);
+            participantInfo.put("role", i % 50 == 0 ? "moderator" : "participant");
+            participantsInfo.add(participantInfo);
+        }
+
+        return participantsInfo;
+    }
+
+    /**
+     * Gets the median time, in nanoseconds, a decoder takes.
+     */
+    private static long measure(Decoder decoder) throws IOException {
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            decoder.decode();
+        }
+
+        long[] times = new long[ITERATIONS];
+
+        for (int i = 0; i < ITERATIONS; i++) {
+            long start = System.nanoTime();
+            decoder.decode();
+            times[i] = System.nanoTime() - start;
+        }
+
+        Arrays.sort(times);
+
+        return times[ITERATIONS / 2];
+    }
+
+    private static void assertParticipantInfoEquals(ParticipantInfo expected, ParticipantInfo actual) {
+        assertEquals(expected.id, actual.id);
+        assertEquals(expected.displayName, actual.displayName);
+        assertEquals(expected.avatarUrl, actual.avatarUrl);
+        assertEquals(expected.email, actual.email);
+        assertEquals(expected.name, actual.name);
+        assertEquals(expected.isLocal, actual.isLocal);
+        assertEquals(expected.role, actual.role);
+    }
+
+    private interface Decoder {
+        void decode() throws IOException;
+    }
+}
@@ -0,0 +1,243 @@
+/*
+ * Copyright @ 2025-present 8x8, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.jitsi.meet.sdk.log;
+
+import android.util.Log;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for {@link AsyncLogPipeline}, with a handler collecting what the writer thread hands it.
+ */
+public class AsyncLogPipelineTest {
+    /**
+     * The number of slots of the pipeline's ring.
+     */
+    private static final int CAPACITY = 1024;
+
+    @Test
+    public void testKeepsTheOrderOfEachProducer() throws Exception {
+        CollectingHandler handler = new CollectingHandler();
+        AsyncLogPipeline pipeline = new AsyncLogPipeline(Collections.singletonList(handler), /* rateLimit */ 0);
+        int producers = 4;
+        int records = 20000;
+        int[] accepted = new int[producers];
+        Thread[] threads = new Thread[producers];
+
+        for (int i = 0; i < producers; i++) {
+            int producer = i;
+
+            threads[i] = new Thread(() -> {
+                for (int j = 0; j < records; j++) {
+                    if (pipeline.offer(Log.DEBUG, null, "P" + producer + " %d", new Object[] { j })) {
+                        accepted[producer]++;
+                    }
+                }
+            });
+            threads[i].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        pipeline.flush(10000);
+
+        int[] last = { -1, -1, -1, -1 };
+        int received = 0;
+
+        for (String message : handler.getMessages()) {
+            if (!message.startsWith("P")) {
+                // A report of dropped records.
+                continue;
+            }
+
+            int producer = message.charAt(1) - '0';
+            int record = Integer.parseInt(message.substring(3));
+
+            assertTrue(message + " after " + last[producer], record > last[producer]);
+            last[producer] = record;
+            received++;
+        }
+
+        int total = 0;
+
+        for (int count : accepted) {
+            total += count;
+        }
+        assertEquals(total, received);
+    }
+
+    @Test
+    public void testDropsAndCountsRecordsWhenFull() throws Exception {
+        CountDownLatch blocked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CollectingHandler handler = new CollectingHandler() {
+            @Override
+            protected void log(int priority, @Nullable String tag, @NotNull String msg, @Nullable Throwable t) {
+                if (msg.equals("first")) {
+                    blocked.countDown();
+                    await(release);
+                }
+                super.log(priority, tag, msg, t);
+            }
+        };
+        AsyncLogPipeline pipeline = new AsyncLogPipeline(Collections.singletonList(handler), /* rateLimit */ 0);
+
+        assertTrue(pipeline.offer(Log.INFO, null, "first", null));
+        assertTrue(blocked.await(5, TimeUnit.SECONDS));
+
+        // The writer is stuck on the first record, so the ring fills up.
+        int accepted = 0;
+
+        for (int i = 0; i < CAPACITY + 100; i++) {
+            if (pipeline.offer(Log.INFO, null, "record", null)) {
+                accepted++;
+            }
+        }
+        assertEquals(CAPACITY, accepted);
+
+        release.countDown();
+        pipeline.flush(5000);
+        // Flushing waits for the records, the report comes once the writer is idle.
+        long deadline = System.currentTimeMillis() + 5000;
+
+        while (handler.getMessages().size() < CAPACITY + 2 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(1);
+        }
+
+        List<String> messages = handler.getMessages();
+
+        assertEquals(CAPACITY + 2, messages.size());
+        assertTrue(messages.get(CAPACITY + 1), messages.get(CAPACITY + 1).contains("100 log records dropped"));
+        assertEquals(Log.WARN, (int) handler.getPriorities().get(CAPACITY + 1));
+    }
+
+    @Test
+    public void testFlushWaitsForTheQueuedRecords() {
+        CollectingHandler handler = new CollectingHandler() {
+            @Override
+            protected void log(int priority, @Nullable String tag, @NotNull String msg, @Nullable Throwable t) {
+                try {
+                    Thread.sleep(1);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                super.log(priority, tag, msg, t);
+            }
+        };
+        AsyncLogPipeline pipeline = new AsyncLogPipeline(Collections.singletonList(handler), /* rateLimit */ 0);
+
+        for (int i = 0; i < 100; i++) {
+            assertTrue(pipeline.offer(Log.INFO, null, "record %d", new Object[] { i }));
+        }
+        pipeline.flush(10000);
+
+        List<String> messages = handler.getMessages();
+
+        assertEquals(100, messages.size());
+        assertEquals("record 99", messages.get(99));
+    }
+
+    @Test
+    public void testRateLimitsOnlyDebugAndInfo() {
+        CollectingHandler handler = new CollectingHandler();
+        AsyncLogPipeline pipeline = new AsyncLogPipeline(Collections.singletonList(handler), /* rateLimit */ 5);
+        int debug = 0;
+        int warn = 0;
+        int error = 0;
+
+        for (int i = 0; i < 50; i++) {
+            debug += pipeline.offer(Log.DEBUG, null, "Tag debug", null) ? 1 : 0;
+            warn += pipeline.offer(Log.WARN, null, "Tag warning", null) ? 1 : 0;
+            error += pipeline.offer(Log.ERROR, null, "Tag error", null) ? 1 : 0;
+        }
+        pipeline.flush(5000);
+
+        // Unless the loop spans the start of a second.
+        assertTrue(String.valueOf(debug), debug == 5 || debug == 10);
+        assertEquals(50, warn);
+        assertEquals(50, error);
+        assertEquals(debug + warn + error, handler.getMessages().size());
+    }
+
+    @Test
+    public void testRateLimitsEachTemplateSeparately() {
+        CollectingHandler handler = new CollectingHandler();
+        AsyncLogPipeline pipeline = new AsyncLogPipeline(Collections.singletonList(handler), /* rateLimit */ 5);
+        int frames = 0;
+
+        for (int i = 0; i < 50; i++) {
+            // Built for every record, like TAG + " ..." templates are.
+            frames += pipeline.offer(Log.DEBUG, null, new String("Tag Frame %d"), new Object[] { i }) ? 1 : 0;
+        }
+        boolean other = pipeline.offer(Log.DEBUG, null, "Tag Something else", null);
+        pipeline.flush(5000);
+
+        // Unless the loop spans the start of a second.
+        assertTrue(String.valueOf(frames), frames == 5 || frames == 10);
+        assertTrue(other);
+        assertEquals(frames + 1, handler.getMessages().size());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static class CollectingHandler extends JitsiMeetBaseLogHandler {
+        private final List<String> messages = new ArrayList<>();
+        private final List<Integer> priorities = new ArrayList<>();
+
+        @Override
+        protected void log(int priority, @Nullable String tag, @NotNull String msg, @Nullable Throwable t) {
+            synchronized (this) {
+                messages.add(msg);
+                priorities.add(priority);
+            }
+        }
+
+        @Override
+        protected void doLog(int priority, @NotNull String tag, @NotNull String msg) {
+        }
+
+        @Override
+        protected String getDefaultTag() {
+            return "Test";
+        }
+
+        synchronized List<String> getMessages() {
+            return new ArrayList<>(messages);
+        }
+
+        synchronized List<Integer> getPriorities() {
+            return new ArrayList<>(priorities);
+        }
+    }
+}
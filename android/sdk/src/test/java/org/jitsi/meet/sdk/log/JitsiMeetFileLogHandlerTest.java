@@ -0,0 +1,196 @@
+/*
+ * Copyright @ 2025-present 8x8, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.jitsi.meet.sdk.log;
+
+import android.util.Log;
+
+import org.junit.After;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for {@link JitsiMeetFileLogHandler}, writing to a temporary directory.
+ */
+public class JitsiMeetFileLogHandlerTest {
+    private static final int SEGMENT_SIZE = 4096;
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private final List<JitsiMeetFileLogHandler> handlers = new ArrayList<>();
+
+    @After
+    public void tearDown() {
+        for (JitsiMeetFileLogHandler handler : handlers) {
+            handler.close();
+        }
+    }
+
+    @Test
+    public void testRotatesAndTrimsToTheMaximumSize() throws Exception {
+        File directory = folder.newFolder();
+        JitsiMeetFileLogHandler handler = createHandler(directory, 4096);
+
+        log(handler, 0, 2000);
+        // Waits for the compression of the rotated segments.
+        export(handler, Long.MAX_VALUE);
+
+        File[] segments = directory.listFiles((dir, name) -> name.endsWith(".log.gz"));
+        long totalSize = 0;
+
+        assertNotNull(segments);
+        assertTrue(segments.length > 1);
+        for (File segment : segments) {
+            totalSize += segment.length();
+        }
+        assertTrue(totalSize <= 4096);
+
+        // The oldest records were deleted, the newest ones are all there.
+        List<String> lines = export(handler, Long.MAX_VALUE);
+
+        assertFalse(lines.get(0).endsWith(" record 0"));
+        assertTrue(lines.get(lines.size() - 1).endsWith(" record 1999"));
+        assertInOrder(lines);
+    }
+
+    @Test
+    public void testRecoversTheSegmentOfAPreviousProcess() throws Exception {
+        File directory = folder.newFolder();
+        JitsiMeetFileLogHandler crashed = createHandler(directory, 1024 * 1024);
+
+        log(crashed, 0, 10);
+
+        // Not closed, as if the process died.
+        JitsiMeetFileLogHandler handler = createHandler(directory, 1024 * 1024);
+
+        log(handler, 10, 20);
+
+        List<String> lines = export(handler, Long.MAX_VALUE);
+
+        assertEquals(20, lines.size());
+        assertTrue(lines.get(0).endsWith(" record 0"));
+        assertTrue(lines.get(0).contains(" I/JitsiMeetSDK: "));
+        assertInOrder(lines);
+    }
+
+    @Test
+    public void testExportsTheSegmentsOfTheWindowOnly() throws Exception {
+        File directory = folder.newFolder();
+        long now = System.currentTimeMillis();
+
+        writeSegment(new File(directory, "1000-2000.log.gz"), "old\n");
+        writeSegment(new File(directory, (now - 1000) + "-" + (now - 500) + ".log.gz"), "recent\n");
+
+        JitsiMeetFileLogHandler handler = createHandler(directory, 1024 * 1024);
+
+        log(handler, 0, 2);
+
+        List<String> lines = export(handler, TimeUnit.MINUTES.toMillis(1));
+
+        assertEquals(3, lines.size());
+        assertEquals("recent", lines.get(0));
+        assertTrue(lines.get(2).endsWith(" record 1"));
+
+        lines = export(handler, Long.MAX_VALUE);
+
+        assertEquals("old", lines.get(0));
+        assertEquals("recent", lines.get(1));
+    }
+
+    @Test
+    public void testExportAfterCloseFails() throws Exception {
+        JitsiMeetFileLogHandler handler = createHandler(folder.newFolder(), 1024 * 1024);
+
+        handler.close();
+
+        try {
+            handler.exportLogs(0, folder.newFile()).get();
+            fail();
+        } catch (ExecutionException e) {
+            assertTrue(e.getCause() instanceof RejectedExecutionException);
+        }
+    }
+
+    private JitsiMeetFileLogHandler createHandler(File directory, long maxTotalSize) {
+        JitsiMeetFileLogHandler handler = new JitsiMeetFileLogHandler(directory, SEGMENT_SIZE, maxTotalSize);
+
+        handlers.add(handler);
+
+        return handler;
+    }
+
+    private static void log(JitsiMeetFileLogHandler handler, int from, int to) {
+        for (int i = from; i < to; i++) {
+            handler.doLog(Log.INFO, handler.getDefaultTag(), "Test record " + i);
+        }
+    }
+
+    private List<String> export(JitsiMeetFileLogHandler handler, long durationMs) throws Exception {
+        File file = handler.exportLogs(Math.min(durationMs, System.currentTimeMillis()), folder.newFile()).get();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // Reads all the concatenated gzip members.
+        try (InputStream in = new GZIPInputStream(new FileInputStream(file))) {
+            byte[] chunk = new byte[4096];
+            int read;
+
+            while ((read = in.read(chunk)) > 0) {
+                out.write(chunk, 0, read);
+            }
+        }
+
+        return Arrays.asList(new String(out.toByteArray(), StandardCharsets.UTF_8).split("\n"));
+    }
+
+    private static void writeSegment(File file, String content) throws IOException {
+        try (OutputStream out = new GZIPOutputStream(new FileOutputStream(file))) {
+            out.write(content.getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    private static void assertInOrder(List<String> lines) {
+        int previous = -1;
+
+        for (String line : lines) {
+            int record = Integer.parseInt(line.substring(line.lastIndexOf(' ') + 1));
+
+            assertEquals(previous == -1 ? record : previous + 1, record);
+            previous = record;
+        }
+    }
+}
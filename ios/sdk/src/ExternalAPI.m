@@ -120,6 +120,19 @@ RCT_EXPORT_METHOD(sendEvent:(NSString *)name
                                                       userInfo:@{@"name": name, @"data": data}];
 }
 
+/**
+ * Dispatches a batch of events that occurred on JavaScript to the view's
+ * delegate, in order.
+ *
+ * @param events The events, each a dictionary with the `name` and `data` of
+ * the event.
+ */
+RCT_EXPORT_METHOD(sendEvents:(NSArray *)events) {
+    for (NSDictionary *event in events) {
+        [self sendEvent:event[@"name"] data:event[@"data"]];
+    }
+}
+
 - (void) onParticipantsInfoRetrieved:(NSDictionary *)data {
     NSArray *participantsInfoArray = [data objectForKey:@"participantsInfo"];
     NSString *completionHandlerId = [data objectForKey:@"requestId"];
@@ -7,6 +7,7 @@ import '../mobile/external-api/middleware';
 import '../mobile/full-screen/middleware';
 import '../mobile/navigation/middleware';
 import '../mobile/permissions/middleware';
+import '../mobile/picture-in-picture/middleware';
 import '../mobile/proximity/middleware';
 import '../mobile/wake-lock/middleware';
 import '../mobile/react-native-sdk/middleware';
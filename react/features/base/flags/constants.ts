@@ -182,6 +182,25 @@ export const PARTICIPANTS_ENABLED = 'participants.enabled';
  */
 export const PIP_ENABLED = 'pip.enabled';
 
+/**
+ * Flag indicating if the media policy should be applied while in Picture-in-Picture: lower receive
+ * constraints, no off-screen streams and a capped local camera frame rate. Android only.
+ * Default: enabled (true).
+ */
+export const PIP_MEDIA_POLICY_ENABLED = 'pip.media-policy.enabled';
+
+/**
+ * Flag indicating the max frame height received while in Picture-in-Picture.
+ * Default: 180.
+ */
+export const PIP_MAX_RECEIVE_HEIGHT = 'pip.max-receive-height';
+
+/**
+ * Flag indicating the max frame rate of the local camera while in Picture-in-Picture.
+ * Default: 5.
+ */
+export const PIP_MAX_CAMERA_FPS = 'pip.max-camera-fps';
+
 /**
  * Flag indicating if the prejoin page should be enabled.
  * Default: enabled (true).
@@ -6,11 +6,92 @@ import { IParticipant } from '../../base/participants/types';
 import { readyToClose } from './actions';
 
 
+/**
+ * The maximum number of events queued before they are flushed without waiting for the scheduled
+ * flush.
+ */
+const MAX_EVENTS_BATCH_SIZE = 64;
+
+/**
+ * Events after which the native side may tear the conference down, so they are flushed right away
+ * along with the events queued before them.
+ */
+const TERMINAL_EVENTS = new Set([ 'CONFERENCE_TERMINATED', 'READY_TO_CLOSE' ]);
+
+/**
+ * Events which carry a state rather than a change (or, for transcription chunks, the whole text so
+ * far), mapped to a function returning the key by which they are coalesced: only the last queued
+ * event with a given key is delivered.
+ */
+const COALESCED_EVENTS: { [name: string]: (data: any) => string; } = {
+    AUDIO_MUTED_CHANGED: () => 'AUDIO_MUTED_CHANGED',
+    CHAT_TOGGLED: () => 'CHAT_TOGGLED',
+    CONFERENCE_BLURRED: () => 'CONFERENCE_FOCUS',
+    CONFERENCE_FOCUSED: () => 'CONFERENCE_FOCUS',
+    PARTICIPANT_UPDATED: ({ participantId }) => `PARTICIPANT_UPDATED:${participantId}`,
+    SCREEN_SHARE_TOGGLED: ({ participantId }) => `SCREEN_SHARE_TOGGLED:${participantId}`,
+    TRANSCRIPTION_CHUNK_RECEIVED: ({ messageID }) => `TRANSCRIPTION_CHUNK_RECEIVED:${messageID}`,
+    VIDEO_MUTED_CHANGED: () => 'VIDEO_MUTED_CHANGED'
+};
+
+/**
+ * The events waiting to be sent. Coalesced events leave a hole behind.
+ */
+let eventsQueue: Array<{ data: Object; name: string; } | undefined> = [];
+
+/**
+ * The position in {@code eventsQueue} of the queued coalesced events, by key.
+ */
+let coalescedEventsIndex = new Map<string, number>();
+
+/**
+ * Whether a flush is scheduled.
+ */
+let flushScheduled = false;
+
+/**
+ * The names of the events nobody observes on the native side, which are dropped instead of sent.
+ */
+let unobservedEvents = new Set<string>();
+
+/**
+ * Fetches the names of the events nobody observes on the native side, where it tells them.
+ *
+ * @returns {void}
+ */
+export function updateUnobservedEvents() {
+    const { ExternalAPI } = NativeModules;
+
+    if (typeof ExternalAPI.getUnobservedEvents === 'function') {
+        unobservedEvents = new Set(ExternalAPI.getUnobservedEvents());
+    }
+}
+
+/**
+ * Sends the queued events to the native side in a single call.
+ *
+ * @returns {void}
+ */
+function _flushEvents() {
+    const events = eventsQueue.filter(Boolean);
+
+    eventsQueue = [];
+    coalescedEventsIndex = new Map();
+    flushScheduled = false;
+
+    events.length && NativeModules.ExternalAPI.sendEvents(events);
+}
+
 /**
  * Sends a specific event to the native counterpart of the External API. Native
  * apps may listen to such events via the mechanisms provided by the (native)
  * mobile Jitsi Meet SDK.
  *
+ * Where the native side supports it, events are sent in batches, once the current JS work is done
+ * or when {@code MAX_EVENTS_BATCH_SIZE} events are queued, state events are coalesced, and events
+ * nobody observes are dropped. The flush doesn't wait for a frame, as no frames are drawn while the
+ * app is in the background.
+ *
  * @param {Object} store - The redux store.
  * @param {string} name - The name of the event to send.
  * @param {Object} data - The details/specifics of the event to send determined
@@ -18,7 +99,40 @@ import { readyToClose } from './actions';
  * @returns {void}
  */
 export function sendEvent(store: Object, name: string, data: Object) {
-    NativeModules.ExternalAPI.sendEvent(name, data);
+    const { ExternalAPI } = NativeModules;
+
+    if (unobservedEvents.has(name)) {
+        return;
+    }
+
+    if (typeof ExternalAPI.sendEvents !== 'function') {
+        ExternalAPI.sendEvent(name, data);
+
+        return;
+    }
+
+    const coalesceKey = COALESCED_EVENTS[name]?.(data);
+
+    if (coalesceKey) {
+        const index = coalescedEventsIndex.get(coalesceKey);
+
+        if (typeof index !== 'undefined') {
+            eventsQueue[index] = undefined;
+        }
+        coalescedEventsIndex.set(coalesceKey, eventsQueue.length);
+    }
+
+    eventsQueue.push({
+        data,
+        name
+    });
+
+    if (eventsQueue.length >= MAX_EVENTS_BATCH_SIZE || TERMINAL_EVENTS.has(name)) {
+        _flushEvents();
+    } else if (!flushScheduled) {
+        flushScheduled = true;
+        setImmediate(_flushEvents);
+    }
 }
 
 /**
@@ -39,7 +39,7 @@ import { JitsiConferenceEvents, JitsiRecordingConstants } from '../../base/lib-j
 import { SET_AUDIO_MUTED, SET_VIDEO_MUTED } from '../../base/media/actionTypes';
 import { toggleCameraFacingMode } from '../../base/media/actions';
 import { MEDIA_TYPE, VIDEO_TYPE } from '../../base/media/constants';
-import { PARTICIPANT_JOINED, PARTICIPANT_LEFT } from '../../base/participants/actionTypes';
+import { PARTICIPANT_JOINED, PARTICIPANT_LEFT, PARTICIPANT_UPDATED } from '../../base/participants/actionTypes';
 import {
     getLocalParticipant,
     getParticipantById,
@@ -69,7 +69,7 @@ import { isExternalAPIAvailable } from '../react-native-sdk/functions';
 
 import { READY_TO_CLOSE } from './actionTypes';
 import { setParticipantsWithScreenShare } from './actions';
-import { participantToParticipantInfo, sendEvent } from './functions';
+import { participantToParticipantInfo, sendEvent, updateUnobservedEvents } from './functions';
 import logger from './logger';
 
 /**
@@ -111,6 +111,35 @@ const PARTICIPANTS_INFO_RETRIEVED = 'PARTICIPANTS_INFO_RETRIEVED';
  */
 const RECORDING_STATUS_CHANGED = 'RECORDING_STATUS_CHANGED';
 
+/**
+ * The participant properties exposed in the participant info, an update to which is sent to the
+ * native side as a {@code PARTICIPANT_UPDATED} event.
+ */
+const PARTICIPANT_INFO_KEYS = [ 'avatarURL', 'displayName', 'email', 'name', 'role' ];
+
+/**
+ * The name of the endpoint messages carrying the base64 encoded payloads of the native binary
+ * endpoint message channel.
+ */
+const BINARY_ENDPOINT_MESSAGES_NAME = 'binary-endpoint-messages';
+
+/**
+ * The amount of data buffered by the bridge channel below which the native side may send the next
+ * batch of binary endpoint messages.
+ */
+const BRIDGE_CHANNEL_LOW_WATER_MARK = 256 * 1024;
+
+/**
+ * How often the bridge channel buffer is checked while it's above its low water mark.
+ */
+const BRIDGE_CHANNEL_DRAIN_INTERVAL = 50;
+
+/**
+ * The listener of a command sent by the native side. It returns false if it rejected the command,
+ * or a promise of the command's completion.
+ */
+type CommandListener = (data: any) => boolean | void | Promise<any>;
+
 const externalAPIEnabled = isExternalAPIAvailable();
 
 let eventEmitter: any;
@@ -237,6 +266,13 @@ externalAPIEnabled && MiddlewareRegistry.register(store => next => action => {
                     message: data.text,
                     senderId: participant.getId()
                 });
+        } else if (data?.name === BINARY_ENDPOINT_MESSAGES_NAME
+                && typeof ExternalAPI.receiveBinaryEndpointMessages === 'function'
+
+                // Sent by a remote participant, so it may be anything.
+                && Array.isArray(data.payloads)
+                && data.payloads.every((payload: unknown) => typeof payload === 'string')) {
+            ExternalAPI.receiveBinaryEndpointMessages(participant.getId(), data.payloads);
         }
 
         break;
@@ -282,6 +318,30 @@ externalAPIEnabled && MiddlewareRegistry.register(store => next => action => {
         break;
     }
 
+    case PARTICIPANT_UPDATED: {
+        const { conference } = store.getState()['features/base/conference'];
+
+        if (!conference || !PARTICIPANT_INFO_KEYS.some(key => action.participant.hasOwnProperty(key))) {
+            break;
+        }
+
+        const state = store.getState();
+        const participant = action.participant.local
+            ? getLocalParticipant(state)
+            : getParticipantById(state, action.participant.id);
+
+        if (!participant || isScreenShareParticipantById(state, participant.id)) {
+            break;
+        }
+
+        sendEvent(
+            store,
+            PARTICIPANT_UPDATED,
+            participantToParticipantInfo(participant) /* data */
+        );
+        break;
+    }
+
     case READY_TO_CLOSE:
         sendEvent(store, type, /* data */ {});
         break;
@@ -396,20 +456,16 @@ externalAPIEnabled && StateListenerRegistry.register(
  */
 function _registerForNativeEvents(store: IStore) {
     const { getState, dispatch } = store;
+    const addCommandListener = (name: string, listener: CommandListener) =>
+        eventEmitter.addListener(name, (data: any) => _runCommand(name, listener, data));
 
-    eventEmitter.addListener(ExternalAPI.HANG_UP, () => {
-        dispatch(appNavigate(undefined));
-    });
+    addCommandListener(ExternalAPI.HANG_UP, () => dispatch(appNavigate(undefined)));
 
-    eventEmitter.addListener(ExternalAPI.SET_AUDIO_MUTED, ({ muted }: any) => {
-        dispatch(muteLocal(muted, MEDIA_TYPE.AUDIO));
-    });
+    addCommandListener(ExternalAPI.SET_AUDIO_MUTED, ({ muted }: any) => dispatch(muteLocal(muted, MEDIA_TYPE.AUDIO)));
 
-    eventEmitter.addListener(ExternalAPI.SET_VIDEO_MUTED, ({ muted }: any) => {
-        dispatch(muteLocal(muted, MEDIA_TYPE.VIDEO));
-    });
+    addCommandListener(ExternalAPI.SET_VIDEO_MUTED, ({ muted }: any) => dispatch(muteLocal(muted, MEDIA_TYPE.VIDEO)));
 
-    eventEmitter.addListener(ExternalAPI.SEND_ENDPOINT_TEXT_MESSAGE, ({ to, message }: any) => {
+    addCommandListener(ExternalAPI.SEND_ENDPOINT_TEXT_MESSAGE, ({ to, message }: any) => {
         const conference = getCurrentConference(getState());
 
         try {
@@ -419,14 +475,14 @@ function _registerForNativeEvents(store: IStore) {
             });
         } catch (error) {
             logger.warn('Cannot send endpointMessage', error);
+
+            return false;
         }
     });
 
-    eventEmitter.addListener(ExternalAPI.TOGGLE_SCREEN_SHARE, ({ enabled }: any) => {
-        dispatch(toggleScreensharing(enabled));
-    });
+    addCommandListener(ExternalAPI.TOGGLE_SCREEN_SHARE, ({ enabled }: any) => dispatch(toggleScreensharing(enabled)));
 
-    eventEmitter.addListener(ExternalAPI.RETRIEVE_PARTICIPANTS_INFO, ({ requestId }: any) => {
+    addCommandListener(ExternalAPI.RETRIEVE_PARTICIPANTS_INFO, ({ requestId }: any) => {
 
         const participantsInfo = [];
         const remoteParticipants = getRemoteParticipants(store);
@@ -448,17 +504,17 @@ function _registerForNativeEvents(store: IStore) {
             });
     });
 
-    eventEmitter.addListener(ExternalAPI.OPEN_CHAT, ({ to }: any) => {
+    addCommandListener(ExternalAPI.OPEN_CHAT, ({ to }: any) => {
         const participant = getParticipantById(store, to);
 
         dispatch(openChat(participant));
     });
 
-    eventEmitter.addListener(ExternalAPI.CLOSE_CHAT, () => {
+    addCommandListener(ExternalAPI.CLOSE_CHAT, () => {
         dispatch(closeChat());
     });
 
-    eventEmitter.addListener(ExternalAPI.SEND_CHAT_MESSAGE, ({ message, to }: any) => {
+    addCommandListener(ExternalAPI.SEND_CHAT_MESSAGE, ({ message, to }: any) => {
         const participant = getParticipantById(store, to);
 
         if (participant) {
@@ -468,16 +524,16 @@ function _registerForNativeEvents(store: IStore) {
         dispatch(sendMessage(message));
     });
 
-    eventEmitter.addListener(ExternalAPI.SET_CLOSED_CAPTIONS_ENABLED,
+    addCommandListener(ExternalAPI.SET_CLOSED_CAPTIONS_ENABLED,
         ({ enabled, displaySubtitles, language }: any) => {
             dispatch(setRequestingSubtitles(enabled, displaySubtitles, language));
         });
 
-    eventEmitter.addListener(ExternalAPI.TOGGLE_CAMERA, () => {
+    addCommandListener(ExternalAPI.TOGGLE_CAMERA, () => {
         dispatch(toggleCameraFacingMode());
     });
 
-    eventEmitter.addListener(ExternalAPI.SHOW_NOTIFICATION,
+    addCommandListener(ExternalAPI.SHOW_NOTIFICATION,
         ({ appearance, description, timeout, title, uid }: any) => {
             const validTypes = Object.values(NOTIFICATION_TYPE);
             const validTimeouts = Object.values(NOTIFICATION_TIMEOUT_TYPE);
@@ -485,13 +541,13 @@ function _registerForNativeEvents(store: IStore) {
             if (!validTypes.includes(appearance)) {
                 logger.error(`Invalid notification type "${appearance}". Expecting one of ${validTypes}`);
 
-                return;
+                return false;
             }
 
             if (!validTimeouts.includes(timeout)) {
                 logger.error(`Invalid notification timeout "${timeout}". Expecting one of ${validTimeouts}`);
 
-                return;
+                return false;
             }
 
             dispatch(showNotification({
@@ -502,11 +558,11 @@ function _registerForNativeEvents(store: IStore) {
             }, timeout));
         });
 
-    eventEmitter.addListener(ExternalAPI.HIDE_NOTIFICATION, ({ uid }: any) => {
+    addCommandListener(ExternalAPI.HIDE_NOTIFICATION, ({ uid }: any) => {
         dispatch(hideNotification(uid));
     });
 
-    eventEmitter.addListener(ExternalAPI.START_RECORDING, (
+    addCommandListener(ExternalAPI.START_RECORDING, (
             {
                 mode,
                 dropboxToken,
@@ -524,19 +580,19 @@ function _registerForNativeEvents(store: IStore) {
         if (!conference) {
             logger.error('Conference is not defined');
 
-            return;
+            return false;
         }
 
         if (dropboxToken && !isDropboxEnabled(state)) {
             logger.error('Failed starting recording: dropbox is not enabled on this deployment');
 
-            return;
+            return false;
         }
 
         if (mode === JitsiRecordingConstants.mode.STREAM && !(youtubeStreamKey || rtmpStreamKey)) {
             logger.error('Failed starting recording: missing youtube or RTMP stream key');
 
-            return;
+            return false;
         }
 
         let recordingConfig;
@@ -547,7 +603,7 @@ function _registerForNativeEvents(store: IStore) {
             if (!recordingService?.enabled && !dropboxToken) {
                 logger.error('Failed starting recording: the recording service is not enabled');
 
-                return;
+                return false;
             }
 
             if (dropboxToken) {
@@ -583,9 +639,8 @@ function _registerForNativeEvents(store: IStore) {
         }
 
         // Start audio / video recording, if requested.
-        if (typeof recordingConfig !== 'undefined') {
-            conference.startRecording(recordingConfig);
-        }
+        const started = typeof recordingConfig === 'undefined'
+            ? undefined : conference.startRecording(recordingConfig);
 
         if (transcription) {
             store.dispatch(setRequestingSubtitles(true, false, null, true));
@@ -593,16 +648,18 @@ function _registerForNativeEvents(store: IStore) {
                 isTranscribingEnabled: true
             });
         }
+
+        return started;
     });
 
-    eventEmitter.addListener(ExternalAPI.STOP_RECORDING, ({ mode, transcription }: any) => {
+    addCommandListener(ExternalAPI.STOP_RECORDING, ({ mode, transcription }: any) => {
         const state = store.getState();
         const conference = getCurrentConference(state);
 
         if (!conference) {
             logger.error('Conference is not defined');
 
-            return;
+            return false;
         }
 
         if (transcription) {
@@ -615,7 +672,7 @@ function _registerForNativeEvents(store: IStore) {
         if (![ JitsiRecordingConstants.mode.FILE, JitsiRecordingConstants.mode.STREAM ].includes(mode)) {
             logger.error('Invalid recording mode provided!');
 
-            return;
+            return false;
         }
 
         const activeSession = getActiveSession(state, mode);
@@ -623,13 +680,13 @@ function _registerForNativeEvents(store: IStore) {
         if (!activeSession?.id) {
             logger.error('No recording or streaming session found');
 
-            return;
+            return false;
         }
 
-        conference.stopRecording(activeSession.id);
+        return conference.stopRecording(activeSession.id);
     });
 
-    eventEmitter.addListener(ExternalAPI.OVERWRITE_CONFIG, ({ config }: any) => {
+    addCommandListener(ExternalAPI.OVERWRITE_CONFIG, ({ config }: any) => {
         const whitelistedConfig = getWhitelistedJSON('config', config);
 
         logger.info(`Overwriting config with: ${JSON.stringify(whitelistedConfig)}`);
@@ -637,13 +694,13 @@ function _registerForNativeEvents(store: IStore) {
         dispatch(overwriteConfig(whitelistedConfig));
     });
 
-    eventEmitter.addListener(ExternalAPI.SEND_CAMERA_FACING_MODE_MESSAGE, ({ to, facingMode }: any) => {
+    addCommandListener(ExternalAPI.SEND_CAMERA_FACING_MODE_MESSAGE, ({ to, facingMode }: any) => {
         const conference = getCurrentConference(getState());
 
         if (!to) {
             logger.warn('Participant id not set');
 
-            return;
+            return false;
         }
 
         conference?.sendEndpointMessage(to, {
@@ -651,6 +708,37 @@ function _registerForNativeEvents(store: IStore) {
             facingMode
         });
     });
+
+    // Several commands sent by the native side in a single bridge call. Each is dispatched to the
+    // listener of its own event, in order.
+    ExternalAPI.COMMANDS && eventEmitter.addListener(ExternalAPI.COMMANDS, ({ commands }: any) => {
+        commands.forEach(({ name, data }: any) => eventEmitter.emit(name, data));
+    });
+
+    // Batches of binary endpoint messages, one endpoint message per destination. The batch is
+    // acknowledged once the bridge channel has room, which is what paces the native side.
+    ExternalAPI.SEND_BINARY_ENDPOINT_MESSAGES
+        && eventEmitter.addListener(ExternalAPI.SEND_BINARY_ENDPOINT_MESSAGES, ({ batchId, batches }: any) => {
+            const conference = getCurrentConference(getState());
+
+            batches.forEach(({ to, payloads }: any) => {
+                try {
+                    conference?.sendEndpointMessage(to, {
+                        name: BINARY_ENDPOINT_MESSAGES_NAME,
+                        payloads
+                    });
+                } catch (error) {
+                    logger.warn('Cannot send binary endpoint messages', error);
+                }
+            });
+
+            _acknowledgeBinaryEndpointMessages(conference, batchId);
+        });
+
+    // The events nobody listens to on the native side are dropped before being sent.
+    ExternalAPI.UNOBSERVED_EVENTS_CHANGED
+        && eventEmitter.addListener(ExternalAPI.UNOBSERVED_EVENTS_CHANGED, updateUnobservedEvents);
+    updateUnobservedEvents();
 }
 
 /**
@@ -677,6 +765,77 @@ function _unregisterForNativeEvents() {
     eventEmitter.removeAllListeners(ExternalAPI.STOP_RECORDING);
     eventEmitter.removeAllListeners(ExternalAPI.OVERWRITE_CONFIG);
     eventEmitter.removeAllListeners(ExternalAPI.SEND_CAMERA_FACING_MODE_MESSAGE);
+    ExternalAPI.COMMANDS && eventEmitter.removeAllListeners(ExternalAPI.COMMANDS);
+    ExternalAPI.UNOBSERVED_EVENTS_CHANGED && eventEmitter.removeAllListeners(ExternalAPI.UNOBSERVED_EVENTS_CHANGED);
+    ExternalAPI.SEND_BINARY_ENDPOINT_MESSAGES
+        && eventEmitter.removeAllListeners(ExternalAPI.SEND_BINARY_ENDPOINT_MESSAGES);
+}
+
+/**
+ * Runs the listener of a command sent by the native side. If the command carries a
+ * {@code commandId}, it's acknowledged with its outcome: {@code rejected} if the listener returned
+ * false, {@code failed} if it threw or the promise it returned (e.g. the one of the dispatched
+ * action) was rejected, {@code applied} otherwise. A command whose listener returned a promise is
+ * acknowledged once it settles.
+ *
+ * @param {string} name - The name of the command.
+ * @param {Function} listener - The listener of the command.
+ * @param {Object} data - The data of the command.
+ * @private
+ * @returns {void}
+ */
+function _runCommand(name: string, listener: CommandListener, data: any) {
+    const acknowledge = (outcome: string, error?: string) => {
+        data?.commandId
+            && typeof ExternalAPI.commandAcknowledged === 'function'
+            && ExternalAPI.commandAcknowledged(data.commandId, outcome, error);
+    };
+    const fail = (e: any) => {
+        logger.error(`Failed to apply ${name}`, e);
+        acknowledge('failed', String(e?.message ?? e));
+    };
+    let result;
+
+    try {
+        result = listener(data);
+    } catch (e: any) {
+        fail(e);
+
+        return;
+    }
+
+    if (result === false) {
+        acknowledge('rejected');
+    } else if (result instanceof Promise) {
+        result.then(() => acknowledge('applied'), fail);
+    } else {
+        acknowledge('applied');
+    }
+}
+
+/**
+ * Acknowledges a batch of binary endpoint messages to the native side, once the bridge channel
+ * buffered amount drops below {@code BRIDGE_CHANNEL_LOW_WATER_MARK}.
+ *
+ * @param {Object} conference - The conference the messages were sent in.
+ * @param {number} batchId - The id of the batch.
+ * @private
+ * @returns {void}
+ */
+function _acknowledgeBinaryEndpointMessages(conference: any, batchId: number) {
+    // The underlying RTCDataChannel or WebSocket of the bridge channel isn't exposed by
+    // lib-jitsi-meet, without it we can't apply backpressure and acknowledge right away.
+    const bufferedAmount = conference?.rtc?._channel?._channel?.bufferedAmount ?? 0;
+
+    if (bufferedAmount > BRIDGE_CHANNEL_LOW_WATER_MARK) {
+        setTimeout(
+            () => _acknowledgeBinaryEndpointMessages(conference, batchId),
+            BRIDGE_CHANNEL_DRAIN_INTERVAL);
+
+        return;
+    }
+
+    ExternalAPI.binaryEndpointMessagesSent(batchId);
 }
 
 /**
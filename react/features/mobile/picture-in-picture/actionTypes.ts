@@ -9,3 +9,27 @@
  * @public
  */
 export const ENTER_PICTURE_IN_PICTURE = 'ENTER_PICTURE_IN_PICTURE';
+
+/**
+ * The type of redux action which signals that the app entered or left
+ * picture-in-picture.
+ *
+ * {
+ *      type: PICTURE_IN_PICTURE_MODE_CHANGED,
+ *      isInPictureInPictureMode: boolean
+ * }
+ */
+export const PICTURE_IN_PICTURE_MODE_CHANGED = 'PICTURE_IN_PICTURE_MODE_CHANGED';
+
+/**
+ * The type of redux action to store the native event subscriptions of the
+ * feature.
+ *
+ * {
+ *      type: _SET_PICTURE_IN_PICTURE_SUBSCRIPTIONS,
+ *      subscriptions: Array|undefined
+ * }
+ *
+ * @protected
+ */
+export const _SET_PICTURE_IN_PICTURE_SUBSCRIPTIONS = '_SET_PICTURE_IN_PICTURE_SUBSCRIPTIONS';
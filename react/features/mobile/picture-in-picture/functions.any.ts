@@ -0,0 +1,35 @@
+import { IReduxState } from '../../app/types';
+import { PIP_MAX_RECEIVE_HEIGHT, PIP_MEDIA_POLICY_ENABLED } from '../../base/flags/constants';
+import { getFeatureFlag } from '../../base/flags/functions';
+
+/**
+ * Checks whether the Picture-in-Picture media policy is enabled.
+ *
+ * @param {Object} state - The Redux state.
+ * @returns {boolean}
+ */
+export function isPipMediaPolicyEnabled(state: IReduxState) {
+    return Boolean(getFeatureFlag(state, PIP_MEDIA_POLICY_ENABLED, true));
+}
+
+/**
+ * Checks whether the Picture-in-Picture media policy is currently applied, i.e. whether the app
+ * is in Picture-in-Picture and the policy is enabled.
+ *
+ * @param {Object} state - The Redux state.
+ * @returns {boolean}
+ */
+export function isPipMediaPolicyActive(state: IReduxState) {
+    return Boolean(state['features/mobile/picture-in-picture']?.isInPictureInPictureMode)
+        && isPipMediaPolicyEnabled(state);
+}
+
+/**
+ * Gets the max frame height to receive while in Picture-in-Picture.
+ *
+ * @param {Object} state - The Redux state.
+ * @returns {number}
+ */
+export function getPipMaxReceiveHeight(state: IReduxState): number {
+    return Number(getFeatureFlag(state, PIP_MAX_RECEIVE_HEIGHT)) || 180;
+}
@@ -1,9 +1,11 @@
 import { NativeModules, Platform } from 'react-native';
 
 import { IReduxState } from '../../app/types';
-import { PIP_ENABLED } from '../../base/flags/constants';
+import { PIP_ENABLED, PIP_MAX_CAMERA_FPS } from '../../base/flags/constants';
 import { getFeatureFlag } from '../../base/flags/functions';
 
+import { isPipMediaPolicyEnabled } from './functions.any';
+
 /**
  * Checks whether Picture-in-Picture is enabled.
  *
@@ -34,3 +36,18 @@ export function setPictureInPictureEnabled(enabled: boolean) {
         PictureInPicture.setPictureInPictureEnabled(enabled);
     }
 }
+
+/**
+ * Passes the media policy configuration to the PiP native module, which caps the local camera.
+ *
+ * @param {Object} state - The Redux state.
+ * @returns {void}
+ */
+export function setPictureInPictureMediaPolicy(state: IReduxState) {
+    const { PictureInPicture } = NativeModules;
+
+    PictureInPicture?.setMediaPolicy?.({
+        enabled: isPipMediaPolicyEnabled(state),
+        maxCameraFps: Number(getFeatureFlag(state, PIP_MAX_CAMERA_FPS)) || 5
+    });
+}
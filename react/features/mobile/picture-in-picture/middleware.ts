@@ -0,0 +1,98 @@
+import { NativeEventEmitter, NativeModules } from 'react-native';
+
+import { IStore } from '../../app/types';
+import { APP_WILL_MOUNT, APP_WILL_UNMOUNT } from '../../base/app/actionTypes';
+import { UPDATE_FLAGS } from '../../base/flags/actionTypes';
+import MiddlewareRegistry from '../../base/redux/MiddlewareRegistry';
+
+import { PICTURE_IN_PICTURE_MODE_CHANGED, _SET_PICTURE_IN_PICTURE_SUBSCRIPTIONS } from './actionTypes';
+import { setPictureInPictureMediaPolicy } from './functions';
+import logger from './logger';
+
+const { PictureInPicture } = NativeModules;
+
+/**
+ * Middleware that keeps track of the (Android) Picture-in-Picture mode, so the media policy can
+ * be applied while in it, and passes the policy configuration to the native module.
+ *
+ * @param {Store} store - The redux store.
+ * @returns {Function}
+ */
+MiddlewareRegistry.register(store => next => action => {
+    switch (action.type) {
+    case APP_WILL_MOUNT: {
+        const result = next(action);
+
+        _appWillMount(store);
+
+        return result;
+    }
+    case APP_WILL_UNMOUNT:
+        _removeSubscriptions(store);
+        store.dispatch({
+            type: _SET_PICTURE_IN_PICTURE_SUBSCRIPTIONS,
+            subscriptions: undefined
+        });
+        break;
+    case UPDATE_FLAGS: {
+        const result = next(action);
+
+        setPictureInPictureMediaPolicy(store.getState());
+
+        return result;
+    }
+    }
+
+    return next(action);
+});
+
+/**
+ * Subscribes to the Picture-in-Picture mode changes of the native module.
+ *
+ * @param {Store} store - The redux store.
+ * @private
+ * @returns {void}
+ */
+function _appWillMount(store: IStore) {
+    if (!PictureInPicture?.MODE_CHANGED_EVENT) {
+        return;
+    }
+
+    const emitter = new NativeEventEmitter(PictureInPicture);
+    const subscriptions = [
+        emitter.addListener(
+            PictureInPicture.MODE_CHANGED_EVENT,
+            ({ isInPictureInPictureMode }: { isInPictureInPictureMode: boolean; }) => {
+                logger.info(`Picture-in-Picture mode changed: ${isInPictureInPictureMode}`);
+
+                store.dispatch({
+                    type: PICTURE_IN_PICTURE_MODE_CHANGED,
+                    isInPictureInPictureMode
+                });
+            })
+    ];
+
+    store.dispatch({
+        type: _SET_PICTURE_IN_PICTURE_SUBSCRIPTIONS,
+        subscriptions
+    });
+
+    setPictureInPictureMediaPolicy(store.getState());
+}
+
+/**
+ * Removes the native event subscriptions.
+ *
+ * @param {Store} store - The redux store.
+ * @private
+ * @returns {void}
+ */
+function _removeSubscriptions({ getState }: IStore) {
+    const { subscriptions } = getState()['features/mobile/picture-in-picture'];
+
+    if (subscriptions) {
+        for (const subscription of subscriptions) {
+            subscription.remove();
+        }
+    }
+}
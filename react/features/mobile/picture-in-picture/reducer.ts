@@ -0,0 +1,36 @@
+import { EmitterSubscription } from 'react-native';
+
+import ReducerRegistry from '../../base/redux/ReducerRegistry';
+
+import { PICTURE_IN_PICTURE_MODE_CHANGED, _SET_PICTURE_IN_PICTURE_SUBSCRIPTIONS } from './actionTypes';
+
+export interface IMobilePictureInPictureState {
+    isInPictureInPictureMode: boolean;
+    subscriptions?: Array<EmitterSubscription>;
+}
+
+/**
+ * The default/initial redux state of the feature picture-in-picture.
+ */
+const DEFAULT_STATE = {
+    isInPictureInPictureMode: false
+};
+
+// eslint-disable-next-line max-len
+ReducerRegistry.register<IMobilePictureInPictureState>('features/mobile/picture-in-picture', (state = DEFAULT_STATE, action): IMobilePictureInPictureState => {
+    switch (action.type) {
+    case PICTURE_IN_PICTURE_MODE_CHANGED:
+        return {
+            ...state,
+            isInPictureInPictureMode: action.isInPictureInPictureMode
+        };
+
+    case _SET_PICTURE_IN_PICTURE_SUBSCRIPTIONS:
+        return {
+            ...state,
+            subscriptions: action.subscriptions
+        };
+    }
+
+    return state;
+});
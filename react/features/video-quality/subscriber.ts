@@ -17,6 +17,7 @@ import {
     getScreenshareFilmstripParticipantId,
     isTopPanelEnabled
 } from '../filmstrip/functions';
+import { getPipMaxReceiveHeight, isPipMediaPolicyActive } from '../mobile/picture-in-picture/functions.any';
 import { LAYOUTS } from '../video-layout/constants';
 import {
     getCurrentLayout,
@@ -77,6 +78,16 @@ StateListenerRegistry.register(
     }
 );
 
+/**
+ * Handles entering / leaving Picture-in-Picture, where only the large video is received at a low
+ * resolution.
+ */
+StateListenerRegistry.register(
+    /* selector */ state => isPipMediaPolicyActive(state),
+    /* listener */ (pipMediaPolicyActive, store) => {
+        _updateReceiverVideoConstraints(store);
+    });
+
 /**
  * StateListenerRegistry provides a reliable way of detecting changes to
  * lastn state and dispatching additional actions.
@@ -435,8 +446,18 @@ function _updateReceiverVideoConstraints({ getState }: IStore) {
         }
     }
 
+    // Picture-in-Picture: only the large video is visible, off-screen streams aren't received (and
+    // thus not decoded) at all.
+    if (isPipMediaPolicyActive(state)) {
+        if (largeVideoSourceName) {
+            receiverConstraints.constraints[largeVideoSourceName] = {
+                'maxHeight': Math.min(getPipMaxReceiveHeight(state), preferredVideoQuality)
+            };
+            receiverConstraints.onStageSources = [ largeVideoSourceName ];
+        }
+
     // Tile view.
-    if (shouldDisplayTileView(state)) {
+    } else if (shouldDisplayTileView(state)) {
         if (!visibleRemoteTrackSourceNames?.length) {
             return;
         }